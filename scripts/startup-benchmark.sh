@@ -0,0 +1,49 @@
+#!/usr/bin/env bash
+# 기동 시간 / 메모리(RSS) 측정
+# 실행 명령을 runs 번 새로 띄워 readiness(/actuator/health/readiness)가 UP 이 될 때까지의 시간과 그 시점의 RSS 를 측정
+# (기동 워밍업을 켜면 워밍업 시간까지 포함, HEALTH_PATH 로 확인 경로 변경 가능)
+#
+# 사용법: scripts/startup-benchmark.sh <label> <runs> <command...>
+#   JVM:        scripts/startup-benchmark.sh jvm 5 java -jar build/libs/free-point-system-0.0.1-SNAPSHOT.jar
+#   JVM + AOT:  scripts/startup-benchmark.sh jvm-aot 5 java -Dspring.aot.enabled=true -jar build/libs/free-point-system-0.0.1-SNAPSHOT.jar
+#   네이티브:    scripts/startup-benchmark.sh native 5 build/native/nativeCompile/free-point-system
+#   AppCDS:     (cd build/cds && ../../scripts/startup-benchmark.sh cds 5 java -XX:SharedArchiveFile=free-point-system.jsa -jar free-point-system.jar)
+set -euo pipefail
+
+if [ $# -lt 3 ]; then
+  echo "usage: $0 <label> <runs> <command...>" >&2
+  exit 1
+fi
+
+label=$1
+runs=$2
+shift 2
+port=${SERVER_PORT:-8080}
+health_url="http://localhost:${port}${HEALTH_PATH:-/actuator/health/readiness}"
+
+total_ms=0
+total_rss_kb=0
+for run in $(seq 1 "$runs"); do
+  start_ns=$(date +%s%N)
+  SERVER_PORT=$port "$@" > "/tmp/startup-benchmark-${label}-${run}.log" 2>&1 &
+  pid=$!
+
+  until curl -fs "$health_url" 2>/dev/null | grep -q '"UP"'; do
+    if ! kill -0 "$pid" 2>/dev/null; then
+      echo "[$label] 실행 실패 - /tmp/startup-benchmark-${label}-${run}.log 확인" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  ready_ms=$(( ($(date +%s%N) - start_ns) / 1000000 ))
+  rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/${pid}/status")
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+
+  echo "[$label] run ${run}: ready ${ready_ms} ms, rss $(( rss_kb / 1024 )) MB"
+  total_ms=$(( total_ms + ready_ms ))
+  total_rss_kb=$(( total_rss_kb + rss_kb ))
+done
+
+echo "[$label] 평균: ready $(( total_ms / runs )) ms, rss $(( total_rss_kb / runs / 1024 )) MB"
@@ -0,0 +1,51 @@
+package com.musinsa.point.codec;
+
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * gzip 압축 JSON 코덱 (버전 2, 기본값)
+ * usedFrom 목록처럼 키 이름이 반복되는 응답 JSON 의 저장 크기를 줄이며,
+ * 본문이 표준 gzip 스트림이므로 클라이언트가 gzip 을 지원하면 압축 해제 없이 그대로 전송할 수 있음
+ */
+@Component
+public class GzipJsonPayloadCodec implements ResponsePayloadCodec {
+
+    public static final byte VERSION = 2;
+
+    @Override
+    public byte version() {
+        return VERSION;
+    }
+
+    @Override
+    public String name() {
+        return "gzip-json";
+    }
+
+    @Override
+    public byte[] encode(byte[] json) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(64, json.length / 2));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(outputStream)) {
+            gzip.write(json);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public byte[] decode(byte[] body) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return gzip.readAllBytes();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
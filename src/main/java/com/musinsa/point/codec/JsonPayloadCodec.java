@@ -0,0 +1,33 @@
+package com.musinsa.point.codec;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 무압축 JSON 코덱 (버전 1)
+ * 압축 비용 없이 응답 JSON 을 그대로 저장
+ */
+@Component
+public class JsonPayloadCodec implements ResponsePayloadCodec {
+
+    public static final byte VERSION = 1;
+
+    @Override
+    public byte version() {
+        return VERSION;
+    }
+
+    @Override
+    public String name() {
+        return "json";
+    }
+
+    @Override
+    public byte[] encode(byte[] json) {
+        return json;
+    }
+
+    @Override
+    public byte[] decode(byte[] body) {
+        return body;
+    }
+}
@@ -0,0 +1,29 @@
+package com.musinsa.point.codec;
+
+/**
+ * 멱등성 응답 페이로드 코덱
+ * 저장 형식: [코덱 버전 1바이트][코덱별 본문]
+ * 버전 바이트로 디코딩할 코덱을 선택하므로, 기본 코덱을 바꿔도 이전 코덱으로 저장된 레코드를 계속 읽을 수 있음
+ */
+public interface ResponsePayloadCodec {
+
+    /**
+     * 페이로드 첫 바이트에 기록되는 코덱 버전 (코덱마다 고유)
+     */
+    byte version();
+
+    /**
+     * 설정(point.idempotency.codec)에서 사용하는 코덱 이름
+     */
+    String name();
+
+    /**
+     * JSON 바이트를 저장 본문으로 인코딩 (버전 바이트 제외)
+     */
+    byte[] encode(byte[] json);
+
+    /**
+     * 저장 본문을 JSON 바이트로 디코딩 (버전 바이트 제외)
+     */
+    byte[] decode(byte[] body);
+}
@@ -0,0 +1,148 @@
+package com.musinsa.point.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멱등성 응답 페이로드 코덱 레지스트리
+ * 설정된 기본 코덱으로 인코딩하고, 디코딩은 페이로드의 버전 바이트로 코덱을 선택
+ *
+ * 측정 지표:
+ * - point.idempotency.payload.bytes (form=json|stored): 원본 JSON / 저장 페이로드 크기
+ * - point.idempotency.codec.time (operation=encode|decode): 코덱 처리 시간
+ */
+@Component
+public class ResponsePayloadCodecs {
+
+    private static final Logger log = LoggerFactory.getLogger(ResponsePayloadCodecs.class);
+
+    private final Map<Byte, ResponsePayloadCodec> codecsByVersion = new HashMap<>();
+    private final ResponsePayloadCodec defaultCodec;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary jsonBytes;
+    private final DistributionSummary storedBytes;
+    private final Timer encodeTimer;
+
+    public ResponsePayloadCodecs(List<ResponsePayloadCodec> codecs,
+                                 @Value("${point.idempotency.codec:gzip-json}") String defaultCodecName,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry) {
+        for (ResponsePayloadCodec codec : codecs) {
+            ResponsePayloadCodec duplicate = codecsByVersion.put(codec.version(), codec);
+            if (duplicate != null) {
+                throw new IllegalStateException("코덱 버전이 중복되었습니다: " + codec.version());
+            }
+        }
+        this.defaultCodec = codecs.stream()
+            .filter(codec -> codec.name().equals(defaultCodecName))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("알 수 없는 멱등성 응답 코덱입니다: " + defaultCodecName));
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.jsonBytes = DistributionSummary.builder("point.idempotency.payload.bytes")
+            .baseUnit("bytes").tag("form", "json").tag("codec", defaultCodec.name()).register(meterRegistry);
+        this.storedBytes = DistributionSummary.builder("point.idempotency.payload.bytes")
+            .baseUnit("bytes").tag("form", "stored").tag("codec", defaultCodec.name()).register(meterRegistry);
+        this.encodeTimer = codecTimer("encode", defaultCodec);
+    }
+
+    /**
+     * 응답 객체를 기본 코덱 페이로드로 인코딩
+     *
+     * @param response 응답 객체
+     * @return [버전][본문] 페이로드
+     */
+    public byte[] encode(Object response) {
+        long startNanos = System.nanoTime();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(response);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        byte[] body = defaultCodec.encode(json);
+
+        byte[] payload = new byte[body.length + 1];
+        payload[0] = defaultCodec.version();
+        System.arraycopy(body, 0, payload, 1, body.length);
+        encodeTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
+        jsonBytes.record(json.length);
+        storedBytes.record(payload.length);
+        log.debug("멱등성 응답 인코딩 - codec: {}, jsonBytes: {}, storedBytes: {}",
+            defaultCodec.name(), json.length, payload.length);
+        return payload;
+    }
+
+    /**
+     * 페이로드를 응답 객체로 디코딩
+     *
+     * @param payload [버전][본문] 페이로드
+     * @param responseType 응답 타입
+     * @return 응답 객체
+     */
+    public <T> T decode(byte[] payload, Class<T> responseType) {
+        try {
+            return objectMapper.readValue(toJson(payload), responseType);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /**
+     * 페이로드를 JSON 바이트로 디코딩
+     *
+     * @param payload [버전][본문] 페이로드
+     * @return 응답 JSON (UTF-8)
+     */
+    public byte[] toJson(byte[] payload) {
+        ResponsePayloadCodec codec = codecOf(payload);
+        long startNanos = System.nanoTime();
+        byte[] json = codec.decode(body(payload));
+        codecTimer("decode", codec).record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        return json;
+    }
+
+    /**
+     * 페이로드를 인코딩한 코덱
+     */
+    public ResponsePayloadCodec codecOf(byte[] payload) {
+        if (payload == null || payload.length == 0) {
+            throw new IllegalArgumentException("비어있는 멱등성 응답 페이로드입니다");
+        }
+        ResponsePayloadCodec codec = codecsByVersion.get(payload[0]);
+        if (codec == null) {
+            throw new IllegalStateException("알 수 없는 멱등성 응답 코덱 버전입니다: " + payload[0]);
+        }
+        return codec;
+    }
+
+    /**
+     * 버전 바이트를 제외한 코덱 본문
+     */
+    public byte[] body(byte[] payload) {
+        return Arrays.copyOfRange(payload, 1, payload.length);
+    }
+
+    private Timer codecTimer(String operation, ResponsePayloadCodec codec) {
+        return Timer.builder("point.idempotency.codec.time")
+            .tag("operation", operation)
+            .tag("codec", codec.name())
+            .register(meterRegistry);
+    }
+}
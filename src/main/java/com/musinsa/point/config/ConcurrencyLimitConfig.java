@@ -0,0 +1,25 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.service.AdaptiveConcurrencyLimiter;
+import com.musinsa.point.service.TransactionLatencySampler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 쓰기 API 적응형 동시 실행 제한 설정
+ */
+@Configuration
+@EnableConfigurationProperties(ConcurrencyLimitProperties.class)
+public class ConcurrencyLimitConfig {
+
+    /**
+     * 쓰기 트랜잭션 지연 시간 샘플러 (TransactionExecutionListener 빈은 트랜잭션 매니저에 자동 등록됨)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public TransactionLatencySampler transactionLatencySampler(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        return new TransactionLatencySampler(concurrencyLimiter);
+    }
+}
@@ -0,0 +1,102 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 쓰기 API 적응형 동시 실행 제한 설정 (point.concurrency-limit.*)
+ */
+@ConfigurationProperties(prefix = "point.concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    /**
+     * 적립/사용/취소 API 에 동시 실행 제한을 적용할지 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 시작 동시 실행 한도
+     */
+    private int initialLimit = 20;
+
+    /**
+     * 최소 동시 실행 한도
+     */
+    private int minLimit = 4;
+
+    /**
+     * 최대 동시 실행 한도
+     */
+    private int maxLimit = 200;
+
+    /**
+     * 새 한도 반영 비율 (1.0 이면 계산한 한도를 그대로 사용)
+     */
+    private double smoothing = 0.5;
+
+    /**
+     * 무부하 지연 시간(최소 지연)을 다시 측정하는 주기 (샘플 수)
+     * DB 의 기본 지연이 올라간 경우에도 한도가 최소값에 고정되지 않도록 주기적으로 기준을 재설정
+     */
+    private int probeIntervalSamples = 1000;
+
+    /**
+     * 한도 초과로 거절한 응답의 Retry-After (초)
+     */
+    private long retryAfterSeconds = 1;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public void setInitialLimit(int initialLimit) {
+        this.initialLimit = initialLimit;
+    }
+
+    public int getMinLimit() {
+        return minLimit;
+    }
+
+    public void setMinLimit(int minLimit) {
+        this.minLimit = minLimit;
+    }
+
+    public int getMaxLimit() {
+        return maxLimit;
+    }
+
+    public void setMaxLimit(int maxLimit) {
+        this.maxLimit = maxLimit;
+    }
+
+    public double getSmoothing() {
+        return smoothing;
+    }
+
+    public void setSmoothing(double smoothing) {
+        this.smoothing = smoothing;
+    }
+
+    public int getProbeIntervalSamples() {
+        return probeIntervalSamples;
+    }
+
+    public void setProbeIntervalSamples(int probeIntervalSamples) {
+        this.probeIntervalSamples = probeIntervalSamples;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    public void setRetryAfterSeconds(long retryAfterSeconds) {
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,31 @@
+package com.musinsa.point.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+/**
+ * 그룹 커밋 설정
+ */
+@Configuration
+@EnableConfigurationProperties(GroupCommitProperties.class)
+public class GroupCommitConfig {
+
+    /**
+     * 그룹 커밋 사용 시 배치 명령의 참여 실패가 배치 트랜잭션 전체를 rollback-only 로 표시하지 않는 트랜잭션 매니저
+     * (배치 밖의 트랜잭션은 기본 JpaTransactionManager 와 같음, 트랜잭션 리스너 등 Boot 커스터마이저는 그대로 적용)
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.group-commit", name = "enabled", havingValue = "true")
+    public PlatformTransactionManager transactionManager(ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        GroupCommitTransactionManager transactionManager = new GroupCommitTransactionManager();
+        // TransactionManager 로 넘겨 제거 예정인 PlatformTransactionManager 오버로드 대신 일반 오버로드 사용
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+}
@@ -0,0 +1,62 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 그룹 커밋 설정 (point.group-commit.*)
+ */
+@ConfigurationProperties(prefix = "point.group-commit")
+public class GroupCommitProperties {
+
+    /**
+     * 적립/사용 명령을 모아 하나의 트랜잭션으로 커밋할지 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 배치 하나에 담는 최대 명령 수
+     */
+    private int maxBatchSize = 64;
+
+    /**
+     * 첫 명령 도착 후 추가 명령을 기다리는 최대 시간 (ms)
+     */
+    private long maxDelayMillis = 5;
+
+    /**
+     * 샤드별 대기 큐 크기 (가득 차면 호출 스레드에서 개별 트랜잭션으로 실행)
+     */
+    private int queueCapacity = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    public void setMaxBatchSize(int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public void setMaxDelayMillis(long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+}
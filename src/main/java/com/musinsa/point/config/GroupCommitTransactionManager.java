@@ -0,0 +1,24 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.service.GroupCommitExecutor;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * 그룹 커밋 배치를 지원하는 JPA 트랜잭션 매니저
+ * 배치 명령(@Transactional 서비스 호출)은 배치 트랜잭션에 참여하므로, 명령의 예외가 배치 전체를 rollback-only 로 표시하면
+ * 명령별 savepoint 롤백으로 나머지 명령을 커밋할 수 없음
+ *
+ * 그룹 커밋 워커 스레드에서 실행 중인 명령의 참여 실패만 rollback-only 로 표시하지 않고 (실패한 명령은 GroupCommitExecutor 가
+ * savepoint 로 롤백), 명시적인 setRollbackOnly 와 배치 밖의 모든 트랜잭션은 기본 동작(globalRollbackOnParticipationFailure)을 유지
+ */
+public class GroupCommitTransactionManager extends JpaTransactionManager {
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        if (GroupCommitExecutor.inBatch() && !status.isLocalRollbackOnly()) {
+            return;
+        }
+        super.doSetRollbackOnly(status);
+    }
+}
@@ -0,0 +1,41 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.grpc.GrpcErrorMapper;
+import com.musinsa.point.grpc.GrpcRequestContextInterceptor;
+import com.musinsa.point.grpc.PointGrpcServer;
+import com.musinsa.point.grpc.PointGrpcService;
+import com.musinsa.point.service.AdaptiveConcurrencyLimiter;
+import com.musinsa.point.service.PointService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.Validator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 내부 서비스용 gRPC 서버 설정
+ * point.grpc.enabled=true 인 경우 REST 와 별도 포트에서 포인트 사용 / 사용 취소 gRPC 서비스를 실행
+ */
+@Configuration
+@EnableConfigurationProperties(GrpcProperties.class)
+public class GrpcConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.grpc", name = "enabled", havingValue = "true")
+    public PointGrpcService pointGrpcService(PointService pointService,
+                                             ReplicaRouter replicaRouter,
+                                             AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                             ConcurrencyLimitProperties concurrencyLimitProperties,
+                                             Validator validator,
+                                             MeterRegistry meterRegistry) {
+        return new PointGrpcService(pointService, replicaRouter, concurrencyLimiter, concurrencyLimitProperties,
+            validator, new GrpcErrorMapper(), meterRegistry);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.grpc", name = "enabled", havingValue = "true")
+    public PointGrpcServer pointGrpcServer(GrpcProperties grpcProperties, PointGrpcService pointGrpcService) {
+        return new PointGrpcServer(grpcProperties, pointGrpcService, new GrpcRequestContextInterceptor());
+    }
+}
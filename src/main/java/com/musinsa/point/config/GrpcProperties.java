@@ -0,0 +1,62 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 내부 서비스용 gRPC 서버 설정 (point.grpc.*)
+ */
+@ConfigurationProperties(prefix = "point.grpc")
+public class GrpcProperties {
+
+    /**
+     * gRPC 서버 실행 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * gRPC 서버 포트 (0 이면 임의 포트)
+     */
+    private int port = 9090;
+
+    /**
+     * 수신 메시지 최대 크기 (bytes)
+     */
+    private int maxInboundMessageBytes = 4 * 1024 * 1024;
+
+    /**
+     * 종료 시 진행 중인 호출을 기다리는 최대 시간 (초)
+     */
+    private long shutdownGraceSeconds = 10;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public void setPort(int port) {
+        this.port = port;
+    }
+
+    public int getMaxInboundMessageBytes() {
+        return maxInboundMessageBytes;
+    }
+
+    public void setMaxInboundMessageBytes(int maxInboundMessageBytes) {
+        this.maxInboundMessageBytes = maxInboundMessageBytes;
+    }
+
+    public long getShutdownGraceSeconds() {
+        return shutdownGraceSeconds;
+    }
+
+    public void setShutdownGraceSeconds(long shutdownGraceSeconds) {
+        this.shutdownGraceSeconds = shutdownGraceSeconds;
+    }
+}
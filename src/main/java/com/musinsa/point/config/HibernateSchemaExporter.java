@@ -0,0 +1,52 @@
+package com.musinsa.point.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.schema.spi.SchemaManagementToolCoordinator;
+
+import java.util.Map;
+
+/**
+ * 부트스트랩된 Hibernate 메타데이터를 보관했다가 엔티티 스키마를 다시 생성하는 Integrator
+ * ddl-auto 는 기본 DataSource 에만 스키마를 만들기 때문에,
+ * 라우팅 DataSource 의 나머지 대상(샤드 등)에 같은 스키마를 만들 때 사용
+ */
+public class HibernateSchemaExporter implements Integrator {
+
+    private static final String SCHEMA_ACTION = "jakarta.persistence.schema-generation.database.action";
+
+    private volatile Metadata metadata;
+    private volatile ServiceRegistry serviceRegistry;
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                          SessionFactoryImplementor sessionFactory) {
+        this.metadata = metadata;
+        this.serviceRegistry = sessionFactory.getServiceRegistry();
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        this.metadata = null;
+        this.serviceRegistry = null;
+    }
+
+    /**
+     * 현재 라우팅 대상 DataSource 에 엔티티 스키마 생성 (drop 후 create)
+     */
+    public void createSchema() {
+        if (metadata == null) {
+            throw new IllegalStateException("Hibernate 메타데이터가 아직 초기화되지 않았습니다");
+        }
+        SchemaManagementToolCoordinator.process(
+            metadata,
+            serviceRegistry,
+            Map.of(SCHEMA_ACTION, "drop-and-create"),
+            action -> { }
+        );
+    }
+}
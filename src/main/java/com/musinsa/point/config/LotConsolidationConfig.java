@@ -0,0 +1,36 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.service.LotConsolidationService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * 적립 통합 배치 설정
+ */
+@Configuration
+@EnableConfigurationProperties(LotConsolidationProperties.class)
+public class LotConsolidationConfig {
+
+    /**
+     * point.consolidation.enabled=true 인 경우 cron 주기로 전체 샤드 적립 통합 실행
+     */
+    @Configuration
+    @EnableScheduling
+    @ConditionalOnProperty(prefix = "point.consolidation", name = "enabled", havingValue = "true")
+    static class LotConsolidationScheduling {
+
+        private final LotConsolidationService lotConsolidationService;
+
+        LotConsolidationScheduling(LotConsolidationService lotConsolidationService) {
+            this.lotConsolidationService = lotConsolidationService;
+        }
+
+        @Scheduled(cron = "${point.consolidation.cron:0 0 4 * * *}")
+        public void consolidateLots() {
+            lotConsolidationService.consolidate();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 적립 통합 배치 설정 (point.consolidation.*)
+ */
+@ConfigurationProperties(prefix = "point.consolidation")
+public class LotConsolidationProperties {
+
+    /**
+     * 정기 실행 여부 (관리 API 수동 실행은 항상 가능, 기본값 false - 다른 배치 기능과 같이 명시적으로 활성화)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 정기 실행 cron
+     */
+    private String cron = "0 0 4 * * *";
+
+    /**
+     * 통합 대상이 되는 사용자 / 만료일 그룹의 최소 적립 수
+     */
+    private int minLots = 10;
+
+    /**
+     * 통합 적립 하나로 합치는 최대 적립 수 (한 트랜잭션에서 갱신하는 행 수 제한)
+     */
+    private int maxLotsPerMerge = 1_000;
+
+    /**
+     * 샤드별 1회 실행에서 처리하는 최대 그룹 수 (남은 그룹은 다음 실행에서 처리)
+     */
+    private int maxGroupsPerRun = 10_000;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getCron() {
+        return cron;
+    }
+
+    public void setCron(String cron) {
+        this.cron = cron;
+    }
+
+    public int getMinLots() {
+        return minLots;
+    }
+
+    public void setMinLots(int minLots) {
+        this.minLots = minLots;
+    }
+
+    public int getMaxLotsPerMerge() {
+        return maxLotsPerMerge;
+    }
+
+    public void setMaxLotsPerMerge(int maxLotsPerMerge) {
+        this.maxLotsPerMerge = maxLotsPerMerge;
+    }
+
+    public int getMaxGroupsPerRun() {
+        return maxGroupsPerRun;
+    }
+
+    public void setMaxGroupsPerRun(int maxGroupsPerRun) {
+        this.maxGroupsPerRun = maxGroupsPerRun;
+    }
+}
@@ -0,0 +1,13 @@
+package com.musinsa.point.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+/**
+ * GraalVM 네이티브 이미지 / Spring AOT 설정
+ * JVM 실행에는 영향이 없고, processAot 단계에서 런타임 힌트만 수집됨 (./gradlew nativeCompile -Pnative)
+ */
+@Configuration
+@ImportRuntimeHints(PointRuntimeHints.class)
+public class NativeImageConfig {
+}
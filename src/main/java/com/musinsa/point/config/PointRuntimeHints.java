@@ -0,0 +1,109 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.grpc.proto.PointProto;
+import jakarta.persistence.Entity;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.ExecutableMode;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.DecoratingProxy;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.core.type.filter.TypeFilter;
+import org.springframework.data.repository.Repository;
+import org.springframework.transaction.interceptor.TransactionalProxy;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * GraalVM 네이티브 이미지 / Spring AOT 런타임 힌트
+ * 빌드 시점에 정적 분석으로 찾을 수 없는 리플렉션 / 프록시 / 리소스 사용을 등록
+ *
+ * - JPA 엔티티: Hibernate 가 필드 / 생성자 / 접근자를 리플렉션으로 사용
+ * - DTO: 멱등성 응답 재전송이 컨트롤러 밖에서 Jackson 으로 역직렬화
+ * - 리포지토리: QueryPerformanceAspect 가 Spring Data JDK 프록시를 다시 JDK 프록시로 감쌈 (어드바이스 메서드는 리플렉션 호출)
+ * - 2차 캐시: JCache 프로바이더 / Hibernate 영역 팩토리를 설정 문자열로 로딩, ehcache.xml 과 XSD 리소스
+ * - gRPC: protobuf 생성 메시지의 필드 접근자를 메서드 이름으로 조회
+ *
+ * 패키지 단위로 스캔하므로 엔티티 / DTO / 리포지토리를 추가해도 힌트를 따로 수정하지 않아도 됨
+ */
+public class PointRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final String DOMAIN_PACKAGE = "com.musinsa.point.domain";
+    static final String DTO_PACKAGE = "com.musinsa.point.dto";
+    static final String REPOSITORY_PACKAGE = "com.musinsa.point.repository";
+
+    private static final String JCACHE_PROVIDER = "org.ehcache.jsr107.EhcacheCachingProvider";
+    private static final String JCACHE_REGION_FACTORY = "org.hibernate.cache.jcache.internal.JCacheRegionFactory";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> entity : scan(DOMAIN_PACKAGE, new AnnotationTypeFilter(Entity.class), classLoader)) {
+            hints.reflection().registerType(entity,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        for (Class<?> dto : scan(DTO_PACKAGE, (reader, factory) -> true, classLoader)) {
+            bindingRegistrar.registerReflectionHints(hints.reflection(), dto);
+        }
+
+        hints.reflection().registerMethod(
+            ReflectionUtils.findMethod(QueryPerformanceAspect.class, "logQueryPerformance", ProceedingJoinPoint.class),
+            ExecutableMode.INVOKE);
+        for (Class<?> repository : scan(REPOSITORY_PACKAGE, new AssignableTypeFilter(Repository.class), classLoader)) {
+            // 자동 프록시는 대상이 JDK 프록시이면 대상 프록시의 인터페이스를 그대로 사용
+            hints.proxies().registerJdkProxy(repository, Repository.class, TransactionalProxy.class,
+                Advised.class, DecoratingProxy.class);
+        }
+
+        hints.reflection().registerType(TypeReference.of(JCACHE_PROVIDER),
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(TypeReference.of(JCACHE_REGION_FACTORY),
+            MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.resources().registerPattern("ehcache.xml");
+        hints.resources().registerPattern("ehcache-*.xsd");
+
+        registerProtobufMessages(hints, PointProto.class);
+    }
+
+    private void registerProtobufMessages(RuntimeHints hints, Class<?> type) {
+        hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+        for (Class<?> nested : type.getDeclaredClasses()) {
+            registerProtobufMessages(hints, nested);
+        }
+    }
+
+    /**
+     * 패키지의 최상위 / 중첩 타입 중 필터에 맞는 클래스 (인터페이스 포함)
+     */
+    private List<Class<?>> scan(String basePackage,
+                                TypeFilter filter,
+                                ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return true;
+            }
+        };
+        scanner.addIncludeFilter(filter);
+
+        List<Class<?>> types = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+            types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader));
+        }
+        return types;
+    }
+}
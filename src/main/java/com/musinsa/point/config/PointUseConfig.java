@@ -0,0 +1,12 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 포인트 사용 처리 설정
+ */
+@Configuration
+@EnableConfigurationProperties(PointUseProperties.class)
+public class PointUseConfig {
+}
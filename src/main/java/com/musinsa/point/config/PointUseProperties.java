@@ -0,0 +1,97 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 포인트 사용 처리 설정 (point.use.*)
+ */
+@ConfigurationProperties(prefix = "point.use")
+public class PointUseProperties {
+
+    /**
+     * 사용 가능 포인트 조회 방식
+     */
+    private LotFetchMode lotFetchMode = LotFetchMode.BOUNDED;
+
+    /**
+     * 적립 차감 실행 방식
+     */
+    private DeductionMode deductionMode = DeductionMode.ENTITY;
+
+    /**
+     * 사용 / 사용 취소의 요약, 트랜잭션, PointAccount 저장 방식
+     */
+    private PersistenceMode persistenceMode = PersistenceMode.ENTITY;
+
+    public LotFetchMode getLotFetchMode() {
+        return lotFetchMode;
+    }
+
+    public void setLotFetchMode(LotFetchMode lotFetchMode) {
+        this.lotFetchMode = lotFetchMode;
+    }
+
+    public DeductionMode getDeductionMode() {
+        return deductionMode;
+    }
+
+    public void setDeductionMode(DeductionMode deductionMode) {
+        this.deductionMode = deductionMode;
+    }
+
+    public PersistenceMode getPersistenceMode() {
+        return persistenceMode;
+    }
+
+    public void setPersistenceMode(PersistenceMode persistenceMode) {
+        this.persistenceMode = persistenceMode;
+    }
+
+    /**
+     * 사용 가능 포인트 조회 방식
+     */
+    public enum LotFetchMode {
+
+        /**
+         * 사용자의 사용 가능 적립 전체 조회
+         */
+        FULL,
+
+        /**
+         * 누적 잔액이 사용 금액을 충당하는 적립까지만 조회
+         */
+        BOUNDED
+    }
+
+    /**
+     * 적립 차감 실행 방식
+     */
+    public enum DeductionMode {
+
+        /**
+         * 적립 엔티티를 로딩하여 적립마다 UPDATE / PointAccount INSERT (lot-fetch-mode 적용)
+         */
+        ENTITY,
+
+        /**
+         * window 쿼리로 차감 금액을 한 번에 계산하고 UPDATE / INSERT 를 JDBC 배치로 실행
+         */
+        SET_BASED
+    }
+
+    /**
+     * 사용 / 사용 취소 저장 방식
+     */
+    public enum PersistenceMode {
+
+        /**
+         * Spring Data 저장소로 엔티티를 로딩 / 저장 (영속성 컨텍스트 dirty checking)
+         */
+        ENTITY,
+
+        /**
+         * JdbcTemplate 으로 직접 조회 / 저장하고 version(또는 이전 값) 조건부 UPDATE 로 동시 변경 검출
+         */
+        JDBC
+    }
+}
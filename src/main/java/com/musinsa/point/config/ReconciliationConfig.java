@@ -0,0 +1,21 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 잔액 정합성 검증 작업 설정
+ * 요청 처리 스레드와 공용 ForkJoinPool 에 영향을 주지 않도록 전용 풀을 사용
+ */
+@Configuration
+@EnableConfigurationProperties(ReconciliationProperties.class)
+public class ReconciliationConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool reconciliationPool(ReconciliationProperties reconciliationProperties) {
+        return new ForkJoinPool(reconciliationProperties.getParallelism());
+    }
+}
@@ -0,0 +1,75 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 잔액 정합성 검증 작업 설정 (point.reconciliation.*)
+ */
+@ConfigurationProperties(prefix = "point.reconciliation")
+public class ReconciliationProperties {
+
+    /**
+     * 동시 실행 워커 수 (샤드 커넥션 풀 크기보다 작게 유지)
+     */
+    private int parallelism = 4;
+
+    /**
+     * 워커 하나가 처리하는 user_point_summaries id 구간 크기
+     */
+    private int partitionSize = 10_000;
+
+    /**
+     * 스캔 커서의 fetch size
+     */
+    private int fetchSize = 1_000;
+
+    /**
+     * 요약 재작성 배치 크기
+     */
+    private int batchSize = 500;
+
+    /**
+     * 응답에 포함할 최대 불일치 사용자 수
+     */
+    private int maxReportedDrifts = 1_000;
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public int getPartitionSize() {
+        return partitionSize;
+    }
+
+    public void setPartitionSize(int partitionSize) {
+        this.partitionSize = partitionSize;
+    }
+
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    public void setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxReportedDrifts() {
+        return maxReportedDrifts;
+    }
+
+    public void setMaxReportedDrifts(int maxReportedDrifts) {
+        this.maxReportedDrifts = maxReportedDrifts;
+    }
+}
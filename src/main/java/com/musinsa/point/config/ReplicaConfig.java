@@ -0,0 +1,102 @@
+package com.musinsa.point.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 설정
+ * point.replica.enabled=true 인 경우 spring.datasource.* 를 주 DB 로, point.replica.replicas 를 복제본으로 하는
+ * ReplicaRoutingDataSource 를 LazyConnectionDataSourceProxy 로 감싸 기본 DataSource 로 등록
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaConfig {
+
+    /**
+     * 주 DB 커넥션 풀
+     * 자동 구성 DataSource 와 같이 spring.datasource.hikari.* (maximum-pool-size, connection-timeout 등)를 바인딩
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    @ConditionalOnProperty(prefix = "point.replica", name = "enabled", havingValue = "true")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+            .type(HikariDataSource.class)
+            .build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.replica", name = "enabled", havingValue = "true")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ReplicaProperties replicaProperties,
+                                                             ShardingProperties shardingProperties) {
+        if (shardingProperties.isEnabled()) {
+            throw new IllegalStateException("point.replica 와 point.sharding 은 함께 사용할 수 없습니다");
+        }
+        if (replicaProperties.getReplicas().isEmpty()) {
+            throw new IllegalStateException("point.replica.replicas 설정이 비어있습니다");
+        }
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaProperties.getReplicas().size(); i++) {
+            ReplicaProperties.Replica replica = replicaProperties.getReplicas().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(replica.getUrl())
+                .username(replica.getUsername())
+                .password(replica.getPassword())
+                .build();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+            dataSource.setReadOnly(replicaProperties.getSimulatedLagMillis() <= 0);
+            replicas.add(dataSource);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas);
+    }
+
+    /**
+     * 읽기 전용 여부가 확정된 첫 쿼리 시점에 라우팅하도록 지연 커넥션 프록시를 기본 DataSource 로 사용
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "point.replica", name = "enabled", havingValue = "true")
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * 복제본 사용 시 2차 캐시 / 쿼리 캐시 비활성화
+     * 복제본에서 읽은 지연된 엔티티가 캐시에 들어가면 주 DB 를 강제한 조회에도 이전 값이 보일 수 있음
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.replica", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer replicaSecondLevelCacheCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put("hibernate.cache.use_second_level_cache", false);
+            hibernateProperties.put("hibernate.cache.use_query_cache", false);
+        };
+    }
+
+    @Bean
+    @ConditionalOnExpression("${point.replica.enabled:false} and ${point.replica.simulated-lag-millis:0} > 0")
+    public ReplicaLagSimulator replicaLagSimulator(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                   ReplicaProperties replicaProperties) {
+        return new ReplicaLagSimulator(replicaRoutingDataSource, replicaProperties.getSimulatedLagMillis());
+    }
+}
@@ -0,0 +1,29 @@
+package com.musinsa.point.config;
+
+/**
+ * 현재 스레드의 읽기 전용 트랜잭션을 주 DB 로 보낼지 여부를 보관하는 컨텍스트
+ * ReplicaRoutingDataSource 가 실제 커넥션을 얻는 시점(첫 쿼리 실행 시점)에 참조하므로,
+ * 트랜잭션이 시작되기 전에 ReplicaRouter 를 통해 설정되어야 함
+ */
+public final class ReplicaContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    private ReplicaContext() {
+    }
+
+    /**
+     * 읽기 전용 트랜잭션도 주 DB 를 사용해야 하는지 여부
+     */
+    public static boolean isPrimaryForced() {
+        return Boolean.TRUE.equals(PRIMARY_FORCED.get());
+    }
+
+    static void setPrimaryForced(boolean primaryForced) {
+        if (primaryForced) {
+            PRIMARY_FORCED.set(Boolean.TRUE);
+        } else {
+            PRIMARY_FORCED.remove();
+        }
+    }
+}
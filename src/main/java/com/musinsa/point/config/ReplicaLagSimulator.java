@@ -0,0 +1,206 @@
+package com.musinsa.point.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import javax.sql.DataSource;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 복제 지연 시뮬레이터 (point.replica.simulated-lag-millis > 0)
+ * H2 복제본에 주 DB 스키마를 만들고, simulatedLagMillis 주기로 주 DB 스냅샷을 복제본에 복사
+ * 복제본은 최대 simulatedLagMillis 만큼 주 DB 보다 늦은 데이터를 보여주므로 read-your-writes 동작을 로컬에서 확인할 수 있음
+ *
+ * - 스냅샷은 주 DB 의 REPEATABLE READ 트랜잭션 하나에서 모든 테이블을 읽음
+ * - 복제본은 테이블별 DELETE + 배치 INSERT 를 한 트랜잭션으로 커밋하므로 조회 중에 비어 있는 테이블이 보이지 않음
+ */
+public class ReplicaLagSimulator implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagSimulator.class);
+    private static final int INSERT_BATCH_SIZE = 500;
+
+    private final ReplicaRoutingDataSource replicaRoutingDataSource;
+    private final long lagMillis;
+    private ScheduledExecutorService scheduler;
+
+    public ReplicaLagSimulator(ReplicaRoutingDataSource replicaRoutingDataSource, long lagMillis) {
+        this.replicaRoutingDataSource = replicaRoutingDataSource;
+        this.lagMillis = lagMillis;
+    }
+
+    /**
+     * 스키마/초기 데이터 생성 이후(컨텍스트 refresh 완료 시점) 복제본 스키마를 만들고 주기적 복사 시작
+     */
+    @Override
+    public synchronized void start() {
+        for (int replicaIndex = 0; replicaIndex < replicaRoutingDataSource.getReplicaCount(); replicaIndex++) {
+            copySchema(replicaRoutingDataSource.getReplica(replicaIndex));
+        }
+        refresh();
+
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-simulator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                refresh();
+            } catch (RuntimeException ex) {
+                log.warn("복제 지연 시뮬레이션 복사 실패", ex);
+            }
+        }, lagMillis, lagMillis, TimeUnit.MILLISECONDS);
+        log.info("복제 지연 시뮬레이션 시작 - replicas: {}, lagMillis: {}",
+            replicaRoutingDataSource.getReplicaCount(), lagMillis);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return scheduler != null;
+    }
+
+    /**
+     * 주 DB 의 현재 데이터를 모든 복제본에 복사 (복제본이 주 DB 를 따라잡음)
+     */
+    public synchronized void refresh() {
+        try (Connection source = replicaRoutingDataSource.getPrimary().getConnection()) {
+            source.setAutoCommit(false);
+            source.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            try {
+                List<String> tables = listTables(source);
+                for (int replicaIndex = 0; replicaIndex < replicaRoutingDataSource.getReplicaCount(); replicaIndex++) {
+                    copyData(source, replicaRoutingDataSource.getReplica(replicaIndex), tables);
+                }
+            } finally {
+                source.rollback();
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("복제본 데이터 복사에 실패했습니다", ex);
+        }
+    }
+
+    private void copySchema(DataSource replica) {
+        List<String> statements = new ArrayList<>();
+        try (Connection source = replicaRoutingDataSource.getPrimary().getConnection();
+             Statement statement = source.createStatement();
+             ResultSet script = statement.executeQuery("SCRIPT NODATA")) {
+            while (script.next()) {
+                String sql = script.getString(1);
+                if (!sql.startsWith("--") && !sql.startsWith("CREATE USER")) {
+                    statements.add(sql);
+                }
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("주 DB 스키마를 읽지 못했습니다", ex);
+        }
+
+        try (Connection target = replica.getConnection();
+             Statement statement = target.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException("복제본 스키마를 생성하지 못했습니다", ex);
+        }
+    }
+
+    private List<String> listTables(Connection source) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet resultSet = source.getMetaData().getTables(null, "PUBLIC", "%", new String[]{"TABLE", "BASE TABLE"})) {
+            while (resultSet.next()) {
+                tables.add(resultSet.getString("TABLE_NAME"));
+            }
+        }
+        return tables;
+    }
+
+    private void copyData(Connection source, DataSource replica, List<String> tables) throws SQLException {
+        try (Connection target = replica.getConnection()) {
+            target.setAutoCommit(false);
+            try {
+                for (String table : tables) {
+                    copyTable(source, target, table);
+                }
+                target.commit();
+            } catch (SQLException | RuntimeException ex) {
+                target.rollback();
+                throw ex;
+            }
+        }
+    }
+
+    private void copyTable(Connection source, Connection target, String table) throws SQLException {
+        String quotedTable = "\"PUBLIC\".\"" + table + "\"";
+        try (Statement delete = target.createStatement()) {
+            delete.executeUpdate("DELETE FROM " + quotedTable);
+        }
+
+        try (Statement select = source.createStatement();
+             ResultSet rows = select.executeQuery("SELECT * FROM " + quotedTable)) {
+            ResultSetMetaData metaData = rows.getMetaData();
+            int columnCount = metaData.getColumnCount();
+            StringBuilder columns = new StringBuilder();
+            StringBuilder placeholders = new StringBuilder();
+            for (int column = 1; column <= columnCount; column++) {
+                if (column > 1) {
+                    columns.append(", ");
+                    placeholders.append(", ");
+                }
+                columns.append('"').append(metaData.getColumnName(column)).append('"');
+                placeholders.append('?');
+            }
+
+            try (PreparedStatement insert = target.prepareStatement(
+                "INSERT INTO " + quotedTable + " (" + columns + ") VALUES (" + placeholders + ")")) {
+                int batched = 0;
+                while (rows.next()) {
+                    for (int column = 1; column <= columnCount; column++) {
+                        insert.setObject(column, detach(rows.getObject(column)));
+                    }
+                    insert.addBatch();
+                    if (++batched % INSERT_BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                if (batched % INSERT_BATCH_SIZE != 0) {
+                    insert.executeBatch();
+                }
+            }
+        }
+    }
+
+    /**
+     * 원본 커넥션에 묶인 LOB 값을 복제본 커넥션에서 쓸 수 있는 값으로 변환
+     */
+    private Object detach(Object value) throws SQLException {
+        if (value instanceof Blob blob) {
+            return blob.getBytes(1, (int) blob.length());
+        }
+        if (value instanceof Clob clob) {
+            return clob.getSubString(1, (int) clob.length());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,108 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 읽기 복제본 설정 (point.replica.*)
+ * enabled=true 인 경우 읽기 전용 트랜잭션을 replicas 목록의 데이터베이스로 라우팅 (사용자 샤딩과 함께 사용할 수 없음)
+ */
+@ConfigurationProperties(prefix = "point.replica")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 쓰기 이후 같은 사용자(또는 일관성 토큰을 전달한 요청)의 조회를 주 DB 로 보내는 시간
+     * 복제 지연의 상한보다 길게 설정
+     */
+    private long readYourWritesMillis = 3000;
+
+    /**
+     * 로컬 복제 지연 시뮬레이션 주기 (0 이면 사용하지 않음)
+     * 0 보다 크면 replicas 를 H2 데이터베이스로 보고, 이 주기마다 주 DB 의 스키마/데이터를 복사
+     */
+    private long simulatedLagMillis = 0;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    public long getReadYourWritesMillis() {
+        return readYourWritesMillis;
+    }
+
+    public void setReadYourWritesMillis(long readYourWritesMillis) {
+        this.readYourWritesMillis = readYourWritesMillis;
+    }
+
+    public long getSimulatedLagMillis() {
+        return simulatedLagMillis;
+    }
+
+    public void setSimulatedLagMillis(long simulatedLagMillis) {
+        this.simulatedLagMillis = simulatedLagMillis;
+    }
+
+    /**
+     * 복제본 하나의 접속 정보
+     */
+    public static class Replica {
+
+        private String url;
+
+        private String username = "sa";
+
+        private String password = "";
+
+        private int maximumPoolSize = 10;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.musinsa.point.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 조회를 복제본 / 주 DB 로 라우팅하는 컴포넌트 (read-your-writes)
+ * 트랜잭션이 시작되기 전에 호출되어야 하며 (PointService 파사드 등), 복제본이 비활성화된 경우 작업을 그대로 실행
+ *
+ * 쓰기 직후의 조회가 아직 복제되지 않은 데이터를 읽지 않도록 다음 경우 주 DB 에서 조회
+ * - 같은 사용자가 readYourWritesMillis 안에 쓰기를 완료한 경우 (이 인스턴스에서 처리한 쓰기)
+ * - 쓰기 응답으로 받은 일관성 토큰(주 DB 사용 만료 시각, epoch ms)이 아직 만료되지 않은 경우
+ *   (사용자 ID 가 없는 취소 요청, 다른 인스턴스에서 처리한 쓰기도 포함)
+ *
+ * 메트릭: point.replica.reads{target=primary|replica, reason}
+ */
+@Component
+public class ReplicaRouter {
+
+    /**
+     * 쓰기 응답으로 일관성 토큰을 내려주고, 조회 요청에서 받는 헤더
+     */
+    public static final String CONSISTENCY_TOKEN_HEADER = "X-Read-Consistency-Token";
+
+    private static final int PRUNE_THRESHOLD = 10_000;
+
+    private final ReplicaProperties replicaProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Long> primaryUntilByUser = new ConcurrentHashMap<>();
+
+    public ReplicaRouter(ReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        this.replicaProperties = replicaProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return replicaProperties.isEnabled();
+    }
+
+    /**
+     * 사용자의 쓰기 완료 기록 (readYourWritesMillis 동안 이 사용자의 조회는 주 DB 사용)
+     */
+    public void recordWrite(String userId) {
+        if (!isEnabled() || userId == null) {
+            return;
+        }
+        long primaryUntil = System.currentTimeMillis() + replicaProperties.getReadYourWritesMillis();
+        primaryUntilByUser.merge(userId, primaryUntil, Math::max);
+
+        if (primaryUntilByUser.size() > PRUNE_THRESHOLD) {
+            long now = System.currentTimeMillis();
+            primaryUntilByUser.values().removeIf(until -> until <= now);
+        }
+    }
+
+    /**
+     * 쓰기 응답에 담을 일관성 토큰 발급 (복제본이 비활성화된 경우 null)
+     */
+    public String issueToken() {
+        if (!isEnabled()) {
+            return null;
+        }
+        return Long.toString(System.currentTimeMillis() + replicaProperties.getReadYourWritesMillis());
+    }
+
+    /**
+     * 사용자 조회 실행 - 최근 쓰기가 있거나 유효한 일관성 토큰이 있으면 주 DB, 아니면 복제본
+     *
+     * @param userId 조회 대상 사용자 ID
+     * @param consistencyToken 쓰기 응답으로 받은 일관성 토큰 (없으면 null)
+     * @param work 읽기 전용 트랜잭션을 시작하는 조회
+     */
+    public <T> T onRead(String userId, String consistencyToken, Supplier<T> work) {
+        if (!isEnabled()) {
+            return work.get();
+        }
+
+        long now = System.currentTimeMillis();
+        String reason;
+        if (isValidToken(consistencyToken, now)) {
+            reason = "token";
+        } else if (primaryUntilByUser.getOrDefault(userId, 0L) > now) {
+            reason = "recent-write";
+        } else {
+            meterRegistry.counter("point.replica.reads", "target", "replica", "reason", "none").increment();
+            return work.get();
+        }
+
+        meterRegistry.counter("point.replica.reads", "target", "primary", "reason", reason).increment();
+        return onPrimary(work);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션도 주 DB 에서 실행 (종료 후 이전 컨텍스트 복원)
+     * 멱등성 확인처럼 복제 지연을 허용할 수 없는 조회에 사용
+     */
+    public <T> T onPrimary(Supplier<T> work) {
+        if (!isEnabled() || ReplicaContext.isPrimaryForced()) {
+            return work.get();
+        }
+
+        ReplicaContext.setPrimaryForced(true);
+        try {
+            return work.get();
+        } finally {
+            ReplicaContext.setPrimaryForced(false);
+        }
+    }
+
+    /**
+     * 만료되지 않았고, 설정한 유지 시간보다 먼 미래가 아닌 토큰만 인정 (임의 토큰으로 주 DB 고정 방지)
+     */
+    private boolean isValidToken(String consistencyToken, long now) {
+        if (consistencyToken == null || consistencyToken.isBlank()) {
+            return false;
+        }
+        try {
+            long primaryUntil = Long.parseLong(consistencyToken.trim());
+            return primaryUntil > now && primaryUntil <= now + replicaProperties.getReadYourWritesMillis();
+        } catch (NumberFormatException ex) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.musinsa.point.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로, 나머지를 주 DB 로 라우팅하는 DataSource
+ * 복제본이 여러 개이면 커넥션마다 순서대로 분산
+ *
+ * 트랜잭션 시작 시점에는 아직 읽기 전용 여부가 동기화되지 않으므로
+ * LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 실행 시점에 커넥션을 얻어야 함
+ * 트랜잭션 밖의 조회, ReplicaContext 로 주 DB 가 강제된 조회는 주 DB 사용
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targetDataSources.put(REPLICA_PREFIX + i, replicas.get(i));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || ReplicaContext.isPrimaryForced()) {
+            return PRIMARY;
+        }
+        return REPLICA_PREFIX + Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+    }
+
+    /**
+     * 라우팅을 거치지 않는 주 DB DataSource
+     */
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    /**
+     * 라우팅을 거치지 않는 복제본 DataSource (복제 지연 시뮬레이션 등에 사용)
+     */
+    public DataSource getReplica(int replicaIndex) {
+        return replicas.get(replicaIndex);
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
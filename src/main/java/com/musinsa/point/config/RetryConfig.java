@@ -1,35 +1,48 @@
 package com.musinsa.point.config;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.retry.RetryCallback;
-import org.springframework.retry.RetryContext;
-import org.springframework.retry.RetryListener;
-import org.springframework.retry.annotation.EnableRetry;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * Spring Retry 설정
- * OptimisticLockException 발생 시 자동 재시도를 위한 설정
+ * 잠금 충돌 재시도 설정
+ * 재시도는 PointRetryScheduler 가 요청 스레드를 재우지 않고 대기 시간 뒤 재시도 작업 풀에 다시 제출
  */
 @Configuration
-@EnableRetry
+@EnableConfigurationProperties(RetryProperties.class)
 public class RetryConfig {
 
-    private static final Logger log = LoggerFactory.getLogger(RetryConfig.class);
+    /**
+     * 재시도 시도를 실행하는 전용 작업 풀
+     * 시도는 DB 커넥션을 잡고 블로킹되므로 스레드 수는 커넥션 풀 크기(샤딩 시 가장 작은 샤드 풀) 이하,
+     * 대기열은 queue-capacity 로 제한 (가득 차면 RejectedExecutionException)
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ThreadPoolExecutor retryExecutor(RetryProperties retryProperties,
+                                            ShardingProperties shardingProperties,
+                                            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int maximumPoolSize) {
+        int connectionPoolSize = maximumPoolSize;
+        if (shardingProperties.isEnabled()) {
+            connectionPoolSize = shardingProperties.getShards().stream()
+                .mapToInt(ShardingProperties.Shard::getMaximumPoolSize)
+                .min()
+                .orElse(maximumPoolSize);
+        }
+        int workerThreads = retryProperties.resolveWorkerThreads(connectionPoolSize);
 
-    @Bean
-    public RetryListener retryListener() {
-        return new RetryListener() {
-            @Override
-            public <T, E extends Throwable> void onError(RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
-                String requestId = org.slf4j.MDC.get("requestId");
-                log.warn("[{}] 재시도 발생 - 시도 횟수: {}, 예외: {}", 
-                    requestId, 
-                    context.getRetryCount(), 
-                    throwable.getClass().getSimpleName());
-            }
-        };
+        AtomicInteger threadIndex = new AtomicInteger();
+        return new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(retryProperties.getQueueCapacity()),
+            runnable -> {
+                Thread thread = new Thread(runnable, "point-retry-worker-" + threadIndex.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
     }
 }
@@ -0,0 +1,154 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 잠금 충돌 재시도 설정 (point.retry.*)
+ */
+@ConfigurationProperties(prefix = "point.retry")
+public class RetryProperties {
+
+    /**
+     * 요청당 최대 시도 수 (첫 시도 포함)
+     */
+    private int maxAttempts = 3;
+
+    /**
+     * 재시도 대기 하한 (ms) - decorrelated jitter 의 기준값
+     */
+    private long baseDelayMillis = 10;
+
+    /**
+     * 재시도 대기 상한 (ms)
+     */
+    private long maxDelayMillis = 200;
+
+    /**
+     * 동기 호출이 재시도를 포함한 최종 결과를 기다리는 최대 시간 (ms)
+     * 초과하면 WRITE_TIMEOUT (재시도 가능) - 요청은 뒤늦게 커밋될 수 있으므로 같은 멱등성 키로 재시도
+     */
+    private long awaitTimeoutMillis = 10_000;
+
+    /**
+     * 재시도 시도를 실행하는 작업 스레드 수 (0 이면 커넥션 풀 크기의 1/4, 최소 1)
+     * 재시도는 DB 커넥션을 잡고 블로킹되므로 커넥션 풀 크기(샤딩 시 가장 작은 샤드 풀)를 넘지 않도록 제한
+     */
+    private int workerThreads = 0;
+
+    /**
+     * 작업 스레드를 기다리는 재시도 대기열 크기 (가득 차면 재시도 없이 마지막 충돌 오류 반환)
+     */
+    private int queueCapacity = 1000;
+
+    /**
+     * 요청 1 건(첫 시도)마다 재시도 예산에 적립되는 토큰 (재시도 1 회 = 토큰 1 개)
+     * 0.2 이면 버스트 이후 재시도는 요청 수의 20% 이내로 제한
+     */
+    private double budgetRatio = 0.2;
+
+    /**
+     * 전체 재시도 예산 최대 토큰 (시작 시 가득 찬 상태)
+     */
+    private int globalBudget = 100;
+
+    /**
+     * 사용자(라우팅 키)별 재시도 예산 최대 토큰 (시작 시 가득 찬 상태)
+     */
+    private int perUserBudget = 10;
+
+    /**
+     * 사용자별 예산을 이 시간(ms) 동안 사용하지 않으면 제거 (다음 충돌 시 가득 찬 예산으로 시작)
+     */
+    private long perUserBudgetIdleMillis = 60_000;
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+
+    public long getBaseDelayMillis() {
+        return baseDelayMillis;
+    }
+
+    public void setBaseDelayMillis(long baseDelayMillis) {
+        this.baseDelayMillis = baseDelayMillis;
+    }
+
+    public long getMaxDelayMillis() {
+        return maxDelayMillis;
+    }
+
+    public void setMaxDelayMillis(long maxDelayMillis) {
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    public long getAwaitTimeoutMillis() {
+        return awaitTimeoutMillis;
+    }
+
+    public void setAwaitTimeoutMillis(long awaitTimeoutMillis) {
+        this.awaitTimeoutMillis = awaitTimeoutMillis;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public void setWorkerThreads(int workerThreads) {
+        this.workerThreads = workerThreads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * 커넥션 풀 크기를 상한으로 한 작업 스레드 수
+     *
+     * @param connectionPoolSize 재시도가 사용하는 커넥션 풀 크기
+     * @return 작업 스레드 수 (1 이상, connectionPoolSize 이하)
+     */
+    public int resolveWorkerThreads(int connectionPoolSize) {
+        int threads = workerThreads > 0 ? workerThreads : connectionPoolSize / 4;
+        return Math.max(1, Math.min(threads, connectionPoolSize));
+    }
+
+    public double getBudgetRatio() {
+        return budgetRatio;
+    }
+
+    public void setBudgetRatio(double budgetRatio) {
+        this.budgetRatio = budgetRatio;
+    }
+
+    public int getGlobalBudget() {
+        return globalBudget;
+    }
+
+    public void setGlobalBudget(int globalBudget) {
+        this.globalBudget = globalBudget;
+    }
+
+    public int getPerUserBudget() {
+        return perUserBudget;
+    }
+
+    public void setPerUserBudget(int perUserBudget) {
+        this.perUserBudget = perUserBudget;
+    }
+
+    public long getPerUserBudgetIdleMillis() {
+        return perUserBudgetIdleMillis;
+    }
+
+    public void setPerUserBudgetIdleMillis(long perUserBudgetIdleMillis) {
+        this.perUserBudgetIdleMillis = perUserBudgetIdleMillis;
+    }
+}
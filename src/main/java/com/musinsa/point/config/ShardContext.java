@@ -0,0 +1,29 @@
+package com.musinsa.point.config;
+
+/**
+ * 현재 스레드가 사용할 샤드 번호를 보관하는 컨텍스트
+ * ShardRoutingDataSource 가 커넥션을 얻는 시점(트랜잭션 시작 시점)에 참조하므로,
+ * 트랜잭션이 시작되기 전에 ShardRouter 를 통해 설정되어야 함
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    /**
+     * 현재 샤드 번호 (설정되지 않은 경우 null - 기본 샤드 사용)
+     */
+    public static Integer current() {
+        return CURRENT_SHARD.get();
+    }
+
+    static void set(Integer shardIndex) {
+        if (shardIndex == null) {
+            CURRENT_SHARD.remove();
+        } else {
+            CURRENT_SHARD.set(shardIndex);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.repository.ShardDirectoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+/**
+ * 요청을 사용자 샤드로 라우팅하는 컴포넌트
+ * 트랜잭션이 시작되기 전에 호출되어야 하며 (PointService 파사드 등), 샤딩이 비활성화된 경우 작업을 그대로 실행
+ *
+ * 라우팅 규칙:
+ * - userId, 멱등성 키: CRC32 해시 % 샤드 수 (샤드 수가 바뀌면 재배치 필요)
+ * - pointKey, orderNumber: 샤드 디렉터리에 기록된 소유 사용자의 샤드
+ */
+@Component
+public class ShardRouter {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardRouter.class);
+    private static final String POINT_KEY_PREFIX = "P:";
+    private static final String ORDER_NUMBER_PREFIX = "O:";
+
+    private final ShardingProperties shardingProperties;
+    private final ShardDirectoryRepository shardDirectoryRepository;
+
+    public ShardRouter(ShardingProperties shardingProperties,
+                       ObjectProvider<ShardDirectoryRepository> shardDirectoryRepository) {
+        this.shardingProperties = shardingProperties;
+        this.shardDirectoryRepository = shardDirectoryRepository.getIfAvailable();
+    }
+
+    /**
+     * 라우팅 키의 샤드 번호 계산
+     */
+    public static int shardOf(String routingKey, int shardCount) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(routingKey.getBytes(StandardCharsets.UTF_8));
+        return (int) (crc32.getValue() % shardCount);
+    }
+
+    public boolean isEnabled() {
+        return shardingProperties.isEnabled();
+    }
+
+    public int getShardCount() {
+        return isEnabled() ? shardingProperties.getShards().size() : 1;
+    }
+
+    /**
+     * 사용자의 샤드 번호
+     */
+    public int shardOfUser(String userId) {
+        return shardOf(userId, getShardCount());
+    }
+
+    /**
+     * 라우팅 키(멱등성 키 등)의 해시 샤드가 현재 스레드의 샤드 컨텍스트와 같은지 여부
+     * 샤딩이 비활성화된 경우 항상 true
+     */
+    public boolean isCurrentShard(String routingKey) {
+        if (!isEnabled()) {
+            return true;
+        }
+        Integer currentShard = ShardContext.current();
+        return currentShard != null && currentShard == shardOf(routingKey, getShardCount());
+    }
+
+    /**
+     * 사용자 샤드에서 작업 실행
+     */
+    public <T> T onUser(String userId, Supplier<T> work) {
+        return onShard(shardOfUser(userId), work);
+    }
+
+    /**
+     * 라우팅 키(멱등성 키 등) 해시 샤드에서 작업 실행
+     */
+    public <T> T onRoutingKey(String routingKey, Supplier<T> work) {
+        return onShard(shardOf(routingKey, getShardCount()), work);
+    }
+
+    /**
+     * 포인트 키를 소유한 사용자 샤드에서 작업 실행
+     * 디렉터리에 없는 키는 기본 샤드에서 실행되어 서비스의 미존재 처리로 이어짐
+     */
+    public <T> T onPointKey(String pointKey, Supplier<T> work) {
+        return onDirectoryEntry(POINT_KEY_PREFIX + pointKey, work);
+    }
+
+    /**
+     * 주문 번호를 사용한 사용자 샤드에서 작업 실행
+     */
+    public <T> T onOrderNumber(String orderNumber, Supplier<T> work) {
+        return onDirectoryEntry(ORDER_NUMBER_PREFIX + orderNumber, work);
+    }
+
+    /**
+     * 모든 샤드에서 작업을 순서대로 실행
+     */
+    public <T> List<T> onEachShard(Supplier<T> work) {
+        List<T> results = new ArrayList<>();
+        for (int shardIndex = 0; shardIndex < getShardCount(); shardIndex++) {
+            results.add(onShard(shardIndex, work));
+        }
+        return results;
+    }
+
+    /**
+     * 지정한 샤드에서 작업 실행 (종료 후 이전 샤드 컨텍스트 복원)
+     */
+    public <T> T onShard(int shardIndex, Supplier<T> work) {
+        if (!isEnabled()) {
+            return work.get();
+        }
+
+        Integer previousShard = ShardContext.current();
+        ShardContext.set(shardIndex);
+        try {
+            return work.get();
+        } finally {
+            ShardContext.set(previousShard);
+        }
+    }
+
+    /**
+     * 적립 포인트 키를 디렉터리에 등록 (적립 취소, 사용 취소 라우팅용)
+     */
+    public void registerPointKey(String pointKey, String userId) {
+        register(POINT_KEY_PREFIX + pointKey, userId);
+    }
+
+    /**
+     * 사용 주문 번호의 소유자를 디렉터리에 등록 (사용 취소 라우팅, 주문 번호 소유자 확정용)
+     * 디렉터리 항목은 주문 번호 해시 샤드 한 곳에만 있으므로 사용자 샤드가 달라도 먼저 등록한 사용자가 소유자가 됨
+     *
+     * @param orderNumber 주문 번호
+     * @param userId 사용 요청 사용자 ID
+     * @return 등록된 소유 사용자 ID (샤딩이 비활성화되었거나 소유자 없이 등록된 기존 항목이면 빈 값)
+     */
+    public Optional<String> claimOrderNumber(String orderNumber, String userId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        return shardDirectoryRepository.claim(ORDER_NUMBER_PREFIX + orderNumber, shardOfUser(userId), userId);
+    }
+
+    private void register(String lookupKey, String userId) {
+        if (!isEnabled()) {
+            return;
+        }
+        shardDirectoryRepository.register(lookupKey, shardOfUser(userId));
+    }
+
+    private <T> T onDirectoryEntry(String lookupKey, Supplier<T> work) {
+        if (!isEnabled()) {
+            return work.get();
+        }
+
+        Integer shardIndex = shardDirectoryRepository.findShard(lookupKey).orElse(null);
+        if (shardIndex == null) {
+            log.debug("샤드 디렉터리에 없는 키 - lookupKey: {}, 기본 샤드에서 처리", lookupKey);
+            return work.get();
+        }
+        return onShard(shardIndex, work);
+    }
+}
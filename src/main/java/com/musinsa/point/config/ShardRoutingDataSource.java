@@ -0,0 +1,54 @@
+package com.musinsa.point.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ShardContext 의 샤드 번호로 커넥션을 라우팅하는 DataSource
+ * 샤드 번호가 없으면 0번 샤드(기본 샤드)를 사용
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targetDataSources.put(i, shards.get(i));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(shards.get(0));
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    public int getShardCount() {
+        return shards.size();
+    }
+
+    /**
+     * 라우팅을 거치지 않는 샤드 DataSource (샤드 디렉터리, 스키마 초기화 등에 사용)
+     */
+    public DataSource getShard(int shardIndex) {
+        return shards.get(shardIndex);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.repository.ShardDirectoryRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.Set;
+
+/**
+ * 샤드 스키마 및 초기 데이터 초기화
+ * ddl-auto / data.sql 은 기본 샤드(0번)에만 적용되므로 나머지 샤드에 같은 스키마와 설정 데이터를 적용하고,
+ * 모든 샤드에 샤드 디렉터리 테이블을 생성
+ */
+public class ShardSchemaInitializer implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardSchemaInitializer.class);
+    private static final Set<String> SCHEMA_CREATING_DDL_AUTO = Set.of("create", "create-drop");
+
+    private final ShardRoutingDataSource shardRoutingDataSource;
+    private final ShardRouter shardRouter;
+    private final ShardDirectoryRepository shardDirectoryRepository;
+    private final HibernateSchemaExporter hibernateSchemaExporter;
+    private final ObjectProvider<SqlInitializationProperties> sqlInitializationProperties;
+    private final ResourceLoader resourceLoader;
+    private final Environment environment;
+
+    public ShardSchemaInitializer(ShardRoutingDataSource shardRoutingDataSource,
+                                  ShardRouter shardRouter,
+                                  ShardDirectoryRepository shardDirectoryRepository,
+                                  HibernateSchemaExporter hibernateSchemaExporter,
+                                  ObjectProvider<SqlInitializationProperties> sqlInitializationProperties,
+                                  ResourceLoader resourceLoader,
+                                  Environment environment,
+                                  EntityManagerFactory entityManagerFactory) {
+        // entityManagerFactory: Hibernate 메타데이터가 준비된 이후에 초기화되도록 의존성으로만 사용
+        this.shardRoutingDataSource = shardRoutingDataSource;
+        this.shardRouter = shardRouter;
+        this.shardDirectoryRepository = shardDirectoryRepository;
+        this.hibernateSchemaExporter = hibernateSchemaExporter;
+        this.sqlInitializationProperties = sqlInitializationProperties;
+        this.resourceLoader = resourceLoader;
+        this.environment = environment;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        String ddlAuto = environment.getProperty("spring.jpa.hibernate.ddl-auto", "none");
+        boolean createSchema = SCHEMA_CREATING_DDL_AUTO.contains(ddlAuto);
+
+        for (int shardIndex = 1; shardIndex < shardRoutingDataSource.getShardCount(); shardIndex++) {
+            if (createSchema) {
+                shardRouter.onShard(shardIndex, () -> {
+                    hibernateSchemaExporter.createSchema();
+                    return null;
+                });
+            }
+            populateInitialData(shardRoutingDataSource.getShard(shardIndex));
+            log.info("샤드 초기화 완료 - shardIndex: {}, schemaCreated: {}", shardIndex, createSchema);
+        }
+
+        shardDirectoryRepository.createTableIfNotExists();
+    }
+
+    /**
+     * spring.sql.init 설정의 data.sql 을 샤드에 적용 (system_configs 등 공통 설정 데이터)
+     */
+    private void populateInitialData(DataSource shard) {
+        SqlInitializationProperties properties = sqlInitializationProperties.getIfAvailable();
+        if (properties == null || properties.getDataLocations() == null) {
+            return;
+        }
+
+        DatabaseInitializationMode mode = properties.getMode();
+        boolean apply = mode == DatabaseInitializationMode.ALWAYS
+            || (mode == DatabaseInitializationMode.EMBEDDED && EmbeddedDatabaseConnection.isEmbedded(shard));
+        if (!apply) {
+            return;
+        }
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        populator.setContinueOnError(properties.isContinueOnError());
+        for (String location : properties.getDataLocations()) {
+            String resolvedLocation = location.startsWith("optional:") ? location.substring("optional:".length()) : location;
+            Resource resource = resourceLoader.getResource(resolvedLocation);
+            if (resource.exists()) {
+                populator.addScript(resource);
+            }
+        }
+        populator.execute(shard);
+    }
+}
@@ -0,0 +1,101 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.repository.ShardDirectoryRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자 샤딩 설정
+ * point.sharding.enabled=true 인 경우 샤드별 커넥션 풀과 ShardRoutingDataSource 를 기본 DataSource 로 등록
+ * (spring.datasource.* 설정은 사용되지 않음)
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "point.sharding", name = "enabled", havingValue = "true")
+    public ShardRoutingDataSource shardRoutingDataSource(ShardingProperties shardingProperties) {
+        if (shardingProperties.getShards().isEmpty()) {
+            throw new IllegalStateException("point.sharding.shards 설정이 비어있습니다");
+        }
+
+        List<DataSource> shards = new ArrayList<>();
+        for (int i = 0; i < shardingProperties.getShards().size(); i++) {
+            ShardingProperties.Shard shard = shardingProperties.getShards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(shard.getUrl())
+                .username(shard.getUsername())
+                .password(shard.getPassword())
+                .build();
+            dataSource.setPoolName("shard-" + i);
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.add(dataSource);
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.sharding", name = "enabled", havingValue = "true")
+    public ShardDirectoryRepository shardDirectoryRepository(ShardRoutingDataSource shardRoutingDataSource) {
+        return new ShardDirectoryRepository(shardRoutingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.sharding", name = "enabled", havingValue = "true")
+    public HibernateSchemaExporter shardSchemaExporter() {
+        return new HibernateSchemaExporter();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.sharding", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer shardSchemaExporterCustomizer(HibernateSchemaExporter shardSchemaExporter) {
+        return hibernateProperties -> hibernateProperties.put(
+            "hibernate.integrator_provider", (IntegratorProvider) () -> List.of(shardSchemaExporter));
+    }
+
+    /**
+     * 샤딩 사용 시 2차 캐시 / 쿼리 캐시 비활성화
+     * 샤드마다 IDENTITY id 가 따로 증가하므로 샤드 구분 없는 캐시 키(엔티티 id)가 서로 다른 행을 가리킬 수 있음
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "point.sharding", name = "enabled", havingValue = "true")
+    public HibernatePropertiesCustomizer shardSecondLevelCacheCustomizer() {
+        return hibernateProperties -> {
+            hibernateProperties.put("hibernate.cache.use_second_level_cache", false);
+            hibernateProperties.put("hibernate.cache.use_query_cache", false);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.sharding", name = "enabled", havingValue = "true")
+    public ShardSchemaInitializer shardSchemaInitializer(ShardRoutingDataSource shardRoutingDataSource,
+                                                         ShardRouter shardRouter,
+                                                         ShardDirectoryRepository shardDirectoryRepository,
+                                                         HibernateSchemaExporter shardSchemaExporter,
+                                                         ObjectProvider<SqlInitializationProperties> sqlInitializationProperties,
+                                                         ResourceLoader resourceLoader,
+                                                         Environment environment,
+                                                         EntityManagerFactory entityManagerFactory) {
+        return new ShardSchemaInitializer(shardRoutingDataSource, shardRouter, shardDirectoryRepository,
+            shardSchemaExporter, sqlInitializationProperties, resourceLoader, environment, entityManagerFactory);
+    }
+}
@@ -0,0 +1,51 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.repository.PointLiabilityRepository;
+import com.musinsa.point.service.ConfigService;
+import com.musinsa.point.service.PointEarnService;
+import com.musinsa.point.service.PointQueryService;
+import com.musinsa.point.service.PointUseService;
+import com.musinsa.point.service.StartupWarmupRunner;
+import com.musinsa.point.service.UserHashLiabilitySlotSelector;
+import com.musinsa.point.service.WarmupLiabilitySlotSelector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 기동 워밍업 설정
+ * point.warmup.enabled=true 인 경우 readiness 전에 설정 캐시를 채우고 적립 / 사용 / 조회 경로를 반복 실행
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+public class WarmupConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "point.warmup", name = "enabled", havingValue = "true")
+    public StartupWarmupRunner startupWarmupRunner(WarmupProperties warmupProperties,
+                                                   ConfigService configService,
+                                                   PointEarnService pointEarnService,
+                                                   PointUseService pointUseService,
+                                                   PointQueryService pointQueryService,
+                                                   ShardRouter shardRouter,
+                                                   PointLiabilityRepository pointLiabilityRepository,
+                                                   PlatformTransactionManager transactionManager,
+                                                   MeterRegistry meterRegistry) {
+        return new StartupWarmupRunner(warmupProperties, configService, pointEarnService, pointUseService,
+            pointQueryService, shardRouter, pointLiabilityRepository, transactionManager, meterRegistry);
+    }
+
+    /**
+     * 워밍업 합성 사용자의 부채 반영을 전용 slot 으로 보내는 slot 선택 (그 외 사용자는 사용자 해시 slot)
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "point.warmup", name = "enabled", havingValue = "true")
+    public WarmupLiabilitySlotSelector warmupLiabilitySlotSelector(UserHashLiabilitySlotSelector userHashLiabilitySlotSelector) {
+        return new WarmupLiabilitySlotSelector(StartupWarmupRunner.USER_PREFIX, userHashLiabilitySlotSelector);
+    }
+}
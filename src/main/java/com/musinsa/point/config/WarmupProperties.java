@@ -0,0 +1,75 @@
+package com.musinsa.point.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기동 워밍업 설정 (point.warmup.*)
+ */
+@ConfigurationProperties(prefix = "point.warmup")
+public class WarmupProperties {
+
+    /**
+     * readiness 전에 워밍업 실행 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 최대 반복 횟수 (반복 1 회 = 적립 2 + 사용 + 사용 취소 + 잔액 / 이력 조회)
+     */
+    private int maxIterations = 2_000;
+
+    /**
+     * 최대 워밍업 시간 (JIT 가 안정되지 않아도 이 시간이 지나면 종료)
+     */
+    private long maxDurationMillis = 30_000;
+
+    /**
+     * 안정 판단 구간 크기 (반복 횟수)
+     */
+    private int windowIterations = 50;
+
+    /**
+     * 직전 구간 대비 평균 지연 변화율이 이 값 이하인 구간이 연속 2 번이면 안정된 것으로 보고 종료
+     */
+    private double stableRatio = 0.05;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    public void setMaxIterations(int maxIterations) {
+        this.maxIterations = maxIterations;
+    }
+
+    public long getMaxDurationMillis() {
+        return maxDurationMillis;
+    }
+
+    public void setMaxDurationMillis(long maxDurationMillis) {
+        this.maxDurationMillis = maxDurationMillis;
+    }
+
+    public int getWindowIterations() {
+        return windowIterations;
+    }
+
+    public void setWindowIterations(int windowIterations) {
+        this.windowIterations = windowIterations;
+    }
+
+    public double getStableRatio() {
+        return stableRatio;
+    }
+
+    public void setStableRatio(double stableRatio) {
+        this.stableRatio = stableRatio;
+    }
+}
@@ -0,0 +1,40 @@
+package com.musinsa.point.config;
+
+import com.musinsa.point.filter.ConcurrencyLimitInterceptor;
+import com.musinsa.point.filter.IdempotentReplayInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정
+ */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final IdempotentReplayInterceptor idempotentReplayInterceptor;
+    private final ConcurrencyLimitInterceptor concurrencyLimitInterceptor;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+
+    public WebConfig(IdempotentReplayInterceptor idempotentReplayInterceptor,
+                     ConcurrencyLimitInterceptor concurrencyLimitInterceptor,
+                     ConcurrencyLimitProperties concurrencyLimitProperties) {
+        this.idempotentReplayInterceptor = idempotentReplayInterceptor;
+        this.concurrencyLimitInterceptor = concurrencyLimitInterceptor;
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // 멱등성 키를 받는 포인트 변경 API 에만 적용
+        registry.addInterceptor(idempotentReplayInterceptor)
+            .addPathPatterns("/api/v1/points/**");
+
+        // 쓰기 API 동시 실행 제한 - 멱등성 재전송(저장된 응답 반환)은 한도에 포함하지 않도록 재전송 인터셉터 뒤에 등록
+        if (concurrencyLimitProperties.isEnabled()) {
+            registry.addInterceptor(concurrencyLimitInterceptor)
+                .addPathPatterns("/api/v1/points/earn", "/api/v1/points/cancel-earn",
+                    "/api/v1/points/use", "/api/v1/points/cancel-use");
+        }
+    }
+}
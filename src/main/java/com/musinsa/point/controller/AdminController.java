@@ -0,0 +1,128 @@
+package com.musinsa.point.controller;
+
+import com.musinsa.point.dto.ConsolidationResponse;
+import com.musinsa.point.dto.LiabilityReportResponse;
+import com.musinsa.point.dto.ReconciliationResponse;
+import com.musinsa.point.service.BalanceReconciliationService;
+import com.musinsa.point.service.LotConsolidationService;
+import com.musinsa.point.service.PointLiabilityService;
+import com.musinsa.point.service.SecondLevelCacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 운영 관리 API 컨트롤러
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@Tag(name = "Admin API", description = "포인트 운영 관리 API")
+public class AdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(AdminController.class);
+    private final BalanceReconciliationService balanceReconciliationService;
+    private final PointLiabilityService pointLiabilityService;
+    private final LotConsolidationService lotConsolidationService;
+    private final SecondLevelCacheService secondLevelCacheService;
+
+    public AdminController(BalanceReconciliationService balanceReconciliationService,
+                           PointLiabilityService pointLiabilityService,
+                           LotConsolidationService lotConsolidationService,
+                           SecondLevelCacheService secondLevelCacheService) {
+        this.balanceReconciliationService = balanceReconciliationService;
+        this.pointLiabilityService = pointLiabilityService;
+        this.lotConsolidationService = lotConsolidationService;
+        this.secondLevelCacheService = secondLevelCacheService;
+    }
+
+    /**
+     * 잔액 정합성 검증
+     *
+     * @param rewrite 불일치 요약 재작성 여부
+     * @return 검증 결과
+     */
+    @Operation(summary = "잔액 정합성 검증", description = "사용자 포인트 요약 잔액과 적립 건별 잔액 합계를 비교합니다. rewrite=true 인 경우 불일치 요약을 재작성합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "검증 완료",
+            content = @Content(schema = @Schema(implementation = ReconciliationResponse.class)))
+    })
+    @PostMapping("/reconciliation")
+    public ResponseEntity<ReconciliationResponse> reconcile(
+        @Parameter(description = "불일치 요약 재작성 여부")
+        @RequestParam(defaultValue = "false") boolean rewrite
+    ) {
+        log.info("잔액 정합성 검증 요청 - rewrite: {}", rewrite);
+
+        ReconciliationResponse response = balanceReconciliationService.reconcile(rewrite);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 만료 월별 미사용 포인트 부채 조회
+     *
+     * @return 부채 리포트
+     */
+    @Operation(summary = "미사용 포인트 부채 조회", description = "만료 월 / 수기 지급 여부별 미사용 포인트 잔액 합계를 조회합니다. 증분 집계 테이블을 읽으므로 적립 건 전체를 스캔하지 않습니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = LiabilityReportResponse.class)))
+    })
+    @GetMapping("/liabilities")
+    public ResponseEntity<LiabilityReportResponse> getLiabilities() {
+        log.debug("미사용 포인트 부채 조회 요청");
+
+        LiabilityReportResponse response = pointLiabilityService.getReport();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 적립 통합 수동 실행
+     *
+     * @return 통합 결과
+     */
+    @Operation(summary = "적립 통합 실행", description = "같은 만료일의 미사용 자동 지급 적립을 사용자별로 하나의 통합 적립으로 합칩니다. 정기 배치와 동일한 작업을 즉시 실행합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "통합 완료",
+            content = @Content(schema = @Schema(implementation = ConsolidationResponse.class)))
+    })
+    @PostMapping("/consolidation")
+    public ResponseEntity<ConsolidationResponse> consolidate() {
+        log.info("적립 통합 요청");
+
+        ConsolidationResponse response = lotConsolidationService.consolidate();
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 2차 캐시 전체 제거
+     *
+     * @return 응답 본문 없음
+     */
+    @Operation(summary = "2차 캐시 제거", description = "Hibernate 2차 캐시 / 쿼리 캐시의 모든 영역을 비웁니다. 시스템 설정 등을 DB 에서 직접 변경한 경우 즉시 반영하기 위해 사용합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "204", description = "제거 완료")
+    })
+    @PostMapping("/cache/eviction")
+    public ResponseEntity<Void> evictCache() {
+        log.info("2차 캐시 제거 요청");
+
+        secondLevelCacheService.evictAll();
+
+        return ResponseEntity.noContent().build();
+    }
+}
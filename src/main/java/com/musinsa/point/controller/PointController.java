@@ -1,6 +1,8 @@
 package com.musinsa.point.controller;
 
+import com.musinsa.point.config.ReplicaRouter;
 import com.musinsa.point.dto.BalanceResponse;
+import com.musinsa.point.dto.BalanceSummaryResponse;
 import com.musinsa.point.dto.CancelEarnRequest;
 import com.musinsa.point.dto.CancelEarnResponse;
 import com.musinsa.point.dto.CancelUseRequest;
@@ -8,6 +10,7 @@ import com.musinsa.point.dto.CancelUseResponse;
 import com.musinsa.point.dto.EarnRequest;
 import com.musinsa.point.dto.EarnResponse;
 import com.musinsa.point.dto.ErrorResponse;
+import com.musinsa.point.dto.HistoryExportFormat;
 import com.musinsa.point.dto.HistoryResponse;
 import com.musinsa.point.dto.UseRequest;
 import com.musinsa.point.dto.UseResponse;
@@ -22,6 +25,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -31,9 +37,16 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 포인트 API 컨트롤러
+ * 적립/사용/취소는 CompletableFuture 를 반환하여 잠금 충돌 재시도 대기 중에 요청 스레드를 점유하지 않음
+ * 복제본이 활성화된 경우 쓰기 응답에 일관성 토큰(X-Read-Consistency-Token)을 담고, 조회 요청에 토큰이 있으면 주 DB 에서 조회
+ * 잔액 / 이력 조회는 사용자 요약 버전 ETag 로 If-None-Match 조건부 조회를 지원 (변경이 없으면 버전 조회 한 번으로 304)
  */
 @RestController
 @RequestMapping("/api/v1/points")
@@ -42,9 +55,11 @@ public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
     private final PointService pointService;
+    private final ReplicaRouter replicaRouter;
 
-    public PointController(PointService pointService) {
+    public PointController(PointService pointService, ReplicaRouter replicaRouter) {
         this.pointService = pointService;
+        this.replicaRouter = replicaRouter;
     }
 
     /**
@@ -61,19 +76,20 @@ public class PointController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청 (한도 초과, 유효하지 않은 금액 등)",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "409", description = "동시성 충돌",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "429", description = "동시 실행 한도 초과 (Retry-After 이후 재시도)",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/earn")
-    public ResponseEntity<EarnResponse> earnPoints(
+    public CompletableFuture<ResponseEntity<EarnResponse>> earnPoints(
         @Parameter(description = "멱등성 키 (UUID)", required = true)
         @RequestHeader("Idempotency-Key") String idempotencyKey,
         @Valid @RequestBody EarnRequest request
     ) {
         log.debug("포인트 적립 요청 - userId: {}, amount: {}", request.getUserId(), request.getAmount());
         
-        EarnResponse response = pointService.earnPoints(request, idempotencyKey);
-        
-        return ResponseEntity.ok(response);
+        return pointService.earnPointsAsync(request, idempotencyKey)
+            .thenApply(this::withConsistencyToken);
     }
 
     /**
@@ -90,19 +106,20 @@ public class PointController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청 (사용된 포인트 취소 시도 등)",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "포인트 키를 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "429", description = "동시 실행 한도 초과 (Retry-After 이후 재시도)",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/cancel-earn")
-    public ResponseEntity<CancelEarnResponse> cancelEarn(
+    public CompletableFuture<ResponseEntity<CancelEarnResponse>> cancelEarn(
         @Parameter(description = "멱등성 키 (UUID)", required = true)
         @RequestHeader("Idempotency-Key") String idempotencyKey,
         @Valid @RequestBody CancelEarnRequest request
     ) {
         log.debug("포인트 적립 취소 요청 - pointKey: {}", request.getPointKey());
         
-        CancelEarnResponse response = pointService.cancelEarn(request, idempotencyKey);
-        
-        return ResponseEntity.ok(response);
+        return pointService.cancelEarnAsync(request, idempotencyKey)
+            .thenApply(this::withConsistencyToken);
     }
 
     /**
@@ -119,10 +136,12 @@ public class PointController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청 (잔액 부족 등)",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "409", description = "동시성 충돌",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "429", description = "동시 실행 한도 초과 (Retry-After 이후 재시도)",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/use")
-    public ResponseEntity<UseResponse> usePoints(
+    public CompletableFuture<ResponseEntity<UseResponse>> usePoints(
         @Parameter(description = "멱등성 키 (UUID)", required = true)
         @RequestHeader("Idempotency-Key") String idempotencyKey,
         @Valid @RequestBody UseRequest request
@@ -130,9 +149,8 @@ public class PointController {
         log.debug("포인트 사용 요청 - userId: {}, orderNumber: {}, amount: {}", 
             request.getUserId(), request.getOrderNumber(), request.getAmount());
         
-        UseResponse response = pointService.usePoints(request, idempotencyKey);
-        
-        return ResponseEntity.ok(response);
+        return pointService.usePointsAsync(request, idempotencyKey)
+            .thenApply(this::withConsistencyToken);
     }
 
     /**
@@ -149,10 +167,12 @@ public class PointController {
         @ApiResponse(responseCode = "400", description = "잘못된 요청 (원래 사용 금액 초과 등)",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
         @ApiResponse(responseCode = "404", description = "사용 포인트 키를 찾을 수 없음",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+        @ApiResponse(responseCode = "429", description = "동시 실행 한도 초과 (Retry-After 이후 재시도)",
             content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
     })
     @PostMapping("/cancel-use")
-    public ResponseEntity<CancelUseResponse> cancelUse(
+    public CompletableFuture<ResponseEntity<CancelUseResponse>> cancelUse(
         @Parameter(description = "멱등성 키 (UUID)", required = true)
         @RequestHeader("Idempotency-Key") String idempotencyKey,
         @Valid @RequestBody CancelUseRequest request
@@ -160,31 +180,71 @@ public class PointController {
         log.debug("포인트 사용 취소 요청 - orderNumber: {}, amount: {}", 
             request.getOrderNumber(), request.getAmount());
         
-        CancelUseResponse response = pointService.cancelUse(request, idempotencyKey);
-        
-        return ResponseEntity.ok(response);
+        return pointService.cancelUseAsync(request, idempotencyKey)
+            .thenApply(this::withConsistencyToken);
     }
 
     /**
      * 포인트 잔액 조회
      *
      * @param userId 사용자 ID
-     * @return 잔액 응답
+     * @param consistencyToken 쓰기 응답의 일관성 토큰 (선택)
+     * @param webRequest If-None-Match 확인용 요청
+     * @return 잔액 응답 (변경이 없으면 304)
      */
     @Operation(summary = "포인트 잔액 조회", description = "사용자의 현재 포인트 잔액과 사용 가능한 포인트 목록을 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공",
-            content = @Content(schema = @Schema(implementation = BalanceResponse.class)))
+            content = @Content(schema = @Schema(implementation = BalanceResponse.class))),
+        @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 이후 변경 없음")
     })
     @GetMapping("/balance/{userId}")
     public ResponseEntity<BalanceResponse> getBalance(
+        @Parameter(description = "쓰기 응답의 일관성 토큰 (복제본 사용 시 주 DB 에서 조회)")
+        @RequestHeader(value = ReplicaRouter.CONSISTENCY_TOKEN_HEADER, required = false) String consistencyToken,
         @Parameter(name = "userId", description = "사용자 ID", required = true)
-        @PathVariable("userId") String userId
+        @PathVariable("userId") String userId,
+        WebRequest webRequest
     ) {
         log.debug("포인트 잔액 조회 요청 - userId: {}", userId);
+
+        // ETag 를 응답보다 먼저 조회 (사이에 쓰기가 있으면 응답보다 이전 ETag 가 되어 다음 조회에서 다시 전체 응답)
+        String etag = pointService.getBalanceEtag(userId, consistencyToken);
+        if (etag != null && webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        BalanceResponse response = pointService.getBalance(userId, consistencyToken);
         
-        BalanceResponse response = pointService.getBalance(userId);
-        
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .body(response);
+    }
+
+    /**
+     * 포인트 잔액 요약 조회
+     *
+     * @param userId 사용자 ID
+     * @param consistencyToken 쓰기 응답의 일관성 토큰 (선택)
+     * @return 잔액 요약 응답
+     */
+    @Operation(summary = "포인트 잔액 요약 조회",
+        description = "적립 목록 없이 총 잔액, 수기/자동 지급 잔액, 보유 적립 수, 다음 만료일과 만료 예정 금액을 조회합니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "조회 성공",
+            content = @Content(schema = @Schema(implementation = BalanceSummaryResponse.class)))
+    })
+    @GetMapping("/balance/{userId}/summary")
+    public ResponseEntity<BalanceSummaryResponse> getBalanceSummary(
+        @Parameter(description = "쓰기 응답의 일관성 토큰 (복제본 사용 시 주 DB 에서 조회)")
+        @RequestHeader(value = ReplicaRouter.CONSISTENCY_TOKEN_HEADER, required = false) String consistencyToken,
+        @Parameter(name = "userId", description = "사용자 ID", required = true)
+        @PathVariable("userId") String userId
+    ) {
+        log.debug("포인트 잔액 요약 조회 요청 - userId: {}", userId);
+
+        BalanceSummaryResponse response = pointService.getBalanceSummary(userId, consistencyToken);
+
         return ResponseEntity.ok(response);
     }
 
@@ -194,26 +254,84 @@ public class PointController {
      * @param userId 사용자 ID
      * @param page 페이지 번호 (0부터 시작, 기본값: 0)
      * @param size 페이지 크기 (기본값: 20)
-     * @return 이력 응답
+     * @param consistencyToken 쓰기 응답의 일관성 토큰 (선택)
+     * @param webRequest If-None-Match 확인용 요청
+     * @return 이력 응답 (변경이 없으면 304)
      */
     @Operation(summary = "포인트 이력 조회", description = "사용자의 포인트 트랜잭션 이력을 페이징하여 조회합니다.")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "조회 성공",
-            content = @Content(schema = @Schema(implementation = HistoryResponse.class)))
+            content = @Content(schema = @Schema(implementation = HistoryResponse.class))),
+        @ApiResponse(responseCode = "304", description = "If-None-Match 의 ETag 이후 변경 없음")
     })
     @GetMapping("/history/{userId}")
     public ResponseEntity<HistoryResponse> getHistory(
+        @Parameter(description = "쓰기 응답의 일관성 토큰 (복제본 사용 시 주 DB 에서 조회)")
+        @RequestHeader(value = ReplicaRouter.CONSISTENCY_TOKEN_HEADER, required = false) String consistencyToken,
         @Parameter(name = "userId", description = "사용자 ID", required = true)
         @PathVariable("userId") String userId,
         @Parameter(name = "page", description = "페이지 번호 (0부터 시작)")
         @RequestParam(value = "page", defaultValue = "0") int page,
         @Parameter(name = "size", description = "페이지 크기")
-        @RequestParam(value = "size", defaultValue = "20") int size
+        @RequestParam(value = "size", defaultValue = "20") int size,
+        WebRequest webRequest
     ) {
         log.debug("포인트 이력 조회 요청 - userId: {}, page: {}, size: {}", userId, page, size);
+
+        String etag = pointService.getHistoryEtag(userId, consistencyToken);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        HistoryResponse response = pointService.getHistory(userId, page, size, consistencyToken);
         
-        HistoryResponse response = pointService.getHistory(userId, page, size);
-        
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .body(response);
+    }
+
+    /**
+     * 포인트 전체 이력 내보내기
+     *
+     * @param userId 사용자 ID
+     * @param format 내보내기 형식 (ndjson, csv)
+     * @return 스트리밍 응답 (최신순 전체 이력)
+     */
+    @Operation(summary = "포인트 이력 내보내기", description = "사용자의 전체 포인트 이력을 NDJSON 또는 CSV 로 스트리밍합니다. 이력 건수와 무관하게 일정한 메모리로 전송됩니다.")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "내보내기 시작"),
+        @ApiResponse(responseCode = "400", description = "지원하지 않는 형식",
+            content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/history/{userId}/export")
+    public ResponseEntity<StreamingResponseBody> exportHistory(
+        @Parameter(name = "userId", description = "사용자 ID", required = true)
+        @PathVariable("userId") String userId,
+        @Parameter(name = "format", description = "내보내기 형식 (ndjson, csv)")
+        @RequestParam(value = "format", defaultValue = "ndjson") String format
+    ) {
+        HistoryExportFormat exportFormat = HistoryExportFormat.from(format);
+        log.debug("포인트 이력 내보내기 요청 - userId: {}, format: {}", userId, exportFormat);
+
+        StreamingResponseBody body = outputStream -> pointService.exportHistory(userId, exportFormat, outputStream);
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"point-history." + exportFormat.getFileExtension() + "\"")
+            .body(body);
+    }
+
+    /**
+     * 쓰기 응답에 일관성 토큰 헤더 추가 (복제본이 비활성화된 경우 헤더 없음)
+     */
+    private <T> ResponseEntity<T> withConsistencyToken(T body) {
+        String consistencyToken = replicaRouter.issueToken();
+        if (consistencyToken == null) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok()
+            .header(ReplicaRouter.CONSISTENCY_TOKEN_HEADER, consistencyToken)
+            .body(body);
     }
 }
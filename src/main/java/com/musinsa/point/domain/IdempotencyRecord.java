@@ -7,6 +7,9 @@ import java.time.LocalDateTime;
 /**
  * 멱등성 레코드 엔티티
  * 멱등성 키를 관리하여 중복 요청 방지
+ *
+ * 응답은 response_payload([코덱 버전][본문]) 에 저장하며,
+ * response_body(JSON TEXT) 는 이전 형식으로 저장된 레코드 조회용으로만 유지
  */
 @Entity
 @Table(name = "idempotency_records", indexes = {
@@ -25,6 +28,10 @@ public class IdempotencyRecord {
     @Column(name = "response_body", columnDefinition = "TEXT")
     private String responseBody;
     
+    @Lob
+    @Column(name = "response_payload")
+    private byte[] responsePayload;
+    
     @Column(name = "http_status", nullable = false)
     private Integer httpStatus;
     
@@ -37,10 +44,11 @@ public class IdempotencyRecord {
     protected IdempotencyRecord() {
     }
     
-    public IdempotencyRecord(String idempotencyKey, String responseBody, 
+    public IdempotencyRecord(String idempotencyKey, String responseBody, byte[] responsePayload,
                             Integer httpStatus, LocalDateTime createdAt, LocalDateTime expiresAt) {
         this.idempotencyKey = idempotencyKey;
         this.responseBody = responseBody;
+        this.responsePayload = responsePayload;
         this.httpStatus = httpStatus;
         this.createdAt = createdAt;
         this.expiresAt = expiresAt;
@@ -58,6 +66,10 @@ public class IdempotencyRecord {
         return responseBody;
     }
 
+    public byte[] getResponsePayload() {
+        return responsePayload;
+    }
+
     public Integer getHttpStatus() {
         return httpStatus;
     }
@@ -77,6 +89,7 @@ public class IdempotencyRecord {
     public static class Builder {
         private String idempotencyKey;
         private String responseBody;
+        private byte[] responsePayload;
         private Integer httpStatus;
         private LocalDateTime createdAt;
         private LocalDateTime expiresAt;
@@ -91,6 +104,11 @@ public class IdempotencyRecord {
             return this;
         }
 
+        public Builder responsePayload(byte[] responsePayload) {
+            this.responsePayload = responsePayload;
+            return this;
+        }
+
         public Builder httpStatus(Integer httpStatus) {
             this.httpStatus = httpStatus;
             return this;
@@ -107,7 +125,7 @@ public class IdempotencyRecord {
         }
 
         public IdempotencyRecord build() {
-            return new IdempotencyRecord(idempotencyKey, responseBody, httpStatus, createdAt, expiresAt);
+            return new IdempotencyRecord(idempotencyKey, responseBody, responsePayload, httpStatus, createdAt, expiresAt);
         }
     }
 }
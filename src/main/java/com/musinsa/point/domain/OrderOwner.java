@@ -0,0 +1,42 @@
+package com.musinsa.point.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 주문 번호 소유자 엔티티
+ * 주문 번호에서 처음 포인트를 사용한 사용자를 주문당 한 행(order_number 기본 키)으로 기록
+ *
+ * 동시에 같은 주문 번호로 처음 사용하는 요청은 기본 키 충돌로 하나만 소유자가 되며,
+ * 행은 OrderOwnershipService 가 JDBC 로 추가 (테이블 생성을 위한 매핑)
+ */
+@Entity
+@Table(name = "order_owners")
+public class OrderOwner {
+
+    @Id
+    @Column(name = "order_number", length = 100)
+    private String orderNumber;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected OrderOwner() {
+    }
+
+    // Getters
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
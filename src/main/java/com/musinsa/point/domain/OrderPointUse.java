@@ -0,0 +1,68 @@
+package com.musinsa.point.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 주문별 포인트 사용 매핑 엔티티
+ * 주문 번호 -> 사용(USE) 트랜잭션 pointKey 를 기록 (분할 결제 등으로 한 주문에 여러 번 사용 가능)
+ *
+ * 사용 취소는 order_number 인덱스 한 번으로 주문의 사용 목록을 찾고, 사용 트랜잭션은 pointKey 로 조회함
+ */
+@Entity
+@Table(name = "order_point_uses", indexes = {
+    @Index(name = "idx_order_point_uses_order_number", columnList = "order_number, id")
+})
+public class OrderPointUse {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_number", nullable = false, length = 100)
+    private String orderNumber;
+
+    @Column(name = "use_point_key", nullable = false, length = 50)
+    private String usePointKey;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected OrderPointUse() {
+    }
+
+    public OrderPointUse(String orderNumber, String usePointKey, String userId) {
+        this.orderNumber = orderNumber;
+        this.usePointKey = usePointKey;
+        this.userId = userId;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public String getUsePointKey() {
+        return usePointKey;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
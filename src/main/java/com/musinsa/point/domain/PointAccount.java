@@ -102,4 +102,13 @@ public class PointAccount {
     public void setCanceledAmount(Long canceledAmount) {
         this.canceledAmount = canceledAmount;
     }
+
+    /**
+     * JDBC 로 조회/저장한 행의 식별자, 시각 반영 (영속성 컨텍스트 밖에서 다루는 엔티티 전용)
+     */
+    public void restoreRowState(Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
@@ -0,0 +1,174 @@
+package com.musinsa.point.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 이력 엔티티 (조회 전용 프로젝션)
+ * 포인트 변경 시점의 누적 잔액을 함께 기록하는 append-only 테이블
+ * 쓰기 경로에서 잠그고 갱신하는 point_transactions 와 분리하여 이력 조회가 차감과 경합하지 않도록 함
+ */
+@Entity
+@Table(name = "point_history", indexes = {
+    // 사용자별 최신순 이력 조회를 단일 범위 스캔으로 처리하기 위한 복합 인덱스
+    @Index(name = "idx_point_history_user_created", columnList = "user_id, created_at DESC, id DESC")
+})
+public class PointHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    @Column(name = "point_key", nullable = false, length = 50)
+    private String pointKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false, length = 20)
+    private TransactionType transactionType;
+
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "balance_after", nullable = false)
+    private Long balanceAfter;
+
+    @Column(name = "order_number", length = 100)
+    private String orderNumber;
+
+    @Column(name = "reference_point_key", length = 50)
+    private String referencePointKey;
+
+    @Column(name = "description", length = 500)
+    private String description;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected PointHistory() {
+    }
+
+    public PointHistory(String userId, String pointKey, TransactionType transactionType, Long amount,
+                        Long balanceAfter, String orderNumber, String referencePointKey,
+                        String description, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.pointKey = pointKey;
+        this.transactionType = transactionType;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.orderNumber = orderNumber;
+        this.referencePointKey = referencePointKey;
+        this.description = description;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public String getPointKey() {
+        return pointKey;
+    }
+
+    public TransactionType getTransactionType() {
+        return transactionType;
+    }
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public Long getBalanceAfter() {
+        return balanceAfter;
+    }
+
+    public String getOrderNumber() {
+        return orderNumber;
+    }
+
+    public String getReferencePointKey() {
+        return referencePointKey;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static class Builder {
+        private String userId;
+        private String pointKey;
+        private TransactionType transactionType;
+        private Long amount;
+        private Long balanceAfter;
+        private String orderNumber;
+        private String referencePointKey;
+        private String description;
+        private LocalDateTime createdAt;
+
+        public Builder userId(String userId) {
+            this.userId = userId;
+            return this;
+        }
+
+        public Builder pointKey(String pointKey) {
+            this.pointKey = pointKey;
+            return this;
+        }
+
+        public Builder transactionType(TransactionType transactionType) {
+            this.transactionType = transactionType;
+            return this;
+        }
+
+        public Builder amount(Long amount) {
+            this.amount = amount;
+            return this;
+        }
+
+        public Builder balanceAfter(Long balanceAfter) {
+            this.balanceAfter = balanceAfter;
+            return this;
+        }
+
+        public Builder orderNumber(String orderNumber) {
+            this.orderNumber = orderNumber;
+            return this;
+        }
+
+        public Builder referencePointKey(String referencePointKey) {
+            this.referencePointKey = referencePointKey;
+            return this;
+        }
+
+        public Builder description(String description) {
+            this.description = description;
+            return this;
+        }
+
+        public Builder createdAt(LocalDateTime createdAt) {
+            this.createdAt = createdAt;
+            return this;
+        }
+
+        public PointHistory build() {
+            return new PointHistory(userId, pointKey, transactionType, amount, balanceAfter,
+                orderNumber, referencePointKey, description, createdAt);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.musinsa.point.domain;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 미사용 포인트 부채 집계 엔티티
+ * 만료 월 / 수기 지급 여부별 미사용 잔액(availableBalance 합계)을 증분으로 관리하는 집계 테이블
+ *
+ * 같은 만료 월의 적립이 모든 사용자에게 몰리므로, 한 행에 갱신이 집중되지 않도록
+ * 사용자 해시로 slot 을 나누어 저장하고 조회 시 합산함
+ */
+@Entity
+@Table(name = "point_liabilities", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_point_liability_bucket", columnNames = {"expiration_month", "is_manual_grant", "slot"})
+})
+public class PointLiability {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 만료 월 (해당 월 1일)
+     */
+    @Column(name = "expiration_month", nullable = false)
+    private LocalDate expirationMonth;
+
+    @Column(name = "is_manual_grant", nullable = false)
+    private Boolean isManualGrant;
+
+    @Column(name = "slot", nullable = false)
+    private Integer slot;
+
+    @Column(name = "outstanding_amount", nullable = false)
+    private Long outstandingAmount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected PointLiability() {
+    }
+
+    public PointLiability(LocalDate expirationMonth, Boolean isManualGrant, Integer slot) {
+        this.expirationMonth = expirationMonth;
+        this.isManualGrant = isManualGrant;
+        this.slot = slot;
+        this.outstandingAmount = 0L;
+    }
+
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDate getExpirationMonth() {
+        return expirationMonth;
+    }
+
+    public Boolean getIsManualGrant() {
+        return isManualGrant;
+    }
+
+    public Integer getSlot() {
+        return slot;
+    }
+
+    public Long getOutstandingAmount() {
+        return outstandingAmount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
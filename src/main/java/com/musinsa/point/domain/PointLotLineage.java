@@ -0,0 +1,110 @@
+package com.musinsa.point.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 적립 통합 계보 엔티티
+ * 여러 적립(original)을 하나의 통합 적립(merged)으로 합친 경우 원본별 통합 금액을 기록
+ *
+ * 원본 적립의 availableBalance 는 통합 시 0 이 되고 잔액은 통합 적립에서 관리되므로,
+ * 원본 pointKey 로 들어온 적립 취소는 이 계보를 따라 통합 적립에서 처리함
+ */
+@Entity
+@Table(name = "point_lot_lineage", indexes = {
+    @Index(name = "idx_lineage_original_point_key", columnList = "original_point_key", unique = true),
+    @Index(name = "idx_lineage_merged_point_key", columnList = "merged_point_key")
+})
+public class PointLotLineage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "merged_point_key", nullable = false, length = 50)
+    private String mergedPointKey;
+
+    @Column(name = "original_point_key", nullable = false, unique = true, length = 50)
+    private String originalPointKey;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    /**
+     * 원본 적립에서 통합 적립으로 옮긴 금액
+     */
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    /**
+     * 원본 적립 취소 여부 (통합 적립에서 금액 차감 완료)
+     */
+    @Column(name = "canceled", nullable = false)
+    private Boolean canceled;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected PointLotLineage() {
+    }
+
+    public PointLotLineage(String mergedPointKey, String originalPointKey, String userId, Long amount) {
+        this.mergedPointKey = mergedPointKey;
+        this.originalPointKey = originalPointKey;
+        this.userId = userId;
+        this.amount = amount;
+        this.canceled = false;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getMergedPointKey() {
+        return mergedPointKey;
+    }
+
+    public String getOriginalPointKey() {
+        return originalPointKey;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public Boolean getCanceled() {
+        return canceled;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Setters
+    public void setCanceled(Boolean canceled) {
+        this.canceled = canceled;
+    }
+}
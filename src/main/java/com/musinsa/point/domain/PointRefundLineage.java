@@ -0,0 +1,81 @@
+package com.musinsa.point.domain;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 만료 포인트 재적립 계보 엔티티
+ * 사용 취소 시 만료된 원본 적립(original)에서 사용한 금액을 하나의 신규 적립(refund)으로 재적립한 출처를 기록
+ *
+ * 원본 잔액은 변경되지 않으며 같은 원본이 여러 사용 취소의 출처가 될 수 있으므로,
+ * 원본당 한 건인 적립 통합 계보(point_lot_lineage)와 별도 테이블로 관리
+ */
+@Entity
+@Table(name = "point_refund_lineage", indexes = {
+    @Index(name = "idx_refund_lineage_refund_point_key", columnList = "refund_point_key"),
+    @Index(name = "idx_refund_lineage_original_point_key", columnList = "original_point_key")
+})
+public class PointRefundLineage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "refund_point_key", nullable = false, length = 50)
+    private String refundPointKey;
+
+    @Column(name = "original_point_key", nullable = false, length = 50)
+    private String originalPointKey;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    /**
+     * 만료된 원본 적립에서 재적립한 금액
+     */
+    @Column(name = "amount", nullable = false)
+    private Long amount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    protected PointRefundLineage() {
+    }
+
+    public PointRefundLineage(String refundPointKey, String originalPointKey, String userId, Long amount) {
+        this.refundPointKey = refundPointKey;
+        this.originalPointKey = originalPointKey;
+        this.userId = userId;
+        this.amount = amount;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getRefundPointKey() {
+        return refundPointKey;
+    }
+
+    public String getOriginalPointKey() {
+        return originalPointKey;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Long getAmount() {
+        return amount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -1,13 +1,21 @@
 package com.musinsa.point.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
 import java.time.LocalDateTime;
 
 /**
  * 포인트 트랜잭션 엔티티
  * 포인트의 모든 변경 이력을 기록하는 핵심 엔티티
+ *
+ * 2차 캐시: EARN 의 availableBalance / version 은 변경되고 캐시는 파드 로컬이므로 엔티티는 캐시하지 않음
+ * (다른 파드가 변경한 적립의 이전 잔액 / version 을 읽지 않도록 항상 DB 에서 로딩)
+ * 변경되지 않는 pointKey -> id 매핑만 자연 키 캐시로 조회
  */
 @Entity
+@NaturalIdCache(region = "point.point-transaction.point-key")
 @Table(name = "point_transactions", indexes = {
     @Index(name = "idx_user_id", columnList = "user_id"),
     @Index(name = "idx_point_key", columnList = "point_key", unique = true),
@@ -21,6 +29,7 @@ public class PointTransaction {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
+    @NaturalId
     @Column(name = "point_key", nullable = false, unique = true, length = 50)
     private String pointKey;
     
@@ -173,4 +182,14 @@ public class PointTransaction {
     public void setDescription(String description) {
         this.description = description;
     }
+
+    /**
+     * JDBC 로 조회/저장한 행의 식별자, 버전, 시각 반영 (영속성 컨텍스트 밖에서 다루는 엔티티 전용)
+     */
+    public void restoreRowState(Long id, Long version, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.version = version;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
 }
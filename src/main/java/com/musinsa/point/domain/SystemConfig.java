@@ -1,13 +1,21 @@
 package com.musinsa.point.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
+
 import java.time.LocalDateTime;
 
 /**
  * 시스템 설정 엔티티
  * 하드코딩 없이 설정을 관리
+ *
+ * 애플리케이션에서 변경하지 않으므로 읽기 전용 2차 캐시 (DB 에서 직접 변경한 값은 캐시 만료 후 반영)
  */
 @Entity
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "point.system-config")
 @Table(name = "system_configs", indexes = {
     @Index(name = "idx_config_key", columnList = "config_key", unique = true)
 })
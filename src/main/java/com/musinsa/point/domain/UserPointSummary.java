@@ -1,11 +1,15 @@
 package com.musinsa.point.domain;
 
 import jakarta.persistence.*;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
  * 사용자 포인트 요약 엔티티
  * 사용자별 포인트 잔액을 빠르게 조회하기 위한 집계 테이블
+ *
+ * totalBalance 와 같은 쓰기 트랜잭션에서 수기/자동 지급 잔액, 보유 적립 수, 다음 만료일/만료 예정 금액을 함께 유지
+ * (SummaryBreakdownService)
  */
 @Entity
 @Table(name = "user_point_summaries", indexes = {
@@ -22,6 +26,27 @@ public class UserPointSummary {
     
     @Column(name = "total_balance", nullable = false)
     private Long totalBalance;
+
+    @Column(name = "manual_grant_balance", nullable = false)
+    private Long manualGrantBalance = 0L;
+
+    @Column(name = "auto_grant_balance", nullable = false)
+    private Long autoGrantBalance = 0L;
+
+    @Column(name = "active_lot_count", nullable = false)
+    private Integer activeLotCount = 0;
+
+    @Column(name = "next_expiration_date")
+    private LocalDate nextExpirationDate;
+
+    @Column(name = "next_expiration_amount", nullable = false)
+    private Long nextExpirationAmount = 0L;
+
+    /**
+     * 다음 만료일을 증분으로 유지할 수 없어 트랜잭션 종료 전 재계산이 필요한지 여부
+     */
+    @Transient
+    private boolean nextExpirationStale;
     
     @Version
     @Column(name = "version", nullable = false)
@@ -56,6 +81,30 @@ public class UserPointSummary {
         return totalBalance;
     }
     
+    public Long getManualGrantBalance() {
+        return manualGrantBalance;
+    }
+
+    public Long getAutoGrantBalance() {
+        return autoGrantBalance;
+    }
+
+    public Integer getActiveLotCount() {
+        return activeLotCount;
+    }
+
+    public LocalDate getNextExpirationDate() {
+        return nextExpirationDate;
+    }
+
+    public Long getNextExpirationAmount() {
+        return nextExpirationAmount;
+    }
+
+    public boolean isNextExpirationStale() {
+        return nextExpirationStale;
+    }
+
     public Long getVersion() {
         return version;
     }
@@ -72,4 +121,35 @@ public class UserPointSummary {
     public void setTotalBalance(Long totalBalance) {
         this.totalBalance = totalBalance;
     }
+
+    public void setManualGrantBalance(Long manualGrantBalance) {
+        this.manualGrantBalance = manualGrantBalance;
+    }
+
+    public void setAutoGrantBalance(Long autoGrantBalance) {
+        this.autoGrantBalance = autoGrantBalance;
+    }
+
+    public void setActiveLotCount(Integer activeLotCount) {
+        this.activeLotCount = activeLotCount;
+    }
+
+    public void setNextExpiration(LocalDate nextExpirationDate, long nextExpirationAmount) {
+        this.nextExpirationDate = nextExpirationDate;
+        this.nextExpirationAmount = nextExpirationAmount;
+        this.nextExpirationStale = false;
+    }
+
+    public void markNextExpirationStale() {
+        this.nextExpirationStale = true;
+    }
+
+    /**
+     * JDBC 로 조회/저장한 행의 식별자, 버전, 시각 반영 (영속성 컨텍스트 밖에서 다루는 엔티티 전용)
+     */
+    public void restoreRowState(Long id, Long version, LocalDateTime updatedAt) {
+        this.id = id;
+        this.version = version;
+        this.updatedAt = updatedAt;
+    }
 }
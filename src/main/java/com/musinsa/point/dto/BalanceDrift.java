@@ -0,0 +1,31 @@
+package com.musinsa.point.dto;
+
+/**
+ * 사용자별 잔액 불일치 정보
+ * drift = summaryBalance - lotBalance
+ * breakdownMismatch = 수기/자동 지급 잔액 또는 보유 적립 수 불일치 여부
+ */
+public record BalanceDrift(
+    String userId,
+    Long summaryBalance,
+    Long lotBalance,
+    Long expiredLotBalance,
+    Long drift,
+    Boolean breakdownMismatch,
+    Boolean rewritten
+) {
+    public static Builder builder() { return new Builder(); }
+    public static class Builder {
+        private String userId;
+        private Long summaryBalance, lotBalance, expiredLotBalance, drift;
+        private Boolean breakdownMismatch, rewritten;
+        public Builder userId(String v) { this.userId = v; return this; }
+        public Builder summaryBalance(Long v) { this.summaryBalance = v; return this; }
+        public Builder lotBalance(Long v) { this.lotBalance = v; return this; }
+        public Builder expiredLotBalance(Long v) { this.expiredLotBalance = v; return this; }
+        public Builder drift(Long v) { this.drift = v; return this; }
+        public Builder breakdownMismatch(Boolean v) { this.breakdownMismatch = v; return this; }
+        public Builder rewritten(Boolean v) { this.rewritten = v; return this; }
+        public BalanceDrift build() { return new BalanceDrift(userId, summaryBalance, lotBalance, expiredLotBalance, drift, breakdownMismatch, rewritten); }
+    }
+}
@@ -0,0 +1,36 @@
+package com.musinsa.point.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 포인트 잔액 요약 조회 응답 (사용자 요약 한 행으로 응답)
+ * nextExpirationDate 는 만료되지 않은 사용 가능 적립 중 가장 이른 만료일 (없으면 null)
+ */
+public record BalanceSummaryResponse(
+    String userId,
+    Long totalBalance,
+    Long manualGrantBalance,
+    Long autoGrantBalance,
+    Integer activeLotCount,
+    LocalDate nextExpirationDate,
+    Long nextExpirationAmount
+) {
+    public static Builder builder() { return new Builder(); }
+    public static class Builder {
+        private String userId;
+        private Long totalBalance, manualGrantBalance, autoGrantBalance, nextExpirationAmount;
+        private Integer activeLotCount;
+        private LocalDate nextExpirationDate;
+        public Builder userId(String v) { this.userId = v; return this; }
+        public Builder totalBalance(Long v) { this.totalBalance = v; return this; }
+        public Builder manualGrantBalance(Long v) { this.manualGrantBalance = v; return this; }
+        public Builder autoGrantBalance(Long v) { this.autoGrantBalance = v; return this; }
+        public Builder activeLotCount(Integer v) { this.activeLotCount = v; return this; }
+        public Builder nextExpirationDate(LocalDate v) { this.nextExpirationDate = v; return this; }
+        public Builder nextExpirationAmount(Long v) { this.nextExpirationAmount = v; return this; }
+        public BalanceSummaryResponse build() {
+            return new BalanceSummaryResponse(userId, totalBalance, manualGrantBalance, autoGrantBalance,
+                activeLotCount, nextExpirationDate, nextExpirationAmount);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import java.util.List;
 public record CancelUseResponse(
     String cancelUsePointKey,
     String originalUsePointKey,
+    List<String> originalUsePointKeys,
     Long canceledAmount,
     Long totalBalance,
     List<RestoredPointDetail> restoredPoints,
@@ -20,16 +21,18 @@ public record CancelUseResponse(
     public static class Builder {
         private String cancelUsePointKey, originalUsePointKey;
         private Long canceledAmount, totalBalance;
+        private List<String> originalUsePointKeys;
         private List<RestoredPointDetail> restoredPoints;
         private List<NewlyEarnedPointDetail> newlyEarnedPoints;
         private LocalDateTime canceledAt;
         public Builder cancelUsePointKey(String v) { this.cancelUsePointKey = v; return this; }
         public Builder originalUsePointKey(String v) { this.originalUsePointKey = v; return this; }
+        public Builder originalUsePointKeys(List<String> v) { this.originalUsePointKeys = v; return this; }
         public Builder canceledAmount(Long v) { this.canceledAmount = v; return this; }
         public Builder totalBalance(Long v) { this.totalBalance = v; return this; }
         public Builder restoredPoints(List<RestoredPointDetail> v) { this.restoredPoints = v; return this; }
         public Builder newlyEarnedPoints(List<NewlyEarnedPointDetail> v) { this.newlyEarnedPoints = v; return this; }
         public Builder canceledAt(LocalDateTime v) { this.canceledAt = v; return this; }
-        public CancelUseResponse build() { return new CancelUseResponse(cancelUsePointKey, originalUsePointKey, canceledAmount, totalBalance, restoredPoints, newlyEarnedPoints, canceledAt); }
+        public CancelUseResponse build() { return new CancelUseResponse(cancelUsePointKey, originalUsePointKey, originalUsePointKeys, canceledAmount, totalBalance, restoredPoints, newlyEarnedPoints, canceledAt); }
     }
 }
@@ -0,0 +1,26 @@
+package com.musinsa.point.dto;
+
+/**
+ * 적립 통합 배치 결과
+ */
+public record ConsolidationResponse(
+    Integer shardCount,
+    Long scannedGroups,
+    Long mergedGroups,
+    Long mergedLots,
+    Long skippedGroups,
+    Long elapsedMillis
+) {
+    public static Builder builder() { return new Builder(); }
+    public static class Builder {
+        private Integer shardCount;
+        private Long scannedGroups, mergedGroups, mergedLots, skippedGroups, elapsedMillis;
+        public Builder shardCount(Integer v) { this.shardCount = v; return this; }
+        public Builder scannedGroups(Long v) { this.scannedGroups = v; return this; }
+        public Builder mergedGroups(Long v) { this.mergedGroups = v; return this; }
+        public Builder mergedLots(Long v) { this.mergedLots = v; return this; }
+        public Builder skippedGroups(Long v) { this.skippedGroups = v; return this; }
+        public Builder elapsedMillis(Long v) { this.elapsedMillis = v; return this; }
+        public ConsolidationResponse build() { return new ConsolidationResponse(shardCount, scannedGroups, mergedGroups, mergedLots, skippedGroups, elapsedMillis); }
+    }
+}
@@ -0,0 +1,47 @@
+package com.musinsa.point.dto;
+
+import com.musinsa.point.exception.PointBusinessException;
+
+import java.util.Arrays;
+
+/**
+ * 포인트 이력 내보내기 형식
+ */
+public enum HistoryExportFormat {
+
+    /**
+     * 줄 단위 JSON (application/x-ndjson)
+     */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /**
+     * CSV (text/csv, 헤더 포함)
+     */
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    HistoryExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * 요청 파라미터(대소문자 무시)로 형식 조회
+     */
+    public static HistoryExportFormat from(String format) {
+        return Arrays.stream(values())
+            .filter(value -> value.fileExtension.equalsIgnoreCase(format))
+            .findFirst()
+            .orElseThrow(() -> PointBusinessException.invalidExportFormat(format));
+    }
+}
@@ -0,0 +1,28 @@
+package com.musinsa.point.dto;
+
+import java.time.YearMonth;
+
+/**
+ * 만료 월별 미사용 포인트 부채
+ * expired: 만료 월이 지난 적립의 잔액 (만료 처리 전까지 부채에 포함)
+ */
+public record LiabilityMonthDetail(
+    YearMonth expirationMonth,
+    Long manualGrantAmount,
+    Long autoGrantAmount,
+    Long totalAmount,
+    Boolean expired
+) {
+    public static Builder builder() { return new Builder(); }
+    public static class Builder {
+        private YearMonth expirationMonth;
+        private Long manualGrantAmount, autoGrantAmount, totalAmount;
+        private Boolean expired;
+        public Builder expirationMonth(YearMonth v) { this.expirationMonth = v; return this; }
+        public Builder manualGrantAmount(Long v) { this.manualGrantAmount = v; return this; }
+        public Builder autoGrantAmount(Long v) { this.autoGrantAmount = v; return this; }
+        public Builder totalAmount(Long v) { this.totalAmount = v; return this; }
+        public Builder expired(Boolean v) { this.expired = v; return this; }
+        public LiabilityMonthDetail build() { return new LiabilityMonthDetail(expirationMonth, manualGrantAmount, autoGrantAmount, totalAmount, expired); }
+    }
+}
@@ -0,0 +1,26 @@
+package com.musinsa.point.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미사용 포인트 부채 리포트 응답
+ */
+public record LiabilityReportResponse(
+    Long totalOutstanding,
+    Long expiredOutstanding,
+    List<LiabilityMonthDetail> months,
+    LocalDateTime generatedAt
+) {
+    public static Builder builder() { return new Builder(); }
+    public static class Builder {
+        private Long totalOutstanding, expiredOutstanding;
+        private List<LiabilityMonthDetail> months;
+        private LocalDateTime generatedAt;
+        public Builder totalOutstanding(Long v) { this.totalOutstanding = v; return this; }
+        public Builder expiredOutstanding(Long v) { this.expiredOutstanding = v; return this; }
+        public Builder months(List<LiabilityMonthDetail> v) { this.months = v; return this; }
+        public Builder generatedAt(LocalDateTime v) { this.generatedAt = v; return this; }
+        public LiabilityReportResponse build() { return new LiabilityReportResponse(totalOutstanding, expiredOutstanding, months, generatedAt); }
+    }
+}
@@ -0,0 +1,36 @@
+package com.musinsa.point.dto;
+
+import java.util.List;
+
+/**
+ * 잔액 정합성 검증 결과
+ */
+public record ReconciliationResponse(
+    Boolean rewrite,
+    Integer shardCount,
+    Long scannedUsers,
+    Long driftedUsers,
+    Long rewrittenUsers,
+    Long conflictedUsers,
+    Long elapsedMillis,
+    Long usersPerSecond,
+    List<BalanceDrift> drifts
+) {
+    public static Builder builder() { return new Builder(); }
+    public static class Builder {
+        private Boolean rewrite;
+        private Integer shardCount;
+        private Long scannedUsers, driftedUsers, rewrittenUsers, conflictedUsers, elapsedMillis, usersPerSecond;
+        private List<BalanceDrift> drifts;
+        public Builder rewrite(Boolean v) { this.rewrite = v; return this; }
+        public Builder shardCount(Integer v) { this.shardCount = v; return this; }
+        public Builder scannedUsers(Long v) { this.scannedUsers = v; return this; }
+        public Builder driftedUsers(Long v) { this.driftedUsers = v; return this; }
+        public Builder rewrittenUsers(Long v) { this.rewrittenUsers = v; return this; }
+        public Builder conflictedUsers(Long v) { this.conflictedUsers = v; return this; }
+        public Builder elapsedMillis(Long v) { this.elapsedMillis = v; return this; }
+        public Builder usersPerSecond(Long v) { this.usersPerSecond = v; return this; }
+        public Builder drifts(List<BalanceDrift> v) { this.drifts = v; return this; }
+        public ReconciliationResponse build() { return new ReconciliationResponse(rewrite, shardCount, scannedUsers, driftedUsers, rewrittenUsers, conflictedUsers, elapsedMillis, usersPerSecond, drifts); }
+    }
+}
@@ -13,12 +13,13 @@ public record TransactionDetail(
     Long amount,
     Long balance,
     String orderNumber,
+    String referencePointKey,
     String description,
     LocalDateTime createdAt
 ) {
     public static Builder builder() { return new Builder(); }
     public static class Builder {
-        private String pointKey, orderNumber, description;
+        private String pointKey, orderNumber, referencePointKey, description;
         private TransactionType type;
         private Long amount, balance;
         private LocalDateTime createdAt;
@@ -27,8 +28,9 @@ public record TransactionDetail(
         public Builder amount(Long v) { this.amount = v; return this; }
         public Builder balance(Long v) { this.balance = v; return this; }
         public Builder orderNumber(String v) { this.orderNumber = v; return this; }
+        public Builder referencePointKey(String v) { this.referencePointKey = v; return this; }
         public Builder description(String v) { this.description = v; return this; }
         public Builder createdAt(LocalDateTime v) { this.createdAt = v; return this; }
-        public TransactionDetail build() { return new TransactionDetail(pointKey, type, amount, balance, orderNumber, description, createdAt); }
+        public TransactionDetail build() { return new TransactionDetail(pointKey, type, amount, balance, orderNumber, referencePointKey, description, createdAt); }
     }
 }
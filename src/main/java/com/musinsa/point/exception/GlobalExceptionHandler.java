@@ -5,6 +5,7 @@ import jakarta.persistence.OptimisticLockException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -46,10 +47,14 @@ public class GlobalExceptionHandler {
             .timestamp(LocalDateTime.now())
             .build();
         
-        return ResponseEntity
+        ResponseEntity.BodyBuilder builder = ResponseEntity
             .status(ex.getHttpStatus())
-            .header("X-Request-ID", requestId)
-            .body(response);
+            .header("X-Request-ID", requestId);
+        Object retryAfterSeconds = ex.getDetails().get(PointBusinessException.RETRY_AFTER_SECONDS);
+        if (retryAfterSeconds != null) {
+            builder.header(HttpHeaders.RETRY_AFTER, retryAfterSeconds.toString());
+        }
+        return builder.body(response);
     }
     
     /**
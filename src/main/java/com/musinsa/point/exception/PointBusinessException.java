@@ -3,6 +3,7 @@ package com.musinsa.point.exception;
 import org.springframework.http.HttpStatus;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -11,6 +12,11 @@ import java.util.Map;
  */
 public class PointBusinessException extends RuntimeException {
     
+    /**
+     * 응답의 Retry-After 헤더로 내보내는 상세 정보 키
+     */
+    public static final String RETRY_AFTER_SECONDS = "retryAfterSeconds";
+    
     private final String errorCode;
     private final HttpStatus httpStatus;
     private final Map<String, Object> details;
@@ -96,6 +102,18 @@ public class PointBusinessException extends RuntimeException {
         );
     }
     
+    /**
+     * 다른 사용자가 포인트를 사용한 주문 번호 예외
+     */
+    public static PointBusinessException orderNumberOwnedByOtherUser(String orderNumber) {
+        return new PointBusinessException(
+            "ORDER_NUMBER_OWNED_BY_OTHER_USER",
+            String.format("다른 사용자의 주문 번호입니다: %s", orderNumber),
+            HttpStatus.BAD_REQUEST,
+            Map.of("orderNumber", orderNumber)
+        );
+    }
+
     /**
      * 주문 번호를 찾을 수 없음 예외
      */
@@ -206,6 +224,67 @@ public class PointBusinessException extends RuntimeException {
         return String.format("유효하지 않은 금액입니다. 요청: %d", amount);
     }
     
+    /**
+     * 지원하지 않는 이력 내보내기 형식 예외
+     */
+    public static PointBusinessException invalidExportFormat(String format) {
+        Map<String, Object> details = new HashMap<>();
+        details.put("format", format);
+        details.put("supportedFormats", List.of("ndjson", "csv"));
+
+        return new PointBusinessException(
+            "INVALID_EXPORT_FORMAT",
+            String.format("지원하지 않는 내보내기 형식입니다: %s", format),
+            HttpStatus.BAD_REQUEST,
+            details
+        );
+    }
+    
+    /**
+     * 쓰기 API 동시 실행 한도 초과 예외 (Retry-After 헤더로 재시도 시점 안내)
+     */
+    public static PointBusinessException concurrencyLimitExceeded(int limit, long retryAfterSeconds) {
+        return new PointBusinessException(
+            "CONCURRENCY_LIMIT_EXCEEDED",
+            "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+            HttpStatus.TOO_MANY_REQUESTS,
+            Map.of(
+                "limit", limit,
+                RETRY_AFTER_SECONDS, retryAfterSeconds
+            )
+        );
+    }
+    
+    /**
+     * 쓰기 결과 대기 시간 초과 예외 (요청은 뒤늦게 커밋될 수 있으므로 같은 멱등성 키로 재시도)
+     */
+    public static PointBusinessException writeTimeout(long timeoutMillis) {
+        return new PointBusinessException(
+            "WRITE_TIMEOUT",
+            "요청 처리 결과를 제한 시간 안에 확인하지 못했습니다. 같은 멱등성 키로 다시 시도해주세요.",
+            HttpStatus.SERVICE_UNAVAILABLE,
+            Map.of(
+                "timeoutMillis", timeoutMillis,
+                "retryable", true,
+                RETRY_AFTER_SECONDS, 1L
+            )
+        );
+    }
+    
+    /**
+     * 요청 데이터 유효성 검증 실패 예외 (MVC 바인딩을 거치지 않는 gRPC 요청 등)
+     *
+     * @param fieldErrors 필드별 오류 메시지
+     */
+    public static PointBusinessException validationFailed(Map<String, Object> fieldErrors) {
+        return new PointBusinessException(
+            "VALIDATION_ERROR",
+            "요청 데이터 유효성 검증에 실패했습니다.",
+            HttpStatus.BAD_REQUEST,
+            fieldErrors
+        );
+    }
+    
     /**
      * 중복된 멱등성 키 예외
      */
@@ -0,0 +1,82 @@
+package com.musinsa.point.filter;
+
+import com.musinsa.point.config.ConcurrencyLimitProperties;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.service.AdaptiveConcurrencyLimiter;
+import com.musinsa.point.service.LatencySamplingContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * 쓰기 API 동시 실행 제한 인터셉터
+ * 적응형 한도(AdaptiveConcurrencyLimiter)를 넘는 요청은 컨트롤러를 호출하지 않고 바로 429 + Retry-After 로 거절
+ *
+ * 실행 자리는 응답이 끝날 때(비동기 응답이면 future 완료 후 디스패치가 끝날 때) 반환
+ * 자리를 확보한 요청 스레드는 핸들러가 끝날 때까지 지연 시간 샘플링 경로로 표시 (LatencySamplingContext)
+ *
+ * 메트릭
+ * - point.concurrency.rejected{operation}: 한도 초과로 거절한 요청 수
+ */
+@Component
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitInterceptor.class);
+
+    private static final String ACQUIRED_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".acquired";
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public ConcurrencyLimitInterceptor(AdaptiveConcurrencyLimiter concurrencyLimiter,
+                                       ConcurrencyLimitProperties properties,
+                                       MeterRegistry meterRegistry) {
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답 디스패치는 최초 디스패치에서 확보한 자리를 그대로 사용
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        if (!concurrencyLimiter.tryAcquire()) {
+            String operation = handler instanceof HandlerMethod handlerMethod
+                ? handlerMethod.getMethod().getName()
+                : request.getRequestURI();
+            meterRegistry.counter("point.concurrency.rejected", "operation", operation).increment();
+            log.warn("[{}] 동시 실행 한도 초과 - operation: {}, limit: {}, inflight: {}",
+                org.slf4j.MDC.get("requestId"), operation, concurrencyLimiter.getLimit(), concurrencyLimiter.getInflight());
+            throw PointBusinessException.concurrencyLimitExceeded(concurrencyLimiter.getLimit(),
+                properties.getRetryAfterSeconds());
+        }
+        request.setAttribute(ACQUIRED_ATTRIBUTE, Boolean.TRUE);
+        LatencySamplingContext.mark();
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답 - 요청 스레드는 반환되므로 표시 해제 (재시도 / 그룹 커밋은 제출 시점의 표시를 이어받음)
+        LatencySamplingContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        LatencySamplingContext.clear();
+        if (request.getAttribute(ACQUIRED_ATTRIBUTE) != null) {
+            request.removeAttribute(ACQUIRED_ATTRIBUTE);
+            concurrencyLimiter.release();
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.musinsa.point.filter;
+
+import com.musinsa.point.codec.GzipJsonPayloadCodec;
+import com.musinsa.point.codec.ResponsePayloadCodec;
+import com.musinsa.point.codec.ResponsePayloadCodecs;
+import com.musinsa.point.domain.IdempotencyRecord;
+import com.musinsa.point.service.IdempotencyCheckContext;
+import com.musinsa.point.service.IdempotencyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 멱등성 응답 재전송 인터셉터
+ * 이미 처리된 멱등성 키의 요청이면 컨트롤러를 호출하지 않고 저장된 응답 바이트를 그대로 기록
+ * (응답 DTO 역직렬화 / 재직렬화 없음)
+ *
+ * - gzip 페이로드: 클라이언트가 gzip 을 받으면 Content-Encoding: gzip 으로 본문 그대로 전송, 아니면 압축 해제만 수행
+ * - 이전 형식(JSON TEXT) 레코드: 저장된 문자열을 그대로 전송
+ *
+ * 동시에 들어온 중복 요청처럼 여기서 걸러지지 않은 요청은 서비스 계층의 멱등성 검증이 처리
+ * 레코드가 없으면 IdempotencyCheckContext 에 표시해 같은 요청의 서비스 계층 검증이 다시 조회하지 않도록 함
+ */
+@Component
+public class IdempotentReplayInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotentReplayInterceptor.class);
+
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyService idempotencyService;
+    private final ResponsePayloadCodecs responsePayloadCodecs;
+    private final MeterRegistry meterRegistry;
+
+    public IdempotentReplayInterceptor(IdempotencyService idempotencyService,
+                                       ResponsePayloadCodecs responsePayloadCodecs,
+                                       MeterRegistry meterRegistry) {
+        this.idempotencyService = idempotencyService;
+        this.responsePayloadCodecs = responsePayloadCodecs;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws IOException {
+        // 비동기 응답(CompletableFuture) 완료 후 디스패치 - 이미 처리한 요청이므로 재전송 대상 아님
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        String idempotencyKey = request.getHeader(IDEMPOTENCY_KEY_HEADER);
+        if (!HttpMethod.POST.matches(request.getMethod()) || idempotencyKey == null || idempotencyKey.isBlank()) {
+            return true;
+        }
+
+        IdempotencyRecord record = idempotencyService.checkExisting(idempotencyKey);
+        if (record == null) {
+            IdempotencyCheckContext.markMiss(idempotencyKey);
+            return true;
+        }
+
+        response.setStatus(record.getHttpStatus());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(REPLAYED_HEADER, "true");
+
+        String encoding = writeStoredBody(record, request, response);
+        meterRegistry.counter("point.idempotency.replay", "encoding", encoding).increment();
+
+        log.info("[{}] 멱등성 응답 재전송 - idempotencyKey: {}, httpStatus: {}, encoding: {}",
+            org.slf4j.MDC.get("requestId"), idempotencyKey, record.getHttpStatus(), encoding);
+        return false;
+    }
+
+    /**
+     * 비동기 처리 시작 - 요청 스레드가 반환되므로 사용하지 않은 확인 결과 해제
+     */
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        IdempotencyCheckContext.clear();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        IdempotencyCheckContext.clear();
+    }
+
+    /**
+     * 저장된 응답 본문 기록
+     *
+     * @return 전송 형식 (gzip, identity, legacy)
+     */
+    private String writeStoredBody(IdempotencyRecord record, HttpServletRequest request,
+                                   HttpServletResponse response) throws IOException {
+        byte[] payload = record.getResponsePayload();
+        byte[] body;
+        String encoding;
+
+        if (payload == null) {
+            body = record.getResponseBody().getBytes(StandardCharsets.UTF_8);
+            encoding = "legacy";
+        } else {
+            ResponsePayloadCodec codec = responsePayloadCodecs.codecOf(payload);
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (codec.version() == GzipJsonPayloadCodec.VERSION && acceptsGzip(request)) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+                body = responsePayloadCodecs.body(payload);
+                encoding = "gzip";
+            } else {
+                body = responsePayloadCodecs.toJson(payload);
+                encoding = "identity";
+            }
+        }
+
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+        response.flushBuffer();
+        return encoding;
+    }
+
+    /**
+     * Accept-Encoding 에 gzip(또는 *) 이 q=0 이 아닌 값으로 포함되어 있는지 확인
+     */
+    private boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim();
+            if (!coding.equalsIgnoreCase("gzip") && !coding.equals("*")) {
+                continue;
+            }
+            boolean rejected = parts.length > 1 && parts[1].trim().replace(" ", "").matches("(?i)q=0(\\.0*)?");
+            if (!rejected) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
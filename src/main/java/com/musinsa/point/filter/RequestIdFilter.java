@@ -23,6 +23,7 @@ public class RequestIdFilter extends OncePerRequestFilter {
     
     private static final String REQUEST_ID_HEADER = "X-Request-ID";
     private static final String MDC_REQUEST_ID_KEY = "requestId";
+    private static final String REQUEST_ID_ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
     
     @Override
     protected void doFilterInternal(
@@ -31,12 +32,17 @@ public class RequestIdFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
         
-        String requestId = request.getHeader(REQUEST_ID_HEADER);
+        // 비동기 응답 디스패치는 처음 할당한 Request ID 를 그대로 사용
+        String requestId = (String) request.getAttribute(REQUEST_ID_ATTRIBUTE);
+        if (requestId == null) {
+            requestId = request.getHeader(REQUEST_ID_HEADER);
+        }
         
         // 헤더에 Request ID가 없으면 새로 생성
         if (requestId == null || requestId.trim().isEmpty()) {
             requestId = UUID.randomUUID().toString();
         }
+        request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
         
         // MDC에 Request ID 저장 (로깅에 사용)
         MDC.put(MDC_REQUEST_ID_KEY, requestId);
@@ -51,4 +57,12 @@ public class RequestIdFilter extends OncePerRequestFilter {
             MDC.remove(MDC_REQUEST_ID_KEY);
         }
     }
+
+    /**
+     * CompletableFuture 응답의 비동기 디스패치에서도 MDC 에 Request ID 설정 (예외 응답의 requestId 등)
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
 }
@@ -0,0 +1,108 @@
+package com.musinsa.point.grpc;
+
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.grpc.proto.PointProto;
+import com.musinsa.point.service.LockConflictType;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * gRPC 오류 변환기
+ * GlobalExceptionHandler 와 같은 기준으로 예외를 분류하여 gRPC 상태 코드와 REST 오류 코드(error-code 트레일러)로 변환
+ *
+ * - PointBusinessException: HTTP 상태 기준 (400 INVALID_ARGUMENT, 404 NOT_FOUND, 409 ABORTED, 429 RESOURCE_EXHAUSTED, 503 UNAVAILABLE)
+ * - 재시도 후에도 남은 잠금 충돌: ABORTED / CONCURRENCY_CONFLICT
+ * - 그 외: INTERNAL / INTERNAL_SERVER_ERROR
+ */
+public class GrpcErrorMapper {
+
+    /**
+     * REST 오류 응답의 errorCode
+     */
+    public static final Metadata.Key<String> ERROR_CODE =
+        Metadata.Key.of("error-code", Metadata.ASCII_STRING_MARSHALLER);
+
+    /**
+     * 동시 실행 한도 초과 시 재시도 대기 시간 (초)
+     */
+    public static final Metadata.Key<String> RETRY_AFTER_SECONDS =
+        Metadata.Key.of("retry-after-seconds", Metadata.ASCII_STRING_MARSHALLER);
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcErrorMapper.class);
+
+    /**
+     * 단건 호출 오류 (상태 코드 + error-code / retry-after-seconds 트레일러)
+     */
+    public StatusRuntimeException toStatusException(Throwable throwable) {
+        ResolvedError error = resolve(throwable);
+        Metadata trailers = new Metadata();
+        trailers.put(ERROR_CODE, error.errorCode());
+        if (error.retryAfterSeconds() > 0) {
+            trailers.put(RETRY_AFTER_SECONDS, Long.toString(error.retryAfterSeconds()));
+        }
+        return error.status().withDescription(error.message()).asRuntimeException(trailers);
+    }
+
+    /**
+     * 스트림 명령 하나의 오류 (스트림을 종료하지 않고 결과 메시지로 반환)
+     */
+    public PointProto.Error toError(Throwable throwable) {
+        ResolvedError error = resolve(throwable);
+        return PointProto.Error.newBuilder()
+            .setStatus(error.status().getCode().name())
+            .setErrorCode(error.errorCode())
+            .setMessage(error.message())
+            .setRetryAfterSeconds(error.retryAfterSeconds())
+            .build();
+    }
+
+    private ResolvedError resolve(Throwable throwable) {
+        Throwable cause = unwrap(throwable);
+        String requestId = MDC.get("requestId");
+
+        if (cause instanceof PointBusinessException ex) {
+            log.warn("[{}] 비즈니스 예외 발생 - errorCode: {}, message: {}", requestId, ex.getErrorCode(), ex.getMessage());
+            Object retryAfterSeconds = ex.getDetails().get(PointBusinessException.RETRY_AFTER_SECONDS);
+            return new ResolvedError(statusOf(ex), ex.getErrorCode(), ex.getMessage(),
+                retryAfterSeconds instanceof Number number ? number.longValue() : 0L);
+        }
+        if (LockConflictType.of(cause) != null) {
+            log.warn("[{}] 동시성 충돌 발생 - {}", requestId, cause.getMessage());
+            return new ResolvedError(Status.ABORTED, "CONCURRENCY_CONFLICT",
+                "동시성 충돌이 발생했습니다. 잠시 후 다시 시도해주세요.", 0L);
+        }
+
+        log.error("[{}] 예상치 못한 예외 발생", requestId, cause);
+        return new ResolvedError(Status.INTERNAL, "INTERNAL_SERVER_ERROR",
+            "서버 내부 오류가 발생했습니다. 관리자에게 문의해주세요.", 0L);
+    }
+
+    private Status statusOf(PointBusinessException ex) {
+        return switch (ex.getHttpStatus()) {
+            case BAD_REQUEST -> Status.INVALID_ARGUMENT;
+            case NOT_FOUND -> Status.NOT_FOUND;
+            case CONFLICT -> Status.ABORTED;
+            case TOO_MANY_REQUESTS -> Status.RESOURCE_EXHAUSTED;
+            case SERVICE_UNAVAILABLE -> Status.UNAVAILABLE;
+            default -> Status.INTERNAL;
+        };
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private record ResolvedError(Status status, String errorCode, String message, long retryAfterSeconds) {
+    }
+}
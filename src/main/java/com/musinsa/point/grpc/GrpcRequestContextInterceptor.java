@@ -0,0 +1,80 @@
+package com.musinsa.point.grpc;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import org.slf4j.MDC;
+
+import java.util.UUID;
+
+/**
+ * gRPC 요청 메타데이터 인터셉터 (RequestIdFilter 의 gRPC 버전)
+ * idempotency-key / x-request-id 메타데이터를 호출 컨텍스트에 보관하고,
+ * 호출 콜백이 실행되는 동안 MDC 에 requestId 를 설정 (없으면 생성)
+ */
+public class GrpcRequestContextInterceptor implements ServerInterceptor {
+
+    public static final Metadata.Key<String> IDEMPOTENCY_KEY_HEADER =
+        Metadata.Key.of("idempotency-key", Metadata.ASCII_STRING_MARSHALLER);
+
+    public static final Metadata.Key<String> REQUEST_ID_HEADER =
+        Metadata.Key.of("x-request-id", Metadata.ASCII_STRING_MARSHALLER);
+
+    static final Context.Key<String> IDEMPOTENCY_KEY = Context.key("idempotency-key");
+
+    private static final String MDC_REQUEST_ID = "requestId";
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String requestId = headers.get(REQUEST_ID_HEADER);
+        if (requestId == null || requestId.isBlank()) {
+            requestId = UUID.randomUUID().toString();
+        }
+        String currentRequestId = requestId;
+
+        Context context = Context.current().withValue(IDEMPOTENCY_KEY, headers.get(IDEMPOTENCY_KEY_HEADER));
+        ServerCall.Listener<ReqT> listener = Contexts.interceptCall(context, call, headers, next);
+
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(listener) {
+            @Override
+            public void onMessage(ReqT message) {
+                withRequestId(currentRequestId, () -> super.onMessage(message));
+            }
+
+            @Override
+            public void onHalfClose() {
+                withRequestId(currentRequestId, super::onHalfClose);
+            }
+
+            @Override
+            public void onCancel() {
+                withRequestId(currentRequestId, super::onCancel);
+            }
+
+            @Override
+            public void onComplete() {
+                withRequestId(currentRequestId, super::onComplete);
+            }
+
+            @Override
+            public void onReady() {
+                withRequestId(currentRequestId, super::onReady);
+            }
+        };
+    }
+
+    private void withRequestId(String requestId, Runnable callback) {
+        MDC.put(MDC_REQUEST_ID, requestId);
+        try {
+            callback.run();
+        } finally {
+            MDC.remove(MDC_REQUEST_ID);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.musinsa.point.grpc;
+
+import com.musinsa.point.dto.AvailablePointDetail;
+import com.musinsa.point.dto.BalanceResponse;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.CancelUseResponse;
+import com.musinsa.point.dto.NewlyEarnedPointDetail;
+import com.musinsa.point.dto.RestoredPointDetail;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.dto.UseResponse;
+import com.musinsa.point.dto.UsedFromDetail;
+import com.musinsa.point.grpc.proto.PointProto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * REST DTO <-> protobuf 메시지 변환
+ * 서비스 계층은 REST 와 같은 DTO 를 그대로 사용하고, gRPC 경계에서만 변환
+ *
+ * - 일시는 REST 응답과 같은 ISO-8601 LocalDateTime 문자열
+ * - proto3 는 null 이 없으므로 응답의 null 은 기본값("" / 0 / false), 요청의 빈 사유는 null 로 변환
+ */
+final class PointGrpcMapper {
+
+    private PointGrpcMapper() {
+    }
+
+    static UseRequest toUseRequest(PointProto.UseRequest request) {
+        return new UseRequest(request.getUserId(), request.getOrderNumber(), request.getAmount());
+    }
+
+    static CancelUseRequest toCancelUseRequest(PointProto.CancelUseRequest request) {
+        return new CancelUseRequest(request.getOrderNumber(), request.getAmount(),
+            request.getReason().isEmpty() ? null : request.getReason());
+    }
+
+    static PointProto.UseResponse toProto(UseResponse response, String consistencyToken) {
+        PointProto.UseResponse.Builder builder = PointProto.UseResponse.newBuilder()
+            .setUsePointKey(text(response.usePointKey()))
+            .setUserId(text(response.userId()))
+            .setOrderNumber(text(response.orderNumber()))
+            .setUsedAmount(amount(response.usedAmount()))
+            .setRemainingBalance(amount(response.remainingBalance()))
+            .setUsedAt(text(response.usedAt()))
+            .setConsistencyToken(text(consistencyToken));
+        if (response.usedFrom() != null) {
+            for (UsedFromDetail detail : response.usedFrom()) {
+                builder.addUsedFrom(PointProto.UsedFrom.newBuilder()
+                    .setEarnPointKey(text(detail.earnPointKey()))
+                    .setUsedAmount(amount(detail.usedAmount())));
+            }
+        }
+        return builder.build();
+    }
+
+    static PointProto.CancelUseResponse toProto(CancelUseResponse response, String consistencyToken) {
+        PointProto.CancelUseResponse.Builder builder = PointProto.CancelUseResponse.newBuilder()
+            .setCancelUsePointKey(text(response.cancelUsePointKey()))
+            .setOriginalUsePointKey(text(response.originalUsePointKey()))
+            .setCanceledAmount(amount(response.canceledAmount()))
+            .setTotalBalance(amount(response.totalBalance()))
+            .setCanceledAt(text(response.canceledAt()))
+            .setConsistencyToken(text(consistencyToken));
+        if (response.originalUsePointKeys() != null) {
+            builder.addAllOriginalUsePointKeys(response.originalUsePointKeys());
+        }
+        if (response.restoredPoints() != null) {
+            for (RestoredPointDetail detail : response.restoredPoints()) {
+                builder.addRestoredPoints(PointProto.RestoredPoint.newBuilder()
+                    .setEarnPointKey(text(detail.earnPointKey()))
+                    .setRestoredAmount(amount(detail.restoredAmount()))
+                    .setIsExpired(Boolean.TRUE.equals(detail.isExpired())));
+            }
+        }
+        if (response.newlyEarnedPoints() != null) {
+            for (NewlyEarnedPointDetail detail : response.newlyEarnedPoints()) {
+                builder.addNewlyEarnedPoints(PointProto.NewlyEarnedPoint.newBuilder()
+                    .setPointKey(text(detail.pointKey()))
+                    .setAmount(amount(detail.amount()))
+                    .setExpirationDate(text(detail.expirationDate())));
+            }
+        }
+        return builder.build();
+    }
+
+    static PointProto.BalanceResponse toProto(BalanceResponse response) {
+        PointProto.BalanceResponse.Builder builder = PointProto.BalanceResponse.newBuilder()
+            .setUserId(text(response.userId()))
+            .setTotalBalance(amount(response.totalBalance()));
+        if (response.availablePoints() != null) {
+            for (AvailablePointDetail detail : response.availablePoints()) {
+                builder.addAvailablePoints(PointProto.AvailablePoint.newBuilder()
+                    .setPointKey(text(detail.pointKey()))
+                    .setAmount(amount(detail.amount()))
+                    .setAvailableBalance(amount(detail.availableBalance()))
+                    .setIsManualGrant(Boolean.TRUE.equals(detail.isManualGrant()))
+                    .setExpirationDate(text(detail.expirationDate())));
+            }
+        }
+        return builder.build();
+    }
+
+    private static String text(String value) {
+        return Objects.requireNonNullElse(value, "");
+    }
+
+    private static String text(LocalDateTime value) {
+        return value == null ? "" : value.toString();
+    }
+
+    private static long amount(Long value) {
+        return value == null ? 0L : value;
+    }
+}
@@ -0,0 +1,79 @@
+package com.musinsa.point.grpc;
+
+import com.musinsa.point.config.GrpcProperties;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gRPC 서버 (Netty, REST 와 별도 포트)
+ * 컨텍스트 refresh 가 끝난 뒤 시작하고, 종료 시에는 새 호출을 막은 뒤 진행 중인 호출을 shutdownGraceSeconds 까지 기다림
+ */
+public class PointGrpcServer implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(PointGrpcServer.class);
+
+    private final GrpcProperties properties;
+    private final PointGrpcService pointGrpcService;
+    private final GrpcRequestContextInterceptor requestContextInterceptor;
+    private Server server;
+
+    public PointGrpcServer(GrpcProperties properties,
+                           PointGrpcService pointGrpcService,
+                           GrpcRequestContextInterceptor requestContextInterceptor) {
+        this.properties = properties;
+        this.pointGrpcService = pointGrpcService;
+        this.requestContextInterceptor = requestContextInterceptor;
+    }
+
+    @Override
+    public synchronized void start() {
+        try {
+            server = NettyServerBuilder.forPort(properties.getPort())
+                .maxInboundMessageSize(properties.getMaxInboundMessageBytes())
+                .addService(ServerInterceptors.intercept(pointGrpcService, requestContextInterceptor))
+                .build()
+                .start();
+        } catch (IOException ex) {
+            throw new UncheckedIOException("gRPC 서버를 시작하지 못했습니다 - port: " + properties.getPort(), ex);
+        }
+        log.info("gRPC 서버 시작 - port: {}", server.getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        server.shutdown();
+        try {
+            if (!server.awaitTermination(properties.getShutdownGraceSeconds(), TimeUnit.SECONDS)) {
+                log.warn("gRPC 서버 종료 대기 시간 초과 - 진행 중인 호출 강제 종료");
+                server.shutdownNow();
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            server.shutdownNow();
+        }
+        server = null;
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * 실제 바인딩된 포트 (port=0 으로 임의 포트를 사용하는 경우 확인용)
+     */
+    public synchronized int getPort() {
+        return server == null ? -1 : server.getPort();
+    }
+}
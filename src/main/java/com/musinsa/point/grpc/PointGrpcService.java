@@ -0,0 +1,282 @@
+package com.musinsa.point.grpc;
+
+import com.musinsa.point.config.ConcurrencyLimitProperties;
+import com.musinsa.point.config.ReplicaRouter;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.grpc.proto.PointProto;
+import com.musinsa.point.grpc.proto.PointServiceGrpc;
+import com.musinsa.point.service.AdaptiveConcurrencyLimiter;
+import com.musinsa.point.service.LatencySamplingContext;
+import com.musinsa.point.service.PointService;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+
+/**
+ * 포인트 gRPC 서비스 (주문 서비스 내부 호출용)
+ * REST 컨트롤러와 같은 PointService 비동기 경로(재시도 스케줄러 / 그룹 커밋)를 호출하고 protobuf 로 응답
+ *
+ * - 멱등성 키는 idempotency-key 메타데이터(단건) 또는 명령 메시지의 idempotency_key(스트림)
+ * - 쓰기 호출은 REST 와 같은 적응형 동시 실행 한도를 공유 (초과 시 RESOURCE_EXHAUSTED + retry-after-seconds)
+ * - 스트림 호출은 명령마다 결과 메시지 하나를 완료 순서대로 반환하고, 명령 하나의 실패로 스트림을 끊지 않음
+ *
+ * 메트릭
+ * - point.concurrency.rejected{operation=grpc.*}: 한도 초과로 거절한 호출 수
+ */
+public class PointGrpcService extends PointServiceGrpc.PointServiceImplBase {
+
+    private static final Logger log = LoggerFactory.getLogger(PointGrpcService.class);
+
+    private static final String MDC_REQUEST_ID = "requestId";
+
+    private final PointService pointService;
+    private final ReplicaRouter replicaRouter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
+    private final Validator validator;
+    private final GrpcErrorMapper errorMapper;
+    private final MeterRegistry meterRegistry;
+
+    public PointGrpcService(PointService pointService,
+                            ReplicaRouter replicaRouter,
+                            AdaptiveConcurrencyLimiter concurrencyLimiter,
+                            ConcurrencyLimitProperties concurrencyLimitProperties,
+                            Validator validator,
+                            GrpcErrorMapper errorMapper,
+                            MeterRegistry meterRegistry) {
+        this.pointService = pointService;
+        this.replicaRouter = replicaRouter;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.concurrencyLimitProperties = concurrencyLimitProperties;
+        this.validator = validator;
+        this.errorMapper = errorMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void use(PointProto.UseRequest request, StreamObserver<PointProto.UseResponse> responseObserver) {
+        submit("grpc.use", GrpcRequestContextInterceptor.IDEMPOTENCY_KEY.get(),
+            PointGrpcMapper.toUseRequest(request), pointService::usePointsAsync)
+            .whenComplete(withRequestId((response, throwable) -> {
+                if (throwable != null) {
+                    responseObserver.onError(errorMapper.toStatusException(throwable));
+                    return;
+                }
+                responseObserver.onNext(PointGrpcMapper.toProto(response, replicaRouter.issueToken()));
+                responseObserver.onCompleted();
+            }));
+    }
+
+    @Override
+    public void cancelUse(PointProto.CancelUseRequest request, StreamObserver<PointProto.CancelUseResponse> responseObserver) {
+        submit("grpc.cancelUse", GrpcRequestContextInterceptor.IDEMPOTENCY_KEY.get(),
+            PointGrpcMapper.toCancelUseRequest(request), pointService::cancelUseAsync)
+            .whenComplete(withRequestId((response, throwable) -> {
+                if (throwable != null) {
+                    responseObserver.onError(errorMapper.toStatusException(throwable));
+                    return;
+                }
+                responseObserver.onNext(PointGrpcMapper.toProto(response, replicaRouter.issueToken()));
+                responseObserver.onCompleted();
+            }));
+    }
+
+    @Override
+    public StreamObserver<PointProto.UseCommand> useStream(StreamObserver<PointProto.UseResult> responseObserver) {
+        return new CommandStream<>(responseObserver) {
+            @Override
+            protected CompletableFuture<PointProto.UseResult> handle(PointProto.UseCommand command) {
+                PointProto.UseResult.Builder result = PointProto.UseResult.newBuilder()
+                    .setIdempotencyKey(command.getIdempotencyKey());
+                return submit("grpc.useStream", emptyToNull(command.getIdempotencyKey()),
+                    PointGrpcMapper.toUseRequest(command.getRequest()), pointService::usePointsAsync)
+                    .handle((response, throwable) -> throwable != null
+                        ? result.setError(errorMapper.toError(throwable)).build()
+                        : result.setResponse(PointGrpcMapper.toProto(response, replicaRouter.issueToken())).build());
+            }
+        };
+    }
+
+    @Override
+    public StreamObserver<PointProto.CancelUseCommand> cancelUseStream(StreamObserver<PointProto.CancelUseResult> responseObserver) {
+        return new CommandStream<>(responseObserver) {
+            @Override
+            protected CompletableFuture<PointProto.CancelUseResult> handle(PointProto.CancelUseCommand command) {
+                PointProto.CancelUseResult.Builder result = PointProto.CancelUseResult.newBuilder()
+                    .setIdempotencyKey(command.getIdempotencyKey());
+                return submit("grpc.cancelUseStream", emptyToNull(command.getIdempotencyKey()),
+                    PointGrpcMapper.toCancelUseRequest(command.getRequest()), pointService::cancelUseAsync)
+                    .handle((response, throwable) -> throwable != null
+                        ? result.setError(errorMapper.toError(throwable)).build()
+                        : result.setResponse(PointGrpcMapper.toProto(response, replicaRouter.issueToken())).build());
+            }
+        };
+    }
+
+    @Override
+    public void getBalance(PointProto.GetBalanceRequest request, StreamObserver<PointProto.BalanceResponse> responseObserver) {
+        try {
+            if (request.getUserId().isBlank()) {
+                throw PointBusinessException.validationFailed(Map.of("userId", "사용자 ID는 필수입니다"));
+            }
+            PointProto.BalanceResponse response = PointGrpcMapper.toProto(
+                pointService.getBalance(request.getUserId(), emptyToNull(request.getConsistencyToken())));
+            responseObserver.onNext(response);
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(errorMapper.toStatusException(e));
+        }
+    }
+
+    /**
+     * 검증 / 동시 실행 한도 확인 후 쓰기 호출
+     * 실패는 예외를 던지지 않고 실패한 future 로 반환하며, 확보한 실행 자리는 future 완료 시 반환
+     * 자리를 확보한 호출의 쓰기 트랜잭션만 지연 시간 샘플로 사용 (LatencySamplingContext)
+     */
+    private <Q, R> CompletableFuture<R> submit(String operation,
+                                               String idempotencyKey,
+                                               Q request,
+                                               BiFunction<Q, String, CompletableFuture<R>> call) {
+        boolean acquired = false;
+        try {
+            validate(request, idempotencyKey);
+            acquired = acquire(operation);
+            CompletableFuture<R> future = LatencySamplingContext.runWith(acquired,
+                () -> call.apply(request, idempotencyKey));
+            if (!acquired) {
+                return future;
+            }
+            acquired = false;
+            return future.whenComplete((response, throwable) -> concurrencyLimiter.release());
+        } catch (RuntimeException e) {
+            if (acquired) {
+                concurrencyLimiter.release();
+            }
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void validate(Object request, String idempotencyKey) {
+        Map<String, Object> fieldErrors = new LinkedHashMap<>();
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            fieldErrors.put("idempotencyKey", "멱등성 키는 필수입니다");
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        for (ConstraintViolation<Object> violation : violations) {
+            fieldErrors.putIfAbsent(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        if (!fieldErrors.isEmpty()) {
+            throw PointBusinessException.validationFailed(fieldErrors);
+        }
+    }
+
+    /**
+     * @return 실행 자리를 확보했으면 true (동시 실행 제한이 꺼져 있으면 false)
+     */
+    private boolean acquire(String operation) {
+        if (!concurrencyLimitProperties.isEnabled()) {
+            return false;
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            meterRegistry.counter("point.concurrency.rejected", "operation", operation).increment();
+            log.warn("[{}] 동시 실행 한도 초과 - operation: {}, limit: {}, inflight: {}",
+                MDC.get(MDC_REQUEST_ID), operation, concurrencyLimiter.getLimit(), concurrencyLimiter.getInflight());
+            throw PointBusinessException.concurrencyLimitExceeded(concurrencyLimiter.getLimit(),
+                concurrencyLimitProperties.getRetryAfterSeconds());
+        }
+        return true;
+    }
+
+    /**
+     * 완료 콜백은 재시도 스케줄러 / 그룹 커밋 스레드에서 실행되므로 호출 시점의 requestId 를 MDC 에 복원
+     */
+    private static <T> BiConsumer<T, Throwable> withRequestId(BiConsumer<T, Throwable> callback) {
+        String requestId = MDC.get(MDC_REQUEST_ID);
+        return (response, throwable) -> {
+            String previous = MDC.get(MDC_REQUEST_ID);
+            if (requestId != null) {
+                MDC.put(MDC_REQUEST_ID, requestId);
+            }
+            try {
+                callback.accept(response, throwable);
+            } finally {
+                if (previous != null) {
+                    MDC.put(MDC_REQUEST_ID, previous);
+                } else {
+                    MDC.remove(MDC_REQUEST_ID);
+                }
+            }
+        };
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 양방향 스트림 명령 처리
+     * 명령은 받는 즉시 비동기로 실행하고 결과는 완료 순서대로 전송 (결과의 idempotency_key 로 명령과 대응)
+     * 클라이언트가 보내기를 마치고 처리 중인 명령이 모두 끝나면 스트림을 종료
+     */
+    private abstract static class CommandStream<C, R> implements StreamObserver<C> {
+
+        private final StreamObserver<R> responseObserver;
+        private int pending = 1;
+        private boolean closed;
+
+        CommandStream(StreamObserver<R> responseObserver) {
+            this.responseObserver = responseObserver;
+        }
+
+        protected abstract CompletableFuture<R> handle(C command);
+
+        @Override
+        public void onNext(C command) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                pending++;
+            }
+            handle(command).whenComplete(withRequestId((result, throwable) -> {
+                synchronized (this) {
+                    if (!closed && result != null) {
+                        responseObserver.onNext(result);
+                    }
+                    finishOne();
+                }
+            }));
+        }
+
+        @Override
+        public synchronized void onError(Throwable t) {
+            // 클라이언트가 스트림을 취소하면 응답을 더 보내지 않음 (이미 시작한 명령은 멱등성 키로 재시도 가능)
+            closed = true;
+        }
+
+        @Override
+        public synchronized void onCompleted() {
+            finishOne();
+        }
+
+        private void finishOne() {
+            if (--pending == 0 && !closed) {
+                closed = true;
+                responseObserver.onCompleted();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.musinsa.point.repository;
+
+import com.musinsa.point.domain.OrderPointUse;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface OrderPointUseRepository extends JpaRepository<OrderPointUse, Long> {
+
+    /**
+     * 주문 번호의 사용 pointKey 목록 조회 (사용 순)
+     * idx_order_point_uses_order_number 인덱스 범위 조회로 처리 (정렬 없음)
+     */
+    @Query("""
+        SELECT o.usePointKey FROM OrderPointUse o
+        WHERE o.orderNumber = :orderNumber
+        ORDER BY o.id
+    """)
+    List<String> findUsePointKeys(@Param("orderNumber") String orderNumber);
+}
@@ -0,0 +1,21 @@
+package com.musinsa.point.repository;
+
+import com.musinsa.point.domain.PointHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
+
+    /**
+     * 사용자 포인트 이력 조회 (최신순, 페이징)
+     * idx_point_history_user_created 인덱스의 범위 스캔으로 처리됨
+     *
+     * @param userId 사용자 ID
+     * @param pageable 페이징 정보
+     * @return 포인트 이력 페이지
+     */
+    Page<PointHistory> findByUserIdOrderByCreatedAtDescIdDesc(String userId, Pageable pageable);
+}
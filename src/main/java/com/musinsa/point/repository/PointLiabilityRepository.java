@@ -0,0 +1,63 @@
+package com.musinsa.point.repository;
+
+import com.musinsa.point.domain.PointLiability;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface PointLiabilityRepository extends JpaRepository<PointLiability, Long> {
+
+    /**
+     * 부채 집계 행에 증감분 반영 (행 단위 원자적 UPDATE)
+     *
+     * @param expirationMonth 만료 월 (해당 월 1일)
+     * @param isManualGrant 수기 지급 여부
+     * @param slot 사용자 해시 slot
+     * @param delta 증감분
+     * @param updatedAt 갱신 시각
+     * @return 갱신된 행 수 (집계 행이 없으면 0)
+     */
+    @Modifying
+    @Query("""
+        UPDATE PointLiability l
+        SET l.outstandingAmount = l.outstandingAmount + :delta, l.updatedAt = :updatedAt
+        WHERE l.expirationMonth = :expirationMonth
+        AND l.isManualGrant = :isManualGrant
+        AND l.slot = :slot
+        """)
+    int addOutstandingAmount(@Param("expirationMonth") LocalDate expirationMonth,
+                             @Param("isManualGrant") Boolean isManualGrant,
+                             @Param("slot") Integer slot,
+                             @Param("delta") Long delta,
+                             @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * slot 의 금액이 0 인 집계 행 삭제 (기동 워밍업 전용 slot 정리용)
+     *
+     * @param slot 집계 slot
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("DELETE FROM PointLiability l WHERE l.slot = :slot AND l.outstandingAmount = 0")
+    int deleteEmptyBuckets(@Param("slot") Integer slot);
+
+    /**
+     * 만료 월 / 수기 지급 여부별 부채 합계 (slot 합산, 만료 월 순)
+     *
+     * @return [expirationMonth, isManualGrant, outstandingAmount] 목록
+     */
+    @Query("""
+        SELECT l.expirationMonth, l.isManualGrant, SUM(l.outstandingAmount)
+        FROM PointLiability l
+        GROUP BY l.expirationMonth, l.isManualGrant
+        ORDER BY l.expirationMonth
+        """)
+    List<Object[]> sumByExpirationMonth();
+}
@@ -0,0 +1,22 @@
+package com.musinsa.point.repository;
+
+import com.musinsa.point.domain.PointLotLineage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PointLotLineageRepository extends JpaRepository<PointLotLineage, Long> {
+
+    /**
+     * 원본 적립 pointKey 로 통합 계보 조회
+     */
+    Optional<PointLotLineage> findByOriginalPointKey(String originalPointKey);
+
+    /**
+     * 통합 적립 pointKey 로 원본 계보 목록 조회
+     */
+    List<PointLotLineage> findByMergedPointKey(String mergedPointKey);
+}
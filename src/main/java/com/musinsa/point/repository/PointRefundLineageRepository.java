@@ -0,0 +1,21 @@
+package com.musinsa.point.repository;
+
+import com.musinsa.point.domain.PointRefundLineage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PointRefundLineageRepository extends JpaRepository<PointRefundLineage, Long> {
+
+    /**
+     * 재적립 pointKey 로 원본 계보 목록 조회
+     */
+    List<PointRefundLineage> findByRefundPointKey(String refundPointKey);
+
+    /**
+     * 만료된 원본 pointKey 로 재적립 계보 목록 조회
+     */
+    List<PointRefundLineage> findByOriginalPointKey(String originalPointKey);
+}
@@ -10,26 +10,15 @@ import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
-    
-    /**
-     * pointKey로 포인트 트랜잭션 조회
-     */
-    Optional<PointTransaction> findByPointKey(String pointKey);
+public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long>, PointTransactionRepositoryCustom {
     
     /**
      * userId로 포인트 트랜잭션 목록 조회 (페이징)
      */
     Page<PointTransaction> findByUserId(String userId, Pageable pageable);
     
-    /**
-     * orderNumber로 포인트 사용 트랜잭션 조회
-     */
-    Optional<PointTransaction> findByOrderNumber(String orderNumber);
-    
     /**
      * 사용 가능한 포인트 조회 (수기 지급 우선, 만료일 순, 적립일 순)
      * 
@@ -48,10 +37,131 @@ public interface PointTransactionRepository extends JpaRepository<PointTransacti
         AND pt.transactionType = 'EARN'
         AND pt.availableBalance > 0
         AND pt.expirationDate > :now
-        ORDER BY pt.isManualGrant DESC, pt.expirationDate ASC, pt.createdAt ASC
+        ORDER BY pt.isManualGrant DESC, pt.expirationDate ASC, pt.createdAt ASC, pt.id ASC
     """)
     List<PointTransaction> findAvailablePointsForUse(
         @Param("userId") String userId,
         @Param("now") LocalDateTime now
     );
+
+    /**
+     * 사용 금액을 충당하는 데 필요한 사용 가능 포인트만 조회 (우선순위 정렬)
+     *
+     * 성능 최적화:
+     * - 우선순위 순 누적 잔액(window SUM)을 계산하여, 앞선 적립들의 누적 잔액이 사용 금액에
+     *   도달하지 않은 적립까지만 반환 (누적 잔액이 금액을 처음 넘는 적립 포함)
+     * - 엔티티로 로딩되는 행 수가 보유 적립 수가 아닌 실제 차감되는 적립 수에 비례
+     * - 동일 우선순위 적립 간 순서를 고정하기 위해 id 를 마지막 정렬 기준으로 사용
+     *
+     * @param userId 사용자 ID
+     * @param now 현재 시간
+     * @param amount 사용 금액
+     * @return 사용 금액을 충당하는 사용 가능 포인트 트랜잭션 목록 (우선순위 정렬)
+     */
+    @Query(value = """
+        SELECT t.* FROM point_transactions t
+        WHERE t.id IN (
+            SELECT r.id FROM (
+                SELECT c.id, c.available_balance,
+                       SUM(c.available_balance) OVER (
+                           ORDER BY c.is_manual_grant DESC, c.expiration_date ASC, c.created_at ASC, c.id ASC
+                           ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW
+                       ) AS running_balance
+                FROM point_transactions c
+                WHERE c.user_id = :userId
+                AND c.transaction_type = 'EARN'
+                AND c.available_balance > 0
+                AND c.expiration_date > :now
+            ) r
+            WHERE r.running_balance - r.available_balance < :amount
+        )
+        ORDER BY t.is_manual_grant DESC, t.expiration_date ASC, t.created_at ASC, t.id ASC
+    """, nativeQuery = true)
+    List<PointTransaction> findAvailablePointsCoveringAmount(
+        @Param("userId") String userId,
+        @Param("now") LocalDateTime now,
+        @Param("amount") long amount
+    );
+
+    /**
+     * 통합 대상 그룹 조회 (사용자 / 만료일 단위로 미사용 자동 지급 적립이 minLots 건 이상인 그룹)
+     *
+     * 미사용: availableBalance = amount (일부라도 사용되었거나 취소된 적립 제외)
+     * 이미 통합 적립인 적립은 다시 통합하지 않음 (계보를 한 단계로 유지)
+     *
+     * @param now 현재 시간 (만료된 적립 제외)
+     * @param minLots 그룹 최소 적립 수
+     * @param limit 최대 그룹 수
+     * @return [userId, 만료일(DATE), 적립 수] 목록
+     */
+    @Query(value = """
+        SELECT pt.user_id, CAST(pt.expiration_date AS DATE) AS expiration_day, COUNT(*) AS lot_count
+        FROM point_transactions pt
+        WHERE pt.transaction_type = 'EARN'
+        AND pt.is_manual_grant = FALSE
+        AND pt.available_balance > 0
+        AND pt.available_balance = pt.amount
+        AND pt.expiration_date > :now
+        AND NOT EXISTS (SELECT 1 FROM point_lot_lineage l WHERE l.merged_point_key = pt.point_key)
+        GROUP BY pt.user_id, CAST(pt.expiration_date AS DATE)
+        HAVING COUNT(*) >= :minLots
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> findConsolidationGroups(
+        @Param("now") LocalDateTime now,
+        @Param("minLots") long minLots,
+        @Param("limit") int limit
+    );
+
+    /**
+     * 통합 대상 적립 조회 (사용자의 특정 만료일 미사용 자동 지급 적립, 적립 순)
+     *
+     * @param userId 사용자 ID
+     * @param dayStart 만료일 시작 시각 (포함)
+     * @param dayEnd 다음 날 시작 시각 (제외)
+     * @param now 현재 시간 (만료된 적립 제외)
+     * @return 통합 대상 적립 목록
+     */
+    @Query("""
+        SELECT pt FROM PointTransaction pt
+        WHERE pt.userId = :userId
+        AND pt.transactionType = 'EARN'
+        AND pt.isManualGrant = false
+        AND pt.availableBalance > 0
+        AND pt.availableBalance = pt.amount
+        AND pt.expirationDate >= :dayStart
+        AND pt.expirationDate < :dayEnd
+        AND pt.expirationDate > :now
+        AND NOT EXISTS (SELECT 1 FROM PointLotLineage l WHERE l.mergedPointKey = pt.pointKey)
+        ORDER BY pt.createdAt ASC, pt.id ASC
+    """)
+    List<PointTransaction> findConsolidationCandidates(
+        @Param("userId") String userId,
+        @Param("dayStart") LocalDateTime dayStart,
+        @Param("dayEnd") LocalDateTime dayEnd,
+        @Param("now") LocalDateTime now
+    );
+
+    /**
+     * 사용자의 다음 만료일과 그날 만료 예정 금액 조회 (만료되지 않은 사용 가능 적립 중 가장 이른 만료일)
+     *
+     * @param userId 사용자 ID
+     * @param now 현재 시간 (만료된 적립 제외)
+     * @return [만료일(DATE), 만료 예정 금액] (사용 가능 적립이 없으면 빈 목록)
+     */
+    @Query(value = """
+        SELECT CAST(pt.expiration_date AS DATE) AS expiration_day, SUM(pt.available_balance) AS amount
+        FROM point_transactions pt
+        WHERE pt.user_id = :userId
+        AND pt.transaction_type = 'EARN'
+        AND pt.available_balance > 0
+        AND pt.expiration_date > :now
+        GROUP BY CAST(pt.expiration_date AS DATE)
+        ORDER BY expiration_day
+        LIMIT 1
+    """, nativeQuery = true)
+    List<Object[]> findNextExpiration(
+        @Param("userId") String userId,
+        @Param("now") LocalDateTime now
+    );
 }
@@ -0,0 +1,17 @@
+package com.musinsa.point.repository;
+
+import com.musinsa.point.domain.PointTransaction;
+
+import java.util.Optional;
+
+/**
+ * 2차 캐시를 사용하는 포인트 트랜잭션 키 조회
+ */
+public interface PointTransactionRepositoryCustom {
+
+    /**
+     * pointKey로 포인트 트랜잭션 조회
+     * 자연 키 캐시로 id 를 찾고 엔티티는 DB 에서 로딩 (엔티티는 2차 캐시 대상이 아님)
+     */
+    Optional<PointTransaction> findByPointKey(String pointKey);
+}
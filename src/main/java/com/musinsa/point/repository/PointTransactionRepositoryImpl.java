@@ -0,0 +1,28 @@
+package com.musinsa.point.repository;
+
+import com.musinsa.point.domain.PointTransaction;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * PointTransactionRepositoryCustom 구현
+ */
+@Transactional(readOnly = true)
+public class PointTransactionRepositoryImpl implements PointTransactionRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public PointTransactionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Optional<PointTransaction> findByPointKey(String pointKey) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(PointTransaction.class)
+            .loadOptional(pointKey);
+    }
+}
@@ -0,0 +1,99 @@
+package com.musinsa.point.repository;
+
+import com.musinsa.point.config.ShardRouter;
+import com.musinsa.point.config.ShardRoutingDataSource;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 키 -> 샤드 디렉터리 (shard_directory)
+ * pointKey, orderNumber 처럼 userId 없이 들어오는 요청을 소유 사용자의 샤드로 라우팅하기 위해 사용
+ *
+ * 디렉터리 항목 자체도 lookupKey 해시로 샤드에 분산 저장하며,
+ * 사용자 트랜잭션과 무관한 커넥션(auto-commit)으로 기록됨
+ */
+public class ShardDirectoryRepository {
+
+    private static final String CREATE_TABLE_SQL = """
+        CREATE TABLE IF NOT EXISTS shard_directory (
+            lookup_key VARCHAR(160) PRIMARY KEY,
+            shard_index INT NOT NULL,
+            owner_user_id VARCHAR(100)
+        )
+        """;
+
+    private final List<JdbcTemplate> shardTemplates = new ArrayList<>();
+
+    public ShardDirectoryRepository(ShardRoutingDataSource shardRoutingDataSource) {
+        for (int i = 0; i < shardRoutingDataSource.getShardCount(); i++) {
+            shardTemplates.add(new JdbcTemplate(shardRoutingDataSource.getShard(i)));
+        }
+    }
+
+    /**
+     * 모든 샤드에 디렉터리 테이블 생성
+     */
+    public void createTableIfNotExists() {
+        shardTemplates.forEach(template -> template.execute(CREATE_TABLE_SQL));
+    }
+
+    /**
+     * 키의 소유 샤드 등록 (이미 등록된 키는 무시 - 같은 사용자의 키는 항상 같은 샤드)
+     *
+     * @param lookupKey 디렉터리 키
+     * @param shardIndex 소유 샤드 번호
+     */
+    public void register(String lookupKey, int shardIndex) {
+        try {
+            templateFor(lookupKey).update(
+                "INSERT INTO shard_directory (lookup_key, shard_index) VALUES (?, ?)", lookupKey, shardIndex);
+        } catch (DuplicateKeyException ex) {
+            // 동일 주문 번호의 재사용 등 - 기존 항목 유지
+        }
+    }
+
+    /**
+     * 키의 소유 사용자 / 샤드 등록 (주문 번호 소유자 확정용)
+     * 먼저 등록한 사용자가 소유자가 되며, 이미 등록된 키는 변경하지 않고 기존 소유자를 반환
+     * 소유자 없이 등록된 기존 항목(소유자 컬럼 추가 전)은 빈 값
+     *
+     * @param lookupKey 디렉터리 키
+     * @param shardIndex 소유 사용자의 샤드 번호
+     * @param ownerUserId 소유 사용자 ID
+     * @return 등록된 소유 사용자 ID
+     */
+    public Optional<String> claim(String lookupKey, int shardIndex, String ownerUserId) {
+        JdbcTemplate template = templateFor(lookupKey);
+        try {
+            template.update("INSERT INTO shard_directory (lookup_key, shard_index, owner_user_id) VALUES (?, ?, ?)",
+                lookupKey, shardIndex, ownerUserId);
+            return Optional.of(ownerUserId);
+        } catch (DuplicateKeyException ex) {
+            return template.queryForList(
+                    "SELECT owner_user_id FROM shard_directory WHERE lookup_key = ?", String.class, lookupKey).stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+        }
+    }
+
+    /**
+     * 키의 소유 샤드 조회
+     *
+     * @param lookupKey 디렉터리 키
+     * @return 샤드 번호
+     */
+    public Optional<Integer> findShard(String lookupKey) {
+        List<Integer> shardIndexes = templateFor(lookupKey).queryForList(
+            "SELECT shard_index FROM shard_directory WHERE lookup_key = ?", Integer.class, lookupKey);
+        return shardIndexes.stream().findFirst();
+    }
+
+    private JdbcTemplate templateFor(String lookupKey) {
+        return shardTemplates.get(ShardRouter.shardOf(lookupKey, shardTemplates.size()));
+    }
+}
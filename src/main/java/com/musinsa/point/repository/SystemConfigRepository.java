@@ -1,7 +1,10 @@
 package com.musinsa.point.repository;
 
 import com.musinsa.point.domain.SystemConfig;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -11,9 +14,11 @@ public interface SystemConfigRepository extends JpaRepository<SystemConfig, Long
     
     /**
      * 설정 키로 시스템 설정 조회
+     * 쿼리 캐시 사용 (system_configs 는 거의 변경되지 않으므로 무효화가 드묾)
      * 
      * @param configKey 설정 키
      * @return 시스템 설정
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<SystemConfig> findByConfigKey(String configKey);
 }
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.Optional;
 
 @Repository
@@ -31,4 +32,27 @@ public interface UserPointSummaryRepository extends JpaRepository<UserPointSumma
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT s FROM UserPointSummary s WHERE s.userId = :userId")
     Optional<UserPointSummary> findByUserIdWithLock(@Param("userId") String userId);
+
+    /**
+     * 사용자 ID로 요약 버전 조회 (조건부 조회 ETag 용)
+     * 엔티티를 로딩하지 않고 user_id 유니크 인덱스로 한 행의 버전 / 다음 만료일 / 활성 적립 수만 조회
+     *
+     * @param userId 사용자 ID
+     * @return 요약 버전
+     */
+    @Query("SELECT s.version AS version, s.nextExpirationDate AS nextExpirationDate, s.activeLotCount AS activeLotCount " +
+           "FROM UserPointSummary s WHERE s.userId = :userId")
+    Optional<SummaryVersion> findVersionByUserId(@Param("userId") String userId);
+
+    /**
+     * 요약 버전 프로젝션
+     */
+    interface SummaryVersion {
+
+        Long getVersion();
+
+        LocalDate getNextExpirationDate();
+
+        Integer getActiveLotCount();
+    }
 }
@@ -0,0 +1,131 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 쓰기 요청 적응형 동시 실행 제한기 (Vegas 방식)
+ * 쓰기 트랜잭션 지연 시간 샘플로 DB 의 대기열 길이를 추정하여 동시 실행 한도를 조정
+ *
+ * - 무부하 지연(rttNoLoad): 관측한 최소 지연, probeIntervalSamples 마다 현재 샘플로 재설정
+ * - 추정 대기열 = limit * (1 - rttNoLoad / rtt)
+ *   - log10(limit) 이하: 대기 없음, limit + 6*log10(limit) 로 빠르게 증가
+ *   - 3*log10(limit) 미만: limit + log10(limit)
+ *   - 6*log10(limit) 초과: DB 가 밀림, limit - log10(limit)
+ *   - 사이 구간은 유지
+ * - 실행 중 요청이 한도의 절반 미만이면 늘리지 않음 (부하가 없어 측정이 한도를 검증하지 못함)
+ *
+ * 메트릭
+ * - point.concurrency.limit: 현재 한도
+ * - point.concurrency.inflight: 실행 중인 요청 수
+ * - point.concurrency.db.latency: 쓰기 트랜잭션 지연 시간 (한도 계산 샘플)
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(AdaptiveConcurrencyLimiter.class);
+
+    private final ConcurrencyLimitProperties properties;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Timer latencyTimer;
+    private volatile double limit;
+    private long rttNoLoadNanos;
+    private int samplesSinceProbe;
+
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.limit = properties.getInitialLimit();
+        this.latencyTimer = meterRegistry.timer("point.concurrency.db.latency");
+
+        Gauge.builder("point.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+            .register(meterRegistry);
+        Gauge.builder("point.concurrency.inflight", inflight, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 한도 안이면 실행 자리를 확보
+     *
+     * @return 확보 여부 (true 이면 완료 후 release 호출 필요)
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 확보한 실행 자리 반환
+     */
+    public void release() {
+        inflight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    /**
+     * 쓰기 트랜잭션 지연 시간 샘플 반영
+     *
+     * @param rttNanos 트랜잭션 시작부터 커밋/롤백까지 걸린 시간 (ns)
+     */
+    public synchronized void onSample(long rttNanos) {
+        if (rttNanos <= 0) {
+            return;
+        }
+        latencyTimer.record(rttNanos, TimeUnit.NANOSECONDS);
+
+        if (++samplesSinceProbe >= properties.getProbeIntervalSamples()) {
+            samplesSinceProbe = 0;
+            rttNoLoadNanos = rttNanos;
+        } else if (rttNoLoadNanos == 0 || rttNanos < rttNoLoadNanos) {
+            rttNoLoadNanos = rttNanos;
+        }
+
+        double currentLimit = limit;
+        double log10 = Math.max(1, Math.log10(currentLimit));
+        double queueSize = Math.ceil(currentLimit * (1 - (double) rttNoLoadNanos / rttNanos));
+
+        double newLimit;
+        if (queueSize <= log10) {
+            newLimit = currentLimit + 6 * log10;
+        } else if (queueSize < 3 * log10) {
+            newLimit = currentLimit + log10;
+        } else if (queueSize > 6 * log10) {
+            newLimit = currentLimit - log10;
+        } else {
+            return;
+        }
+
+        if (newLimit > currentLimit && inflight.get() * 2 < currentLimit) {
+            return;
+        }
+
+        newLimit = Math.max(properties.getMinLimit(), Math.min(properties.getMaxLimit(), newLimit));
+        double smoothed = (1 - properties.getSmoothing()) * currentLimit + properties.getSmoothing() * newLimit;
+        if ((int) smoothed != (int) currentLimit) {
+            log.debug("동시 실행 한도 변경 - {} -> {}, rtt: {}us, rttNoLoad: {}us, queueSize: {}",
+                (int) currentLimit, (int) smoothed, rttNanos / 1_000, rttNoLoadNanos / 1_000, (int) queueSize);
+        }
+        limit = smoothed;
+    }
+}
@@ -0,0 +1,320 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.ReconciliationProperties;
+import com.musinsa.point.config.ShardRouter;
+import com.musinsa.point.dto.BalanceDrift;
+import com.musinsa.point.dto.ReconciliationResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잔액 정합성 검증 서비스
+ * UserPointSummary.totalBalance 가 사용자 EARN 적립 건들의 availableBalance 합계와 일치하는지 검증
+ * (수기/자동 지급 잔액, 보유 적립 수 등 세부 잔액이 어긋난 요약도 불일치로 보고)
+ *
+ * - 샤드별 user_point_summaries id 범위를 구간으로 나누어 ForkJoin 워커가 병렬로 스캔
+ * - 각 구간은 fetch size 를 지정한 커서로 스트리밍하며, 불일치 사용자만 메모리에 보관
+ * - rewrite=true 인 경우 불일치 요약을 version 조건부 배치 UPDATE 로 재작성 (동시 변경된 요약은 건너뜀)
+ *   다음 만료일은 비워 두어 다음 쓰기 / 조회 시 재계산되게 함
+ *
+ * 만료 배치가 없어 만료된 적립의 잔액도 totalBalance 에 포함되므로 비교 기준은 전체 EARN 잔액이며,
+ * 만료된 적립 잔액은 expiredLotBalance 로 별도 보고
+ */
+@Service
+public class BalanceReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceReconciliationService.class);
+
+    private static final String ID_RANGE_SQL = "SELECT MIN(id), MAX(id) FROM user_point_summaries";
+
+    private static final String SCAN_SQL = """
+        SELECT s.id, s.user_id, s.total_balance, s.manual_grant_balance, s.auto_grant_balance, s.active_lot_count, s.version,
+               COALESCE(SUM(t.available_balance), 0) AS lot_balance,
+               COALESCE(SUM(CASE WHEN t.is_manual_grant = TRUE THEN t.available_balance ELSE 0 END), 0) AS manual_lot_balance,
+               COUNT(CASE WHEN t.available_balance > 0 THEN 1 END) AS active_lots,
+               COALESCE(SUM(CASE WHEN t.expiration_date < ? THEN t.available_balance ELSE 0 END), 0) AS expired_lot_balance
+        FROM user_point_summaries s
+        LEFT JOIN point_transactions t ON t.user_id = s.user_id AND t.transaction_type = 'EARN'
+        WHERE s.id BETWEEN ? AND ?
+        GROUP BY s.id, s.user_id, s.total_balance, s.manual_grant_balance, s.auto_grant_balance, s.active_lot_count, s.version
+        """;
+
+    private static final String REWRITE_SQL = """
+        UPDATE user_point_summaries
+        SET total_balance = ?, manual_grant_balance = ?, auto_grant_balance = ?, active_lot_count = ?,
+            next_expiration_date = NULL, next_expiration_amount = 0, version = version + 1, updated_at = ?
+        WHERE id = ? AND version = ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+    private final ForkJoinPool reconciliationPool;
+    private final ReconciliationProperties reconciliationProperties;
+    private final Counter scannedCounter;
+    private final Counter driftedCounter;
+    private final Counter rewrittenCounter;
+    private final Timer runTimer;
+
+    public BalanceReconciliationService(JdbcTemplate jdbcTemplate,
+                                        ShardRouter shardRouter,
+                                        ForkJoinPool reconciliationPool,
+                                        ReconciliationProperties reconciliationProperties,
+                                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+        this.reconciliationPool = reconciliationPool;
+        this.reconciliationProperties = reconciliationProperties;
+        this.scannedCounter = meterRegistry.counter("point.reconciliation.users", "result", "scanned");
+        this.driftedCounter = meterRegistry.counter("point.reconciliation.users", "result", "drifted");
+        this.rewrittenCounter = meterRegistry.counter("point.reconciliation.users", "result", "rewritten");
+        this.runTimer = meterRegistry.timer("point.reconciliation.duration");
+    }
+
+    /**
+     * 전체 사용자 잔액 정합성 검증
+     *
+     * @param rewrite true 인 경우 불일치 요약을 적립 잔액 합계로 재작성
+     * @return 검증 결과
+     */
+    public ReconciliationResponse reconcile(boolean rewrite) {
+        log.info("잔액 정합성 검증 시작 - rewrite: {}, shardCount: {}", rewrite, shardRouter.getShardCount());
+
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+
+        // 1. 샤드별 id 범위를 루트 작업으로 제출 (샤드 간에도 병렬 실행)
+        List<ForkJoinTask<Tally>> shardTasks = new ArrayList<>();
+        for (int shardIndex = 0; shardIndex < shardRouter.getShardCount(); shardIndex++) {
+            int currentShard = shardIndex;
+            long[] idRange = shardRouter.onShard(currentShard, () -> jdbcTemplate.queryForObject(ID_RANGE_SQL,
+                (rs, rowNum) -> {
+                    long minId = rs.getLong(1);
+                    return rs.wasNull() ? null : new long[] {minId, rs.getLong(2)};
+                }));
+            if (idRange == null) {
+                continue;
+            }
+            shardTasks.add(reconciliationPool.submit(new RangeTask(currentShard, idRange[0], idRange[1], rewrite, now)));
+        }
+
+        // 2. 결과 병합
+        Tally total = new Tally(reconciliationProperties.getMaxReportedDrifts());
+        for (ForkJoinTask<Tally> shardTask : shardTasks) {
+            total.merge(shardTask.join());
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        long usersPerSecond = elapsedNanos == 0 ? total.scanned : total.scanned * 1_000_000_000L / elapsedNanos;
+
+        log.info("잔액 정합성 검증 완료 - scanned: {}, drifted: {}, rewritten: {}, conflicted: {}, elapsed: {}ms, throughput: {} users/s",
+            total.scanned, total.drifted, total.rewritten, total.conflicted, elapsedMillis, usersPerSecond);
+
+        return ReconciliationResponse.builder()
+            .rewrite(rewrite)
+            .shardCount(shardRouter.getShardCount())
+            .scannedUsers(total.scanned)
+            .driftedUsers(total.drifted)
+            .rewrittenUsers(total.rewritten)
+            .conflictedUsers(total.conflicted)
+            .elapsedMillis(elapsedMillis)
+            .usersPerSecond(usersPerSecond)
+            .drifts(total.drifts)
+            .build();
+    }
+
+    /**
+     * id 구간 하나를 스캔하고 (rewrite 시) 불일치 요약을 재작성
+     * 현재 스레드의 샤드 컨텍스트에서 실행되어야 함
+     */
+    private Tally reconcileRange(long fromId, long toId, boolean rewrite, LocalDateTime now) {
+        Tally tally = new Tally(reconciliationProperties.getMaxReportedDrifts());
+        List<DriftedSummary> driftedSummaries = new ArrayList<>();
+
+        // 1. 커서 스트리밍 스캔 - 일치하는 사용자는 카운트만 증가
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SCAN_SQL);
+            ps.setFetchSize(reconciliationProperties.getFetchSize());
+            ps.setTimestamp(1, Timestamp.valueOf(now));
+            ps.setLong(2, fromId);
+            ps.setLong(3, toId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            tally.scanned++;
+            long summaryBalance = rs.getLong("total_balance");
+            long lotBalance = rs.getLong("lot_balance");
+            long manualLotBalance = rs.getLong("manual_lot_balance");
+            int activeLots = rs.getInt("active_lots");
+            boolean breakdownMismatch = rs.getLong("manual_grant_balance") != manualLotBalance
+                || rs.getLong("auto_grant_balance") != lotBalance - manualLotBalance
+                || rs.getInt("active_lot_count") != activeLots;
+            if (summaryBalance != lotBalance || breakdownMismatch) {
+                driftedSummaries.add(new DriftedSummary(
+                    rs.getLong("id"),
+                    rs.getLong("version"),
+                    rs.getString("user_id"),
+                    summaryBalance,
+                    lotBalance,
+                    manualLotBalance,
+                    activeLots,
+                    rs.getLong("expired_lot_balance"),
+                    breakdownMismatch));
+            }
+        });
+        scannedCounter.increment(tally.scanned);
+
+        if (driftedSummaries.isEmpty()) {
+            return tally;
+        }
+
+        // 2. 불일치 요약 재작성 (version 조건부 - 스캔 이후 변경된 요약은 충돌로 집계)
+        boolean[] rewritten = new boolean[driftedSummaries.size()];
+        if (rewrite) {
+            Timestamp updatedAt = Timestamp.valueOf(now);
+            int[][] updateCounts = jdbcTemplate.batchUpdate(REWRITE_SQL, driftedSummaries,
+                reconciliationProperties.getBatchSize(), (ps, drifted) -> {
+                    ps.setLong(1, drifted.lotBalance());
+                    ps.setLong(2, drifted.manualLotBalance());
+                    ps.setLong(3, drifted.lotBalance() - drifted.manualLotBalance());
+                    ps.setInt(4, drifted.activeLots());
+                    ps.setTimestamp(5, updatedAt);
+                    ps.setLong(6, drifted.summaryId());
+                    ps.setLong(7, drifted.version());
+                });
+            int index = 0;
+            for (int[] batch : updateCounts) {
+                for (int updateCount : batch) {
+                    rewritten[index++] = updateCount > 0 || updateCount == Statement.SUCCESS_NO_INFO;
+                }
+            }
+        }
+
+        // 3. 불일치 보고
+        for (int i = 0; i < driftedSummaries.size(); i++) {
+            DriftedSummary drifted = driftedSummaries.get(i);
+            tally.drifted++;
+            if (rewritten[i]) {
+                tally.rewritten++;
+            } else if (rewrite) {
+                tally.conflicted++;
+            }
+            tally.report(BalanceDrift.builder()
+                .userId(drifted.userId())
+                .summaryBalance(drifted.summaryBalance())
+                .lotBalance(drifted.lotBalance())
+                .expiredLotBalance(drifted.expiredLotBalance())
+                .drift(drifted.summaryBalance() - drifted.lotBalance())
+                .breakdownMismatch(drifted.breakdownMismatch())
+                .rewritten(rewritten[i])
+                .build());
+        }
+        driftedCounter.increment(tally.drifted);
+        rewrittenCounter.increment(tally.rewritten);
+
+        log.warn("잔액 불일치 발견 - idRange: [{}, {}], drifted: {}, rewritten: {}",
+            fromId, toId, tally.drifted, tally.rewritten);
+
+        return tally;
+    }
+
+    /**
+     * 샤드의 id 구간을 partitionSize 이하가 될 때까지 분할하는 ForkJoin 작업
+     */
+    private class RangeTask extends RecursiveTask<Tally> {
+
+        private final int shardIndex;
+        private final long fromId;
+        private final long toId;
+        private final boolean rewrite;
+        private final LocalDateTime now;
+
+        RangeTask(int shardIndex, long fromId, long toId, boolean rewrite, LocalDateTime now) {
+            this.shardIndex = shardIndex;
+            this.fromId = fromId;
+            this.toId = toId;
+            this.rewrite = rewrite;
+            this.now = now;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (toId - fromId < reconciliationProperties.getPartitionSize()) {
+                // 워커 스레드마다 샤드 컨텍스트 설정
+                return shardRouter.onShard(shardIndex, () -> reconcileRange(fromId, toId, rewrite, now));
+            }
+
+            long middleId = fromId + (toId - fromId) / 2;
+            RangeTask left = new RangeTask(shardIndex, fromId, middleId, rewrite, now);
+            RangeTask right = new RangeTask(shardIndex, middleId + 1, toId, rewrite, now);
+            left.fork();
+            Tally tally = right.compute();
+            tally.merge(left.join());
+            return tally;
+        }
+    }
+
+    /**
+     * 스캔 중 발견한 불일치 요약
+     */
+    private record DriftedSummary(
+        long summaryId,
+        long version,
+        String userId,
+        long summaryBalance,
+        long lotBalance,
+        long manualLotBalance,
+        int activeLots,
+        long expiredLotBalance,
+        boolean breakdownMismatch
+    ) {
+    }
+
+    /**
+     * 작업 단위별 집계 (워커 간 공유하지 않고 병합)
+     */
+    private static class Tally {
+
+        private final int maxReportedDrifts;
+        private final List<BalanceDrift> drifts = new ArrayList<>();
+        private long scanned;
+        private long drifted;
+        private long rewritten;
+        private long conflicted;
+
+        Tally(int maxReportedDrifts) {
+            this.maxReportedDrifts = maxReportedDrifts;
+        }
+
+        void report(BalanceDrift drift) {
+            if (drifts.size() < maxReportedDrifts) {
+                drifts.add(drift);
+            }
+        }
+
+        void merge(Tally other) {
+            scanned += other.scanned;
+            drifted += other.drifted;
+            rewritten += other.rewritten;
+            conflicted += other.conflicted;
+            other.drifts.forEach(this::report);
+        }
+    }
+}
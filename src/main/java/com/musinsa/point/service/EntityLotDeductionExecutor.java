@@ -0,0 +1,122 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.PointUseProperties;
+import com.musinsa.point.config.PointUseProperties.DeductionMode;
+import com.musinsa.point.domain.PointAccount;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.dto.UsedFromDetail;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.repository.PointAccountRepository;
+import com.musinsa.point.repository.PointTransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔티티 기반 적립 차감 실행기
+ * 적립 엔티티를 로딩하여 Java 에서 차감한 뒤 저장 (적립마다 version 조건부 UPDATE, PointAccount INSERT)
+ * 차감할 적립은 변경 전에 id 순으로 한 번에 잠금 (PointLockService)
+ */
+@Component
+public class EntityLotDeductionExecutor implements LotDeductionExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(EntityLotDeductionExecutor.class);
+
+    private final PointTransactionRepository pointTransactionRepository;
+    private final PointAccountRepository pointAccountRepository;
+    private final PointLiabilityService pointLiabilityService;
+    private final SummaryBreakdownService summaryBreakdownService;
+    private final PointUseProperties pointUseProperties;
+    private final PointLockService pointLockService;
+
+    public EntityLotDeductionExecutor(PointTransactionRepository pointTransactionRepository,
+                                      PointAccountRepository pointAccountRepository,
+                                      PointLiabilityService pointLiabilityService,
+                                      SummaryBreakdownService summaryBreakdownService,
+                                      PointUseProperties pointUseProperties,
+                                      PointLockService pointLockService) {
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.pointAccountRepository = pointAccountRepository;
+        this.pointLiabilityService = pointLiabilityService;
+        this.summaryBreakdownService = summaryBreakdownService;
+        this.pointUseProperties = pointUseProperties;
+        this.pointLockService = pointLockService;
+    }
+
+    @Override
+    public DeductionMode mode() {
+        return DeductionMode.ENTITY;
+    }
+
+    @Override
+    public List<UsedFromDetail> deduct(UserPointSummary summary, String usePointKey, long amount, LocalDateTime now) {
+        // 1. 사용 가능한 포인트 조회 (수기 지급 우선, 만료일 순)
+        List<PointTransaction> availablePoints = findLotsForUse(summary.getUserId(), amount, now);
+
+        // 2. 차감할 적립을 id 순으로 잠금
+        List<PointTransaction> lotsToDeduct = new ArrayList<>();
+        long coveredAmount = 0;
+        for (PointTransaction earnTransaction : availablePoints) {
+            if (coveredAmount >= amount) {
+                break;
+            }
+            lotsToDeduct.add(earnTransaction);
+            coveredAmount += earnTransaction.getAvailableBalance();
+        }
+        if (coveredAmount < amount) {
+            log.warn("사용 가능 적립 부족 - userId: {}, availableBalance: {}, requestedAmount: {}",
+                summary.getUserId(), coveredAmount, amount);
+            throw PointBusinessException.insufficientBalance(coveredAmount, amount);
+        }
+        pointLockService.lockLots(lotsToDeduct);
+
+        // 3. 여러 적립에서 순차적으로 차감
+        long remainingAmount = amount;
+        List<UsedFromDetail> usedFromDetails = new ArrayList<>();
+
+        for (PointTransaction earnTransaction : lotsToDeduct) {
+
+            long availableBalance = earnTransaction.getAvailableBalance();
+            long amountToUse = Math.min(remainingAmount, availableBalance);
+
+            // 적립 트랜잭션의 availableBalance 업데이트
+            earnTransaction.setAvailableBalance(availableBalance - amountToUse);
+            pointTransactionRepository.save(earnTransaction);
+            pointLiabilityService.record(earnTransaction, -amountToUse);
+            summaryBreakdownService.record(summary, earnTransaction, availableBalance, now);
+
+            usedFromDetails.add(UsedFromDetail.builder()
+                .earnPointKey(earnTransaction.getPointKey())
+                .usedAmount(amountToUse)
+                .build());
+
+            remainingAmount -= amountToUse;
+
+            log.debug("포인트 차감 - earnPointKey: {}, usedAmount: {}, remainingAvailable: {}",
+                earnTransaction.getPointKey(), amountToUse, earnTransaction.getAvailableBalance());
+        }
+
+        // 4. PointAccount 생성 (각 적립별 사용 금액 기록)
+        for (UsedFromDetail detail : usedFromDetails) {
+            pointAccountRepository.save(new PointAccount(usePointKey, detail.earnPointKey(), detail.usedAmount(), 0L));
+        }
+
+        return usedFromDetails;
+    }
+
+    /**
+     * 사용 가능한 포인트 조회 (우선순위 정렬)
+     * BOUNDED 모드에서는 사용 금액을 충당하는 적립까지만 조회하여 로딩 행 수를 차감 대상 적립 수로 제한
+     */
+    private List<PointTransaction> findLotsForUse(String userId, long amount, LocalDateTime now) {
+        return switch (pointUseProperties.getLotFetchMode()) {
+            case FULL -> pointTransactionRepository.findAvailablePointsForUse(userId, now);
+            case BOUNDED -> pointTransactionRepository.findAvailablePointsCoveringAmount(userId, now, amount);
+        };
+    }
+}
@@ -0,0 +1,433 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.GroupCommitProperties;
+import com.musinsa.point.config.ShardRouter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.Savepoint;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 그룹 커밋 실행기
+ * 여러 요청 스레드의 적립/사용 명령을 샤드별 큐에 모아 최대 maxDelayMillis 또는 maxBatchSize 건 단위로
+ * 하나의 트랜잭션에서 실행하고 커밋한 뒤 각 호출자의 future 를 완료 (커밋/fsync 횟수를 배치 단위로 줄임)
+ *
+ * - 명령마다 savepoint 를 만들고 실행 후 flush, 실패한 명령만 savepoint 로 롤백하여 나머지 명령은 그대로 커밋
+ * - 명령 실패로 Hibernate 트랜잭션이 rollback-only 가 되거나 배치 커밋이 실패하면,
+ *   배치를 롤백하고 실패하지 않은 명령을 개별 트랜잭션으로 다시 실행
+ * - 커밋 이후에 실행해야 하는 작업(다른 샤드의 멱등성 레코드 저장 등)은 afterBatchCommit 으로 등록
+ *
+ * point.group-commit.enabled=false 인 경우 워커를 시작하지 않으며 명령을 호출 스레드에서 바로 실행
+ */
+@Component
+public class GroupCommitExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitExecutor.class);
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private static final ThreadLocal<Command<?>> CURRENT_COMMAND = new ThreadLocal<>();
+
+    private final ShardRouter shardRouter;
+    private final EntityManager entityManager;
+    private final GroupCommitProperties groupCommitProperties;
+    private final SecondLevelCacheService secondLevelCacheService;
+    private final TransactionTemplate batchTemplate;
+    private final List<ShardWorker> workers = new ArrayList<>();
+    private final DistributionSummary batchSizeSummary;
+    private final Timer queueWaitTimer;
+    private final Counter committedCounter;
+    private final Counter failedCounter;
+    private final Counter rerunCounter;
+    private final Counter rejectedCounter;
+
+    public GroupCommitExecutor(ShardRouter shardRouter,
+                               EntityManager entityManager,
+                               GroupCommitProperties groupCommitProperties,
+                               SecondLevelCacheService secondLevelCacheService,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.shardRouter = shardRouter;
+        this.entityManager = entityManager;
+        this.groupCommitProperties = groupCommitProperties;
+        this.secondLevelCacheService = secondLevelCacheService;
+        this.batchTemplate = new TransactionTemplate(transactionManager);
+        this.batchSizeSummary = meterRegistry.summary("point.group-commit.batch.size");
+        this.queueWaitTimer = meterRegistry.timer("point.group-commit.queue.wait");
+        this.committedCounter = meterRegistry.counter("point.group-commit.commands", "result", "committed");
+        this.failedCounter = meterRegistry.counter("point.group-commit.commands", "result", "failed");
+        this.rerunCounter = meterRegistry.counter("point.group-commit.commands", "result", "rerun");
+        this.rejectedCounter = meterRegistry.counter("point.group-commit.commands", "result", "rejected");
+
+        if (groupCommitProperties.isEnabled()) {
+            for (int shardIndex = 0; shardIndex < shardRouter.getShardCount(); shardIndex++) {
+                ShardWorker worker = new ShardWorker(shardIndex, groupCommitProperties.getQueueCapacity());
+                workers.add(worker);
+                worker.start();
+            }
+            log.info("그룹 커밋 워커 시작 - shardCount: {}, maxBatchSize: {}, maxDelayMillis: {}",
+                workers.size(), groupCommitProperties.getMaxBatchSize(), groupCommitProperties.getMaxDelayMillis());
+        }
+    }
+
+    public boolean isEnabled() {
+        return !workers.isEmpty();
+    }
+
+    /**
+     * 현재 스레드가 그룹 커밋 배치 트랜잭션 안에서 명령을 실행 중인지 여부
+     */
+    public static boolean inBatch() {
+        return CURRENT_COMMAND.get() != null;
+    }
+
+    /**
+     * 현재 명령이 배치와 함께 커밋된 뒤 실행할 작업 등록
+     * 명령이 savepoint 로 롤백되거나 배치가 개별 실행으로 전환되면 등록한 작업은 버려짐
+     */
+    public static void afterBatchCommit(Runnable action) {
+        Command<?> command = CURRENT_COMMAND.get();
+        if (command == null) {
+            throw new IllegalStateException("그룹 커밋 배치 밖에서는 커밋 후 작업을 등록할 수 없습니다");
+        }
+        command.afterCommitActions.add(action);
+    }
+
+    /**
+     * 사용자 샤드의 배치에 명령을 제출하고 커밋될 때까지 대기
+     * 비활성화된 경우 또는 큐가 가득 찬 경우 호출 스레드에서 사용자 샤드로 라우팅하여 바로 실행
+     *
+     * @param userId 사용자 ID (샤드 선택)
+     * @param work 실행할 명령 (자체 @Transactional 경계를 가진 서비스 호출)
+     * @return 명령 결과
+     */
+    public <T> T execute(String userId, Supplier<T> work) {
+        try {
+            return submit(userId, work).get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("그룹 커밋 대기 중 인터럽트되었습니다", ex);
+        }
+    }
+
+    /**
+     * 사용자 샤드의 배치에 명령을 제출하고 커밋 시 완료되는 future 반환 (대기하지 않음)
+     * 비활성화된 경우 또는 큐가 가득 찬 경우 호출 스레드에서 사용자 샤드로 라우팅하여 바로 실행
+     *
+     * @param userId 사용자 ID (샤드 선택)
+     * @param work 실행할 명령 (자체 @Transactional 경계를 가진 서비스 호출)
+     * @return 명령 결과 future
+     */
+    public <T> CompletableFuture<T> submit(String userId, Supplier<T> work) {
+        if (isEnabled()) {
+            String confirmedIdempotencyMiss = IdempotencyCheckContext.take();
+            Command<T> command = new Command<>(work, MDC.getCopyOfContextMap(), LatencySamplingContext.isSampled(),
+                confirmedIdempotencyMiss);
+            if (workers.get(shardRouter.shardOfUser(userId)).queue.offer(command)) {
+                return command.future;
+            }
+            rejectedCounter.increment();
+            log.warn("그룹 커밋 큐가 가득 참 - userId: {}, 개별 트랜잭션으로 실행", userId);
+            if (confirmedIdempotencyMiss != null) {
+                IdempotencyCheckContext.markMiss(confirmedIdempotencyMiss);
+            }
+        }
+
+        try {
+            return CompletableFuture.completedFuture(shardRouter.onUser(userId, work));
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        for (ShardWorker worker : workers) {
+            worker.running = false;
+            worker.interrupt();
+        }
+        for (ShardWorker worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+            // 처리되지 못한 명령은 호출자에게 실패로 알림
+            Command<?> pending;
+            while ((pending = worker.queue.poll()) != null) {
+                pending.future.completeExceptionally(new IllegalStateException("그룹 커밋 실행기가 종료되었습니다"));
+            }
+        }
+    }
+
+    /**
+     * 배치 하나를 하나의 트랜잭션으로 실행
+     * 현재 스레드의 샤드 컨텍스트에서 실행되어야 함
+     */
+    private void runBatch(List<Command<?>> batch) {
+        batchSizeSummary.record(batch.size());
+        long dequeuedAt = System.nanoTime();
+        for (Command<?> command : batch) {
+            queueWaitTimer.record(dequeuedAt - command.enqueuedAt, TimeUnit.NANOSECONDS);
+        }
+
+        // 요청 경로에서 제출된 명령이 있으면 배치 트랜잭션을 지연 시간 샘플로 사용
+        boolean latencySampled = batch.stream().anyMatch(command -> command.latencySampled);
+        try {
+            LatencySamplingContext.runWith(latencySampled, () -> batchTemplate.execute(status -> {
+                for (Command<?> command : batch) {
+                    runInSavepoint(command);
+                    if (status.isRollbackOnly()) {
+                        // Hibernate 가 트랜잭션을 rollback-only 로 표시 (flush 실패 등) - savepoint 로 복구 불가
+                        command.poisoned = true;
+                        throw new PoisonedBatchException();
+                    }
+                }
+                return null;
+            }));
+        } catch (RuntimeException ex) {
+            if (!(ex instanceof PoisonedBatchException)) {
+                log.warn("그룹 커밋 배치 커밋 실패 - batchSize: {}, 개별 트랜잭션으로 재실행", batch.size(), ex);
+            }
+            rerunIndividually(batch);
+            return;
+        }
+
+        for (Command<?> command : batch) {
+            if (command.failure != null) {
+                failedCounter.increment();
+                command.future.completeExceptionally(command.failure);
+                continue;
+            }
+            runAfterCommitActions(command);
+            committedCounter.increment();
+            command.complete();
+        }
+    }
+
+    /**
+     * 명령 하나를 savepoint 안에서 실행하고 flush (제약 조건 위반 등을 명령 단위로 확인)
+     * HibernateJpaDialect 가 JDBC 커넥션을 트랜잭션 매니저에 노출하지 않으므로 세션 커넥션의 savepoint 를 직접 사용
+     */
+    private void runInSavepoint(Command<?> command) {
+        Session session = entityManager.unwrap(Session.class);
+        Savepoint savepoint = session.doReturningWork(Connection::setSavepoint);
+        CURRENT_COMMAND.set(command);
+        applyMdc(command.mdc);
+        try {
+            command.run();
+            entityManager.flush();
+            session.doWork(connection -> connection.releaseSavepoint(savepoint));
+        } catch (RuntimeException ex) {
+            session.doWork(connection -> connection.rollback(savepoint));
+            // 롤백된 변경을 담고 있는 영속성 컨텍스트 정리 (다음 명령은 DB 에서 다시 조회)
+            entityManager.clear();
+            // 롤백된 변경이 배치 커밋 시 2차 캐시에 반영되므로 커밋 후 제거
+            secondLevelCacheService.evictPointTransactionsAfterCompletion();
+            command.fail(ex);
+        } finally {
+            CURRENT_COMMAND.remove();
+            MDC.clear();
+        }
+    }
+
+    /**
+     * 롤백된 배치의 명령 중 자체적으로 실패하지 않은 명령을 각자의 트랜잭션으로 다시 실행
+     */
+    private void rerunIndividually(List<Command<?>> batch) {
+        for (Command<?> command : batch) {
+            if (command.failure != null && !command.poisoned) {
+                failedCounter.increment();
+                command.future.completeExceptionally(command.failure);
+                continue;
+            }
+
+            rerunCounter.increment();
+            command.reset();
+            applyMdc(command.mdc);
+            try {
+                LatencySamplingContext.runWith(command.latencySampled, () -> {
+                    command.run();
+                    return null;
+                });
+                command.complete();
+            } catch (RuntimeException ex) {
+                command.future.completeExceptionally(ex);
+            } finally {
+                MDC.clear();
+            }
+        }
+    }
+
+    private void runAfterCommitActions(Command<?> command) {
+        applyMdc(command.mdc);
+        try {
+            for (Runnable action : command.afterCommitActions) {
+                action.run();
+            }
+        } catch (RuntimeException ex) {
+            // 명령은 이미 커밋됨 - 후속 작업 실패는 기록만 하고 결과는 정상 반환
+            log.error("그룹 커밋 후속 작업 실패", ex);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private void applyMdc(Map<String, String> mdc) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+    }
+
+    /**
+     * 제출된 명령과 결과 future
+     */
+    private static class Command<T> {
+
+        private final Supplier<T> work;
+        private final Map<String, String> mdc;
+        private final boolean latencySampled;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+        private final List<Runnable> afterCommitActions = new ArrayList<>();
+        private final long enqueuedAt = System.nanoTime();
+        private String confirmedIdempotencyMiss;
+        private T result;
+        private RuntimeException failure;
+        private boolean poisoned;
+
+        Command(Supplier<T> work, Map<String, String> mdc, boolean latencySampled, String confirmedIdempotencyMiss) {
+            this.work = work;
+            this.mdc = mdc;
+            this.latencySampled = latencySampled;
+            this.confirmedIdempotencyMiss = confirmedIdempotencyMiss;
+        }
+
+        void run() {
+            // 요청 인터셉터의 멱등성 확인 결과는 첫 실행에만 사용 (배치 실패 후 개별 재실행은 다시 조회)
+            String confirmedMiss = confirmedIdempotencyMiss;
+            confirmedIdempotencyMiss = null;
+            result = IdempotencyCheckContext.runWith(confirmedMiss, work);
+        }
+
+        void fail(RuntimeException ex) {
+            failure = ex;
+            afterCommitActions.clear();
+        }
+
+        void reset() {
+            result = null;
+            failure = null;
+            afterCommitActions.clear();
+        }
+
+        void complete() {
+            future.complete(result);
+        }
+    }
+
+    /**
+     * 샤드 하나의 큐를 소비하는 워커 스레드
+     */
+    private class ShardWorker extends Thread {
+
+        private final int shardIndex;
+        private final BlockingQueue<Command<?>> queue;
+        private volatile boolean running = true;
+
+        ShardWorker(int shardIndex, int queueCapacity) {
+            super("group-commit-" + shardIndex);
+            this.shardIndex = shardIndex;
+            this.queue = new ArrayBlockingQueue<>(queueCapacity);
+            setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                List<Command<?>> batch;
+                try {
+                    batch = collectBatch();
+                } catch (InterruptedException ex) {
+                    continue;
+                }
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    shardRouter.onShard(shardIndex, () -> {
+                        runBatch(batch);
+                        return null;
+                    });
+                } catch (Throwable ex) {
+                    log.error("그룹 커밋 배치 처리 실패 - shard: {}, batchSize: {}", shardIndex, batch.size(), ex);
+                    for (Command<?> command : batch) {
+                        command.future.completeExceptionally(ex);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 첫 명령을 기다린 뒤 maxDelayMillis 동안 또는 maxBatchSize 건이 찰 때까지 추가 명령 수집
+         */
+        private List<Command<?>> collectBatch() throws InterruptedException {
+            List<Command<?>> batch = new ArrayList<>();
+            Command<?> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (first == null) {
+                return batch;
+            }
+            batch.add(first);
+
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(groupCommitProperties.getMaxDelayMillis());
+            while (batch.size() < groupCommitProperties.getMaxBatchSize()) {
+                // 이미 대기 중인 명령은 기다리지 않고 가져옴
+                queue.drainTo(batch, groupCommitProperties.getMaxBatchSize() - batch.size());
+                long remaining = deadline - System.nanoTime();
+                if (batch.size() >= groupCommitProperties.getMaxBatchSize() || remaining <= 0) {
+                    break;
+                }
+                Command<?> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    break;
+                }
+                batch.add(next);
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * 배치 트랜잭션을 savepoint 로 복구할 수 없어 전체 롤백이 필요함을 알리는 예외
+     */
+    private static class PoisonedBatchException extends RuntimeException {
+
+        PoisonedBatchException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.musinsa.point.service;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드에서 이미 레코드 없음이 확인된 멱등성 키를 보관하는 컨텍스트
+ * IdempotentReplayInterceptor 가 조회한 결과를 서비스 계층의 멱등성 검증(IdempotencyService.checkExisting)에 넘겨
+ * 같은 요청에서 같은 키를 다시 조회하지 않도록 함
+ *
+ * 확인 결과는 한 번만 사용 (첫 시도에서 소비) - 잠금 충돌 재시도는 재시도 스레드에서 다시 조회하므로
+ * 그 사이 커밋된 동시 중복 요청의 레코드를 놓치지 않음
+ * 그룹 커밋 워커는 제출 시점의 값을 이어받아 실행
+ */
+public final class IdempotencyCheckContext {
+
+    private static final ThreadLocal<String> CONFIRMED_MISS = new ThreadLocal<>();
+
+    private IdempotencyCheckContext() {
+    }
+
+    /**
+     * 멱등성 키의 레코드가 없음을 확인했음을 표시 (요청 처리가 끝나면 clear 로 해제)
+     */
+    public static void markMiss(String idempotencyKey) {
+        CONFIRMED_MISS.set(idempotencyKey);
+    }
+
+    /**
+     * 같은 키의 확인 결과가 있으면 소비
+     *
+     * @param idempotencyKey 멱등성 키
+     * @return 이미 레코드 없음이 확인된 키이면 true
+     */
+    public static boolean consumeMiss(String idempotencyKey) {
+        String confirmed = CONFIRMED_MISS.get();
+        if (confirmed == null || !confirmed.equals(idempotencyKey)) {
+            return false;
+        }
+        CONFIRMED_MISS.remove();
+        return true;
+    }
+
+    /**
+     * 다른 스레드에 넘기기 위해 현재 스레드의 확인 결과를 꺼냄
+     *
+     * @return 확인된 멱등성 키 (없으면 null)
+     */
+    public static String take() {
+        String confirmed = CONFIRMED_MISS.get();
+        CONFIRMED_MISS.remove();
+        return confirmed;
+    }
+
+    public static void clear() {
+        CONFIRMED_MISS.remove();
+    }
+
+    /**
+     * 제출 시점의 확인 결과를 이어받아 작업 실행 (실행 후 이전 값 복원)
+     *
+     * @param idempotencyKey 제출 시점에 take() 로 꺼낸 키 (없으면 null)
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T runWith(String idempotencyKey, Supplier<T> work) {
+        String previous = CONFIRMED_MISS.get();
+        if (idempotencyKey != null) {
+            CONFIRMED_MISS.set(idempotencyKey);
+        } else {
+            CONFIRMED_MISS.remove();
+        }
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                CONFIRMED_MISS.set(previous);
+            } else {
+                CONFIRMED_MISS.remove();
+            }
+        }
+    }
+}
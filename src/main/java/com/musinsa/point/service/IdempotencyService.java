@@ -1,42 +1,97 @@
 package com.musinsa.point.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.point.codec.ResponsePayloadCodecs;
+import com.musinsa.point.config.ReplicaRouter;
+import com.musinsa.point.config.ShardRouter;
 import com.musinsa.point.domain.IdempotencyRecord;
 import com.musinsa.point.repository.IdempotencyRecordRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * 멱등성 레코드 서비스
+ * 레코드는 멱등성 키 해시로 샤드에 분산 저장되므로, 샤드 라우팅 후 별도 트랜잭션(REQUIRES_NEW)을 시작
+ * 단, 호출한 트랜잭션과 같은 샤드의 레코드는 그 트랜잭션 안에서 조회/저장 (요청 커밋과 레코드 저장의 원자성)
+ * 별도 트랜잭션 조회도 복제본이 아닌 주 DB 에서 실행 (복제 지연으로 처리된 요청을 다시 처리하지 않도록)
+ * REST 요청은 재전송 인터셉터가 이미 조회한 키를 다시 조회하지 않음 (IdempotencyCheckContext)
+ */
 @Service
 public class IdempotencyService {
 
     private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
     private static final int TTL_HOURS = 24;
     private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ShardRouter shardRouter;
+    private final ReplicaRouter replicaRouter;
+    private final ResponsePayloadCodecs responsePayloadCodecs;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate requiresNewTemplate;
+    private final TransactionTemplate readOnlyRequiresNewTemplate;
+    private final Counter checkSkippedCounter;
 
-    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository) {
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              ShardRouter shardRouter,
+                              ReplicaRouter replicaRouter,
+                              ResponsePayloadCodecs responsePayloadCodecs,
+                              ObjectMapper objectMapper,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry) {
         this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.shardRouter = shardRouter;
+        this.replicaRouter = replicaRouter;
+        this.responsePayloadCodecs = responsePayloadCodecs;
+        this.objectMapper = objectMapper;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyRequiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyRequiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyRequiresNewTemplate.setReadOnly(true);
+        this.checkSkippedCounter = meterRegistry.counter("point.idempotency.check.skipped");
     }
 
     /**
      * 멱등성 키를 확인하고 기존 레코드가 있으면 저장된 응답을 반환합니다.
      * 없으면 null을 반환하여 비즈니스 로직을 실행하도록 합니다.
+     * 같은 요청에서 재전송 인터셉터가 이미 레코드 없음을 확인한 키는 다시 조회하지 않습니다.
      *
      * @param idempotencyKey 멱등성 키
      * @return 기존 레코드가 있으면 IdempotencyRecord, 없으면 null
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
     public IdempotencyRecord checkExisting(String idempotencyKey) {
         String requestId = org.slf4j.MDC.get("requestId");
         log.debug("[{}] 멱등성 검증 시작 - idempotencyKey: {}", requestId, idempotencyKey);
+
+        if (IdempotencyCheckContext.consumeMiss(idempotencyKey)) {
+            checkSkippedCounter.increment();
+            log.debug("[{}] 멱등성 레코드 없음 (요청 인터셉터에서 확인) - 새로운 요청 처리", requestId);
+            return null;
+        }
         
         try {
-            Optional<IdempotencyRecord> existingRecord = idempotencyRecordRepository
-                    .findByIdempotencyKey(idempotencyKey);
+            // 같은 샤드의 트랜잭션 안이면 함께 저장한 (아직 커밋되지 않은) 레코드까지 보이도록 현재 트랜잭션에서 조회
+            Optional<IdempotencyRecord> existingRecord;
+            if (TransactionSynchronizationManager.isActualTransactionActive() && shardRouter.isCurrentShard(idempotencyKey)) {
+                existingRecord = idempotencyRecordRepository.findByIdempotencyKey(idempotencyKey);
+            } else {
+                existingRecord = shardRouter.onRoutingKey(idempotencyKey,
+                    () -> replicaRouter.onPrimary(() -> readOnlyRequiresNewTemplate.execute(
+                        status -> idempotencyRecordRepository.findByIdempotencyKey(idempotencyKey))));
+            }
 
             if (existingRecord.isPresent()) {
                 log.info("[{}] 멱등성 레코드 발견 - idempotencyKey: {}, 저장된 응답 반환", requestId, idempotencyKey);
@@ -54,12 +109,16 @@ public class IdempotencyService {
     /**
      * 비즈니스 로직 실행 후 응답을 저장합니다.
      *
+     * 응답은 설정된 코덱(point.idempotency.codec)으로 인코딩하여 저장합니다.
+     * 레코드가 같은 샤드이면 호출한 트랜잭션(그룹 커밋 배치 포함)에 함께 저장하여 명령과 함께 롤백/커밋하고,
+     * 다른 샤드이면 배치 커밋 이후 또는 별도 트랜잭션으로 저장합니다.
+     * 별도 트랜잭션으로 먼저 저장한 레코드는 호출한 트랜잭션이 롤백되면 삭제합니다.
+     *
      * @param idempotencyKey 멱등성 키
-     * @param responseBody 응답 본문 (JSON 문자열)
+     * @param response 응답 객체
      * @param httpStatus HTTP 상태 코드
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveResponse(String idempotencyKey, String responseBody, int httpStatus) {
+    public void saveResponse(String idempotencyKey, Object response, int httpStatus) {
         String requestId = org.slf4j.MDC.get("requestId");
         log.debug("[{}] 멱등성 레코드 저장 시작 - idempotencyKey: {}", requestId, idempotencyKey);
         
@@ -69,13 +128,26 @@ public class IdempotencyService {
 
             IdempotencyRecord record = IdempotencyRecord.builder()
                     .idempotencyKey(idempotencyKey)
-                    .responseBody(responseBody)
+                    .responsePayload(responsePayloadCodecs.encode(response))
                     .httpStatus(httpStatus)
                     .createdAt(now)
                     .expiresAt(expiresAt)
                     .build();
 
-            idempotencyRecordRepository.save(record);
+            if (GroupCommitExecutor.inBatch() && shardRouter.isCurrentShard(idempotencyKey)) {
+                idempotencyRecordRepository.save(record);
+            } else if (GroupCommitExecutor.inBatch()) {
+                GroupCommitExecutor.afterBatchCommit(() -> shardRouter.onRoutingKey(idempotencyKey,
+                    () -> requiresNewTemplate.execute(status -> idempotencyRecordRepository.save(record))));
+            } else if (TransactionSynchronizationManager.isActualTransactionActive()
+                && shardRouter.isCurrentShard(idempotencyKey)) {
+                // 같은 샤드 - 호출한 트랜잭션에 함께 저장 (커밋 실패 시 함께 롤백되어 재시도가 커밋되지 않은 응답을 재전송하지 않음)
+                idempotencyRecordRepository.save(record);
+            } else {
+                IdempotencyRecord saved = shardRouter.onRoutingKey(idempotencyKey,
+                    () -> requiresNewTemplate.execute(status -> idempotencyRecordRepository.save(record)));
+                deleteOnRollback(idempotencyKey, saved);
+            }
             log.info("[{}] 멱등성 레코드 저장 완료 - idempotencyKey: {}, expiresAt: {}", requestId, idempotencyKey, expiresAt);
         } catch (Exception ex) {
             log.error("[{}] 멱등성 레코드 저장 중 오류 발생 - idempotencyKey: {}", requestId, idempotencyKey, ex);
@@ -83,17 +155,60 @@ public class IdempotencyService {
         }
     }
 
+    /**
+     * 호출한 트랜잭션이 롤백(커밋 실패 포함)되면 별도 트랜잭션으로 저장한 레코드 삭제
+     */
+    private void deleteOnRollback(String idempotencyKey, IdempotencyRecord saved) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                shardRouter.onRoutingKey(idempotencyKey, () -> requiresNewTemplate.execute(txStatus -> {
+                    idempotencyRecordRepository.delete(saved);
+                    return null;
+                }));
+                log.info("멱등성 레코드 삭제 - 요청 트랜잭션 롤백, idempotencyKey: {}", idempotencyKey);
+            }
+        });
+    }
+
+    /**
+     * 저장된 응답을 응답 객체로 복원합니다.
+     * 코덱 페이로드가 없는 이전 형식 레코드는 response_body(JSON TEXT) 를 읽습니다.
+     *
+     * @param record 멱등성 레코드
+     * @param responseType 응답 타입
+     * @return 응답 객체
+     */
+    public <T> T readResponse(IdempotencyRecord record, Class<T> responseType) {
+        if (record.getResponsePayload() != null) {
+            return responsePayloadCodecs.decode(record.getResponsePayload(), responseType);
+        }
+
+        try {
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
     /**
      * 만료된 멱등성 레코드를 정리합니다.
      * 스케줄러나 배치 작업에서 주기적으로 호출할 수 있습니다.
      */
-    @Transactional
     public void cleanupExpiredRecords() {
         log.info("만료된 멱등성 레코드 정리 시작");
         
         try {
             LocalDateTime now = LocalDateTime.now();
-            int deletedCount = idempotencyRecordRepository.deleteByExpiresAtBefore(now);
+            List<Integer> deletedCounts = shardRouter.onEachShard(() -> requiresNewTemplate.execute(
+                status -> idempotencyRecordRepository.deleteByExpiresAtBefore(now)));
+            int deletedCount = deletedCounts.stream().mapToInt(Integer::intValue).sum();
             log.info("만료된 멱등성 레코드 정리 완료 - 삭제된 레코드 수: {}", deletedCount);
         } catch (Exception ex) {
             log.error("만료된 멱등성 레코드 정리 중 오류 발생", ex);
@@ -0,0 +1,285 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.PointUseProperties.PersistenceMode;
+import com.musinsa.point.domain.PointAccount;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.domain.TransactionType;
+import com.musinsa.point.domain.UserPointSummary;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JDBC 포인트 사용 저장소
+ * 사용 / 사용 취소 경로의 조회와 저장을 JdbcTemplate 으로 직접 실행하여 엔티티 로딩 / 스냅샷 / dirty checking 을 생략
+ * 조회한 엔티티는 영속성 컨텍스트에 등록되지 않은 값 객체로만 사용
+ *
+ * - 요약 / 적립 UPDATE 는 조회 시점 version 조건부(version = version + 1), PointAccount 는 이전 취소 금액 조건부이며
+ *   갱신된 행이 없으면 OptimisticLockException
+ * - 조회 전 영속성 컨텍스트에 관리 중인 엔티티가 있으면 flush 하여 같은 트랜잭션의 엔티티 변경(그룹 커밋 배치 등)이 보이게 하고,
+ *   저장 후 영속성 컨텍스트에 로딩되어 있는 같은 행은 refresh
+ */
+@Component
+public class JdbcPointUseStore implements PointUseStore {
+
+    private static final Logger log = LoggerFactory.getLogger(JdbcPointUseStore.class);
+
+    private static final String SUMMARY_COLUMNS = """
+        id, user_id, total_balance, manual_grant_balance, auto_grant_balance, active_lot_count,
+        next_expiration_date, next_expiration_amount, version, updated_at
+        """;
+
+    private static final String TRANSACTION_COLUMNS = """
+        id, point_key, user_id, transaction_type, amount, available_balance, is_manual_grant, expiration_date,
+        order_number, reference_point_key, description, version, created_at, updated_at
+        """;
+
+    private static final String SELECT_SUMMARY_SQL =
+        "SELECT " + SUMMARY_COLUMNS + " FROM user_point_summaries WHERE user_id = ?";
+
+    private static final String SELECT_SUMMARY_FOR_UPDATE_SQL = SELECT_SUMMARY_SQL + " FOR UPDATE";
+
+    private static final String UPDATE_SUMMARY_SQL = """
+        UPDATE user_point_summaries
+        SET total_balance = ?, manual_grant_balance = ?, auto_grant_balance = ?, active_lot_count = ?,
+            next_expiration_date = ?, next_expiration_amount = ?, version = version + 1, updated_at = ?
+        WHERE id = ? AND version = ?
+        """;
+
+    private static final String SELECT_USE_TRANSACTIONS_SQL = """
+        SELECT t.id, t.point_key, t.user_id, t.transaction_type, t.amount, t.available_balance, t.is_manual_grant,
+            t.expiration_date, t.order_number, t.reference_point_key, t.description, t.version, t.created_at, t.updated_at
+        FROM order_point_uses o
+        JOIN point_transactions t ON t.point_key = o.use_point_key
+        WHERE o.order_number = ?
+        ORDER BY o.id
+        """;
+
+    private static final String INSERT_ORDER_USE_SQL =
+        "INSERT INTO order_point_uses (order_number, use_point_key, user_id, created_at) VALUES (?, ?, ?, ?)";
+
+    private static final String SELECT_TRANSACTION_SQL =
+        "SELECT " + TRANSACTION_COLUMNS + " FROM point_transactions WHERE point_key = ?";
+
+    private static final String INSERT_TRANSACTION_SQL = """
+        INSERT INTO point_transactions (point_key, user_id, transaction_type, amount, available_balance, is_manual_grant,
+            expiration_date, order_number, reference_point_key, description, version, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+        """;
+
+    private static final String UPDATE_AVAILABLE_BALANCE_SQL = """
+        UPDATE point_transactions
+        SET available_balance = ?, version = version + 1, updated_at = ?
+        WHERE id = ? AND version = ?
+        """;
+
+    private static final String SELECT_ACCOUNTS_SQL = """
+        SELECT id, use_point_key, earn_point_key, used_amount, canceled_amount, created_at, updated_at
+        FROM point_accounts
+        WHERE use_point_key = ?
+        ORDER BY id
+        """;
+
+    private static final String UPDATE_CANCELED_AMOUNT_SQL = """
+        UPDATE point_accounts
+        SET canceled_amount = ?, updated_at = ?
+        WHERE id = ? AND canceled_amount = ?
+        """;
+
+    private static final RowMapper<UserPointSummary> SUMMARY_ROW_MAPPER = (rs, rowNum) -> {
+        UserPointSummary summary = new UserPointSummary();
+        summary.setUserId(rs.getString("user_id"));
+        summary.setTotalBalance(rs.getLong("total_balance"));
+        summary.setManualGrantBalance(rs.getLong("manual_grant_balance"));
+        summary.setAutoGrantBalance(rs.getLong("auto_grant_balance"));
+        summary.setActiveLotCount(rs.getInt("active_lot_count"));
+        summary.setNextExpiration(rs.getObject("next_expiration_date", LocalDate.class), rs.getLong("next_expiration_amount"));
+        summary.restoreRowState(rs.getLong("id"), rs.getLong("version"), rs.getObject("updated_at", LocalDateTime.class));
+        return summary;
+    };
+
+    private static final RowMapper<PointTransaction> TRANSACTION_ROW_MAPPER = (rs, rowNum) -> {
+        PointTransaction transaction = new PointTransaction();
+        transaction.setPointKey(rs.getString("point_key"));
+        transaction.setUserId(rs.getString("user_id"));
+        transaction.setTransactionType(TransactionType.valueOf(rs.getString("transaction_type")));
+        transaction.setAmount(rs.getLong("amount"));
+        transaction.setAvailableBalance(rs.getLong("available_balance"));
+        transaction.setIsManualGrant(rs.getBoolean("is_manual_grant"));
+        transaction.setExpirationDate(rs.getObject("expiration_date", LocalDateTime.class));
+        transaction.setOrderNumber(rs.getString("order_number"));
+        transaction.setReferencePointKey(rs.getString("reference_point_key"));
+        transaction.setDescription(rs.getString("description"));
+        transaction.restoreRowState(rs.getLong("id"), rs.getLong("version"),
+            rs.getObject("created_at", LocalDateTime.class), rs.getObject("updated_at", LocalDateTime.class));
+        return transaction;
+    };
+
+    private static final RowMapper<PointAccount> ACCOUNT_ROW_MAPPER = (rs, rowNum) -> {
+        PointAccount account = new PointAccount(
+            rs.getString("use_point_key"),
+            rs.getString("earn_point_key"),
+            rs.getLong("used_amount"),
+            rs.getLong("canceled_amount")
+        );
+        account.restoreRowState(rs.getLong("id"),
+            rs.getObject("created_at", LocalDateTime.class), rs.getObject("updated_at", LocalDateTime.class));
+        return account;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    public JdbcPointUseStore(JdbcTemplate jdbcTemplate, EntityManager entityManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public PersistenceMode mode() {
+        return PersistenceMode.JDBC;
+    }
+
+    @Override
+    public Optional<UserPointSummary> findSummary(String userId) {
+        flushPendingChanges();
+        return jdbcTemplate.query(SELECT_SUMMARY_SQL, SUMMARY_ROW_MAPPER, userId).stream().findFirst();
+    }
+
+    @Override
+    public Optional<UserPointSummary> findSummaryForUpdate(String userId) {
+        flushPendingChanges();
+        return jdbcTemplate.query(SELECT_SUMMARY_FOR_UPDATE_SQL, SUMMARY_ROW_MAPPER, userId).stream().findFirst();
+    }
+
+    @Override
+    public void saveSummary(UserPointSummary summary) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(UPDATE_SUMMARY_SQL,
+            summary.getTotalBalance(),
+            summary.getManualGrantBalance(),
+            summary.getAutoGrantBalance(),
+            summary.getActiveLotCount(),
+            summary.getNextExpirationDate(),
+            summary.getNextExpirationAmount(),
+            Timestamp.valueOf(now),
+            summary.getId(),
+            summary.getVersion());
+        if (updated == 0) {
+            log.warn("사용자 요약 동시 변경으로 저장 실패 - userId: {}, version: {}", summary.getUserId(), summary.getVersion());
+            throw new OptimisticLockException("사용자 포인트 요약이 동시에 변경되었습니다");
+        }
+        summary.restoreRowState(summary.getId(), summary.getVersion() + 1, now);
+        refreshIfManaged(UserPointSummary.class, summary.getId());
+    }
+
+    @Override
+    public List<PointTransaction> findUseTransactions(String orderNumber) {
+        flushPendingChanges();
+        return jdbcTemplate.query(SELECT_USE_TRANSACTIONS_SQL, TRANSACTION_ROW_MAPPER, orderNumber);
+    }
+
+    @Override
+    public void insertOrderUse(PointTransaction useTransaction) {
+        jdbcTemplate.update(INSERT_ORDER_USE_SQL, useTransaction.getOrderNumber(), useTransaction.getPointKey(),
+            useTransaction.getUserId(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Override
+    public Optional<PointTransaction> findTransaction(String pointKey) {
+        return jdbcTemplate.query(SELECT_TRANSACTION_SQL, TRANSACTION_ROW_MAPPER, pointKey).stream().findFirst();
+    }
+
+    @Override
+    public void insertTransaction(PointTransaction transaction) {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(INSERT_TRANSACTION_SQL, new String[] {"id"});
+            ps.setString(1, transaction.getPointKey());
+            ps.setString(2, transaction.getUserId());
+            ps.setString(3, transaction.getTransactionType().name());
+            ps.setLong(4, transaction.getAmount());
+            ps.setLong(5, transaction.getAvailableBalance());
+            ps.setBoolean(6, transaction.getIsManualGrant());
+            ps.setTimestamp(7, transaction.getExpirationDate() == null ? null : Timestamp.valueOf(transaction.getExpirationDate()));
+            ps.setString(8, transaction.getOrderNumber());
+            ps.setString(9, transaction.getReferencePointKey());
+            ps.setString(10, transaction.getDescription());
+            ps.setTimestamp(11, timestamp);
+            ps.setTimestamp(12, timestamp);
+            return ps;
+        }, keyHolder);
+        transaction.restoreRowState(keyHolder.getKeyAs(Long.class), 0L, now, now);
+    }
+
+    @Override
+    public void saveAvailableBalance(PointTransaction lot) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(UPDATE_AVAILABLE_BALANCE_SQL,
+            lot.getAvailableBalance(), Timestamp.valueOf(now), lot.getId(), lot.getVersion());
+        if (updated == 0) {
+            log.warn("적립 동시 변경으로 잔액 저장 실패 - pointKey: {}, version: {}", lot.getPointKey(), lot.getVersion());
+            throw new OptimisticLockException("적립 잔액이 동시에 변경되었습니다");
+        }
+        lot.restoreRowState(lot.getId(), lot.getVersion() + 1, lot.getCreatedAt(), now);
+        refreshIfManaged(PointTransaction.class, lot.getId());
+    }
+
+    @Override
+    public List<PointAccount> findAccounts(String usePointKey) {
+        return jdbcTemplate.query(SELECT_ACCOUNTS_SQL, ACCOUNT_ROW_MAPPER, usePointKey);
+    }
+
+    @Override
+    public void saveCanceledAmount(PointAccount account, long previousCanceledAmount) {
+        LocalDateTime now = LocalDateTime.now();
+        int updated = jdbcTemplate.update(UPDATE_CANCELED_AMOUNT_SQL,
+            account.getCanceledAmount(), Timestamp.valueOf(now), account.getId(), previousCanceledAmount);
+        if (updated == 0) {
+            log.warn("사용 내역 동시 변경으로 취소 금액 저장 실패 - accountId: {}", account.getId());
+            throw new OptimisticLockException("포인트 사용 내역이 동시에 변경되었습니다");
+        }
+        account.restoreRowState(account.getId(), account.getCreatedAt(), now);
+        refreshIfManaged(PointAccount.class, account.getId());
+    }
+
+    /**
+     * 같은 트랜잭션의 엔티티 변경을 DB 에 반영 (관리 중인 엔티티 / 대기 중인 쓰기가 없으면 생략)
+     */
+    private void flushPendingChanges() {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        if (session.getPersistenceContextInternal().getNumberOfManagedEntities() > 0
+            || session.getActionQueue().hasAnyQueuedActions()) {
+            entityManager.flush();
+        }
+    }
+
+    /**
+     * JDBC 로 변경한 행이 영속성 컨텍스트에 로딩되어 있으면 DB 상태로 갱신
+     */
+    private void refreshIfManaged(Class<?> entityClass, long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel().getEntityDescriptor(entityClass);
+        Object managed = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+        if (managed != null) {
+            entityManager.refresh(managed);
+        }
+    }
+}
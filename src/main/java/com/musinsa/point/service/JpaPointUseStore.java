@@ -0,0 +1,98 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.PointUseProperties.PersistenceMode;
+import com.musinsa.point.domain.OrderPointUse;
+import com.musinsa.point.domain.PointAccount;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.repository.OrderPointUseRepository;
+import com.musinsa.point.repository.PointAccountRepository;
+import com.musinsa.point.repository.PointTransactionRepository;
+import com.musinsa.point.repository.UserPointSummaryRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 엔티티 기반 포인트 사용 저장소
+ * Spring Data 저장소로 엔티티를 로딩하고, 변경은 영속성 컨텍스트 flush 시 @Version 조건부 UPDATE 로 반영
+ * (주문의 사용 pointKey 는 order_point_uses 인덱스로 조회하고, pointKey -> id 는 자연 키 캐시 사용)
+ */
+@Component
+public class JpaPointUseStore implements PointUseStore {
+
+    private final UserPointSummaryRepository userPointSummaryRepository;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final PointAccountRepository pointAccountRepository;
+    private final OrderPointUseRepository orderPointUseRepository;
+
+    public JpaPointUseStore(UserPointSummaryRepository userPointSummaryRepository,
+                            PointTransactionRepository pointTransactionRepository,
+                            PointAccountRepository pointAccountRepository,
+                            OrderPointUseRepository orderPointUseRepository) {
+        this.userPointSummaryRepository = userPointSummaryRepository;
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.pointAccountRepository = pointAccountRepository;
+        this.orderPointUseRepository = orderPointUseRepository;
+    }
+
+    @Override
+    public PersistenceMode mode() {
+        return PersistenceMode.ENTITY;
+    }
+
+    @Override
+    public Optional<UserPointSummary> findSummary(String userId) {
+        return userPointSummaryRepository.findByUserId(userId);
+    }
+
+    @Override
+    public Optional<UserPointSummary> findSummaryForUpdate(String userId) {
+        return userPointSummaryRepository.findByUserIdWithLock(userId);
+    }
+
+    @Override
+    public void saveSummary(UserPointSummary summary) {
+        userPointSummaryRepository.save(summary);
+    }
+
+    @Override
+    public List<PointTransaction> findUseTransactions(String orderNumber) {
+        return orderPointUseRepository.findUsePointKeys(orderNumber).stream()
+            .map(pointTransactionRepository::findByPointKey)
+            .flatMap(Optional::stream)
+            .toList();
+    }
+
+    @Override
+    public void insertOrderUse(PointTransaction useTransaction) {
+        orderPointUseRepository.save(new OrderPointUse(
+            useTransaction.getOrderNumber(), useTransaction.getPointKey(), useTransaction.getUserId()));
+    }
+
+    @Override
+    public Optional<PointTransaction> findTransaction(String pointKey) {
+        return pointTransactionRepository.findByPointKey(pointKey);
+    }
+
+    @Override
+    public void insertTransaction(PointTransaction transaction) {
+        pointTransactionRepository.save(transaction);
+    }
+
+    @Override
+    public void saveAvailableBalance(PointTransaction lot) {
+        pointTransactionRepository.save(lot);
+    }
+
+    @Override
+    public List<PointAccount> findAccounts(String usePointKey) {
+        return pointAccountRepository.findByUsePointKey(usePointKey);
+    }
+
+    @Override
+    public void saveCanceledAmount(PointAccount account, long previousCanceledAmount) {
+        pointAccountRepository.save(account);
+    }
+}
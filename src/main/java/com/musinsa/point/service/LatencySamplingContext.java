@@ -0,0 +1,61 @@
+package com.musinsa.point.service;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 트랜잭션이 동시 실행 한도를 확보한 요청 경로인지 보관하는 컨텍스트
+ * TransactionLatencySampler 는 이 경로의 트랜잭션만 지연 시간 샘플로 사용 (배치 / 워밍업 / 정합성 검사 등은 제외)
+ *
+ * 요청 스레드에서는 ConcurrencyLimitInterceptor / PointGrpcService 가 실행 자리를 확보한 뒤 설정하고,
+ * 재시도 스케줄러 / 그룹 커밋 워커는 제출 시점의 값을 이어받아 실행
+ */
+public final class LatencySamplingContext {
+
+    private static final ThreadLocal<Boolean> SAMPLED = new ThreadLocal<>();
+
+    private LatencySamplingContext() {
+    }
+
+    /**
+     * 현재 스레드의 트랜잭션을 샘플링할지 여부
+     */
+    public static boolean isSampled() {
+        return Boolean.TRUE.equals(SAMPLED.get());
+    }
+
+    /**
+     * 현재 스레드를 요청 경로로 표시 (요청 처리가 끝나면 clear 로 해제)
+     */
+    public static void mark() {
+        SAMPLED.set(Boolean.TRUE);
+    }
+
+    public static void clear() {
+        SAMPLED.remove();
+    }
+
+    /**
+     * 제출 시점의 샘플링 여부를 이어받아 작업 실행 (실행 후 이전 값 복원)
+     *
+     * @param sampled 제출 시점의 isSampled()
+     * @param work 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T runWith(boolean sampled, Supplier<T> work) {
+        Boolean previous = SAMPLED.get();
+        if (sampled) {
+            SAMPLED.set(Boolean.TRUE);
+        } else {
+            SAMPLED.remove();
+        }
+        try {
+            return work.get();
+        } finally {
+            if (previous != null) {
+                SAMPLED.set(previous);
+            } else {
+                SAMPLED.remove();
+            }
+        }
+    }
+}
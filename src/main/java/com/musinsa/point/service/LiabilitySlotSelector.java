@@ -0,0 +1,16 @@
+package com.musinsa.point.service;
+
+/**
+ * 부채 집계 slot 선택 전략
+ * 같은 만료 월 집계 행에 대한 갱신 경합을 분산하기 위해 적립 사용자별로 반영할 slot 을 결정 (조회 시 slot 합산)
+ */
+public interface LiabilitySlotSelector {
+
+    /**
+     * 적립 사용자의 부채 집계 slot
+     *
+     * @param userId 적립 사용자 ID
+     * @return slot 번호
+     */
+    int slotOf(String userId);
+}
@@ -0,0 +1,70 @@
+package com.musinsa.point.service;
+
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.StaleStateException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.sql.SQLException;
+
+/**
+ * 잠금 충돌 유형
+ * 재시도 가능 여부 판단과 point.lock.conflicts{type} 지표의 분류 기준
+ */
+public enum LockConflictType {
+
+    DEADLOCK("deadlock"),
+    LOCK_TIMEOUT("lock_timeout"),
+    OPTIMISTIC("optimistic");
+
+    // H2: DEADLOCK_1 / LOCK_TIMEOUT_1 / CONCURRENT_UPDATE_1, MySQL: ER_LOCK_DEADLOCK / ER_LOCK_WAIT_TIMEOUT
+    private static final int H2_DEADLOCK = 40001;
+    private static final int H2_LOCK_TIMEOUT = 50200;
+    private static final int H2_CONCURRENT_UPDATE = 90131;
+    private static final int MYSQL_DEADLOCK = 1213;
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT = 1205;
+
+    private final String tag;
+
+    LockConflictType(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /**
+     * 예외 원인 체인으로 충돌 유형 분류 (SQL 오류 코드 우선, 잠금 충돌이 아니면 null)
+     */
+    public static LockConflictType of(Throwable throwable) {
+        LockConflictType byType = null;
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException) {
+                int errorCode = sqlException.getErrorCode();
+                if (errorCode == H2_DEADLOCK || errorCode == MYSQL_DEADLOCK) {
+                    return DEADLOCK;
+                }
+                if (errorCode == H2_LOCK_TIMEOUT || errorCode == MYSQL_LOCK_WAIT_TIMEOUT) {
+                    return LOCK_TIMEOUT;
+                }
+                if (errorCode == H2_CONCURRENT_UPDATE) {
+                    return OPTIMISTIC;
+                }
+            }
+            if (byType == null) {
+                if (cause instanceof LockTimeoutException) {
+                    byType = LOCK_TIMEOUT;
+                } else if (cause instanceof OptimisticLockException
+                    || cause instanceof ObjectOptimisticLockingFailureException
+                    || cause instanceof StaleStateException) {
+                    byType = OPTIMISTIC;
+                }
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return byType;
+    }
+}
@@ -0,0 +1,226 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.LotConsolidationProperties;
+import com.musinsa.point.config.ShardRouter;
+import com.musinsa.point.domain.PointLotLineage;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.domain.TransactionType;
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.dto.ConsolidationResponse;
+import com.musinsa.point.repository.PointLotLineageRepository;
+import com.musinsa.point.repository.PointTransactionRepository;
+import com.musinsa.point.repository.UserPointSummaryRepository;
+import com.musinsa.point.util.PointKeyGenerator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 적립 통합 서비스
+ * 소액 적립이 매일 쌓이는 사용자의 적립 건수를 제한하기 위해, 같은 만료일의 미사용 자동 지급 적립을
+ * 하나의 통합 적립으로 합침
+ *
+ * - 대상: 자동 지급, 미사용(availableBalance = amount), 미만료, 통합 적립이 아닌 EARN
+ * - 그룹은 같은 만료일(일 단위)의 적립만 포함하고, 통합 적립의 만료 시각은 원본 중 가장 늦은 만료 시각
+ *   (어떤 원본의 유효기간도 줄이지 않음 - 연장은 같은 날 안에서 하루 미만, 만료 월 / 다음 만료일은 그대로)
+ * - 원본 적립은 availableBalance 0 으로 두고 point_lot_lineage 에 원본별 금액을 기록하여,
+ *   원본 pointKey 로 들어온 적립 취소는 통합 적립이 미사용인 동안 통합 적립에서 처리
+ * - 같은 만료 월 / 수기 지급 여부 안에서 잔액만 옮기므로 사용자 총 잔액과 부채 집계는 변하지 않음 (요약의 보유 적립 수만 감소)
+ *
+ * 그룹(사용자 + 만료일)마다 별도 트랜잭션으로 처리하며, 사용자 요약 락으로 사용 취소와 직렬화하고
+ * 적립 version 검사로 동시 사용과 충돌한 그룹은 건너뜀 (다음 실행에서 재시도)
+ */
+@Service
+public class LotConsolidationService {
+
+    private static final Logger log = LoggerFactory.getLogger(LotConsolidationService.class);
+
+    private final PointTransactionRepository pointTransactionRepository;
+    private final PointLotLineageRepository pointLotLineageRepository;
+    private final UserPointSummaryRepository userPointSummaryRepository;
+    private final SummaryBreakdownService summaryBreakdownService;
+    private final ShardRouter shardRouter;
+    private final LotConsolidationProperties lotConsolidationProperties;
+    private final TransactionTemplate requiresNewTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final Counter mergedGroupCounter;
+    private final Counter mergedLotCounter;
+    private final Counter skippedGroupCounter;
+
+    public LotConsolidationService(PointTransactionRepository pointTransactionRepository,
+                                   PointLotLineageRepository pointLotLineageRepository,
+                                   UserPointSummaryRepository userPointSummaryRepository,
+                                   SummaryBreakdownService summaryBreakdownService,
+                                   ShardRouter shardRouter,
+                                   LotConsolidationProperties lotConsolidationProperties,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.pointTransactionRepository = pointTransactionRepository;
+        this.pointLotLineageRepository = pointLotLineageRepository;
+        this.userPointSummaryRepository = userPointSummaryRepository;
+        this.summaryBreakdownService = summaryBreakdownService;
+        this.shardRouter = shardRouter;
+        this.lotConsolidationProperties = lotConsolidationProperties;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.mergedGroupCounter = meterRegistry.counter("point.consolidation.groups", "result", "merged");
+        this.skippedGroupCounter = meterRegistry.counter("point.consolidation.groups", "result", "skipped");
+        this.mergedLotCounter = meterRegistry.counter("point.consolidation.lots");
+    }
+
+    /**
+     * 전체 샤드 적립 통합
+     *
+     * @return 통합 결과
+     */
+    public ConsolidationResponse consolidate() {
+        log.info("적립 통합 시작 - shardCount: {}, minLots: {}", shardRouter.getShardCount(),
+            lotConsolidationProperties.getMinLots());
+
+        long startTime = System.currentTimeMillis();
+        long[] total = new long[4];
+        for (int shardIndex = 0; shardIndex < shardRouter.getShardCount(); shardIndex++) {
+            long[] shardResult = shardRouter.onShard(shardIndex, this::consolidateShard);
+            for (int i = 0; i < total.length; i++) {
+                total[i] += shardResult[i];
+            }
+        }
+        long elapsedMillis = System.currentTimeMillis() - startTime;
+
+        log.info("적립 통합 완료 - scannedGroups: {}, mergedGroups: {}, mergedLots: {}, skippedGroups: {}, elapsed: {}ms",
+            total[0], total[1], total[2], total[3], elapsedMillis);
+
+        return ConsolidationResponse.builder()
+            .shardCount(shardRouter.getShardCount())
+            .scannedGroups(total[0])
+            .mergedGroups(total[1])
+            .mergedLots(total[2])
+            .skippedGroups(total[3])
+            .elapsedMillis(elapsedMillis)
+            .build();
+    }
+
+    /**
+     * 현재 샤드의 통합 대상 그룹 처리
+     * 현재 스레드의 샤드 컨텍스트에서 실행되어야 함
+     *
+     * @return [scannedGroups, mergedGroups, mergedLots, skippedGroups]
+     */
+    private long[] consolidateShard() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> groups = readOnlyTemplate.execute(status -> pointTransactionRepository.findConsolidationGroups(
+            now, lotConsolidationProperties.getMinLots(), lotConsolidationProperties.getMaxGroupsPerRun()));
+
+        long[] result = new long[4];
+        for (Object[] group : groups) {
+            String userId = (String) group[0];
+            LocalDate expirationDay = toLocalDate(group[1]);
+            result[0]++;
+            try {
+                Integer mergedLots = requiresNewTemplate.execute(status -> consolidateGroup(userId, expirationDay, now));
+                if (mergedLots != null && mergedLots > 0) {
+                    result[1]++;
+                    result[2] += mergedLots;
+                    mergedGroupCounter.increment();
+                    mergedLotCounter.increment(mergedLots);
+                }
+            } catch (OptimisticLockingFailureException | DataIntegrityViolationException ex) {
+                result[3]++;
+                skippedGroupCounter.increment();
+                log.info("동시 변경으로 적립 통합 건너뜀 - userId: {}, expirationDay: {}", userId, expirationDay);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 사용자 / 만료일 그룹 하나를 통합 적립으로 합침
+     *
+     * @return 통합된 원본 적립 수 (대상이 minLots 미만이면 0)
+     */
+    private int consolidateGroup(String userId, LocalDate expirationDay, LocalDateTime now) {
+        // 1. 사용자 요약 락 (사용 취소와 직렬화)
+        UserPointSummary summary = userPointSummaryRepository.findByUserIdWithLock(userId).orElse(null);
+
+        // 2. 통합 대상 재조회 (그룹 조회 이후 사용된 적립 제외)
+        List<PointTransaction> lots = pointTransactionRepository.findConsolidationCandidates(
+            userId, expirationDay.atStartOfDay(), expirationDay.plusDays(1).atStartOfDay(), now);
+        if (lots.size() < lotConsolidationProperties.getMinLots()) {
+            return 0;
+        }
+        if (lots.size() > lotConsolidationProperties.getMaxLotsPerMerge()) {
+            lots = lots.subList(0, lotConsolidationProperties.getMaxLotsPerMerge());
+        }
+
+        long totalAmount = lots.stream().mapToLong(PointTransaction::getAvailableBalance).sum();
+        LocalDateTime expirationDate = lots.stream()
+            .map(PointTransaction::getExpirationDate)
+            .max(LocalDateTime::compareTo)
+            .orElseThrow();
+        for (PointTransaction lot : lots) {
+            if (!lot.getExpirationDate().toLocalDate().equals(expirationDay)) {
+                throw new IllegalStateException(String.format(
+                    "적립 통합 그룹의 만료일이 다름 - pointKey: %s, expirationDate: %s, expirationDay: %s",
+                    lot.getPointKey(), lot.getExpirationDate(), expirationDay));
+            }
+        }
+
+        // 3. 통합 적립 생성
+        String mergedPointKey = PointKeyGenerator.generate();
+
+        PointTransaction mergedTransaction = new PointTransaction();
+        mergedTransaction.setPointKey(mergedPointKey);
+        mergedTransaction.setUserId(userId);
+        mergedTransaction.setTransactionType(TransactionType.EARN);
+        mergedTransaction.setAmount(totalAmount);
+        mergedTransaction.setAvailableBalance(totalAmount);
+        mergedTransaction.setIsManualGrant(false);
+        mergedTransaction.setExpirationDate(expirationDate);
+        mergedTransaction.setDescription(String.format("적립 통합 (%d건, 만료일 %s)", lots.size(), expirationDay));
+
+        pointTransactionRepository.save(mergedTransaction);
+        shardRouter.registerPointKey(mergedPointKey, userId);
+
+        // 4. 원본 적립 잔액을 통합 적립으로 이동하고 계보 기록
+        //    요약 세부 잔액은 통합 적립을 먼저 반영하여 다음 만료일 금액이 0 을 거치지 않게 함 (보유 적립 수만 감소)
+        if (summary != null) {
+            summaryBreakdownService.record(summary, mergedTransaction, 0L, now);
+        }
+        for (PointTransaction lot : lots) {
+            long previousBalance = lot.getAvailableBalance();
+            pointLotLineageRepository.save(new PointLotLineage(mergedPointKey, lot.getPointKey(), userId, previousBalance));
+            lot.setAvailableBalance(0L);
+            pointTransactionRepository.save(lot);
+            if (summary != null) {
+                summaryBreakdownService.record(summary, lot, previousBalance, now);
+            }
+        }
+        if (summary != null) {
+            summaryBreakdownService.refreshNextExpirationIfStale(summary, now);
+            userPointSummaryRepository.save(summary);
+        }
+
+        log.debug("적립 통합 - userId: {}, expirationDay: {}, mergedPointKey: {}, lotCount: {}, amount: {}",
+            userId, expirationDay, mergedPointKey, lots.size(), totalAmount);
+
+        return lots.size();
+    }
+
+    private LocalDate toLocalDate(Object value) {
+        return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+}
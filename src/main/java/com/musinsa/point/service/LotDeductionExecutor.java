@@ -0,0 +1,36 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.PointUseProperties.DeductionMode;
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.dto.UsedFromDetail;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 포인트 사용 시 적립 건 차감 실행기
+ * 우선순위(수기 지급 > 만료일 > 적립일 > id) 순으로 적립 잔액을 차감하고, 적립별 사용 내역(PointAccount)을 기록
+ * 차감한 적립 잔액은 부채 집계와 사용자 요약 세부 잔액(SummaryBreakdownService)에 반영 (totalBalance 는 호출자가 갱신)
+ *
+ * 호출한 쓰기 트랜잭션 안에서 실행되며, 미만료 적립 잔액 합계가 사용 금액에 못 미치면
+ * 적립을 변경하기 전에 INSUFFICIENT_POINT_BALANCE 로 거절 (두 실행기가 같은 오류를 반환)
+ */
+public interface LotDeductionExecutor {
+
+    /**
+     * 실행기가 담당하는 차감 방식 (point.use.deduction-mode)
+     */
+    DeductionMode mode();
+
+    /**
+     * 적립 건 차감
+     *
+     * @param summary 사용자 요약 (세부 잔액 반영 대상)
+     * @param usePointKey 사용 트랜잭션 pointKey (PointAccount 에 기록)
+     * @param amount 사용 금액
+     * @param now 만료 판단 기준 시각
+     * @return 적립별 차감 내역 (우선순위 순, 합계는 amount)
+     * @throws com.musinsa.point.exception.PointBusinessException 사용 가능 적립 잔액 부족 (INSUFFICIENT_POINT_BALANCE)
+     */
+    List<UsedFromDetail> deduct(UserPointSummary summary, String usePointKey, long amount, LocalDateTime now);
+}
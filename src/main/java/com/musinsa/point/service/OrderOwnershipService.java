@@ -0,0 +1,70 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.ShardRouter;
+import com.musinsa.point.exception.PointBusinessException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 주문 번호 소유자 서비스
+ * 주문 번호에서 처음 포인트를 사용한 사용자를 주문당 한 행으로 먼저 기록하고, 다른 사용자의 사용은 거절
+ *
+ * 소유자 행은 주문 번호가 유일 키인 한 곳에만 있어 동시에 처음 사용하는 다른 사용자 중 하나만 소유자가 됨
+ * - 샤딩 비활성화: order_owners (사용 트랜잭션 안에서 추가, 사용이 롤백되면 소유자 행도 롤백)
+ * - 샤딩 활성화: 샤드 디렉터리의 주문 번호 항목 (사용자 샤드와 무관한 주문 번호 해시 샤드, 사용 취소 라우팅과 같은 항목)
+ */
+@Service
+public class OrderOwnershipService {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderOwnershipService.class);
+
+    private static final String INSERT_OWNER_SQL =
+        "INSERT INTO order_owners (order_number, user_id, created_at) VALUES (?, ?, ?)";
+
+    private static final String SELECT_OWNER_SQL =
+        "SELECT user_id FROM order_owners WHERE order_number = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ShardRouter shardRouter;
+
+    public OrderOwnershipService(JdbcTemplate jdbcTemplate, ShardRouter shardRouter) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.shardRouter = shardRouter;
+    }
+
+    /**
+     * 주문 번호 소유자 확정 (사용 트랜잭션에서 적립 변경 전에 호출)
+     * 처음 사용하는 주문 번호이면 요청 사용자를 소유자로 기록하고, 이미 소유자가 있으면 비교
+     *
+     * @param orderNumber 주문 번호
+     * @param userId 사용 요청 사용자 ID
+     * @throws PointBusinessException 다른 사용자가 소유한 주문 번호 (ORDER_NUMBER_OWNED_BY_OTHER_USER)
+     */
+    public void claim(String orderNumber, String userId) {
+        Optional<String> owner = shardRouter.isEnabled()
+            ? shardRouter.claimOrderNumber(orderNumber, userId)
+            : claimOwnerRow(orderNumber, userId);
+
+        owner.filter(ownerUserId -> !ownerUserId.equals(userId))
+            .ifPresent(ownerUserId -> {
+                log.warn("다른 사용자의 주문 번호 - orderNumber: {}, userId: {}", orderNumber, userId);
+                throw PointBusinessException.orderNumberOwnedByOtherUser(orderNumber);
+            });
+    }
+
+    private Optional<String> claimOwnerRow(String orderNumber, String userId) {
+        try {
+            jdbcTemplate.update(INSERT_OWNER_SQL, orderNumber, userId, Timestamp.valueOf(LocalDateTime.now()));
+            return Optional.of(userId);
+        } catch (DuplicateKeyException ex) {
+            return jdbcTemplate.queryForList(SELECT_OWNER_SQL, String.class, orderNumber).stream().findFirst();
+        }
+    }
+}
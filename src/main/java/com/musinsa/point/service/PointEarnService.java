@@ -1,6 +1,8 @@
 package com.musinsa.point.service;
 
+import com.musinsa.point.config.ShardRouter;
 import com.musinsa.point.domain.IdempotencyRecord;
+import com.musinsa.point.domain.PointLotLineage;
 import com.musinsa.point.domain.PointTransaction;
 import com.musinsa.point.domain.TransactionType;
 import com.musinsa.point.domain.UserPointSummary;
@@ -9,22 +11,20 @@ import com.musinsa.point.dto.CancelEarnResponse;
 import com.musinsa.point.dto.EarnRequest;
 import com.musinsa.point.dto.EarnResponse;
 import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.repository.PointLotLineageRepository;
 import com.musinsa.point.repository.PointTransactionRepository;
 import com.musinsa.point.repository.UserPointSummaryRepository;
 import com.musinsa.point.util.PointKeyGenerator;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import jakarta.persistence.OptimisticLockException;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * 포인트 적립 서비스
@@ -39,18 +39,33 @@ public class PointEarnService {
     private final UserPointSummaryRepository userPointSummaryRepository;
     private final IdempotencyService idempotencyService;
     private final ConfigService configService;
-    private final ObjectMapper objectMapper;
+    private final PointHistoryService pointHistoryService;
+    private final PointLiabilityService pointLiabilityService;
+    private final ShardRouter shardRouter;
+    private final PointLotLineageRepository pointLotLineageRepository;
+    private final SummaryBreakdownService summaryBreakdownService;
+    private final PointLockService pointLockService;
 
     public PointEarnService(PointTransactionRepository pointTransactionRepository,
                            UserPointSummaryRepository userPointSummaryRepository,
                            IdempotencyService idempotencyService,
                            ConfigService configService,
-                           ObjectMapper objectMapper) {
+                           PointHistoryService pointHistoryService,
+                           PointLiabilityService pointLiabilityService,
+                           ShardRouter shardRouter,
+                           PointLotLineageRepository pointLotLineageRepository,
+                           SummaryBreakdownService summaryBreakdownService,
+                           PointLockService pointLockService) {
         this.pointTransactionRepository = pointTransactionRepository;
         this.userPointSummaryRepository = userPointSummaryRepository;
         this.idempotencyService = idempotencyService;
         this.configService = configService;
-        this.objectMapper = objectMapper;
+        this.pointHistoryService = pointHistoryService;
+        this.pointLiabilityService = pointLiabilityService;
+        this.shardRouter = shardRouter;
+        this.pointLotLineageRepository = pointLotLineageRepository;
+        this.summaryBreakdownService = summaryBreakdownService;
+        this.pointLockService = pointLockService;
     }
 
     /**
@@ -61,11 +76,6 @@ public class PointEarnService {
      * @return 적립 응답
      */
     @Transactional
-    @Retryable(
-        retryFor = OptimisticLockException.class,
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 100, multiplier = 2)
-    )
     public EarnResponse earnPoints(EarnRequest request, String idempotencyKey) {
         String requestId = MDC.get("requestId");
         
@@ -77,7 +87,7 @@ public class PointEarnService {
             IdempotencyRecord existingRecord = idempotencyService.checkExisting(idempotencyKey);
             if (existingRecord != null) {
                 log.info("[{}] 멱등성 레코드 발견 - 기존 응답 반환", requestId);
-                return deserializeResponse(existingRecord.getResponseBody(), EarnResponse.class);
+                return idempotencyService.readResponse(existingRecord, EarnResponse.class);
             }
 
             // 2. 금액 유효성 검증 (최소값)
@@ -109,7 +119,8 @@ public class PointEarnService {
 
             // 7. PointTransaction 생성 
             String pointKey = PointKeyGenerator.generate();
-            LocalDateTime expirationDate = LocalDateTime.now().plusDays(expirationDays);
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expirationDate = now.plusDays(expirationDays);
             
             PointTransaction transaction = new PointTransaction();
             transaction.setPointKey(pointKey);
@@ -122,12 +133,19 @@ public class PointEarnService {
             transaction.setDescription(request.getDescription());
             
             pointTransactionRepository.save(transaction);
+            shardRouter.registerPointKey(pointKey, request.getUserId());
+            pointLiabilityService.record(transaction, request.getAmount());
 
-            // 8. UserPointSummary 업데이트
+            // 8. UserPointSummary 업데이트 (세부 잔액 포함)
             summary.setTotalBalance(newTotalBalance);
+            summaryBreakdownService.record(summary, transaction, 0L, now);
+            summaryBreakdownService.refreshNextExpirationIfStale(summary, now);
             userPointSummaryRepository.save(summary);
 
-            // 9. 응답 생성
+            // 9. 이력 프로젝션 추가
+            pointHistoryService.append(transaction, newTotalBalance);
+
+            // 10. 응답 생성
             EarnResponse response = new EarnResponse(
                 pointKey,
                 request.getUserId(),
@@ -139,9 +157,8 @@ public class PointEarnService {
                 transaction.getCreatedAt()
             );
 
-            // 10. 멱등성 레코드 저장
-            String responseBody = serializeResponse(response);
-            idempotencyService.saveResponse(idempotencyKey, responseBody, 200);
+            // 11. 멱등성 레코드 저장
+            idempotencyService.saveResponse(idempotencyKey, response, 200);
 
             log.info("[{}] 포인트 적립 완료 - pointKey: {}, totalBalance: {}",
                 requestId, pointKey, newTotalBalance);
@@ -211,11 +228,6 @@ public class PointEarnService {
      * @return 적립 취소 응답
      */
     @Transactional
-    @Retryable(
-        retryFor = OptimisticLockException.class,
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 100, multiplier = 2)
-    )
     public CancelEarnResponse cancelEarn(CancelEarnRequest request, String idempotencyKey) {
         String requestId = MDC.get("requestId");
         
@@ -227,7 +239,7 @@ public class PointEarnService {
             IdempotencyRecord existingRecord = idempotencyService.checkExisting(idempotencyKey);
             if (existingRecord != null) {
                 log.info("[{}] 멱등성 레코드 발견 - 기존 응답 반환", requestId);
-                return deserializeResponse(existingRecord.getResponseBody(), CancelEarnResponse.class);
+                return idempotencyService.readResponse(existingRecord, CancelEarnResponse.class);
             }
 
             // 2. PointTransaction 조회 
@@ -237,15 +249,28 @@ public class PointEarnService {
                     return PointBusinessException.pointKeyNotFound(request.getPointKey());
                 });
 
-            // 3. 사용 여부 검증 
-            long usedAmount = originalTransaction.getAmount() - originalTransaction.getAvailableBalance();
+            // 3. 사용 여부 검증 (통합된 원본 적립이면 통합 적립 기준)
+            Optional<PointLotLineage> lineage = pointLotLineageRepository.findByOriginalPointKey(request.getPointKey());
+            PointTransaction debitedTransaction = lineage.isPresent()
+                ? findMergedTransaction(lineage.get(), requestId)
+                : originalTransaction;
+            long canceledAmount = lineage.map(PointLotLineage::getAmount).orElse(originalTransaction.getAmount());
+
+            // 3-1. UserPointSummary 락 획득 후 차감할 적립 잠금 (사용 / 사용 취소와 같은 잠금 순서)
+            UserPointSummary summary = userPointSummaryRepository.findByUserIdWithLock(originalTransaction.getUserId())
+                .orElseThrow(() -> new RuntimeException("사용자 포인트 요약을 찾을 수 없습니다"));
+            pointLockService.lockLots(List.of(debitedTransaction));
+
+            long usedAmount = lineage.isPresent() && lineage.get().getCanceled()
+                ? canceledAmount
+                : debitedTransaction.getAmount() - debitedTransaction.getAvailableBalance();
             if (usedAmount > 0) {
                 log.warn("[{}] 사용된 포인트 취소 시도 - pointKey: {}, usedAmount: {}", 
                     requestId, request.getPointKey(), usedAmount);
                 throw PointBusinessException.cannotCancelUsedPoint(
                     request.getPointKey(),
                     usedAmount,
-                    originalTransaction.getAmount()
+                    canceledAmount
                 );
             }
 
@@ -256,7 +281,7 @@ public class PointEarnService {
             cancelTransaction.setPointKey(cancelPointKey);
             cancelTransaction.setUserId(originalTransaction.getUserId());
             cancelTransaction.setTransactionType(TransactionType.CANCEL_EARN);
-            cancelTransaction.setAmount(originalTransaction.getAmount());
+            cancelTransaction.setAmount(canceledAmount);
             cancelTransaction.setAvailableBalance(0L);
             cancelTransaction.setIsManualGrant(false);
             cancelTransaction.setReferencePointKey(request.getPointKey());
@@ -264,33 +289,51 @@ public class PointEarnService {
             
             pointTransactionRepository.save(cancelTransaction);
 
-            // 5. 원본 PointTransaction의 availableBalance를 0으로 업데이트 
-            originalTransaction.setAvailableBalance(0L);
-            pointTransactionRepository.save(originalTransaction);
+            // 5. 적립 잔액 차감
+            long previousBalance = debitedTransaction.getAvailableBalance();
+            if (lineage.isPresent()) {
+                // 통합된 원본 - 통합 적립의 금액과 잔액을 함께 줄여 남은 원본도 계속 취소 가능하게 유지
+                debitedTransaction.setAmount(debitedTransaction.getAmount() - canceledAmount);
+                debitedTransaction.setAvailableBalance(debitedTransaction.getAvailableBalance() - canceledAmount);
+                lineage.get().setCanceled(true);
+                pointLotLineageRepository.save(lineage.get());
+            } else {
+                // 원본 PointTransaction의 availableBalance를 0으로 업데이트 (통합 적립이면 원본 계보도 취소 처리)
+                debitedTransaction.setAvailableBalance(0L);
+                List<PointLotLineage> mergedOriginals = pointLotLineageRepository.findByMergedPointKey(request.getPointKey());
+                for (PointLotLineage mergedOriginal : mergedOriginals) {
+                    mergedOriginal.setCanceled(true);
+                }
+                pointLotLineageRepository.saveAll(mergedOriginals);
+            }
+            pointTransactionRepository.save(debitedTransaction);
+            pointLiabilityService.record(debitedTransaction, -canceledAmount);
 
             // 6. UserPointSummary 업데이트 (잔액 감소)
-            UserPointSummary summary = userPointSummaryRepository.findByUserId(originalTransaction.getUserId())
-                .orElseThrow(() -> new RuntimeException("사용자 포인트 요약을 찾을 수 없습니다"));
-            
-            long newTotalBalance = summary.getTotalBalance() - originalTransaction.getAmount();
+            long newTotalBalance = summary.getTotalBalance() - canceledAmount;
+            LocalDateTime now = LocalDateTime.now();
             summary.setTotalBalance(newTotalBalance);
+            summaryBreakdownService.record(summary, debitedTransaction, previousBalance, now);
+            summaryBreakdownService.refreshNextExpirationIfStale(summary, now);
             userPointSummaryRepository.save(summary);
 
-            // 7. 응답 생성
+            // 7. 이력 프로젝션 추가
+            pointHistoryService.append(cancelTransaction, newTotalBalance);
+
+            // 8. 응답 생성
             CancelEarnResponse response = CancelEarnResponse.builder()
                 .cancelPointKey(cancelPointKey)
                 .originalPointKey(request.getPointKey())
-                .canceledAmount(originalTransaction.getAmount())
+                .canceledAmount(canceledAmount)
                 .totalBalance(newTotalBalance)
                 .canceledAt(cancelTransaction.getCreatedAt())
                 .build();
 
-            // 8. 멱등성 레코드 저장 
-            String responseBody = serializeResponse(response);
-            idempotencyService.saveResponse(idempotencyKey, responseBody, 200);
+            // 9. 멱등성 레코드 저장 
+            idempotencyService.saveResponse(idempotencyKey, response, 200);
 
             log.info("[{}] 포인트 적립 취소 완료 - cancelPointKey: {}, canceledAmount: {}, totalBalance: {}",
-                requestId, cancelPointKey, originalTransaction.getAmount(), newTotalBalance);
+                requestId, cancelPointKey, canceledAmount, newTotalBalance);
 
             return response;
 
@@ -305,26 +348,14 @@ public class PointEarnService {
     }
 
     /**
-     * 응답 객체를 JSON 문자열로 직렬화
+     * 통합 계보의 통합 적립 조회
      */
-    private String serializeResponse(Object response) {
-        try {
-            return objectMapper.writeValueAsString(response);
-        } catch (JsonProcessingException e) {
-            log.error("응답 직렬화 실패", e);
-            throw new RuntimeException("응답 직렬화 중 오류가 발생했습니다", e);
-        }
-    }
-
-    /**
-     * JSON 문자열을 응답 객체로 역직렬화
-     */
-    private <T> T deserializeResponse(String json, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(json, clazz);
-        } catch (JsonProcessingException e) {
-            log.error("응답 역직렬화 실패", e);
-            throw new RuntimeException("응답 역직렬화 중 오류가 발생했습니다", e);
-        }
+    private PointTransaction findMergedTransaction(PointLotLineage lineage, String requestId) {
+        return pointTransactionRepository.findByPointKey(lineage.getMergedPointKey())
+            .orElseThrow(() -> {
+                log.error("[{}] 통합 적립 트랜잭션을 찾을 수 없음 - mergedPointKey: {}",
+                    requestId, lineage.getMergedPointKey());
+                return new RuntimeException("통합 적립 트랜잭션을 찾을 수 없습니다");
+            });
     }
 }
@@ -0,0 +1,199 @@
+package com.musinsa.point.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.point.dto.HistoryExportFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 포인트 이력 스트리밍 내보내기 서비스
+ * point_history 를 forward-only 커서(fetch size 지정)로 읽으면서 한 행씩 출력 스트림에 기록하므로,
+ * 이력 건수와 무관하게 일정한 메모리로 사용자 전체 이력을 내보냄
+ *
+ * 커서를 유지하기 위해 내보내기 동안 읽기 전용 트랜잭션(커넥션)을 점유함
+ */
+@Service
+public class PointHistoryExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryExportService.class);
+
+    private static final String EXPORT_SQL = """
+        SELECT point_key, transaction_type, amount, balance_after, order_number,
+               reference_point_key, description, created_at
+        FROM point_history
+        WHERE user_id = ?
+        ORDER BY created_at DESC, id DESC
+        """;
+
+    private static final String[] CSV_HEADER = {
+        "pointKey", "type", "amount", "balance", "orderNumber", "referencePointKey", "description", "createdAt"
+    };
+
+    private static final int FETCH_SIZE = 500;
+    private static final int FLUSH_INTERVAL_ROWS = 1_000;
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+    private final ObjectMapper objectMapper;
+
+    public PointHistoryExportService(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 사용자 전체 이력을 최신순으로 출력 스트림에 기록
+     * 현재 스레드의 샤드 컨텍스트에서 실행되어야 함
+     *
+     * @param userId 사용자 ID
+     * @param format 내보내기 형식
+     * @param outputStream 출력 스트림 (닫지 않음)
+     * @return 내보낸 행 수
+     */
+    public long export(String userId, HistoryExportFormat format, OutputStream outputStream) {
+        log.info("포인트 이력 내보내기 시작 - userId: {}, format: {}", userId, format);
+        long startTime = System.currentTimeMillis();
+
+        Long rowCount = readOnlyTemplate.execute(status -> {
+            try {
+                return switch (format) {
+                    case NDJSON -> exportNdjson(userId, outputStream);
+                    case CSV -> exportCsv(userId, outputStream);
+                };
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+
+        log.info("포인트 이력 내보내기 완료 - userId: {}, format: {}, rows: {}, 실행 시간: {}ms",
+            userId, format, rowCount, System.currentTimeMillis() - startTime);
+
+        return rowCount == null ? 0 : rowCount;
+    }
+
+    private long exportNdjson(String userId, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // 루트 값 사이 기본 구분자(공백) 대신 각 행 끝에 줄바꿈 기록
+            generator.setRootValueSeparator(null);
+
+            long rowCount = streamRows(userId, rs -> {
+                generator.writeStartObject();
+                generator.writeStringField("pointKey", rs.getString("point_key"));
+                generator.writeStringField("type", rs.getString("transaction_type"));
+                generator.writeNumberField("amount", rs.getLong("amount"));
+                generator.writeNumberField("balance", rs.getLong("balance_after"));
+                generator.writeStringField("orderNumber", rs.getString("order_number"));
+                generator.writeStringField("referencePointKey", rs.getString("reference_point_key"));
+                generator.writeStringField("description", rs.getString("description"));
+                generator.writeStringField("createdAt", formatCreatedAt(rs));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            }, generator::flush);
+
+            generator.flush();
+            return rowCount;
+        }
+    }
+
+    private long exportCsv(String userId, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writeCsvLine(writer, CSV_HEADER);
+
+        long rowCount = streamRows(userId, rs -> writeCsvLine(writer, new String[] {
+            rs.getString("point_key"),
+            rs.getString("transaction_type"),
+            String.valueOf(rs.getLong("amount")),
+            String.valueOf(rs.getLong("balance_after")),
+            rs.getString("order_number"),
+            rs.getString("reference_point_key"),
+            rs.getString("description"),
+            formatCreatedAt(rs)
+        }), writer::flush);
+
+        writer.flush();
+        return rowCount;
+    }
+
+    /**
+     * 커서를 순회하며 행마다 writer 호출, FLUSH_INTERVAL_ROWS 행마다 flush
+     */
+    private long streamRows(String userId, RowWriter rowWriter, Flusher flusher) {
+        long[] rowCount = {0};
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(FETCH_SIZE);
+            ps.setString(1, userId);
+            return ps;
+        }, (RowCallbackHandler) rs -> {
+            try {
+                rowWriter.write(rs);
+                if (++rowCount[0] % FLUSH_INTERVAL_ROWS == 0) {
+                    flusher.flush();
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        return rowCount[0];
+    }
+
+    private void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+    private String formatCreatedAt(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return createdAt == null ? null : createdAt.toLocalDateTime().format(CREATED_AT_FORMAT);
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(ResultSet rs) throws SQLException, IOException;
+    }
+
+    @FunctionalInterface
+    private interface Flusher {
+        void flush() throws IOException;
+    }
+}
@@ -0,0 +1,53 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.domain.PointHistory;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.repository.PointHistoryRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 포인트 이력 프로젝션 서비스
+ * 적립/사용/취소 트랜잭션과 같은 DB 트랜잭션 안에서 point_history 에 이력을 추가
+ */
+@Service
+public class PointHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointHistoryService.class);
+
+    private final PointHistoryRepository pointHistoryRepository;
+
+    public PointHistoryService(PointHistoryRepository pointHistoryRepository) {
+        this.pointHistoryRepository = pointHistoryRepository;
+    }
+
+    /**
+     * 포인트 트랜잭션을 이력에 추가
+     * 호출한 쓰기 트랜잭션에 참여하므로 롤백 시 이력도 함께 롤백됨
+     *
+     * @param transaction 저장된 포인트 트랜잭션
+     * @param balanceAfter 트랜잭션 반영 후 사용자 총 잔액
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(PointTransaction transaction, long balanceAfter) {
+        PointHistory history = PointHistory.builder()
+            .userId(transaction.getUserId())
+            .pointKey(transaction.getPointKey())
+            .transactionType(transaction.getTransactionType())
+            .amount(transaction.getAmount())
+            .balanceAfter(balanceAfter)
+            .orderNumber(transaction.getOrderNumber())
+            .referencePointKey(transaction.getReferencePointKey())
+            .description(transaction.getDescription())
+            .createdAt(transaction.getCreatedAt())
+            .build();
+
+        pointHistoryRepository.save(history);
+
+        log.debug("포인트 이력 추가 - userId: {}, pointKey: {}, type: {}, balanceAfter: {}",
+            transaction.getUserId(), transaction.getPointKey(), transaction.getTransactionType(), balanceAfter);
+    }
+}
@@ -0,0 +1,167 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.ShardRouter;
+import com.musinsa.point.domain.PointLiability;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.dto.LiabilityMonthDetail;
+import com.musinsa.point.dto.LiabilityReportResponse;
+import com.musinsa.point.repository.PointLiabilityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 미사용 포인트 부채 집계 서비스
+ * 적립 건의 availableBalance 가 바뀌는 쓰기 트랜잭션 안에서 만료 월별 집계에 증감분을 반영하여,
+ * 부채 리포트를 EARN 전체 스캔 대신 만료 월 수에 비례하는 조회로 제공
+ */
+@Service
+public class PointLiabilityService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLiabilityService.class);
+
+    private final PointLiabilityRepository pointLiabilityRepository;
+    private final ShardRouter shardRouter;
+    private final LiabilitySlotSelector liabilitySlotSelector;
+    private final TransactionTemplate requiresNewTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public PointLiabilityService(PointLiabilityRepository pointLiabilityRepository,
+                                 ShardRouter shardRouter,
+                                 LiabilitySlotSelector liabilitySlotSelector,
+                                 PlatformTransactionManager transactionManager) {
+        this.pointLiabilityRepository = pointLiabilityRepository;
+        this.shardRouter = shardRouter;
+        this.liabilitySlotSelector = liabilitySlotSelector;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 적립 건 잔액 증감분을 부채 집계에 반영
+     * 호출한 쓰기 트랜잭션에 참여하므로 롤백 시 집계도 함께 롤백됨
+     *
+     * @param earnTransaction 잔액이 변경된 EARN 트랜잭션
+     * @param delta availableBalance 증감분 (적립/복구: 양수, 사용/적립 취소: 음수)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(PointTransaction earnTransaction, long delta) {
+        record(earnTransaction.getUserId(), earnTransaction.getIsManualGrant(), earnTransaction.getExpirationDate(), delta);
+    }
+
+    /**
+     * 적립 건 잔액 증감분을 부채 집계에 반영 (엔티티를 로딩하지 않는 JDBC 경로용)
+     *
+     * @param userId 적립 사용자 ID
+     * @param isManualGrant 적립의 수기 지급 여부
+     * @param expirationDate 적립의 만료일
+     * @param delta availableBalance 증감분 (적립/복구: 양수, 사용/적립 취소: 음수)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String userId, Boolean isManualGrant, LocalDateTime expirationDate, long delta) {
+        if (delta == 0 || expirationDate == null) {
+            return;
+        }
+
+        LocalDate expirationMonth = expirationDate.toLocalDate().withDayOfMonth(1);
+        int slot = liabilitySlotSelector.slotOf(userId);
+
+        int updated = pointLiabilityRepository.addOutstandingAmount(
+            expirationMonth, isManualGrant, slot, delta, LocalDateTime.now());
+        if (updated == 0) {
+            // 집계 행이 없는 첫 반영 - 별도 트랜잭션으로 0 행 생성 후 재시도
+            createBucket(expirationMonth, isManualGrant, slot);
+            updated = pointLiabilityRepository.addOutstandingAmount(
+                expirationMonth, isManualGrant, slot, delta, LocalDateTime.now());
+        }
+        if (updated == 0) {
+            throw new IllegalStateException("포인트 부채 집계 행을 갱신할 수 없습니다: " + expirationMonth);
+        }
+
+        log.debug("포인트 부채 집계 반영 - expirationMonth: {}, isManualGrant: {}, slot: {}, delta: {}",
+            expirationMonth, isManualGrant, slot, delta);
+    }
+
+    /**
+     * 만료 월별 미사용 포인트 부채 리포트 (전체 샤드 합산)
+     *
+     * @return 부채 리포트
+     */
+    public LiabilityReportResponse getReport() {
+        // 1. 샤드별 만료 월 / 수기 지급 여부 합계 조회 후 병합 (manual, auto 순)
+        Map<YearMonth, long[]> amountsByMonth = new TreeMap<>();
+        List<List<Object[]>> shardRows = shardRouter.onEachShard(
+            () -> readOnlyTemplate.execute(status -> pointLiabilityRepository.sumByExpirationMonth()));
+        for (List<Object[]> rows : shardRows) {
+            for (Object[] row : rows) {
+                YearMonth month = YearMonth.from((LocalDate) row[0]);
+                boolean isManualGrant = (Boolean) row[1];
+                long amount = ((Number) row[2]).longValue();
+                amountsByMonth.computeIfAbsent(month, key -> new long[2])[isManualGrant ? 0 : 1] += amount;
+            }
+        }
+
+        // 2. 만료 월별 상세 생성 (잔액이 모두 소진된 월 제외)
+        YearMonth currentMonth = YearMonth.now();
+        List<LiabilityMonthDetail> months = new ArrayList<>();
+        long totalOutstanding = 0;
+        long expiredOutstanding = 0;
+        for (Map.Entry<YearMonth, long[]> entry : amountsByMonth.entrySet()) {
+            long manualGrantAmount = entry.getValue()[0];
+            long autoGrantAmount = entry.getValue()[1];
+            long totalAmount = manualGrantAmount + autoGrantAmount;
+            if (totalAmount == 0) {
+                continue;
+            }
+
+            boolean expired = entry.getKey().isBefore(currentMonth);
+            totalOutstanding += totalAmount;
+            if (expired) {
+                expiredOutstanding += totalAmount;
+            }
+
+            months.add(LiabilityMonthDetail.builder()
+                .expirationMonth(entry.getKey())
+                .manualGrantAmount(manualGrantAmount)
+                .autoGrantAmount(autoGrantAmount)
+                .totalAmount(totalAmount)
+                .expired(expired)
+                .build());
+        }
+
+        return LiabilityReportResponse.builder()
+            .totalOutstanding(totalOutstanding)
+            .expiredOutstanding(expiredOutstanding)
+            .months(months)
+            .generatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * 집계 행 생성 (동시에 생성된 경우 무시)
+     */
+    private void createBucket(LocalDate expirationMonth, Boolean isManualGrant, int slot) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status ->
+                pointLiabilityRepository.saveAndFlush(new PointLiability(expirationMonth, isManualGrant, slot)));
+        } catch (DataIntegrityViolationException ex) {
+            log.debug("포인트 부채 집계 행 동시 생성 - expirationMonth: {}, slot: {}", expirationMonth, slot);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.domain.PointTransaction;
+import jakarta.persistence.OptimisticLockException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 포인트 적립 행 잠금 서비스
+ * 쓰기 트랜잭션이 변경할 적립 행을 변경 전에 한 번에 잠가, 모든 쓰기 경로가 같은 순서(사용자 요약 -> 적립 id 오름차순)로
+ * 잠금을 획득하게 함 (사용자 요약 잠금은 호출자가 먼저 획득)
+ *
+ * 잠금 전에 읽은 적립의 version 이 잠금 시점과 다르면 OptimisticLockException
+ */
+@Service
+public class PointLockService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointLockService.class);
+
+    private static final String LOCK_LOTS_SQL =
+        "SELECT id, version FROM point_transactions WHERE id IN (%s) ORDER BY id FOR UPDATE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public PointLockService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 적립 행을 id 오름차순으로 한 번에 잠금
+     *
+     * @param lots 변경할 적립 (잠금 전에 읽은 상태)
+     */
+    public void lockLots(Collection<PointTransaction> lots) {
+        Map<Long, Long> expectedVersions = new HashMap<>();
+        for (PointTransaction lot : lots) {
+            expectedVersions.put(lot.getId(), lot.getVersion());
+        }
+        lockLots(expectedVersions);
+    }
+
+    /**
+     * 적립 행을 id 오름차순으로 한 번에 잠금
+     *
+     * @param expectedVersions 적립 id -> 잠금 전에 읽은 version
+     */
+    public void lockLots(Map<Long, Long> expectedVersions) {
+        if (expectedVersions.isEmpty()) {
+            return;
+        }
+
+        List<Long> ids = expectedVersions.keySet().stream().sorted().toList();
+        String sql = String.format(LOCK_LOTS_SQL, String.join(", ", Collections.nCopies(ids.size(), "?")));
+        Map<Long, Long> lockedVersions = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            lockedVersions.put(rs.getLong("id"), rs.getLong("version"));
+        }, ids.toArray());
+
+        List<Long> staleIds = ids.stream()
+            .filter(id -> !expectedVersions.get(id).equals(lockedVersions.get(id)))
+            .toList();
+        if (!staleIds.isEmpty()) {
+            log.warn("잠금 전 적립 동시 변경 - staleLotIds: {}", staleIds);
+            throw new OptimisticLockException("적립이 동시에 변경되었습니다");
+        }
+    }
+}
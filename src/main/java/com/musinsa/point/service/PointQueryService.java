@@ -1,12 +1,15 @@
 package com.musinsa.point.service;
 
+import com.musinsa.point.domain.PointHistory;
 import com.musinsa.point.domain.PointTransaction;
 import com.musinsa.point.domain.UserPointSummary;
 import com.musinsa.point.dto.AvailablePointDetail;
 import com.musinsa.point.dto.BalanceResponse;
+import com.musinsa.point.dto.BalanceSummaryResponse;
 import com.musinsa.point.dto.HistoryResponse;
 import com.musinsa.point.dto.PageInfo;
 import com.musinsa.point.dto.TransactionDetail;
+import com.musinsa.point.repository.PointHistoryRepository;
 import com.musinsa.point.repository.PointTransactionRepository;
 import com.musinsa.point.repository.UserPointSummaryRepository;
 import org.slf4j.Logger;
@@ -15,10 +18,11 @@ import org.slf4j.MDC;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -26,19 +30,43 @@ import java.util.stream.Collectors;
 /**
  * 포인트 조회 서비스
  * 잔액 조회 및 거래 내역 조회를 담당
+ *
+ * 같은 사용자에 대한 동시 동일 조회는 ReadCoalescer 로 하나의 DB 조회를 공유하며,
+ * 조회에 합류한 요청은 트랜잭션(커넥션)을 열지 않도록 병합 후 읽기 전용 트랜잭션을 시작함
+ *
+ * 잔액 / 이력 응답의 ETag 는 사용자 요약 버전으로 만든 약한 ETag
+ * (적립/사용/취소/적립 통합은 모두 같은 트랜잭션에서 요약을 갱신하므로 응답이 바뀌면 버전도 증가)
  */
 @Service
 public class PointQueryService {
 
     private static final Logger log = LoggerFactory.getLogger(PointQueryService.class);
 
+    /**
+     * 요약이 없는 사용자의 ETag 버전 자리 (실제 요약 버전과 겹치지 않는 값)
+     */
+    private static final String NO_SUMMARY = "none";
+
     private final PointTransactionRepository pointTransactionRepository;
     private final UserPointSummaryRepository userPointSummaryRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final ReadCoalescer readCoalescer;
+    private final SummaryBreakdownService summaryBreakdownService;
+    private final TransactionTemplate readOnlyTemplate;
 
     public PointQueryService(PointTransactionRepository pointTransactionRepository,
-                            UserPointSummaryRepository userPointSummaryRepository) {
+                            UserPointSummaryRepository userPointSummaryRepository,
+                            PointHistoryRepository pointHistoryRepository,
+                            ReadCoalescer readCoalescer,
+                            SummaryBreakdownService summaryBreakdownService,
+                            PlatformTransactionManager transactionManager) {
         this.pointTransactionRepository = pointTransactionRepository;
         this.userPointSummaryRepository = userPointSummaryRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.readCoalescer = readCoalescer;
+        this.summaryBreakdownService = summaryBreakdownService;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
     }
 
     /**
@@ -47,8 +75,84 @@ public class PointQueryService {
      * @param userId 사용자 ID
      * @return 잔액 응답
      */
-    @Transactional(readOnly = true)
     public BalanceResponse getBalance(String userId) {
+        return readCoalescer.execute("balance", userId,
+            () -> readOnlyTemplate.execute(status -> loadBalance(userId)));
+    }
+
+    /**
+     * 포인트 잔액 요약 조회
+     * 적립 목록 없이 사용자 요약 한 행으로 수기/자동 지급 잔액, 보유 적립 수, 다음 만료일을 응답
+     *
+     * @param userId 사용자 ID
+     * @return 잔액 요약 응답
+     */
+    public BalanceSummaryResponse getBalanceSummary(String userId) {
+        return readCoalescer.execute("balance-summary", userId,
+            () -> readOnlyTemplate.execute(status -> loadBalanceSummary(userId)));
+    }
+
+    /**
+     * 포인트 이력 조회
+     *
+     * @param userId 사용자 ID
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 이력 응답
+     */
+    public HistoryResponse getHistory(String userId, int page, int size) {
+        return readCoalescer.execute("history", userId + ':' + page + ':' + size,
+            () -> readOnlyTemplate.execute(status -> loadHistory(userId, page, size)));
+    }
+
+    /**
+     * 잔액 조회 ETag
+     * 사용 가능 적립 목록은 버전 변경 없이 만료 시각에 따라 줄어들므로,
+     * 저장된 다음 만료일이 오늘 이전(오늘 포함)이거나, 활성 적립이 있는데 다음 만료일이 없으면(미계산 / 백필 전)
+     * 만료 시점을 알 수 없어 null (조건부 응답 없이 전체 조회)
+     * 요약이 없는 사용자는 버전 대신 none 태그 (새로 생성된 요약의 버전 0 과 구분)
+     *
+     * @param userId 사용자 ID
+     * @return 약한 ETag (조건부 응답을 할 수 없으면 null)
+     */
+    public String getBalanceEtag(String userId) {
+        return readOnlyTemplate.execute(status -> {
+            UserPointSummaryRepository.SummaryVersion summaryVersion =
+                userPointSummaryRepository.findVersionByUserId(userId).orElse(null);
+            if (summaryVersion == null) {
+                return weakEtag("balance", NO_SUMMARY);
+            }
+            LocalDate nextExpirationDate = summaryVersion.getNextExpirationDate();
+            if (nextExpirationDate == null) {
+                Integer activeLotCount = summaryVersion.getActiveLotCount();
+                if (activeLotCount != null && activeLotCount > 0) {
+                    return null;
+                }
+            } else if (!nextExpirationDate.isAfter(LocalDate.now())) {
+                return null;
+            }
+            return weakEtag("balance", summaryVersion.getVersion());
+        });
+    }
+
+    /**
+     * 이력 조회 ETag (이력은 append-only 이므로 요약 버전만으로 결정, 요약이 없으면 none 태그)
+     *
+     * @param userId 사용자 ID
+     * @return 약한 ETag
+     */
+    public String getHistoryEtag(String userId) {
+        return readOnlyTemplate.execute(status -> weakEtag("history",
+            userPointSummaryRepository.findVersionByUserId(userId)
+                .map(summaryVersion -> String.valueOf(summaryVersion.getVersion()))
+                .orElse(NO_SUMMARY)));
+    }
+
+    private String weakEtag(String resource, Object version) {
+        return "W/\"" + resource + '-' + version + '"';
+    }
+
+    private BalanceResponse loadBalance(String userId) {
         String requestId = MDC.get("requestId");
         
         log.info("[{}] 포인트 잔액 조회 시작 - userId: {}", requestId, userId);
@@ -99,36 +203,57 @@ public class PointQueryService {
         }
     }
 
-    /**
-     * 포인트 이력 조회
-     *
-     * @param userId 사용자 ID
-     * @param page 페이지 번호 (0부터 시작)
-     * @param size 페이지 크기
-     * @return 이력 응답
-     */
-    @Transactional(readOnly = true)
-    public HistoryResponse getHistory(String userId, int page, int size) {
+    private BalanceSummaryResponse loadBalanceSummary(String userId) {
+        UserPointSummary summary = userPointSummaryRepository.findByUserId(userId).orElse(null);
+        if (summary == null) {
+            return BalanceSummaryResponse.builder()
+                .userId(userId)
+                .totalBalance(0L)
+                .manualGrantBalance(0L)
+                .autoGrantBalance(0L)
+                .activeLotCount(0)
+                .nextExpirationAmount(0L)
+                .build();
+        }
+
+        // 저장된 다음 만료일이 지났거나 비어 있는 경우에만 적립 조회
+        SummaryBreakdownService.NextExpiration nextExpiration =
+            summaryBreakdownService.resolveNextExpiration(summary, LocalDateTime.now());
+
+        return BalanceSummaryResponse.builder()
+            .userId(userId)
+            .totalBalance(summary.getTotalBalance())
+            .manualGrantBalance(summary.getManualGrantBalance())
+            .autoGrantBalance(summary.getAutoGrantBalance())
+            .activeLotCount(summary.getActiveLotCount())
+            .nextExpirationDate(nextExpiration.date())
+            .nextExpirationAmount(nextExpiration.amount())
+            .build();
+    }
+
+    private HistoryResponse loadHistory(String userId, int page, int size) {
         String requestId = MDC.get("requestId");
         
         log.info("[{}] 포인트 이력 조회 시작 - userId: {}, page: {}, size: {}", 
             requestId, userId, page, size);
 
         try {
-            // 1. PointTransaction 목록 조회 (userId로, 페이징, 최신순 정렬)
-            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-            Page<PointTransaction> transactionPage = pointTransactionRepository.findByUserId(userId, pageable);
+            // 1. PointHistory 목록 조회 (userId로, 페이징, 최신순 정렬)
+            //    쓰기 경로가 갱신하는 point_transactions 대신 append-only 이력 프로젝션을 조회
+            Pageable pageable = PageRequest.of(page, size);
+            Page<PointHistory> transactionPage = pointHistoryRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, pageable);
 
-            // 2. TransactionDetail 목록 생성
+            // 2. TransactionDetail 목록 생성 (balance: 트랜잭션 시점의 총 잔액)
             List<TransactionDetail> transactions = transactionPage.getContent().stream()
-                .map(transaction -> TransactionDetail.builder()
-                    .pointKey(transaction.getPointKey())
-                    .type(transaction.getTransactionType())
-                    .amount(transaction.getAmount())
-                    .balance(transaction.getAvailableBalance())
-                    .orderNumber(transaction.getOrderNumber())
-                    .description(transaction.getDescription())
-                    .createdAt(transaction.getCreatedAt())
+                .map(history -> TransactionDetail.builder()
+                    .pointKey(history.getPointKey())
+                    .type(history.getTransactionType())
+                    .amount(history.getAmount())
+                    .balance(history.getBalanceAfter())
+                    .orderNumber(history.getOrderNumber())
+                    .referencePointKey(history.getReferencePointKey())
+                    .description(history.getDescription())
+                    .createdAt(history.getCreatedAt())
                     .build())
                 .collect(Collectors.toList());
 
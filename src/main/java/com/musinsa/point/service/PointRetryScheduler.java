@@ -0,0 +1,336 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.RetryProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 잠금 충돌 재시도 스케줄러
+ * 잠금 충돌(낙관적 잠금 / 교착 상태 / 잠금 대기 초과)로 실패한 쓰기 요청을 대기 시간 뒤 재시도 작업 풀에서 다시 제출
+ * (요청 스레드를 재우지 않음 - 호출자는 결과 future 를 받음)
+ *
+ * - 타이머 스레드 1 개는 대기 시간만 관리하고, DB 를 사용하는 시도는 retryExecutor(RetryConfig) 에서 실행
+ *   동시에 실행되는 재시도는 작업 스레드 수(커넥션 풀 크기 이하), 대기 중인 재시도는 queue-capacity 로 제한되며
+ *   대기열이 가득 차면 재시도 없이 마지막 충돌 오류 반환
+ *
+ * - 대기 시간: decorrelated jitter, min(maxDelay, random(baseDelay, 이전 대기 * 3))
+ *   같은 시점에 충돌한 요청들이 같은 간격으로 다시 충돌하지 않도록 분산
+ * - 재시도 예산: 전체 / 사용자(라우팅 키)별 토큰 버킷
+ *   첫 시도마다 budgetRatio 토큰 적립, 재시도마다 1 토큰 차감, 어느 한쪽이라도 부족하면 재시도 없이 실패 반환
+ *   (충돌 비율이 높아지면 재시도가 부하를 키우지 않도록 차단)
+ *
+ * 메트릭
+ * - point.lock.attempts{operation}: 시도 수 (성공 + 실패)
+ * - point.lock.conflicts{operation, type=deadlock|lock_timeout|optimistic}: 유형별 충돌 수
+ * - point.retry.scheduled{operation}: 예약된 재시도 수
+ * - point.retry.saved{operation}: 재시도로 성공한 요청 수
+ * - point.retry.budget.exhausted{operation, scope=global|user}: 예산 부족으로 재시도하지 않은 요청 수
+ * - point.retry.attempts.exhausted{operation}: 최대 시도 수를 모두 사용하고 실패한 요청 수
+ * - point.retry.rejected{operation}: 작업 대기열이 가득 차 재시도하지 않은 요청 수
+ * - point.retry.delay: 재시도 대기 시간
+ * - point.retry.budget.tokens: 전체 예산 잔여 토큰
+ */
+@Component
+public class PointRetryScheduler implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PointRetryScheduler.class);
+
+    private static final String SCOPE_GLOBAL = "global";
+    private static final String SCOPE_USER = "user";
+
+    private final RetryProperties retryProperties;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledThreadPoolExecutor scheduler;
+    private final ThreadPoolExecutor retryExecutor;
+    private final TokenBucket globalBudget;
+    private final Map<String, TokenBucket> userBudgets = new ConcurrentHashMap<>();
+
+    public PointRetryScheduler(RetryProperties retryProperties, MeterRegistry meterRegistry,
+                               ThreadPoolExecutor retryExecutor) {
+        this.retryProperties = retryProperties;
+        this.meterRegistry = meterRegistry;
+        this.retryExecutor = retryExecutor;
+        this.globalBudget = new TokenBucket(retryProperties.getGlobalBudget());
+
+        this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "point-retry-timer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.setRemoveOnCancelPolicy(true);
+        this.scheduler.scheduleAtFixedRate(this::evictIdleUserBudgets,
+            retryProperties.getPerUserBudgetIdleMillis(), retryProperties.getPerUserBudgetIdleMillis(),
+            TimeUnit.MILLISECONDS);
+
+        Gauge.builder("point.retry.budget.tokens", globalBudget, TokenBucket::tokens)
+            .tag("scope", SCOPE_GLOBAL)
+            .register(meterRegistry);
+        Gauge.builder("point.retry.budget.users", userBudgets, Map::size)
+            .register(meterRegistry);
+        Gauge.builder("point.retry.queue.size", retryExecutor, executor -> executor.getQueue().size())
+            .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 실행하고 잠금 충돌로 실패하면 예산 안에서 다시 제출
+     * 첫 시도는 호출 스레드에서 실행하고, 재시도는 대기 시간 뒤 재시도 작업 풀에서 실행
+     *
+     * @param operation 작업 이름 (메트릭 태그)
+     * @param budgetKey 사용자별 예산 키 (사용자 ID 또는 요청의 라우팅 키)
+     * @param attempt 한 번의 시도 (자체 트랜잭션 경계를 가지며 결과 future 반환)
+     * @return 최종 결과 future
+     */
+    public <T> CompletableFuture<T> submit(String operation, String budgetKey, Supplier<CompletableFuture<T>> attempt) {
+        deposit(budgetKey);
+        RetryingCall<T> call = new RetryingCall<>(operation, budgetKey, attempt, MDC.getCopyOfContextMap(),
+            LatencySamplingContext.isSampled());
+        call.attempt();
+        return call.result;
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        // 이미 예약된 재시도는 작업 풀에 넘기고 종료 (주기 작업은 취소됨, 작업 풀은 이 빈 이후에 종료)
+        scheduler.shutdown();
+        scheduler.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void deposit(String budgetKey) {
+        double ratio = retryProperties.getBudgetRatio();
+        globalBudget.deposit(ratio);
+        // 예산이 없는 사용자는 가득 찬 상태로 간주 - 다시 가득 차면 제거
+        userBudgets.computeIfPresent(budgetKey, (key, bucket) -> {
+            bucket.deposit(ratio);
+            return bucket.isFull() ? null : bucket;
+        });
+    }
+
+    /**
+     * 재시도 1 회분 토큰 차감
+     *
+     * @return 부족한 예산 범위 (global, user), 차감에 성공하면 null
+     */
+    private String withdraw(String budgetKey) {
+        boolean[] granted = new boolean[1];
+        userBudgets.compute(budgetKey, (key, bucket) -> {
+            TokenBucket userBudget = bucket != null ? bucket : new TokenBucket(retryProperties.getPerUserBudget());
+            granted[0] = userBudget.tryWithdraw();
+            return userBudget;
+        });
+        if (!granted[0]) {
+            return SCOPE_USER;
+        }
+        if (!globalBudget.tryWithdraw()) {
+            userBudgets.computeIfPresent(budgetKey, (key, bucket) -> {
+                bucket.deposit(1);
+                return bucket;
+            });
+            return SCOPE_GLOBAL;
+        }
+        return null;
+    }
+
+    private void evictIdleUserBudgets() {
+        long idleSince = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(retryProperties.getPerUserBudgetIdleMillis());
+        for (String budgetKey : userBudgets.keySet()) {
+            userBudgets.computeIfPresent(budgetKey, (key, bucket) -> bucket.usedBefore(idleSince) ? null : bucket);
+        }
+    }
+
+    private static Throwable unwrap(Throwable throwable) {
+        Throwable cause = throwable;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    /**
+     * 재시도 중인 요청 하나 (시도 수와 직전 대기 시간 보관)
+     */
+    private class RetryingCall<T> {
+
+        private final String operation;
+        private final String budgetKey;
+        private final Supplier<CompletableFuture<T>> work;
+        private final Map<String, String> mdc;
+        private final boolean latencySampled;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private int attempts;
+        private long previousDelayMillis = retryProperties.getBaseDelayMillis();
+
+        RetryingCall(String operation, String budgetKey, Supplier<CompletableFuture<T>> work, Map<String, String> mdc,
+                     boolean latencySampled) {
+            this.operation = operation;
+            this.budgetKey = budgetKey;
+            this.work = work;
+            this.mdc = mdc;
+            this.latencySampled = latencySampled;
+        }
+
+        void attempt() {
+            attempts++;
+            CompletableFuture<T> future;
+            try {
+                future = work.get();
+            } catch (RuntimeException | Error ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+            future.whenComplete((value, ex) -> {
+                if (ex == null) {
+                    onSuccess(value);
+                } else {
+                    onFailure(unwrap(ex));
+                }
+            });
+        }
+
+        private void onSuccess(T value) {
+            meterRegistry.counter("point.lock.attempts", "operation", operation).increment();
+            if (attempts > 1) {
+                meterRegistry.counter("point.retry.saved", "operation", operation).increment();
+            }
+            result.complete(value);
+        }
+
+        private void onFailure(Throwable throwable) {
+            meterRegistry.counter("point.lock.attempts", "operation", operation).increment();
+
+            LockConflictType conflictType = LockConflictType.of(throwable);
+            if (conflictType == null) {
+                result.completeExceptionally(throwable);
+                return;
+            }
+            meterRegistry.counter("point.lock.conflicts", "operation", operation, "type", conflictType.tag()).increment();
+
+            if (attempts >= retryProperties.getMaxAttempts()) {
+                meterRegistry.counter("point.retry.attempts.exhausted", "operation", operation).increment();
+                log.warn("[{}] 재시도 횟수 초과 - operation: {}, 시도 횟수: {}, 충돌 유형: {}",
+                    requestId(), operation, attempts, conflictType.tag());
+                result.completeExceptionally(throwable);
+                return;
+            }
+
+            String exhaustedScope = withdraw(budgetKey);
+            if (exhaustedScope != null) {
+                meterRegistry.counter("point.retry.budget.exhausted", "operation", operation, "scope", exhaustedScope)
+                    .increment();
+                log.warn("[{}] 재시도 예산 부족 - operation: {}, scope: {}, 시도 횟수: {}, 충돌 유형: {}",
+                    requestId(), operation, exhaustedScope, attempts, conflictType.tag());
+                result.completeExceptionally(throwable);
+                return;
+            }
+
+            long delayMillis = nextDelayMillis();
+            meterRegistry.counter("point.retry.scheduled", "operation", operation).increment();
+            meterRegistry.timer("point.retry.delay").record(delayMillis, TimeUnit.MILLISECONDS);
+            log.warn("[{}] 재시도 예약 - operation: {}, 시도 횟수: {}, 대기: {}ms, 예외: {}, 충돌 유형: {}",
+                requestId(), operation, attempts, delayMillis, throwable.getClass().getSimpleName(), conflictType.tag());
+
+            try {
+                scheduler.schedule(() -> dispatch(throwable), delayMillis, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                result.completeExceptionally(throwable);
+            }
+        }
+
+        /**
+         * 대기가 끝난 재시도를 작업 풀에 넘김 (타이머 스레드에서는 DB 작업을 실행하지 않음)
+         */
+        private void dispatch(Throwable lastConflict) {
+            try {
+                retryExecutor.execute(this::retry);
+            } catch (RejectedExecutionException ex) {
+                meterRegistry.counter("point.retry.rejected", "operation", operation).increment();
+                log.warn("[{}] 재시도 대기열 초과 - operation: {}, 시도 횟수: {}", requestId(), operation, attempts);
+                result.completeExceptionally(lastConflict);
+            }
+        }
+
+        private void retry() {
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                LatencySamplingContext.runWith(latencySampled, () -> {
+                    attempt();
+                    return null;
+                });
+            } finally {
+                MDC.clear();
+            }
+        }
+
+        /**
+         * decorrelated jitter - min(maxDelay, random(baseDelay, 이전 대기 * 3))
+         */
+        private long nextDelayMillis() {
+            long base = retryProperties.getBaseDelayMillis();
+            long upper = Math.max(base, previousDelayMillis * 3);
+            long delay = Math.min(retryProperties.getMaxDelayMillis(), ThreadLocalRandom.current().nextLong(base, upper + 1));
+            previousDelayMillis = delay;
+            return delay;
+        }
+
+        private String requestId() {
+            return mdc == null ? null : mdc.get("requestId");
+        }
+    }
+
+    /**
+     * 재시도 예산 토큰 버킷 (최대 토큰에서 시작)
+     */
+    private static final class TokenBucket {
+
+        private final double maxTokens;
+        private double tokens;
+        private long lastUsedNanos = System.nanoTime();
+
+        TokenBucket(double maxTokens) {
+            this.maxTokens = maxTokens;
+            this.tokens = maxTokens;
+        }
+
+        synchronized boolean tryWithdraw() {
+            lastUsedNanos = System.nanoTime();
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+
+        synchronized void deposit(double amount) {
+            tokens = Math.min(maxTokens, tokens + amount);
+        }
+
+        synchronized boolean isFull() {
+            return tokens >= maxTokens;
+        }
+
+        synchronized boolean usedBefore(long nanos) {
+            return lastUsedNanos - nanos < 0;
+        }
+
+        synchronized double tokens() {
+            return tokens;
+        }
+    }
+}
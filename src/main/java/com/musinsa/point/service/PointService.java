@@ -1,20 +1,37 @@
 package com.musinsa.point.service;
 
+import com.musinsa.point.config.ReplicaRouter;
+import com.musinsa.point.config.RetryProperties;
+import com.musinsa.point.config.ShardRouter;
 import com.musinsa.point.dto.CancelEarnRequest;
 import com.musinsa.point.dto.CancelEarnResponse;
 import com.musinsa.point.dto.CancelUseRequest;
 import com.musinsa.point.dto.BalanceResponse;
+import com.musinsa.point.dto.BalanceSummaryResponse;
 import com.musinsa.point.dto.CancelUseResponse;
 import com.musinsa.point.dto.EarnRequest;
 import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.HistoryExportFormat;
 import com.musinsa.point.dto.HistoryResponse;
 import com.musinsa.point.dto.UseRequest;
 import com.musinsa.point.dto.UseResponse;
+import com.musinsa.point.exception.PointBusinessException;
 import org.springframework.stereotype.Service;
 
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
 /**
  * 포인트 비즈니스 로직을 처리하는 파사드 서비스
  * 실제 구현은 PointEarnService, PointUseService, PointQueryService에 위임
+ * 트랜잭션 시작 전에 요청을 사용자 샤드로 라우팅 (ShardRouter)
+ * 적립/사용은 그룹 커밋이 활성화된 경우 GroupCommitExecutor 의 샤드별 배치로 실행
+ * 쓰기 요청의 잠금 충돌 재시도는 PointRetryScheduler 가 담당 (*Async 메서드는 재시도를 기다리지 않고 future 반환)
+ * 복제본이 활성화된 경우 조회는 ReplicaRouter 가 복제본 / 주 DB 를 선택 (쓰기 직후 조회는 주 DB)
  */
 @Service
 public class PointService {
@@ -22,13 +39,31 @@ public class PointService {
     private final PointEarnService pointEarnService;
     private final PointUseService pointUseService;
     private final PointQueryService pointQueryService;
+    private final PointHistoryExportService pointHistoryExportService;
+    private final ShardRouter shardRouter;
+    private final GroupCommitExecutor groupCommitExecutor;
+    private final PointRetryScheduler pointRetryScheduler;
+    private final ReplicaRouter replicaRouter;
+    private final RetryProperties retryProperties;
 
     public PointService(PointEarnService pointEarnService,
                        PointUseService pointUseService,
-                       PointQueryService pointQueryService) {
+                       PointQueryService pointQueryService,
+                       PointHistoryExportService pointHistoryExportService,
+                       ShardRouter shardRouter,
+                       GroupCommitExecutor groupCommitExecutor,
+                       PointRetryScheduler pointRetryScheduler,
+                       ReplicaRouter replicaRouter,
+                       RetryProperties retryProperties) {
         this.pointEarnService = pointEarnService;
         this.pointUseService = pointUseService;
         this.pointQueryService = pointQueryService;
+        this.pointHistoryExportService = pointHistoryExportService;
+        this.shardRouter = shardRouter;
+        this.groupCommitExecutor = groupCommitExecutor;
+        this.pointRetryScheduler = pointRetryScheduler;
+        this.replicaRouter = replicaRouter;
+        this.retryProperties = retryProperties;
     }
 
     /**
@@ -39,7 +74,21 @@ public class PointService {
      * @return 적립 응답
      */
     public EarnResponse earnPoints(EarnRequest request, String idempotencyKey) {
-        return pointEarnService.earnPoints(request, idempotencyKey);
+        return await(earnPointsAsync(request, idempotencyKey));
+    }
+
+    /**
+     * 포인트 적립 (재시도 포함 결과 future)
+     *
+     * @param request 적립 요청
+     * @param idempotencyKey 멱등성 키
+     * @return 적립 응답 future
+     */
+    public CompletableFuture<EarnResponse> earnPointsAsync(EarnRequest request, String idempotencyKey) {
+        return pointRetryScheduler.submit("earnPoints", request.getUserId(),
+            () -> groupCommitExecutor.submit(request.getUserId(),
+                () -> pointEarnService.earnPoints(request, idempotencyKey)))
+            .thenApply(response -> recordWrite(request.getUserId(), response));
     }
 
     /**
@@ -50,7 +99,21 @@ public class PointService {
      * @return 적립 취소 응답
      */
     public CancelEarnResponse cancelEarn(CancelEarnRequest request, String idempotencyKey) {
-        return pointEarnService.cancelEarn(request, idempotencyKey);
+        return await(cancelEarnAsync(request, idempotencyKey));
+    }
+
+    /**
+     * 포인트 적립 취소 (재시도 포함 결과 future)
+     * 요청에 사용자 ID 가 없으므로 사용자별 재시도 예산은 포인트 키 단위
+     *
+     * @param request 적립 취소 요청
+     * @param idempotencyKey 멱등성 키
+     * @return 적립 취소 응답 future
+     */
+    public CompletableFuture<CancelEarnResponse> cancelEarnAsync(CancelEarnRequest request, String idempotencyKey) {
+        return pointRetryScheduler.submit("cancelEarn", request.getPointKey(),
+            () -> attempt(() -> shardRouter.onPointKey(request.getPointKey(),
+                () -> pointEarnService.cancelEarn(request, idempotencyKey))));
     }
 
     /**
@@ -61,7 +124,21 @@ public class PointService {
      * @return 사용 응답
      */
     public UseResponse usePoints(UseRequest request, String idempotencyKey) {
-        return pointUseService.usePoints(request, idempotencyKey);
+        return await(usePointsAsync(request, idempotencyKey));
+    }
+
+    /**
+     * 포인트 사용 (재시도 포함 결과 future)
+     *
+     * @param request 사용 요청
+     * @param idempotencyKey 멱등성 키
+     * @return 사용 응답 future
+     */
+    public CompletableFuture<UseResponse> usePointsAsync(UseRequest request, String idempotencyKey) {
+        return pointRetryScheduler.submit("usePoints", request.getUserId(),
+            () -> groupCommitExecutor.submit(request.getUserId(),
+                () -> pointUseService.usePoints(request, idempotencyKey)))
+            .thenApply(response -> recordWrite(request.getUserId(), response));
     }
 
     /**
@@ -72,7 +149,21 @@ public class PointService {
      * @return 사용 취소 응답
      */
     public CancelUseResponse cancelUse(CancelUseRequest request, String idempotencyKey) {
-        return pointUseService.cancelUse(request, idempotencyKey);
+        return await(cancelUseAsync(request, idempotencyKey));
+    }
+
+    /**
+     * 포인트 사용 취소 (재시도 포함 결과 future)
+     * 요청에 사용자 ID 가 없으므로 사용자별 재시도 예산은 주문 번호 단위
+     *
+     * @param request 사용 취소 요청
+     * @param idempotencyKey 멱등성 키
+     * @return 사용 취소 응답 future
+     */
+    public CompletableFuture<CancelUseResponse> cancelUseAsync(CancelUseRequest request, String idempotencyKey) {
+        return pointRetryScheduler.submit("cancelUse", request.getOrderNumber(),
+            () -> attempt(() -> shardRouter.onOrderNumber(request.getOrderNumber(),
+                () -> pointUseService.cancelUse(request, idempotencyKey))));
     }
 
     /**
@@ -82,7 +173,41 @@ public class PointService {
      * @return 잔액 응답
      */
     public BalanceResponse getBalance(String userId) {
-        return pointQueryService.getBalance(userId);
+        return getBalance(userId, null);
+    }
+
+    /**
+     * 포인트 잔액 조회 (쓰기 응답의 일관성 토큰이 유효하면 주 DB 에서 조회)
+     *
+     * @param userId 사용자 ID
+     * @param consistencyToken 일관성 토큰 (없으면 null)
+     * @return 잔액 응답
+     */
+    public BalanceResponse getBalance(String userId, String consistencyToken) {
+        return shardRouter.onUser(userId, () -> replicaRouter.onRead(userId, consistencyToken,
+            () -> pointQueryService.getBalance(userId)));
+    }
+
+    /**
+     * 포인트 잔액 요약 조회
+     *
+     * @param userId 사용자 ID
+     * @return 잔액 요약 응답
+     */
+    public BalanceSummaryResponse getBalanceSummary(String userId) {
+        return getBalanceSummary(userId, null);
+    }
+
+    /**
+     * 포인트 잔액 요약 조회 (쓰기 응답의 일관성 토큰이 유효하면 주 DB 에서 조회)
+     *
+     * @param userId 사용자 ID
+     * @param consistencyToken 일관성 토큰 (없으면 null)
+     * @return 잔액 요약 응답
+     */
+    public BalanceSummaryResponse getBalanceSummary(String userId, String consistencyToken) {
+        return shardRouter.onUser(userId, () -> replicaRouter.onRead(userId, consistencyToken,
+            () -> pointQueryService.getBalanceSummary(userId)));
     }
 
     /**
@@ -94,6 +219,100 @@ public class PointService {
      * @return 이력 응답
      */
     public HistoryResponse getHistory(String userId, int page, int size) {
-        return pointQueryService.getHistory(userId, page, size);
+        return getHistory(userId, page, size, null);
+    }
+
+    /**
+     * 포인트 이력 조회 (쓰기 응답의 일관성 토큰이 유효하면 주 DB 에서 조회)
+     *
+     * @param userId 사용자 ID
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @param consistencyToken 일관성 토큰 (없으면 null)
+     * @return 이력 응답
+     */
+    public HistoryResponse getHistory(String userId, int page, int size, String consistencyToken) {
+        return shardRouter.onUser(userId, () -> replicaRouter.onRead(userId, consistencyToken,
+            () -> pointQueryService.getHistory(userId, page, size)));
+    }
+
+    /**
+     * 포인트 잔액 조회 ETag (조건부 조회용 요약 버전 조회)
+     *
+     * @param userId 사용자 ID
+     * @param consistencyToken 일관성 토큰 (없으면 null)
+     * @return 약한 ETag (조건부 응답을 할 수 없으면 null)
+     */
+    public String getBalanceEtag(String userId, String consistencyToken) {
+        return shardRouter.onUser(userId, () -> replicaRouter.onRead(userId, consistencyToken,
+            () -> pointQueryService.getBalanceEtag(userId)));
+    }
+
+    /**
+     * 포인트 이력 조회 ETag (조건부 조회용 요약 버전 조회)
+     *
+     * @param userId 사용자 ID
+     * @param consistencyToken 일관성 토큰 (없으면 null)
+     * @return 약한 ETag
+     */
+    public String getHistoryEtag(String userId, String consistencyToken) {
+        return shardRouter.onUser(userId, () -> replicaRouter.onRead(userId, consistencyToken,
+            () -> pointQueryService.getHistoryEtag(userId)));
+    }
+
+    /**
+     * 포인트 전체 이력 스트리밍 내보내기
+     *
+     * @param userId 사용자 ID
+     * @param format 내보내기 형식
+     * @param outputStream 출력 스트림
+     * @return 내보낸 행 수
+     */
+    public long exportHistory(String userId, HistoryExportFormat format, OutputStream outputStream) {
+        return shardRouter.onUser(userId, () -> replicaRouter.onRead(userId, null,
+            () -> pointHistoryExportService.export(userId, format, outputStream)));
+    }
+
+    /**
+     * 쓰기 완료 기록 (복제본 사용 시 이 사용자의 이후 조회를 잠시 주 DB 로 라우팅)
+     */
+    private <T> T recordWrite(String userId, T response) {
+        replicaRouter.recordWrite(userId);
+        return response;
+    }
+
+    /**
+     * 한 번의 시도를 호출 스레드에서 실행하고 결과를 future 로 반환
+     */
+    private <T> CompletableFuture<T> attempt(Supplier<T> work) {
+        try {
+            return CompletableFuture.completedFuture(work.get());
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    /**
+     * 재시도를 포함한 최종 결과 대기 (실패 시 원래 예외를 그대로 던짐)
+     * 그룹 커밋 큐 / 재시도 대기가 밀려도 호출 스레드를 무기한 점유하지 않도록 await-timeout-millis 까지만 대기
+     */
+    private <T> T await(CompletableFuture<T> future) {
+        long timeoutMillis = retryProperties.getAwaitTimeoutMillis();
+        try {
+            return future.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            throw PointBusinessException.writeTimeout(timeoutMillis);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (ex.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("포인트 요청 대기 중 인터럽트되었습니다", ex);
+        }
     }
 }
@@ -1,7 +1,10 @@
 package com.musinsa.point.service;
 
+import com.musinsa.point.config.PointUseProperties;
+import com.musinsa.point.config.ShardRouter;
 import com.musinsa.point.domain.IdempotencyRecord;
 import com.musinsa.point.domain.PointAccount;
+import com.musinsa.point.domain.PointRefundLineage;
 import com.musinsa.point.domain.PointTransaction;
 import com.musinsa.point.domain.TransactionType;
 import com.musinsa.point.domain.UserPointSummary;
@@ -13,17 +16,11 @@ import com.musinsa.point.dto.UseRequest;
 import com.musinsa.point.dto.UseResponse;
 import com.musinsa.point.dto.UsedFromDetail;
 import com.musinsa.point.exception.PointBusinessException;
-import com.musinsa.point.repository.PointAccountRepository;
-import com.musinsa.point.repository.PointTransactionRepository;
-import com.musinsa.point.repository.UserPointSummaryRepository;
+import com.musinsa.point.repository.PointRefundLineageRepository;
 import com.musinsa.point.util.PointKeyGenerator;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,36 +28,67 @@ import jakarta.persistence.OptimisticLockException;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 포인트 사용 서비스
  * 포인트 사용 및 사용 취소를 담당
+ *
+ * 사용 / 사용 취소 모두 사용자 요약을 먼저 비관적 잠금으로 조회한 뒤, 변경할 적립을 id 순으로 한 번에 잠가
+ * 같은 사용자의 쓰기끼리 잠금 순서가 엇갈리지 않게 함 (PointLockService)
  */
 @Service
 public class PointUseService {
 
     private static final Logger log = LoggerFactory.getLogger(PointUseService.class);
 
-    private final PointTransactionRepository pointTransactionRepository;
-    private final PointAccountRepository pointAccountRepository;
-    private final UserPointSummaryRepository userPointSummaryRepository;
+    private static final String EXPIRED_REFUND_DESCRIPTION = "사용 취소로 인한 신규 적립 (만료된 적립 재적립)";
+
+    private final PointUseStore pointUseStore;
     private final IdempotencyService idempotencyService;
     private final ConfigService configService;
-    private final ObjectMapper objectMapper;
-
-    public PointUseService(PointTransactionRepository pointTransactionRepository,
-                          PointAccountRepository pointAccountRepository,
-                          UserPointSummaryRepository userPointSummaryRepository,
+    private final PointHistoryService pointHistoryService;
+    private final PointLiabilityService pointLiabilityService;
+    private final ShardRouter shardRouter;
+    private final LotDeductionExecutor lotDeductionExecutor;
+    private final SummaryBreakdownService summaryBreakdownService;
+    private final PointLockService pointLockService;
+    private final PointRefundLineageRepository pointRefundLineageRepository;
+    private final OrderOwnershipService orderOwnershipService;
+
+    public PointUseService(List<PointUseStore> pointUseStores,
                           IdempotencyService idempotencyService,
                           ConfigService configService,
-                          ObjectMapper objectMapper) {
-        this.pointTransactionRepository = pointTransactionRepository;
-        this.pointAccountRepository = pointAccountRepository;
-        this.userPointSummaryRepository = userPointSummaryRepository;
+                          PointHistoryService pointHistoryService,
+                          PointLiabilityService pointLiabilityService,
+                          ShardRouter shardRouter,
+                          PointUseProperties pointUseProperties,
+                          List<LotDeductionExecutor> lotDeductionExecutors,
+                          SummaryBreakdownService summaryBreakdownService,
+                          PointLockService pointLockService,
+                          PointRefundLineageRepository pointRefundLineageRepository,
+                          OrderOwnershipService orderOwnershipService) {
+        this.pointUseStore = pointUseStores.stream()
+            .filter(store -> store.mode() == pointUseProperties.getPersistenceMode())
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                "포인트 사용 저장소를 찾을 수 없습니다: " + pointUseProperties.getPersistenceMode()));
         this.idempotencyService = idempotencyService;
         this.configService = configService;
-        this.objectMapper = objectMapper;
+        this.pointHistoryService = pointHistoryService;
+        this.pointLiabilityService = pointLiabilityService;
+        this.shardRouter = shardRouter;
+        this.lotDeductionExecutor = lotDeductionExecutors.stream()
+            .filter(executor -> executor.mode() == pointUseProperties.getDeductionMode())
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException(
+                "적립 차감 실행기를 찾을 수 없습니다: " + pointUseProperties.getDeductionMode()));
+        this.summaryBreakdownService = summaryBreakdownService;
+        this.pointLockService = pointLockService;
+        this.pointRefundLineageRepository = pointRefundLineageRepository;
+        this.orderOwnershipService = orderOwnershipService;
     }
 
     /**
@@ -71,11 +99,6 @@ public class PointUseService {
      * @return 사용 응답
      */
     @Transactional
-    @Retryable(
-        retryFor = OptimisticLockException.class,
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 100, multiplier = 2)
-    )
     public UseResponse usePoints(UseRequest request, String idempotencyKey) {
         String requestId = MDC.get("requestId");
         
@@ -87,11 +110,14 @@ public class PointUseService {
             IdempotencyRecord existingRecord = idempotencyService.checkExisting(idempotencyKey);
             if (existingRecord != null) {
                 log.info("[{}] 멱등성 레코드 발견 - 기존 응답 반환", requestId);
-                return deserializeResponse(existingRecord.getResponseBody(), UseResponse.class);
+                return idempotencyService.readResponse(existingRecord, UseResponse.class);
             }
 
-            // 2. UserPointSummary 조회 (낙관적 잠금)
-            UserPointSummary summary = userPointSummaryRepository.findByUserId(request.getUserId())
+            // 1-1. 주문 번호 소유자 확정 (한 주문의 사용은 한 사용자에 속함 - 소유자 행을 먼저 기록하고 비교)
+            orderOwnershipService.claim(request.getOrderNumber(), request.getUserId());
+
+            // 2. UserPointSummary 락 획득 (적립보다 먼저 잠금)
+            UserPointSummary summary = pointUseStore.findSummaryForUpdate(request.getUserId())
                 .orElseThrow(() -> {
                     log.warn("[{}] 사용자 포인트 요약을 찾을 수 없음 - userId: {}", requestId, request.getUserId());
                     return PointBusinessException.insufficientBalance(0L, request.getAmount());
@@ -104,58 +130,18 @@ public class PointUseService {
                 throw PointBusinessException.insufficientBalance(summary.getTotalBalance(), request.getAmount());
             }
 
-            // 4. 사용 가능한 포인트 조회 (수기 지급 우선, 만료일 순)
+            // 4. 적립 차감 및 PointAccount 기록 (수기 지급 우선, 만료일 순)
+            //    미만료 적립 잔액이 부족하면 실행기가 적립 변경 전에 INSUFFICIENT_POINT_BALANCE 로 거절
+            String usePointKey = PointKeyGenerator.generate();
             LocalDateTime now = LocalDateTime.now();
-            List<PointTransaction> availablePoints = pointTransactionRepository.findAvailablePointsForUse(
-                request.getUserId(), 
+            List<UsedFromDetail> usedFromDetails = lotDeductionExecutor.deduct(
+                summary,
+                usePointKey,
+                request.getAmount(),
                 now
             );
 
-            if (availablePoints.isEmpty()) {
-                log.warn("[{}] 사용 가능한 포인트가 없음 - userId: {}", requestId, request.getUserId());
-                throw PointBusinessException.insufficientBalance(0L, request.getAmount());
-            }
-
-            // 5. 포인트 차감 로직 구현 (여러 적립에서 순차적으로 차감)
-            long remainingAmount = request.getAmount();
-            List<UsedFromDetail> usedFromDetails = new ArrayList<>();
-            
-            for (PointTransaction earnTransaction : availablePoints) {
-                if (remainingAmount <= 0) {
-                    break;
-                }
-
-                long availableBalance = earnTransaction.getAvailableBalance();
-                long amountToUse = Math.min(remainingAmount, availableBalance);
-
-                // 적립 트랜잭션의 availableBalance 업데이트
-                earnTransaction.setAvailableBalance(availableBalance - amountToUse);
-                pointTransactionRepository.save(earnTransaction);
-
-                // UsedFromDetail 추가
-                usedFromDetails.add(UsedFromDetail.builder()
-                    .earnPointKey(earnTransaction.getPointKey())
-                    .usedAmount(amountToUse)
-                    .build());
-
-                remainingAmount -= amountToUse;
-
-                log.debug("[{}] 포인트 차감 - earnPointKey: {}, usedAmount: {}, remainingAvailable: {}",
-                    requestId, earnTransaction.getPointKey(), amountToUse, earnTransaction.getAvailableBalance());
-            }
-
-            // 차감 후에도 남은 금액이 있다면 오류 (이론적으로는 발생하지 않아야 함)
-            if (remainingAmount > 0) {
-                log.error("[{}] 포인트 차감 실패 - 남은 금액: {}", requestId, remainingAmount);
-                throw PointBusinessException.insufficientBalance(
-                    summary.getTotalBalance() - remainingAmount, 
-                    request.getAmount()
-                );
-            }
-
-            // 6. PointTransaction 생성 (USE 타입, orderNumber 설정)
-            String usePointKey = PointKeyGenerator.generate();
-            
+            // 5. PointTransaction 생성 (USE 타입, orderNumber 설정)
             PointTransaction useTransaction = new PointTransaction();
             useTransaction.setPointKey(usePointKey);
             useTransaction.setUserId(request.getUserId());
@@ -166,29 +152,19 @@ public class PointUseService {
             useTransaction.setOrderNumber(request.getOrderNumber());
             useTransaction.setDescription("주문 " + request.getOrderNumber() + "에서 포인트 사용");
             
-            pointTransactionRepository.save(useTransaction);
-
-            // 7. PointAccount 생성 (각 적립별 사용 금액 기록)
-            for (UsedFromDetail detail : usedFromDetails) {
-                PointAccount account = new PointAccount(
-                    usePointKey,
-                    detail.earnPointKey(),
-                    detail.usedAmount(),
-                    0L
-                );
-                
-                pointAccountRepository.save(account);
+            pointUseStore.insertTransaction(useTransaction);
+            pointUseStore.insertOrderUse(useTransaction);
 
-                log.debug("[{}] PointAccount 생성 - usePointKey: {}, earnPointKey: {}, usedAmount: {}",
-                    requestId, usePointKey, detail.earnPointKey(), detail.usedAmount());
-            }
-
-            // 8. UserPointSummary 업데이트 (잔액 감소)
+            // 6. UserPointSummary 업데이트 (잔액 감소)
             long newTotalBalance = summary.getTotalBalance() - request.getAmount();
             summary.setTotalBalance(newTotalBalance);
-            userPointSummaryRepository.save(summary);
+            summaryBreakdownService.refreshNextExpirationIfStale(summary, now);
+            pointUseStore.saveSummary(summary);
+
+            // 7. 이력 프로젝션 추가
+            pointHistoryService.append(useTransaction, newTotalBalance);
 
-            // 9. 응답 생성
+            // 8. 응답 생성
             UseResponse response = UseResponse.builder()
                 .usePointKey(usePointKey)
                 .userId(request.getUserId())
@@ -199,15 +175,17 @@ public class PointUseService {
                 .usedAt(useTransaction.getCreatedAt())
                 .build();
 
-            // 10. 멱등성 레코드 저장
-            String responseBody = serializeResponse(response);
-            idempotencyService.saveResponse(idempotencyKey, responseBody, 200);
+            // 9. 멱등성 레코드 저장
+            idempotencyService.saveResponse(idempotencyKey, response, 200);
 
             log.info("[{}] 포인트 사용 완료 - usePointKey: {}, usedAmount: {}, remainingBalance: {}, usedFromCount: {}",
                 requestId, usePointKey, request.getAmount(), newTotalBalance, usedFromDetails.size());
 
             return response;
 
+        } catch (OptimisticLockException ex) {
+            log.warn("[{}] 포인트 사용 동시 변경 - 재시도 대상: {}", requestId, ex.getMessage());
+            throw ex;
         } catch (PointBusinessException ex) {
             log.warn("[{}] 포인트 사용 실패 - errorCode: {}, message: {}",
                 requestId, ex.getErrorCode(), ex.getMessage());
@@ -226,11 +204,6 @@ public class PointUseService {
      * @return 사용 취소 응답
      */
     @Transactional
-    @Retryable(
-        retryFor = OptimisticLockException.class,
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 100, multiplier = 2)
-    )
     public CancelUseResponse cancelUse(CancelUseRequest request, String idempotencyKey) {
         String requestId = MDC.get("requestId");
         
@@ -242,45 +215,40 @@ public class PointUseService {
             IdempotencyRecord existingRecord = idempotencyService.checkExisting(idempotencyKey);
             if (existingRecord != null) {
                 log.info("[{}] 멱등성 레코드 발견 - 기존 응답 반환", requestId);
-                return deserializeResponse(existingRecord.getResponseBody(), CancelUseResponse.class);
+                return idempotencyService.readResponse(existingRecord, CancelUseResponse.class);
             }
 
-            // 2. 사용 PointTransaction 조회 (orderNumber로)
-            PointTransaction useTransaction = pointTransactionRepository.findByOrderNumber(request.getOrderNumber())
-                .orElseThrow(() -> {
-                    log.warn("[{}] 주문 번호를 찾을 수 없음 - orderNumber: {}", requestId, request.getOrderNumber());
-                    return PointBusinessException.orderNumberNotFound(request.getOrderNumber());
-                });
-
-            // 3. 사용 트랜잭션 타입 검증
-            if (useTransaction.getTransactionType() != TransactionType.USE) {
-                log.warn("[{}] 사용 트랜잭션이 아님 - orderNumber: {}, type: {}", 
-                    requestId, request.getOrderNumber(), useTransaction.getTransactionType());
-                throw PointBusinessException.orderNumberNotFound(request.getOrderNumber());
-            }
+            // 2. 주문의 사용 PointTransaction 목록 조회 (order_point_uses 인덱스, 사용 순)
+            List<PointTransaction> useTransactions = findOrderUseTransactions(request.getOrderNumber(), requestId);
+            PointTransaction latestUseTransaction = useTransactions.get(useTransactions.size() - 1);
 
-            // 3-1. UserPointSummary 락 획득 (동시성 제어)
-            UserPointSummary summary = userPointSummaryRepository.findByUserIdWithLock(useTransaction.getUserId())
+            // 3. UserPointSummary 락 획득 (동시성 제어)
+            UserPointSummary summary = pointUseStore.findSummaryForUpdate(latestUseTransaction.getUserId())
                 .orElseThrow(() -> {
-                    log.error("[{}] UserPointSummary를 찾을 수 없음 - userId: {}", requestId, useTransaction.getUserId());
+                    log.error("[{}] UserPointSummary를 찾을 수 없음 - userId: {}", requestId, latestUseTransaction.getUserId());
                     return new RuntimeException("사용자 포인트 정보를 찾을 수 없습니다");
                 });
 
-            // 4. PointAccount 조회 (usePointKey로)
-            List<PointAccount> accounts = pointAccountRepository.findByUsePointKey(useTransaction.getPointKey());
-            
-            if (accounts.isEmpty()) {
-                log.error("[{}] PointAccount를 찾을 수 없음 - orderNumber: {}, usePointKey: {}", 
-                    requestId, request.getOrderNumber(), useTransaction.getPointKey());
-                throw new RuntimeException("포인트 사용 내역을 찾을 수 없습니다");
+            // 4. 사용별 PointAccount 조회 (usePointKey로)
+            Map<String, List<PointAccount>> accountsByUse = new LinkedHashMap<>();
+            for (PointTransaction useTransaction : useTransactions) {
+                List<PointAccount> accounts = pointUseStore.findAccounts(useTransaction.getPointKey());
+                if (accounts.isEmpty()) {
+                    log.error("[{}] PointAccount를 찾을 수 없음 - orderNumber: {}, usePointKey: {}",
+                        requestId, request.getOrderNumber(), useTransaction.getPointKey());
+                    throw new RuntimeException("포인트 사용 내역을 찾을 수 없습니다");
+                }
+                accountsByUse.put(useTransaction.getPointKey(), accounts);
             }
 
-            // 5. 취소 가능 금액 검증 (이미 취소된 금액 고려)
-            long totalCanceledAmount = accounts.stream()
+            // 5. 취소 가능 금액 검증 (주문의 모든 사용 합계, 이미 취소된 금액 고려)
+            long originalUseAmount = useTransactions.stream()
+                .mapToLong(PointTransaction::getAmount)
+                .sum();
+            long totalCanceledAmount = accountsByUse.values().stream()
+                .flatMap(List::stream)
                 .mapToLong(PointAccount::getCanceledAmount)
                 .sum();
-            
-            long originalUseAmount = useTransaction.getAmount();
             long availableToCancelAmount = originalUseAmount - totalCanceledAmount;
             
             if (request.getAmount() > availableToCancelAmount) {
@@ -293,28 +261,31 @@ public class PointUseService {
                 );
             }
 
+            // 5-1. 취소 금액을 최근 사용부터 배분
+            List<CancelTarget> cancelTargets = allocateCancelAmount(useTransactions, accountsByUse, request.getAmount());
+            PointTransaction originalUseTransaction = cancelTargets.get(0).useTransaction();
+
             // 6. CANCEL_USE 트랜잭션 먼저 생성 (pointKey 순서 보장)
             String cancelUsePointKey = PointKeyGenerator.generate();
             
             PointTransaction cancelUseTransaction = new PointTransaction();
             cancelUseTransaction.setPointKey(cancelUsePointKey);
-            cancelUseTransaction.setUserId(useTransaction.getUserId());
+            cancelUseTransaction.setUserId(originalUseTransaction.getUserId());
             cancelUseTransaction.setTransactionType(TransactionType.CANCEL_USE);
             cancelUseTransaction.setAmount(request.getAmount());
             cancelUseTransaction.setAvailableBalance(0L);
             cancelUseTransaction.setIsManualGrant(false);
-            cancelUseTransaction.setReferencePointKey(useTransaction.getPointKey());
+            cancelUseTransaction.setReferencePointKey(originalUseTransaction.getPointKey());
             cancelUseTransaction.setDescription(request.getReason());
             
-            pointTransactionRepository.save(cancelUseTransaction);
+            pointUseStore.insertTransaction(cancelUseTransaction);
 
-            // 7. 각 PointAccount를 처리: 만료된 포인트를 먼저 처리한 후, 만료되지 않은 포인트를 역순으로 처리
+            // 7. 사용별 PointAccount를 처리: 만료된 포인트를 먼저 처리한 후, 만료되지 않은 포인트를 역순으로 처리
             LocalDateTime now = LocalDateTime.now();
-            CancelResult cancelResult = processCancelAccounts(
-                accounts, 
-                request.getAmount(), 
+            CancelResult cancelResult = processCancelTargets(
+                cancelTargets,
                 now, 
-                useTransaction.getUserId(), 
+                summary, 
                 requestId
             );
 
@@ -325,14 +296,31 @@ public class PointUseService {
             }
 
             // 8. UserPointSummary 업데이트 (잔액 증가) - 이미 락으로 조회한 summary 사용
-            long newTotalBalance = summary.getTotalBalance() + request.getAmount();
+            long previousTotalBalance = summary.getTotalBalance();
+            long newTotalBalance = previousTotalBalance + request.getAmount();
             summary.setTotalBalance(newTotalBalance);
-            userPointSummaryRepository.save(summary);
+            summaryBreakdownService.refreshNextExpirationIfStale(summary, now);
+            pointUseStore.saveSummary(summary);
 
-            // 9. 응답 생성
+            // 9. 이력 프로젝션 추가 (사용 취소 후 만료 포인트 신규 적립 순)
+            //    행마다 기록 순서대로 반영 후 잔액 - 사용 취소 행은 원본 적립 복구분만, 신규 적립 행은 재적립 금액씩 증가
+            long refundedAmount = cancelResult.newEarnTransactions().stream()
+                .mapToLong(PointTransaction::getAmount)
+                .sum();
+            long balanceAfter = previousTotalBalance + request.getAmount() - refundedAmount;
+            pointHistoryService.append(cancelUseTransaction, balanceAfter);
+            for (PointTransaction newEarnTransaction : cancelResult.newEarnTransactions()) {
+                balanceAfter += newEarnTransaction.getAmount();
+                pointHistoryService.append(newEarnTransaction, balanceAfter);
+            }
+
+            // 10. 응답 생성
             CancelUseResponse response = CancelUseResponse.builder()
                 .cancelUsePointKey(cancelUsePointKey)
-                .originalUsePointKey(useTransaction.getPointKey())
+                .originalUsePointKey(originalUseTransaction.getPointKey())
+                .originalUsePointKeys(cancelTargets.stream()
+                    .map(target -> target.useTransaction().getPointKey())
+                    .toList())
                 .canceledAmount(request.getAmount())
                 .totalBalance(newTotalBalance)
                 .restoredPoints(cancelResult.restoredPoints())
@@ -340,9 +328,8 @@ public class PointUseService {
                 .canceledAt(cancelUseTransaction.getCreatedAt())
                 .build();
 
-            // 10. 멱등성 레코드 저장
-            String responseBody = serializeResponse(response);
-            idempotencyService.saveResponse(idempotencyKey, responseBody, 200);
+            // 11. 멱등성 레코드 저장
+            idempotencyService.saveResponse(idempotencyKey, response, 200);
 
             log.info("[{}] 포인트 사용 취소 완료 - cancelUsePointKey: {}, canceledAmount: {}, totalBalance: {}, restoredCount: {}, newlyEarnedCount: {}",
                 requestId, cancelUsePointKey, request.getAmount(), newTotalBalance, 
@@ -350,6 +337,9 @@ public class PointUseService {
 
             return response;
 
+        } catch (OptimisticLockException ex) {
+            log.warn("[{}] 포인트 사용 취소 동시 변경 - 재시도 대상: {}", requestId, ex.getMessage());
+            throw ex;
         } catch (PointBusinessException ex) {
             log.warn("[{}] 포인트 사용 취소 실패 - errorCode: {}, message: {}",
                 requestId, ex.getErrorCode(), ex.getMessage());
@@ -360,53 +350,127 @@ public class PointUseService {
         }
     }
 
+    /**
+     * 사용 취소 대상 사용 트랜잭션과 배분된 취소 금액을 담는 내부 record
+     */
+    private record CancelTarget(
+        PointTransaction useTransaction,
+        List<PointAccount> accounts,
+        long cancelAmount
+    ) {}
+
+    /**
+     * 주문 번호의 사용 트랜잭션 목록 조회 (사용 순)
+     * 한 주문의 사용은 한 사용자에 속함 - 여러 사용자의 사용이 섞여 있으면(매핑 도입 전 데이터 등) 취소하지 않고 오류
+     */
+    private List<PointTransaction> findOrderUseTransactions(String orderNumber, String requestId) {
+        List<PointTransaction> useTransactions = pointUseStore.findUseTransactions(orderNumber);
+        if (useTransactions.isEmpty()) {
+            log.warn("[{}] 주문 번호를 찾을 수 없음 - orderNumber: {}", requestId, orderNumber);
+            throw PointBusinessException.orderNumberNotFound(orderNumber);
+        }
+
+        long userCount = useTransactions.stream()
+            .map(PointTransaction::getUserId)
+            .distinct()
+            .count();
+        if (userCount > 1) {
+            log.error("[{}] 주문 번호에 여러 사용자의 사용이 있음 - orderNumber: {}, userCount: {}",
+                requestId, orderNumber, userCount);
+            throw PointBusinessException.orderNumberOwnedByOtherUser(orderNumber);
+        }
+        return useTransactions;
+    }
+
+    /**
+     * 취소 금액을 최근 사용부터 사용별 취소 가능 금액만큼 배분
+     *
+     * @return 취소 금액이 배분된 사용 목록 (최근 사용 순)
+     */
+    private List<CancelTarget> allocateCancelAmount(List<PointTransaction> useTransactions,
+                                                    Map<String, List<PointAccount>> accountsByUse,
+                                                    long cancelAmount) {
+        List<CancelTarget> cancelTargets = new ArrayList<>();
+        long remainingAmount = cancelAmount;
+        for (int i = useTransactions.size() - 1; i >= 0 && remainingAmount > 0; i--) {
+            PointTransaction useTransaction = useTransactions.get(i);
+            List<PointAccount> accounts = accountsByUse.get(useTransaction.getPointKey());
+            long availableToCancel = accounts.stream().mapToLong(this::calculateAvailableToCancel).sum();
+            if (availableToCancel <= 0) {
+                continue;
+            }
+            long allocatedAmount = Math.min(remainingAmount, availableToCancel);
+            cancelTargets.add(new CancelTarget(useTransaction, accounts, allocatedAmount));
+            remainingAmount -= allocatedAmount;
+        }
+        return cancelTargets;
+    }
+
     /**
      * 취소 처리 결과를 담는 내부 record
      */
     private record CancelResult(
         List<RestoredPointDetail> restoredPoints,
         List<NewlyEarnedPointDetail> newlyEarnedPoints,
+        List<PointTransaction> newEarnTransactions,
         long remainingAmount
     ) {}
 
     /**
-     * 포인트 사용 취소 시 계정별 처리
-     * 만료된 포인트는 신규 적립, 만료되지 않은 포인트는 복구
+     * 포인트 사용 취소 시 사용별 / 계정별 처리
+     * 만료되지 않은 포인트는 복구하고, 만료된 포인트는 모든 대상 사용에서 모아 하나의 신규 적립으로 생성
      */
-    private CancelResult processCancelAccounts(
-        List<PointAccount> accounts,
-        long cancelAmount,
+    private CancelResult processCancelTargets(
+        List<CancelTarget> cancelTargets,
         LocalDateTime now,
-        String userId,
+        UserPointSummary summary,
         String requestId
     ) {
         List<RestoredPointDetail> restoredPoints = new ArrayList<>();
         List<NewlyEarnedPointDetail> newlyEarnedPoints = new ArrayList<>();
-        long remainingAmount = cancelAmount;
+        List<PointTransaction> newEarnTransactions = new ArrayList<>();
+        Map<String, Long> expiredAmounts = new LinkedHashMap<>();
+        long remainingAmount = 0L;
+
+        // 1. 모든 대상 사용의 원본 적립 조회 후 복구 대상(만료되지 않은 적립)을 한 번에 id 순으로 잠금
+        Map<String, PointTransaction> earnTransactions = findEarnTransactions(
+            cancelTargets.stream().flatMap(target -> target.accounts().stream()).toList(), requestId);
+        pointLockService.lockLots(earnTransactions.values().stream()
+            .filter(earnTransaction -> !isExpired(earnTransaction, now))
+            .toList());
+
+        for (CancelTarget target : cancelTargets) {
+            // 2. 만료된 포인트 처리 (원본별 재적립 금액 집계)
+            long targetRemainingAmount = processExpiredPoints(
+                target.accounts(), earnTransactions, target.cancelAmount(), now, expiredAmounts
+            );
 
-        // 1. 만료된 포인트 처리 (신규 적립)
-        remainingAmount = processExpiredPoints(
-            accounts, remainingAmount, now, userId, requestId, newlyEarnedPoints
-        );
+            // 3. 만료되지 않은 포인트 처리 (복구)
+            targetRemainingAmount = processActivePoints(
+                target.accounts(), earnTransactions, targetRemainingAmount, now, summary, requestId, restoredPoints
+            );
+            remainingAmount += targetRemainingAmount;
+        }
 
-        // 2. 만료되지 않은 포인트 처리 (복구)
-        remainingAmount = processActivePoints(
-            accounts, remainingAmount, now, requestId, restoredPoints
-        );
+        // 4. 만료된 포인트 재적립 (원본 적립 수와 관계없이 하나의 신규 적립)
+        if (!expiredAmounts.isEmpty()) {
+            newEarnTransactions.add(
+                createNewEarnForExpired(expiredAmounts, now, summary, requestId, newlyEarnedPoints)
+            );
+        }
 
-        return new CancelResult(restoredPoints, newlyEarnedPoints, remainingAmount);
+        return new CancelResult(restoredPoints, newlyEarnedPoints, newEarnTransactions, remainingAmount);
     }
 
     /**
-     * 만료된 포인트 처리 - 신규 적립으로 생성
+     * 만료된 포인트 처리 - 원본 적립별 재적립 금액을 expiredAmounts 에 합산
      */
     private long processExpiredPoints(
         List<PointAccount> accounts,
+        Map<String, PointTransaction> earnTransactions,
         long remainingAmount,
         LocalDateTime now,
-        String userId,
-        String requestId,
-        List<NewlyEarnedPointDetail> newlyEarnedPoints
+        Map<String, Long> expiredAmounts
     ) {
         for (PointAccount account : accounts) {
             if (remainingAmount <= 0) {
@@ -418,14 +482,14 @@ public class PointUseService {
                 continue;
             }
 
-            PointTransaction earnTransaction = findEarnTransaction(account, requestId);
+            PointTransaction earnTransaction = earnTransactions.get(account.getEarnPointKey());
             if (!isExpired(earnTransaction, now)) {
                 continue;
             }
 
             // 만료된 포인트 처리
             long cancelAmount = Math.min(remainingAmount, availableToCancel);
-            createNewEarnForExpired(account, cancelAmount, now, userId, requestId, newlyEarnedPoints);
+            expiredAmounts.merge(account.getEarnPointKey(), cancelAmount, Long::sum);
             updateAccountCanceledAmount(account, cancelAmount);
             remainingAmount -= cancelAmount;
         }
@@ -438,8 +502,10 @@ public class PointUseService {
      */
     private long processActivePoints(
         List<PointAccount> accounts,
+        Map<String, PointTransaction> earnTransactions,
         long remainingAmount,
         LocalDateTime now,
+        UserPointSummary summary,
         String requestId,
         List<RestoredPointDetail> restoredPoints
     ) {
@@ -452,14 +518,14 @@ public class PointUseService {
                 continue;
             }
 
-            PointTransaction earnTransaction = findEarnTransaction(account, requestId);
+            PointTransaction earnTransaction = earnTransactions.get(account.getEarnPointKey());
             if (isExpired(earnTransaction, now)) {
                 continue;
             }
 
             // 만료되지 않은 포인트 복구
             long cancelAmount = Math.min(remainingAmount, availableToCancel);
-            restoreToOriginalEarn(earnTransaction, account, cancelAmount, requestId, restoredPoints);
+            restoreToOriginalEarn(earnTransaction, account, cancelAmount, now, summary, requestId, restoredPoints);
             updateAccountCanceledAmount(account, cancelAmount);
             remainingAmount -= cancelAmount;
         }
@@ -475,15 +541,25 @@ public class PointUseService {
     }
 
     /**
-     * 원본 적립 트랜잭션 조회
+     * 취소 가능 금액이 남은 계정의 원본 적립 트랜잭션 조회
+     *
+     * @return earnPointKey -> 원본 적립 트랜잭션
      */
-    private PointTransaction findEarnTransaction(PointAccount account, String requestId) {
-        return pointTransactionRepository.findByPointKey(account.getEarnPointKey())
-            .orElseThrow(() -> {
-                log.error("[{}] 원본 적립 트랜잭션을 찾을 수 없음 - earnPointKey: {}", 
-                    requestId, account.getEarnPointKey());
-                return new RuntimeException("원본 적립 트랜잭션을 찾을 수 없습니다");
-            });
+    private Map<String, PointTransaction> findEarnTransactions(List<PointAccount> accounts, String requestId) {
+        Map<String, PointTransaction> earnTransactions = new LinkedHashMap<>();
+        for (PointAccount account : accounts) {
+            if (calculateAvailableToCancel(account) <= 0 || earnTransactions.containsKey(account.getEarnPointKey())) {
+                continue;
+            }
+            PointTransaction earnTransaction = pointUseStore.findTransaction(account.getEarnPointKey())
+                .orElseThrow(() -> {
+                    log.error("[{}] 원본 적립 트랜잭션을 찾을 수 없음 - earnPointKey: {}", 
+                        requestId, account.getEarnPointKey());
+                    return new RuntimeException("원본 적립 트랜잭션을 찾을 수 없습니다");
+                });
+            earnTransactions.put(account.getEarnPointKey(), earnTransaction);
+        }
+        return earnTransactions;
     }
 
     /**
@@ -495,17 +571,22 @@ public class PointUseService {
     }
 
     /**
-     * 만료된 포인트를 신규 적립으로 생성
+     * 만료된 포인트를 하나의 신규 적립으로 생성 (기본 만료일)
+     * 원본 적립별 재적립 금액은 point_refund_lineage 에 기록
+     *
+     * @param expiredAmounts 만료된 원본 적립 pointKey -> 재적립 금액
+     * @return 생성된 신규 적립 트랜잭션
      */
-    private void createNewEarnForExpired(
-        PointAccount account,
-        long amount,
+    private PointTransaction createNewEarnForExpired(
+        Map<String, Long> expiredAmounts,
         LocalDateTime now,
-        String userId,
+        UserPointSummary summary,
         String requestId,
         List<NewlyEarnedPointDetail> newlyEarnedPoints
     ) {
+        String userId = summary.getUserId();
         String newPointKey = PointKeyGenerator.generate();
+        long amount = expiredAmounts.values().stream().mapToLong(Long::longValue).sum();
         Integer defaultExpirationDays = configService.getDefaultExpirationDays();
         LocalDateTime newExpirationDate = now.plusDays(defaultExpirationDays);
 
@@ -517,11 +598,17 @@ public class PointUseService {
         newEarnTransaction.setAvailableBalance(amount);
         newEarnTransaction.setIsManualGrant(false);
         newEarnTransaction.setExpirationDate(newExpirationDate);
-        newEarnTransaction.setDescription(
-            String.format("사용 취소로 인한 신규 적립 (원본: %s, 만료됨)", account.getEarnPointKey())
-        );
+        newEarnTransaction.setDescription(EXPIRED_REFUND_DESCRIPTION);
+
+        pointUseStore.insertTransaction(newEarnTransaction);
+        shardRouter.registerPointKey(newPointKey, userId);
+        pointLiabilityService.record(newEarnTransaction, amount);
+        summaryBreakdownService.record(summary, newEarnTransaction, 0L, now);
 
-        pointTransactionRepository.save(newEarnTransaction);
+        List<PointRefundLineage> lineages = new ArrayList<>();
+        expiredAmounts.forEach((originalPointKey, originalAmount) -> lineages.add(
+            new PointRefundLineage(newPointKey, originalPointKey, userId, originalAmount)));
+        pointRefundLineageRepository.saveAll(lineages);
 
         newlyEarnedPoints.add(NewlyEarnedPointDetail.builder()
             .pointKey(newPointKey)
@@ -529,8 +616,10 @@ public class PointUseService {
             .expirationDate(newExpirationDate)
             .build());
 
-        log.info("[{}] 만료된 포인트 신규 적립 - originalEarnKey: {}, newPointKey: {}, amount: {}",
-            requestId, account.getEarnPointKey(), newPointKey, amount);
+        log.info("[{}] 만료된 포인트 신규 적립 - originalEarnKeys: {}, newPointKey: {}, amount: {}",
+            requestId, expiredAmounts.keySet(), newPointKey, amount);
+
+        return newEarnTransaction;
     }
 
     /**
@@ -540,12 +629,17 @@ public class PointUseService {
         PointTransaction earnTransaction,
         PointAccount account,
         long amount,
+        LocalDateTime now,
+        UserPointSummary summary,
         String requestId,
         List<RestoredPointDetail> restoredPoints
     ) {
-        long newAvailableBalance = earnTransaction.getAvailableBalance() + amount;
+        long previousBalance = earnTransaction.getAvailableBalance();
+        long newAvailableBalance = previousBalance + amount;
         earnTransaction.setAvailableBalance(newAvailableBalance);
-        pointTransactionRepository.save(earnTransaction);
+        pointUseStore.saveAvailableBalance(earnTransaction);
+        pointLiabilityService.record(earnTransaction, amount);
+        summaryBreakdownService.record(summary, earnTransaction, previousBalance, now);
 
         restoredPoints.add(RestoredPointDetail.builder()
             .earnPointKey(account.getEarnPointKey())
@@ -561,32 +655,8 @@ public class PointUseService {
      * 계정의 취소 금액 업데이트
      */
     private void updateAccountCanceledAmount(PointAccount account, long additionalCanceledAmount) {
-        long newCanceledAmount = account.getCanceledAmount() + additionalCanceledAmount;
-        account.setCanceledAmount(newCanceledAmount);
-        pointAccountRepository.save(account);
-    }
-
-    /**
-     * 응답 객체를 JSON 문자열로 직렬화
-     */
-    private String serializeResponse(Object response) {
-        try {
-            return objectMapper.writeValueAsString(response);
-        } catch (JsonProcessingException e) {
-            log.error("응답 직렬화 실패", e);
-            throw new RuntimeException("응답 직렬화 중 오류가 발생했습니다", e);
-        }
-    }
-
-    /**
-     * JSON 문자열을 응답 객체로 역직렬화
-     */
-    private <T> T deserializeResponse(String json, Class<T> clazz) {
-        try {
-            return objectMapper.readValue(json, clazz);
-        } catch (JsonProcessingException e) {
-            log.error("응답 역직렬화 실패", e);
-            throw new RuntimeException("응답 역직렬화 중 오류가 발생했습니다", e);
-        }
+        long previousCanceledAmount = account.getCanceledAmount();
+        account.setCanceledAmount(previousCanceledAmount + additionalCanceledAmount);
+        pointUseStore.saveCanceledAmount(account, previousCanceledAmount);
     }
 }
@@ -0,0 +1,100 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.PointUseProperties.PersistenceMode;
+import com.musinsa.point.domain.PointAccount;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.domain.UserPointSummary;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 포인트 사용 / 사용 취소 저장소
+ * 사용 경로의 사용자 요약, 포인트 트랜잭션, PointAccount 조회와 저장을 담당 (point.use.persistence-mode 로 선택)
+ *
+ * 호출한 쓰기 트랜잭션 안에서 실행되며, 동시에 변경된 행이 있으면 OptimisticLockException
+ * 멱등성 레코드 / 이력 / 부채 집계는 저장 방식과 관계없이 각 서비스가 처리
+ */
+public interface PointUseStore {
+
+    /**
+     * 저장소가 담당하는 저장 방식 (point.use.persistence-mode)
+     */
+    PersistenceMode mode();
+
+    /**
+     * 사용자 요약 조회 (저장 시 version 으로 동시 변경 검출)
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 요약
+     */
+    Optional<UserPointSummary> findSummary(String userId);
+
+    /**
+     * 사용자 요약 조회 (비관적 쓰기 잠금)
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 요약
+     */
+    Optional<UserPointSummary> findSummaryForUpdate(String userId);
+
+    /**
+     * 사용자 요약 저장 (조회 시점 version 조건부)
+     *
+     * @param summary 사용자 요약
+     */
+    void saveSummary(UserPointSummary summary);
+
+    /**
+     * 주문 번호의 사용(USE) 트랜잭션 목록 조회 (order_point_uses 인덱스 조회, 사용 순)
+     *
+     * @param orderNumber 주문 번호
+     * @return 사용 트랜잭션 목록 (사용한 적이 없으면 빈 목록)
+     */
+    List<PointTransaction> findUseTransactions(String orderNumber);
+
+    /**
+     * 주문 번호 -> 사용 트랜잭션 매핑 저장 (insertTransaction 으로 저장한 USE 트랜잭션)
+     *
+     * @param useTransaction 주문 번호가 설정된 사용 트랜잭션
+     */
+    void insertOrderUse(PointTransaction useTransaction);
+
+    /**
+     * pointKey 로 포인트 트랜잭션 조회
+     *
+     * @param pointKey 포인트 키
+     * @return 포인트 트랜잭션
+     */
+    Optional<PointTransaction> findTransaction(String pointKey);
+
+    /**
+     * 신규 포인트 트랜잭션 저장 (저장 후 id / createdAt 이 채워짐)
+     *
+     * @param transaction 포인트 트랜잭션
+     */
+    void insertTransaction(PointTransaction transaction);
+
+    /**
+     * 적립 건 availableBalance 저장 (조회 시점 version 조건부)
+     *
+     * @param lot 잔액을 변경한 EARN 트랜잭션
+     */
+    void saveAvailableBalance(PointTransaction lot);
+
+    /**
+     * 사용 트랜잭션의 적립별 사용 내역 조회 (id 순)
+     *
+     * @param usePointKey 사용 트랜잭션 pointKey
+     * @return PointAccount 목록
+     */
+    List<PointAccount> findAccounts(String usePointKey);
+
+    /**
+     * PointAccount 취소 금액 저장
+     *
+     * @param account 취소 금액을 변경한 PointAccount
+     * @param previousCanceledAmount 변경 전 취소 금액 (JDBC 저장 시 조건)
+     */
+    void saveCanceledAmount(PointAccount account, long previousCanceledAmount);
+}
@@ -0,0 +1,86 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.ReplicaContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 조회 요청 병합 (single-flight)
+ * 같은 키의 조회가 진행 중이면 새 요청은 DB 를 다시 조회하지 않고 진행 중인 조회 결과를 함께 받음
+ *
+ * - 먼저 도착한 요청(leader)이 호출 스레드에서 직접 조회하므로 샤드 컨텍스트 / 트랜잭션은 leader 기준
+ * - 조회가 끝나면 즉시 키를 제거하므로 결과를 캐시하지 않음 (완료 이후 도착한 요청은 새로 조회)
+ * - 진행 중인 조회에 합류한 요청(follower)은 자신이 도착하기 직전에 시작된 조회 결과를 받을 수 있음
+ * - 주 DB 가 강제된 조회(ReplicaContext)는 복제본 조회와 병합하지 않음 (쓰기 직후 조회가 지연된 결과를 받지 않도록)
+ *
+ * 메트릭: point.query.coalescing{operation, role=leader|follower} - follower / (leader + follower) 가 병합 비율
+ */
+@Component
+public class ReadCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadCoalescer.class);
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public ReadCoalescer(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 같은 operation / key 의 진행 중인 조회가 있으면 그 결과를, 없으면 loader 결과를 반환
+     *
+     * @param operation 조회 종류 (메트릭 태그)
+     * @param key 조회 키 (사용자 ID 및 조회 조건)
+     * @param loader 실제 조회
+     * @return 조회 결과
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String operation, String key, Supplier<T> loader) {
+        String flightKey = (ReplicaContext.isPrimaryForced() ? "primary:" : "") + operation + ':' + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            counter(operation, "follower").increment();
+            log.debug("진행 중인 조회에 합류 - operation: {}, key: {}", operation, key);
+            try {
+                return (T) existing.join();
+            } catch (CompletionException ex) {
+                if (ex.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                if (ex.getCause() instanceof Error cause) {
+                    throw cause;
+                }
+                throw ex;
+            }
+        }
+
+        counter(operation, "leader").increment();
+        try {
+            T result = loader.get();
+            flight.complete(result);
+            return result;
+        } catch (Throwable ex) {
+            // Error 도 완료 처리해야 합류한 요청이 대기 상태로 남지 않음
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Counter counter(String operation, String role) {
+        return meterRegistry.counter("point.query.coalescing", "operation", operation, "role", role);
+    }
+}
@@ -0,0 +1,81 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.domain.PointTransaction;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.cache.CacheManager;
+/**
+ * Hibernate 2차 캐시 관리
+ * 롤백 / DB 직접 변경으로 캐시와 어긋난 영역의 제거와 영역별 메트릭 등록을 담당
+ *
+ * 메트릭
+ * - hibernate.second.level.cache.requests{region, result=hit|miss}: 영역별 적중률 (hibernate-micrometer)
+ * - cache.evictions{cache}, cache.size{cache}: 용량/만료에 의한 제거 수와 항목 수 (JCache 통계)
+ */
+@Service
+public class SecondLevelCacheService {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheService.class);
+
+    private final CacheImplementor cache;
+
+    public SecondLevelCacheService(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        this.cache = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache();
+
+        // 같은 JVM 에서 같은 설정 URI 의 캐시 매니저는 공유되므로, 시작 시 재생성된 스키마(create-drop)와
+        // 맞지 않는 이전 세션 팩토리의 항목 제거
+        cache.evictAllRegions();
+
+        RegionFactory regionFactory = cache.getRegionFactory();
+        if (regionFactory instanceof JCacheRegionFactory jCacheRegionFactory) {
+            CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+            for (String cacheName : cacheManager.getCacheNames()) {
+                JCacheMetrics.monitor(meterRegistry, cacheManager.getCache(cacheName));
+            }
+            log.info("2차 캐시 사용 - regions: {}", cacheManager.getCacheNames());
+        }
+    }
+
+    /**
+     * 트랜잭션 종료 후 포인트 트랜잭션 자연 키 / 쿼리 캐시 영역 전체 제거
+     * savepoint 로 롤백된 적립 / 사용의 pointKey 매핑은 Hibernate 가 알지 못하므로 커밋 시 캐시에 반영되는 것을 되돌리기 위해 사용
+     */
+    public void evictPointTransactionsAfterCompletion() {
+        afterCompletion(() -> {
+            cache.evictNaturalIdData(PointTransaction.class);
+            cache.evictQueryRegions();
+        });
+    }
+
+    /**
+     * 모든 캐시 영역 제거 (DB 를 직접 변경한 경우 운영 API 로 호출)
+     */
+    public void evictAll() {
+        cache.evictAllRegions();
+        log.info("2차 캐시 전체 제거");
+    }
+
+    private void afterCompletion(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,222 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.PointUseProperties.DeductionMode;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.dto.UsedFromDetail;
+import com.musinsa.point.exception.PointBusinessException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.OptimisticLockException;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집합 기반 SQL 적립 차감 실행기
+ * 적립별 차감 금액을 window 누적 합계 쿼리 한 번으로 계산하고,
+ * 적립 잔액 UPDATE 와 PointAccount INSERT 를 각각 JDBC 배치로 실행 (적립 엔티티를 로딩하지 않음)
+ *
+ * - 할당한 적립은 UPDATE 전에 id 순으로 한 번에 잠금 (PointLockService)
+ * - 적립 UPDATE 는 할당 조회 시점의 version 조건부이며, 동시에 변경된 적립이 있으면 OptimisticLockException
+ * - 현재 영속성 컨텍스트에 로딩되어 있는 적립은 차감 후 refresh 하여 이후 엔티티 경로와 어긋나지 않게 함
+ */
+@Component
+public class SetBasedLotDeductionExecutor implements LotDeductionExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(SetBasedLotDeductionExecutor.class);
+
+    /**
+     * 우선순위 순 누적 잔액으로 적립별 차감 금액 계산
+     * 앞선 적립들의 누적 잔액이 사용 금액에 도달하지 않은 적립만 대상이며, 차감 금액은 min(잔액, 남은 사용 금액)
+     */
+    private static final String ALLOCATION_SQL = """
+        SELECT r.id, r.point_key, r.version, r.is_manual_grant, r.expiration_date, r.available_balance,
+               LEAST(r.available_balance, ? - (r.running_balance - r.available_balance)) AS used_amount
+        FROM (
+            SELECT c.id, c.point_key, c.version, c.is_manual_grant, c.expiration_date, c.created_at,
+                   c.available_balance,
+                   SUM(c.available_balance) OVER (
+                       ORDER BY c.is_manual_grant DESC, c.expiration_date ASC, c.created_at ASC, c.id ASC
+                       ROWS BETWEEN UNBOUNDED PRECEDING AND CURRENT ROW
+                   ) AS running_balance
+            FROM point_transactions c
+            WHERE c.user_id = ?
+            AND c.transaction_type = 'EARN'
+            AND c.available_balance > 0
+            AND c.expiration_date > ?
+        ) r
+        WHERE r.running_balance - r.available_balance < ?
+        ORDER BY r.is_manual_grant DESC, r.expiration_date ASC, r.created_at ASC, r.id ASC
+        """;
+
+    private static final String DEDUCT_SQL = """
+        UPDATE point_transactions
+        SET available_balance = available_balance - ?, version = version + 1, updated_at = ?
+        WHERE id = ? AND version = ?
+        """;
+
+    private static final String INSERT_ACCOUNT_SQL = """
+        INSERT INTO point_accounts (use_point_key, earn_point_key, used_amount, canceled_amount, created_at, updated_at)
+        VALUES (?, ?, ?, 0, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final PointLiabilityService pointLiabilityService;
+    private final SummaryBreakdownService summaryBreakdownService;
+    private final PointLockService pointLockService;
+
+    public SetBasedLotDeductionExecutor(JdbcTemplate jdbcTemplate,
+                                        EntityManager entityManager,
+                                        PointLiabilityService pointLiabilityService,
+                                        SummaryBreakdownService summaryBreakdownService,
+                                        PointLockService pointLockService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.pointLiabilityService = pointLiabilityService;
+        this.summaryBreakdownService = summaryBreakdownService;
+        this.pointLockService = pointLockService;
+    }
+
+    @Override
+    public DeductionMode mode() {
+        return DeductionMode.SET_BASED;
+    }
+
+    @Override
+    public List<UsedFromDetail> deduct(UserPointSummary summary, String usePointKey, long amount, LocalDateTime now) {
+        String userId = summary.getUserId();
+
+        // 1. 같은 트랜잭션에서 아직 flush 되지 않은 적립이 할당 쿼리에 보이도록 반영
+        entityManager.flush();
+
+        // 2. 적립별 차감 금액 계산 (단일 window 쿼리)
+        List<Allocation> allocations = jdbcTemplate.query(ALLOCATION_SQL, (rs, rowNum) -> new Allocation(
+            rs.getLong("id"),
+            rs.getString("point_key"),
+            rs.getLong("version"),
+            rs.getBoolean("is_manual_grant"),
+            rs.getTimestamp("expiration_date").toLocalDateTime(),
+            rs.getLong("available_balance"),
+            rs.getLong("used_amount")
+        ), amount, userId, Timestamp.valueOf(now), amount);
+
+        long allocatedAmount = allocations.stream().mapToLong(Allocation::usedAmount).sum();
+        if (allocatedAmount < amount) {
+            log.warn("사용 가능 적립 부족 - userId: {}, availableBalance: {}, requestedAmount: {}",
+                userId, allocatedAmount, amount);
+            throw PointBusinessException.insufficientBalance(allocatedAmount, amount);
+        }
+
+        // 3. 할당한 적립을 id 순으로 잠금
+        Map<Long, Long> allocatedVersions = new LinkedHashMap<>();
+        for (Allocation allocation : allocations) {
+            allocatedVersions.put(allocation.id(), allocation.version());
+        }
+        pointLockService.lockLots(allocatedVersions);
+
+        // 4. 적립 잔액 차감 (version 조건부 배치 UPDATE)
+        Timestamp updatedAt = Timestamp.valueOf(LocalDateTime.now());
+        int[][] updateCounts = jdbcTemplate.batchUpdate(DEDUCT_SQL, allocations, allocations.size(), (ps, allocation) -> {
+            ps.setLong(1, allocation.usedAmount());
+            ps.setTimestamp(2, updatedAt);
+            ps.setLong(3, allocation.id());
+            ps.setLong(4, allocation.version());
+        });
+        for (int[] batch : updateCounts) {
+            for (int updateCount : batch) {
+                if (updateCount == 0) {
+                    log.warn("적립 동시 변경으로 집합 기반 차감 실패 - userId: {}", userId);
+                    throw new OptimisticLockException("적립 잔액이 동시에 변경되었습니다");
+                }
+                if (updateCount != Statement.SUCCESS_NO_INFO && updateCount != 1) {
+                    throw new IllegalStateException("적립 차감 UPDATE 결과가 올바르지 않습니다: " + updateCount);
+                }
+            }
+        }
+
+        // 5. PointAccount 배치 INSERT
+        jdbcTemplate.batchUpdate(INSERT_ACCOUNT_SQL, allocations, allocations.size(), (ps, allocation) -> {
+            ps.setString(1, usePointKey);
+            ps.setString(2, allocation.pointKey());
+            ps.setLong(3, allocation.usedAmount());
+            ps.setTimestamp(4, updatedAt);
+            ps.setTimestamp(5, updatedAt);
+        });
+
+        // 6. 부채 집계 / 요약 세부 잔액 반영 (같은 만료 월 / 수기 지급 여부 차감분은 합산하여 한 번에 반영)
+        Map<LiabilityBucket, Long> liabilityDeltas = new LinkedHashMap<>();
+        for (Allocation allocation : allocations) {
+            LiabilityBucket bucket = new LiabilityBucket(allocation.isManualGrant(),
+                allocation.expirationDate().toLocalDate().withDayOfMonth(1).atStartOfDay());
+            liabilityDeltas.merge(bucket, -allocation.usedAmount(), Long::sum);
+        }
+        liabilityDeltas.forEach((bucket, delta) ->
+            pointLiabilityService.record(userId, bucket.isManualGrant(), bucket.expirationMonth(), delta));
+        for (Allocation allocation : allocations) {
+            summaryBreakdownService.record(summary, allocation.isManualGrant(), allocation.expirationDate(),
+                allocation.availableBalance(), allocation.availableBalance() - allocation.usedAmount(), now);
+        }
+
+        // 7. 영속성 컨텍스트 동기화
+        for (Allocation allocation : allocations) {
+            refreshIfManaged(allocation.id());
+        }
+
+        log.debug("집합 기반 포인트 차감 - userId: {}, usePointKey: {}, lotCount: {}",
+            userId, usePointKey, allocations.size());
+
+        return allocations.stream()
+            .map(allocation -> UsedFromDetail.builder()
+                .earnPointKey(allocation.pointKey())
+                .usedAmount(allocation.usedAmount())
+                .build())
+            .toList();
+    }
+
+    /**
+     * JDBC 로 변경한 적립이 영속성 컨텍스트에 로딩되어 있으면 DB 상태로 갱신
+     */
+    private void refreshIfManaged(long id) {
+        SessionImplementor session = entityManager.unwrap(SessionImplementor.class);
+        EntityPersister persister = session.getFactory().getMappingMetamodel()
+            .getEntityDescriptor(PointTransaction.class);
+        Object managed = session.getPersistenceContextInternal().getEntity(session.generateEntityKey(id, persister));
+        if (managed != null) {
+            entityManager.refresh(managed);
+        }
+    }
+
+    /**
+     * 적립별 차감 할당
+     */
+    private record Allocation(
+        long id,
+        String pointKey,
+        long version,
+        boolean isManualGrant,
+        LocalDateTime expirationDate,
+        long availableBalance,
+        long usedAmount
+    ) {
+    }
+
+    /**
+     * 부채 집계 단위 (수기 지급 여부, 만료 월 시작 시각)
+     */
+    private record LiabilityBucket(
+        boolean isManualGrant,
+        LocalDateTime expirationMonth
+    ) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.ShardRouter;
+import com.musinsa.point.config.WarmupProperties;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.repository.PointLiabilityRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 워밍업
+ * ApplicationRunner 로 실행되므로 끝날 때까지 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌지 않음 (트래픽을 받기 전에 JIT 컴파일)
+ *
+ * 1. 설정 값(2차 캐시 point.system-config 영역)을 미리 조회
+ * 2. 합성 사용자로 적립 2 건 -> 여러 적립에 걸친 사용 -> 일부 사용 취소 -> 잔액 / 요약 / 이력 조회를 반복
+ *    - 반복마다 한 트랜잭션에서 실행하고 롤백하므로 원장 / 요약 / 부채 / 멱등성 레코드에 남는 데이터가 없음
+ *      (샤딩 사용 시 디렉터리에는 합성 키가 남지만 가리키는 데이터가 없으므로 조회에 영향 없음)
+ *    - 합성 사용자의 부채 반영은 워밍업 전용 slot 행에만 기록되어(WarmupLiabilitySlotSelector), 롤백 전까지 실제 요청이
+ *      갱신하는 집계 행을 잠그지 않음 (그 외에 갱신하는 행은 모두 합성 사용자 소유이므로 다른 인스턴스의 트래픽과 잠금이 겹치지 않음)
+ *    - 전용 slot 의 집계 행은 별도 트랜잭션으로 만들어지고 금액은 0 이므로, 워밍업이 끝나면 모든 샤드에서 삭제
+ *    - 동시 실행 한도 밖의 트랜잭션이므로 한도 계산 지연 샘플에 포함되지 않음 (LatencySamplingContext)
+ *    - windowIterations 구간의 평균 지연이 연속 2 구간 stableRatio 이내로 변하면 JIT 가 안정된 것으로 보고 종료
+ *    - maxIterations / maxDurationMillis 에 도달하면 안정되지 않아도 종료
+ *
+ * 메트릭
+ * - point.warmup.iteration: 워밍업 반복 1 회 지연 시간
+ */
+public class StartupWarmupRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupWarmupRunner.class);
+
+    /**
+     * 워밍업 합성 사용자 / 주문 번호 / 멱등성 키 접두사
+     */
+    public static final String USER_PREFIX = "warmup-";
+    private static final int STABLE_WINDOWS_REQUIRED = 2;
+
+    private final WarmupProperties properties;
+    private final ConfigService configService;
+    private final PointEarnService pointEarnService;
+    private final PointUseService pointUseService;
+    private final PointQueryService pointQueryService;
+    private final ShardRouter shardRouter;
+    private final PointLiabilityRepository pointLiabilityRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public StartupWarmupRunner(WarmupProperties properties,
+                               ConfigService configService,
+                               PointEarnService pointEarnService,
+                               PointUseService pointUseService,
+                               PointQueryService pointQueryService,
+                               ShardRouter shardRouter,
+                               PointLiabilityRepository pointLiabilityRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.configService = configService;
+        this.pointEarnService = pointEarnService;
+        this.pointUseService = pointUseService;
+        this.pointQueryService = pointQueryService;
+        this.shardRouter = shardRouter;
+        this.pointLiabilityRepository = pointLiabilityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(properties.getMaxDurationMillis());
+        MDC.put("requestId", "warmup");
+        try {
+            primeConfig();
+
+            int iterations = 0;
+            int stableWindows = 0;
+            long windowNanos = 0;
+            double previousWindowMean = 0;
+            while (iterations < properties.getMaxIterations() && System.nanoTime() < deadline) {
+                long iterationStartedAt = System.nanoTime();
+                runOnce();
+                long elapsed = System.nanoTime() - iterationStartedAt;
+                meterRegistry.timer("point.warmup.iteration").record(elapsed, TimeUnit.NANOSECONDS);
+                windowNanos += elapsed;
+                iterations++;
+
+                if (iterations % properties.getWindowIterations() == 0) {
+                    double windowMean = (double) windowNanos / properties.getWindowIterations();
+                    if (previousWindowMean > 0
+                        && Math.abs(windowMean - previousWindowMean) / previousWindowMean <= properties.getStableRatio()) {
+                        stableWindows++;
+                    } else {
+                        stableWindows = 0;
+                    }
+                    log.debug("워밍업 구간 - iterations: {}, mean: {}us", iterations, (long) windowMean / 1_000);
+                    if (stableWindows >= STABLE_WINDOWS_REQUIRED) {
+                        break;
+                    }
+                    previousWindowMean = windowMean;
+                    windowNanos = 0;
+                }
+            }
+
+            log.info("워밍업 완료 - iterations: {}, stable: {}, elapsed: {}ms, last window mean: {}us",
+                iterations, stableWindows >= STABLE_WINDOWS_REQUIRED,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt), (long) previousWindowMean / 1_000);
+        } catch (RuntimeException ex) {
+            // 워밍업 실패로 기동을 막지 않음 (첫 요청들이 느릴 뿐)
+            log.warn("워밍업 중단", ex);
+        } finally {
+            removeWarmupBuckets();
+            MDC.remove("requestId");
+        }
+    }
+
+    /**
+     * 워밍업 전용 slot 의 부채 집계 행 삭제 (금액이 0 인 행만)
+     */
+    private void removeWarmupBuckets() {
+        try {
+            int removed = shardRouter.onEachShard(() -> transactionTemplate.execute(status ->
+                    pointLiabilityRepository.deleteEmptyBuckets(WarmupLiabilitySlotSelector.WARMUP_SLOT))).stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+            log.debug("워밍업 부채 집계 행 삭제 - removed: {}", removed);
+        } catch (RuntimeException ex) {
+            log.warn("워밍업 부채 집계 행 삭제 실패", ex);
+        }
+    }
+
+    private void primeConfig() {
+        configService.getMaxEarnPerTransaction();
+        configService.getMaxBalancePerUser();
+        configService.getDefaultExpirationDays();
+        configService.getMinExpirationDays();
+        configService.getMaxExpirationDays();
+    }
+
+    private void runOnce() {
+        String userId = USER_PREFIX + UUID.randomUUID();
+        String orderNumber = USER_PREFIX + UUID.randomUUID();
+        shardRouter.onUser(userId, () -> transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+
+            pointEarnService.earnPoints(new EarnRequest(userId, 1_000L, false, null, "워밍업"), newKey());
+            pointEarnService.earnPoints(new EarnRequest(userId, 500L, true, null, "워밍업"), newKey());
+            pointUseService.usePoints(new UseRequest(userId, orderNumber, 1_200L), newKey());
+            pointUseService.cancelUse(new CancelUseRequest(orderNumber, 700L, "워밍업"), newKey());
+
+            pointQueryService.getBalanceEtag(userId);
+            pointQueryService.getBalance(userId);
+            pointQueryService.getBalanceSummary(userId);
+            pointQueryService.getHistory(userId, 0, 20);
+            return null;
+        }));
+    }
+
+    private String newKey() {
+        return USER_PREFIX + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,160 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.repository.PointTransactionRepository;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 포인트 요약 세부 잔액 유지 서비스
+ * 적립 건 availableBalance 가 바뀌는 쓰기 트랜잭션 안에서 요약의 수기/자동 지급 잔액, 보유 적립 수(잔액 > 0),
+ * 다음 만료일(일 단위)과 그날 만료 예정 금액을 증분으로 갱신
+ *
+ * 다음 만료일은 가장 이른 만료일의 적립이 모두 소진되는 등 증분으로 알 수 없는 경우에만
+ * 사용자 적립 조회로 재계산 (refreshNextExpirationIfStale)
+ */
+@Service
+public class SummaryBreakdownService {
+
+    private final PointTransactionRepository pointTransactionRepository;
+
+    public SummaryBreakdownService(PointTransactionRepository pointTransactionRepository) {
+        this.pointTransactionRepository = pointTransactionRepository;
+    }
+
+    /**
+     * 적립 건 잔액 변경을 요약 세부 잔액에 반영
+     *
+     * @param summary 사용자 요약 (호출한 트랜잭션에서 저장)
+     * @param lot 잔액이 변경된 EARN 트랜잭션 (변경 후 상태)
+     * @param previousBalance 변경 전 availableBalance (신규 적립은 0)
+     * @param now 만료 판단 기준 시각
+     */
+    public void record(UserPointSummary summary, PointTransaction lot, long previousBalance, LocalDateTime now) {
+        record(summary, lot.getIsManualGrant(), lot.getExpirationDate(), previousBalance, lot.getAvailableBalance(), now);
+    }
+
+    /**
+     * 적립 건 잔액 변경을 요약 세부 잔액에 반영 (엔티티를 로딩하지 않는 JDBC 경로용)
+     *
+     * @param summary 사용자 요약
+     * @param isManualGrant 적립의 수기 지급 여부
+     * @param expirationDate 적립의 만료일
+     * @param previousBalance 변경 전 availableBalance
+     * @param newBalance 변경 후 availableBalance
+     * @param now 만료 판단 기준 시각
+     */
+    public void record(UserPointSummary summary, Boolean isManualGrant, LocalDateTime expirationDate,
+                       long previousBalance, long newBalance, LocalDateTime now) {
+        long delta = newBalance - previousBalance;
+        if (delta == 0) {
+            return;
+        }
+
+        // 1. 수기/자동 지급 잔액
+        if (Boolean.TRUE.equals(isManualGrant)) {
+            summary.setManualGrantBalance(summary.getManualGrantBalance() + delta);
+        } else {
+            summary.setAutoGrantBalance(summary.getAutoGrantBalance() + delta);
+        }
+
+        // 2. 보유 적립 수 (잔액이 0 을 넘나들 때만 변경)
+        if (previousBalance == 0 && newBalance > 0) {
+            summary.setActiveLotCount(summary.getActiveLotCount() + 1);
+        } else if (previousBalance > 0 && newBalance == 0) {
+            summary.setActiveLotCount(summary.getActiveLotCount() - 1);
+        }
+
+        // 3. 다음 만료일 (만료된 적립은 대상 아님)
+        if (expirationDate == null || !expirationDate.isAfter(now) || summary.isNextExpirationStale()) {
+            return;
+        }
+        LocalDate expirationDay = expirationDate.toLocalDate();
+        LocalDate nextExpirationDate = summary.getNextExpirationDate();
+        if (nextExpirationDate == null || !isAhead(nextExpirationDate, now)) {
+            // 알 수 없음 / 이미 지났거나 오늘인 만료일 (오늘 만료분 일부가 이미 만료되었을 수 있음)
+            summary.markNextExpirationStale();
+        } else if (expirationDay.isBefore(nextExpirationDate)) {
+            // 더 이른 만료일에는 다른 사용 가능 적립이 없으므로 이 적립 잔액이 곧 만료 예정 금액
+            if (previousBalance == 0 && newBalance > 0) {
+                summary.setNextExpiration(expirationDay, newBalance);
+            } else {
+                summary.markNextExpirationStale();
+            }
+        } else if (expirationDay.equals(nextExpirationDate)) {
+            long nextExpirationAmount = summary.getNextExpirationAmount() + delta;
+            if (nextExpirationAmount > 0) {
+                summary.setNextExpiration(nextExpirationDate, nextExpirationAmount);
+            } else {
+                // 가장 이른 만료일 적립 소진 - 다음 만료일은 조회로 재계산
+                summary.markNextExpirationStale();
+            }
+        }
+    }
+
+    /**
+     * 증분으로 갱신할 수 없었던 다음 만료일을 사용자 적립 조회로 재계산
+     * 요약 저장 전에 한 번 호출 (같은 트랜잭션의 적립 변경은 조회 전 자동 flush 로 반영됨)
+     *
+     * @param summary 사용자 요약
+     * @param now 만료 판단 기준 시각
+     */
+    public void refreshNextExpirationIfStale(UserPointSummary summary, LocalDateTime now) {
+        if (!summary.isNextExpirationStale()) {
+            return;
+        }
+        NextExpiration nextExpiration = findNextExpiration(summary.getUserId(), now);
+        summary.setNextExpiration(nextExpiration.date(), nextExpiration.amount());
+    }
+
+    /**
+     * 조회 시점의 다음 만료일
+     * 요약 값이 유효하면 그대로 사용하고, 만료일이 오늘 이전(오늘 포함)이거나 아직 계산되지 않은 경우에만 조회
+     *
+     * @param summary 사용자 요약
+     * @param now 만료 판단 기준 시각
+     * @return 다음 만료일 (사용 가능 적립이 없으면 date 가 null)
+     */
+    public NextExpiration resolveNextExpiration(UserPointSummary summary, LocalDateTime now) {
+        LocalDate nextExpirationDate = summary.getNextExpirationDate();
+        if (nextExpirationDate != null && isAhead(nextExpirationDate, now)) {
+            return new NextExpiration(nextExpirationDate, summary.getNextExpirationAmount());
+        }
+        if (nextExpirationDate == null && summary.getActiveLotCount() == 0) {
+            return new NextExpiration(null, 0L);
+        }
+        return findNextExpiration(summary.getUserId(), now);
+    }
+
+    /**
+     * 일 단위로 저장된 만료일이 now 이후인지 (적립 만료 판단과 같은 isAfter(now) 시각 비교)
+     * 만료일이 오늘이면 그날 00:00 은 now 이후가 아니므로, 시각 단위로 만료되는 오늘 만료분은 항상 재조회 대상
+     */
+    private static boolean isAhead(LocalDate date, LocalDateTime now) {
+        return date.atStartOfDay().isAfter(now);
+    }
+
+    private NextExpiration findNextExpiration(String userId, LocalDateTime now) {
+        List<Object[]> rows = pointTransactionRepository.findNextExpiration(userId, now);
+        if (rows.isEmpty()) {
+            return new NextExpiration(null, 0L);
+        }
+        Object[] row = rows.get(0);
+        LocalDate date = row[0] instanceof Date sqlDate ? sqlDate.toLocalDate() : (LocalDate) row[0];
+        return new NextExpiration(date, ((Number) row[1]).longValue());
+    }
+
+    /**
+     * 다음 만료일과 그날 만료 예정 금액
+     */
+    public record NextExpiration(
+        LocalDate date,
+        long amount
+    ) {
+    }
+}
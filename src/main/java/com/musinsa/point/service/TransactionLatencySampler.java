@@ -0,0 +1,61 @@
+package com.musinsa.point.service;
+
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * 쓰기 트랜잭션 지연 시간을 동시 실행 제한기에 샘플로 전달하는 트랜잭션 리스너
+ * 새로 시작한 읽기 전용이 아닌 트랜잭션의 시작부터 커밋/롤백 완료까지의 시간을 측정
+ * (REQUIRES_NEW 로 중첩된 트랜잭션은 스레드별 스택으로 구분)
+ *
+ * 동시 실행 한도를 확보한 요청 경로(LatencySamplingContext)의 트랜잭션만 샘플로 사용
+ * - 적립 통합 / 정합성 검사 / 기동 워밍업 등 한도 밖의 트랜잭션이 한도를 낮추지 않도록 제외
+ */
+public class TransactionLatencySampler implements TransactionExecutionListener {
+
+    private static final ThreadLocal<Deque<Long>> START_NANOS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+    public TransactionLatencySampler(AdaptiveConcurrencyLimiter concurrencyLimiter) {
+        this.concurrencyLimiter = concurrencyLimiter;
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+        if (beginFailure == null && LatencySamplingContext.isSampled() && isSampled(transaction)) {
+            START_NANOS.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        complete(transaction);
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, Throwable rollbackFailure) {
+        complete(transaction);
+    }
+
+    private void complete(TransactionExecution transaction) {
+        if (!LatencySamplingContext.isSampled() || !isSampled(transaction)) {
+            return;
+        }
+        Deque<Long> startNanos = START_NANOS.get();
+        Long startedAt = startNanos.poll();
+        if (startNanos.isEmpty()) {
+            START_NANOS.remove();
+        }
+        if (startedAt != null) {
+            concurrencyLimiter.onSample(System.nanoTime() - startedAt);
+        }
+    }
+
+    private boolean isSampled(TransactionExecution transaction) {
+        return transaction.isNewTransaction() && !transaction.isReadOnly();
+    }
+}
@@ -0,0 +1,21 @@
+package com.musinsa.point.service;
+
+import com.musinsa.point.config.ShardRouter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 해시 slot 선택 (0 ~ SLOT_COUNT - 1)
+ */
+@Component
+public class UserHashLiabilitySlotSelector implements LiabilitySlotSelector {
+
+    /**
+     * 집계 행당 slot 수
+     */
+    public static final int SLOT_COUNT = 16;
+
+    @Override
+    public int slotOf(String userId) {
+        return ShardRouter.shardOf(userId, SLOT_COUNT);
+    }
+}
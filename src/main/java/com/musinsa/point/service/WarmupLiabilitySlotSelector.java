@@ -0,0 +1,29 @@
+package com.musinsa.point.service;
+
+/**
+ * 기동 워밍업 slot 선택 (point.warmup.enabled=true 인 경우 사용)
+ * 워밍업 합성 사용자의 부채 반영은 사용자 slot 과 겹치지 않는 전용 slot 에 기록하여,
+ * 워밍업의 롤백 트랜잭션이 실제 요청이 갱신하는 집계 행을 잠그지 않게 함 (그 외 사용자는 사용자 해시 slot)
+ *
+ * 전용 slot 의 집계 행은 워밍업이 끝나면 StartupWarmupRunner 가 삭제
+ */
+public class WarmupLiabilitySlotSelector implements LiabilitySlotSelector {
+
+    /**
+     * 워밍업 전용 slot (사용자 slot 0 ~ SLOT_COUNT - 1 과 겹치지 않음)
+     */
+    public static final int WARMUP_SLOT = UserHashLiabilitySlotSelector.SLOT_COUNT;
+
+    private final String userPrefix;
+    private final LiabilitySlotSelector delegate;
+
+    public WarmupLiabilitySlotSelector(String userPrefix, LiabilitySlotSelector delegate) {
+        this.userPrefix = userPrefix;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public int slotOf(String userId) {
+        return userId.startsWith(userPrefix) ? WARMUP_SLOT : delegate.slotOf(userId);
+    }
+}
@@ -0,0 +1,125 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.BalanceDrift;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.ReconciliationResponse;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.service.BalanceReconciliationService;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// reconcile(true) 는 DB 의 모든 요약을 재작성하므로 다른 테스트와 공유하지 않는 DB 사용
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:balance-reconciliation-test;DB_CLOSE_DELAY=-1",
+        "point.reconciliation.partition-size=2"
+})
+@DisplayName("잔액 정합성 검증 통합 테스트")
+class BalanceReconciliationIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private BalanceReconciliationService balanceReconciliationService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("요약 잔액이 적립 잔액 합계와 다르면 불일치로 보고하고, rewrite 시 재작성")
+    void testDriftDetectedAndRewritten() {
+        // 정상 사용자 (불일치 아님)
+        String consistentUserId = "test-user-" + UUID.randomUUID();
+        earn(consistentUserId, 700L);
+
+        // 1000 + 500 적립 후 300 사용 -> 적립 잔액 합계 1200
+        earn(userId, 1000L);
+        earn(userId, 500L);
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber("ORDER-RECON-" + UUID.randomUUID())
+                .amount(300L)
+                .build(), UUID.randomUUID().toString());
+
+        // 요약 잔액 손상
+        jdbcTemplate.update("UPDATE user_point_summaries SET total_balance = ? WHERE user_id = ?", 9999L, userId);
+
+        // 1. 검증만 수행 - 불일치 보고, 요약은 그대로
+        ReconciliationResponse dryRun = balanceReconciliationService.reconcile(false);
+        BalanceDrift drift = findDrift(dryRun, userId).orElseThrow();
+
+        assertThat(drift.summaryBalance()).isEqualTo(9999L);
+        assertThat(drift.lotBalance()).isEqualTo(1200L);
+        assertThat(drift.drift()).isEqualTo(8799L);
+        assertThat(drift.rewritten()).isFalse();
+        assertThat(findDrift(dryRun, consistentUserId)).isEmpty();
+        assertThat(dryRun.scannedUsers()).isGreaterThanOrEqualTo(2L);
+        assertThat(summaryBalance(userId)).isEqualTo(9999L);
+
+        // 2. 재작성 - 요약 잔액을 적립 잔액 합계로 복구
+        ReconciliationResponse rewrite = balanceReconciliationService.reconcile(true);
+
+        assertThat(findDrift(rewrite, userId).orElseThrow().rewritten()).isTrue();
+        assertThat(summaryBalance(userId)).isEqualTo(1200L);
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(1200L);
+
+        // 3. 재검증 - 더 이상 불일치 아님
+        assertThat(findDrift(balanceReconciliationService.reconcile(false), userId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("총 잔액이 맞아도 세부 잔액(보유 적립 수 등)이 어긋나면 불일치로 보고하고 재작성")
+    void testBreakdownDriftDetectedAndRewritten() {
+        earn(userId, 1000L);
+        earn(userId, 500L);
+
+        jdbcTemplate.update("UPDATE user_point_summaries SET active_lot_count = ?, auto_grant_balance = ? WHERE user_id = ?",
+                7, 0L, userId);
+
+        BalanceDrift drift = findDrift(balanceReconciliationService.reconcile(true), userId).orElseThrow();
+
+        assertThat(drift.drift()).isZero();
+        assertThat(drift.breakdownMismatch()).isTrue();
+        assertThat(drift.rewritten()).isTrue();
+        assertThat(pointService.getBalanceSummary(userId).activeLotCount()).isEqualTo(2);
+        assertThat(pointService.getBalanceSummary(userId).autoGrantBalance()).isEqualTo(1500L);
+        assertThat(findDrift(balanceReconciliationService.reconcile(false), userId)).isEmpty();
+    }
+
+    private void earn(String userId, long amount) {
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(false)
+                .description("정합성 검증 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private Optional<BalanceDrift> findDrift(ReconciliationResponse response, String userId) {
+        return response.drifts().stream()
+                .filter(drift -> drift.userId().equals(userId))
+                .findFirst();
+    }
+
+    private Long summaryBalance(String userId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT total_balance FROM user_point_summaries WHERE user_id = ?", Long.class, userId);
+    }
+}
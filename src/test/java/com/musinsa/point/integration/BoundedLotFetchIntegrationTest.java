@@ -0,0 +1,99 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.dto.UseResponse;
+import com.musinsa.point.dto.UsedFromDetail;
+import com.musinsa.point.repository.PointTransactionRepository;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("사용 금액 기준 적립 조회 통합 테스트")
+class BoundedLotFetchIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("누적 잔액이 사용 금액을 충당하는 적립까지만 전체 조회 결과의 앞부분 순서대로 반환")
+    void testCoveringLotsArePriorityPrefix() {
+        // 자동 지급 100 x 10 건 + 수기 지급 100 x 1 건 (수기 지급이 최우선)
+        for (int i = 0; i < 10; i++) {
+            earn(100L, false);
+        }
+        earn(100L, true);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> allLots = pointKeys(pointTransactionRepository.findAvailablePointsForUse(userId, now));
+
+        assertThat(allLots).hasSize(11);
+        assertThat(pointKeys(pointTransactionRepository.findAvailablePointsCoveringAmount(userId, now, 150L)))
+                .isEqualTo(allLots.subList(0, 2));
+        assertThat(pointKeys(pointTransactionRepository.findAvailablePointsCoveringAmount(userId, now, 200L)))
+                .isEqualTo(allLots.subList(0, 2));
+        assertThat(pointKeys(pointTransactionRepository.findAvailablePointsCoveringAmount(userId, now, 201L)))
+                .isEqualTo(allLots.subList(0, 3));
+        assertThat(pointKeys(pointTransactionRepository.findAvailablePointsCoveringAmount(userId, now, 5000L)))
+                .isEqualTo(allLots);
+    }
+
+    @Test
+    @DisplayName("일부 차감된 적립이 있어도 남은 잔액 기준으로 필요한 적립만 차감")
+    void testUseAfterPartialDeduction() {
+        for (int i = 0; i < 5; i++) {
+            earn(100L, false);
+        }
+
+        use(150L);
+        UseResponse second = use(120L);
+
+        // 첫 사용 후 두 번째 적립에 50 남음 -> 50 + 70
+        assertThat(second.usedFrom()).extracting(UsedFromDetail::usedAmount).containsExactly(50L, 70L);
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(230L);
+    }
+
+    private void earn(long amount, boolean isManualGrant) {
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(isManualGrant)
+                .description("적립 조회 테스트")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private UseResponse use(long amount) {
+        return pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber("ORDER-LOT-" + UUID.randomUUID())
+                .amount(amount)
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private List<String> pointKeys(List<PointTransaction> lots) {
+        return lots.stream().map(PointTransaction::getPointKey).toList();
+    }
+}
@@ -0,0 +1,176 @@
+package com.musinsa.point.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.service.AdaptiveConcurrencyLimiter;
+import com.musinsa.point.service.PointService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@DisplayName("쓰기 API 적응형 동시 실행 제한 통합 테스트")
+class ConcurrencyLimitIntegrationTest {
+
+    @Nested
+    @SpringBootTest(properties = {
+            "point.concurrency-limit.initial-limit=2",
+            "point.concurrency-limit.min-limit=2",
+            "point.concurrency-limit.max-limit=2",
+            "point.concurrency-limit.retry-after-seconds=3"
+    })
+    @AutoConfigureMockMvc
+    @DisplayName("한도 초과 거절")
+    class Rejection {
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+        @Autowired
+        private PointService pointService;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("한도만큼 실행 중이면 429 와 Retry-After 로 바로 거절하고, 자리가 나면 다시 처리")
+        void testRejectsOverLimitWithRetryAfter() throws Exception {
+            double rejectedBefore = rejected();
+            assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+            assertThat(concurrencyLimiter.tryAcquire()).isTrue();
+
+            MockHttpServletResponse rejected;
+            try {
+                rejected = earn();
+            } finally {
+                concurrencyLimiter.release();
+                concurrencyLimiter.release();
+            }
+
+            assertThat(rejected.getStatus()).isEqualTo(429);
+            assertThat(rejected.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+            assertThat(objectMapper.readTree(rejected.getContentAsByteArray()).get("errorCode").asText())
+                    .isEqualTo("CONCURRENCY_LIMIT_EXCEEDED");
+            assertThat(rejected()).isEqualTo(rejectedBefore + 1);
+
+            MockHttpServletResponse accepted = earn();
+            assertThat(accepted.getStatus()).isEqualTo(200);
+            assertThat(concurrencyLimiter.getInflight()).isZero();
+        }
+
+        @Test
+        @DisplayName("한도를 확보한 요청의 쓰기 트랜잭션 지연 시간만 한도 계산 샘플로 기록됨")
+        void testOnlyRequestPathTransactionsAreSampled() throws Exception {
+            long samplesBefore = meterRegistry.timer("point.concurrency.db.latency").count();
+
+            assertThat(earn().getStatus()).isEqualTo(200);
+
+            long samplesAfterRequest = meterRegistry.timer("point.concurrency.db.latency").count();
+            assertThat(samplesAfterRequest).isGreaterThan(samplesBefore);
+
+            // 한도 밖의 호출(배치 / 워밍업 등과 같은 경로)은 샘플에 포함하지 않음
+            pointService.earnPoints(EarnRequest.builder()
+                    .userId("test-user-" + UUID.randomUUID())
+                    .amount(1000L)
+                    .isManualGrant(false)
+                    .description("샘플 테스트")
+                    .build(), UUID.randomUUID().toString());
+
+            assertThat(meterRegistry.timer("point.concurrency.db.latency").count()).isEqualTo(samplesAfterRequest);
+        }
+
+        private MockHttpServletResponse earn() throws Exception {
+            EarnRequest request = EarnRequest.builder()
+                    .userId("test-user-" + UUID.randomUUID())
+                    .amount(1000L)
+                    .isManualGrant(false)
+                    .description("동시 실행 제한 테스트")
+                    .build();
+
+            MvcResult result = mockMvc.perform(post("/api/v1/points/earn")
+                    .header("Idempotency-Key", UUID.randomUUID().toString())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsBytes(request))).andReturn();
+            if (result.getRequest().isAsyncStarted()) {
+                result = mockMvc.perform(asyncDispatch(result)).andReturn();
+            }
+            return result.getResponse();
+        }
+
+        private double rejected() {
+            return meterRegistry.find("point.concurrency.rejected").counters().stream()
+                    .mapToDouble(Counter::count)
+                    .sum();
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            "point.concurrency-limit.initial-limit=20",
+            "point.concurrency-limit.min-limit=4",
+            "point.concurrency-limit.max-limit=200",
+            "point.concurrency-limit.smoothing=1.0",
+            "point.concurrency-limit.probe-interval-samples=1000000"
+    })
+    @DisplayName("한도 조정")
+    class Adaptation {
+
+        @Autowired
+        private AdaptiveConcurrencyLimiter concurrencyLimiter;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("한도만큼 실행 중에 지연이 무부하 수준이면 한도를 늘리고, 지연이 커지면 한도를 줄임")
+        void testLimitFollowsLatency() {
+            concurrencyLimiter.onSample(TimeUnit.MILLISECONDS.toNanos(1));
+            int initialLimit = concurrencyLimiter.getLimit();
+
+            // 한도를 모두 사용하는 부하에서 지연이 그대로면 DB 대기열이 없다고 보고 증가
+            int held = 0;
+            while (concurrencyLimiter.tryAcquire()) {
+                held++;
+            }
+            try {
+                concurrencyLimiter.onSample(TimeUnit.MILLISECONDS.toNanos(1));
+            } finally {
+                for (int i = 0; i < held; i++) {
+                    concurrencyLimiter.release();
+                }
+            }
+            int increasedLimit = concurrencyLimiter.getLimit();
+            assertThat(increasedLimit).isGreaterThan(initialLimit);
+
+            // 지연이 무부하의 10 배가 되면 대기열이 쌓였다고 보고 감소 (최소 한도 이상)
+            for (int i = 0; i < 200; i++) {
+                concurrencyLimiter.onSample(TimeUnit.MILLISECONDS.toNanos(10));
+            }
+            assertThat(concurrencyLimiter.getLimit()).isBetween(4, initialLimit / 2);
+            assertThat(meterRegistry.get("point.concurrency.limit").gauge().value())
+                    .isEqualTo((double) concurrencyLimiter.getLimit());
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.service.PointService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("잔액 / 이력 조건부 조회(ETag) 통합 테스트")
+class ConditionalGetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("변경이 없으면 잔액을 조회하지 않고 304, 쓰기 이후에는 새 ETag 로 200")
+    void testBalanceNotModifiedUntilWrite() throws Exception {
+        String userId = "etag-user-" + UUID.randomUUID();
+        earn(userId);
+
+        MockHttpServletResponse first = balance(userId, null);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(etag).startsWith("W/\"balance-");
+        assertThat(first.getHeader(HttpHeaders.CACHE_CONTROL)).isEqualTo("no-cache");
+
+        double loadsBefore = balanceLoads();
+        MockHttpServletResponse notModified = balance(userId, etag);
+        assertThat(notModified.getStatus()).isEqualTo(304);
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+        assertThat(notModified.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+        assertThat(balanceLoads()).isEqualTo(loadsBefore);
+
+        earn(userId);
+
+        MockHttpServletResponse modified = balance(userId, etag);
+        assertThat(modified.getStatus()).isEqualTo(200);
+        assertThat(modified.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+        assertThat(modified.getContentAsString()).contains("\"totalBalance\":2000");
+    }
+
+    @Test
+    @DisplayName("이력은 페이지와 무관하게 사용자 요약 버전으로 조건부 조회")
+    void testHistoryNotModifiedUntilWrite() throws Exception {
+        String userId = "etag-user-" + UUID.randomUUID();
+        earn(userId);
+
+        MockHttpServletResponse first = history(userId, null);
+        String etag = first.getHeader(HttpHeaders.ETAG);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(etag).startsWith("W/\"history-");
+
+        assertThat(history(userId, etag).getStatus()).isEqualTo(304);
+
+        earn(userId);
+
+        MockHttpServletResponse modified = history(userId, etag);
+        assertThat(modified.getStatus()).isEqualTo(200);
+        assertThat(modified.getHeader(HttpHeaders.ETAG)).isNotEqualTo(etag);
+    }
+
+    @Test
+    @DisplayName("오늘 만료되는 적립이 있으면 만료 시각을 알 수 없으므로 ETag 없이 전체 응답")
+    void testBalanceWithoutEtagWhenLotExpiresToday() throws Exception {
+        String userId = "etag-user-" + UUID.randomUUID();
+        earn(userId);
+        String etag = balance(userId, null).getHeader(HttpHeaders.ETAG);
+
+        jdbcTemplate.update("UPDATE user_point_summaries SET next_expiration_date = ? WHERE user_id = ?",
+                LocalDate.now(), userId);
+
+        MockHttpServletResponse response = balance(userId, etag);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    @DisplayName("활성 적립이 있는데 다음 만료일이 비어 있으면(미계산) ETag 없이 전체 응답")
+    void testBalanceWithoutEtagWhenNextExpirationMissing() throws Exception {
+        String userId = "etag-user-" + UUID.randomUUID();
+        earn(userId);
+        String etag = balance(userId, null).getHeader(HttpHeaders.ETAG);
+
+        jdbcTemplate.update("UPDATE user_point_summaries SET next_expiration_date = NULL WHERE user_id = ?", userId);
+
+        MockHttpServletResponse response = balance(userId, etag);
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+    }
+
+    @Test
+    @DisplayName("적립 이력이 없는 사용자도 조건부 조회")
+    void testUnknownUserNotModified() throws Exception {
+        String userId = "etag-user-" + UUID.randomUUID();
+
+        String etag = balance(userId, null).getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isEqualTo("W/\"balance-none\"");
+        assertThat(balance(userId, etag).getStatus()).isEqualTo(304);
+    }
+
+    @Test
+    @DisplayName("요약이 없던 사용자의 ETag 는 첫 적립으로 생성된 요약(버전 0)과 겹치지 않음")
+    void testFirstEarnInvalidatesNoSummaryEtag() throws Exception {
+        String userId = "etag-user-" + UUID.randomUUID();
+
+        String balanceEtag = balance(userId, null).getHeader(HttpHeaders.ETAG);
+        String historyEtag = history(userId, null).getHeader(HttpHeaders.ETAG);
+        assertThat(historyEtag).isEqualTo("W/\"history-none\"");
+
+        earn(userId);
+
+        MockHttpServletResponse balance = balance(userId, balanceEtag);
+        assertThat(balance.getStatus()).isEqualTo(200);
+        assertThat(balance.getHeader(HttpHeaders.ETAG)).isNotEqualTo(balanceEtag);
+        assertThat(balance.getContentAsString()).contains("\"totalBalance\":1000");
+
+        MockHttpServletResponse history = history(userId, historyEtag);
+        assertThat(history.getStatus()).isEqualTo(200);
+        assertThat(history.getHeader(HttpHeaders.ETAG)).isNotEqualTo(historyEtag);
+    }
+
+    private MockHttpServletResponse balance(String userId, String ifNoneMatch) throws Exception {
+        return perform("/api/v1/points/balance/" + userId, ifNoneMatch);
+    }
+
+    private MockHttpServletResponse history(String userId, String ifNoneMatch) throws Exception {
+        return perform("/api/v1/points/history/" + userId + "?page=0&size=20", ifNoneMatch);
+    }
+
+    private MockHttpServletResponse perform(String uri, String ifNoneMatch) throws Exception {
+        MockHttpServletRequestBuilder request = get(uri);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+
+    private void earn(String userId) {
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(1000L)
+                .isManualGrant(false)
+                .description("조건부 조회 테스트")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private double balanceLoads() {
+        return meterRegistry.find("point.query.coalescing").tag("operation", "balance").counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
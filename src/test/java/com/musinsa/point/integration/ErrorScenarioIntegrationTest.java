@@ -23,10 +23,12 @@ class ErrorScenarioIntegrationTest {
     private PointService pointService;
 
     private String userId;
+    private String orderNumber;
 
     @BeforeEach
     void setUp() {
         userId = "test-user-" + UUID.randomUUID();
+        orderNumber = "ORDER-001-" + UUID.randomUUID();
     }
 
     @Test
@@ -93,7 +95,7 @@ class ErrorScenarioIntegrationTest {
         // 2000원 사용 시도
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(2000L)
                 .build();
 
@@ -135,7 +137,7 @@ class ErrorScenarioIntegrationTest {
         // 포인트 사용
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(500L)
                 .build();
 
@@ -170,7 +172,7 @@ class ErrorScenarioIntegrationTest {
         // 1000원 사용
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(1000L)
                 .build();
 
@@ -178,7 +180,7 @@ class ErrorScenarioIntegrationTest {
 
         // 1500원 취소 시도 (원래 사용 금액 1000원 초과)
         CancelUseRequest cancelRequest = CancelUseRequest.builder()
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(1500L)
                 .reason("초과 취소 시도")
                 .build();
@@ -206,7 +208,7 @@ class ErrorScenarioIntegrationTest {
         // 1000원 사용
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(1000L)
                 .build();
 
@@ -214,7 +216,7 @@ class ErrorScenarioIntegrationTest {
 
         // 600원 부분 취소
         CancelUseRequest cancelRequest1 = CancelUseRequest.builder()
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(600L)
                 .reason("부분 취소")
                 .build();
@@ -223,7 +225,7 @@ class ErrorScenarioIntegrationTest {
 
         // 남은 400원을 초과하는 500원 취소 시도
         CancelUseRequest cancelRequest2 = CancelUseRequest.builder()
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(500L)
                 .reason("초과 취소 시도")
                 .build();
@@ -0,0 +1,177 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.domain.PointRefundLineage;
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.dto.CancelEarnRequest;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.CancelUseResponse;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.NewlyEarnedPointDetail;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.repository.PointLotLineageRepository;
+import com.musinsa.point.repository.PointRefundLineageRepository;
+import com.musinsa.point.repository.PointTransactionRepository;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@DisplayName("만료 포인트 사용 취소 재적립 통합 테스트")
+class ExpiredRefundIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLotLineageRepository pointLotLineageRepository;
+
+    @Autowired
+    private PointRefundLineageRepository pointRefundLineageRepository;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("여러 만료 적립과 여러 사용에 걸친 취소는 기본 만료일의 신규 적립 하나로 재적립하고 원본별 계보를 기록")
+    void testExpiredPortionsMergedIntoSingleLot() {
+        EarnResponse first = earn(300L);
+        EarnResponse second = earn(300L);
+        EarnResponse third = earn(300L);
+        String orderNumber = "ORDER-REFUND-" + UUID.randomUUID();
+        use(orderNumber, 450L);
+        use(orderNumber, 450L);
+
+        expire(first.pointKey());
+        expire(second.pointKey());
+        expire(third.pointKey());
+
+        CancelUseResponse response = cancelUse(orderNumber, 900L);
+
+        assertThat(response.restoredPoints()).isEmpty();
+        assertThat(response.newlyEarnedPoints()).hasSize(1);
+        NewlyEarnedPointDetail refund = response.newlyEarnedPoints().get(0);
+        assertThat(refund.amount()).isEqualTo(900L);
+        assertThat(refund.expirationDate()).isAfter(LocalDateTime.now().plusDays(364));
+        assertThat(response.totalBalance()).isEqualTo(900L);
+
+        // 적립 3 + 재적립 1
+        Long earnCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_transactions WHERE user_id = ? AND transaction_type = 'EARN'",
+                Long.class, userId);
+        assertThat(earnCount).isEqualTo(4L);
+
+        List<PointRefundLineage> lineages = pointRefundLineageRepository.findByRefundPointKey(refund.pointKey());
+        assertThat(lineages)
+                .extracting(PointRefundLineage::getOriginalPointKey, PointRefundLineage::getAmount)
+                .containsExactlyInAnyOrder(
+                        tuple(first.pointKey(), 300L),
+                        tuple(second.pointKey(), 300L),
+                        tuple(third.pointKey(), 300L));
+    }
+
+    @Test
+    @DisplayName("일부 만료된 사용 취소의 이력은 사용 취소 / 재적립 행마다 기록 순서대로 반영 후 잔액을 가짐")
+    void testHistoryBalanceAfterPerRow() {
+        EarnResponse expiring = earn(300L);
+        earn(500L);
+        String orderNumber = "ORDER-REFUND-" + UUID.randomUUID();
+        use(orderNumber, 600L);
+
+        // 300 적립 전액, 500 적립에서 300 사용 후 300 적립 만료 (잔액 200)
+        expire(expiring.pointKey());
+
+        CancelUseResponse response = cancelUse(orderNumber, 600L);
+        assertThat(response.totalBalance()).isEqualTo(800L);
+
+        // 사용 취소 행: 원본 복구 300 반영 후 500, 재적립 행: 만료분 300 재적립 후 800
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT transaction_type, balance_after FROM point_history
+                WHERE user_id = ? AND transaction_type IN ('CANCEL_USE', 'EARN')
+                ORDER BY id DESC LIMIT 2
+                """, userId);
+        assertThat(rows)
+                .extracting(row -> row.get("TRANSACTION_TYPE"), row -> ((Number) row.get("BALANCE_AFTER")).longValue())
+                .containsExactly(
+                        tuple("EARN", 800L),
+                        tuple("CANCEL_USE", 500L));
+    }
+
+    @Test
+    @DisplayName("재적립 계보는 적립 통합 계보로 보지 않아 재적립 적립과 원본의 적립 취소가 기존 규칙대로 처리")
+    void testRefundLineageDoesNotAffectCancelEarn() {
+        EarnResponse lot = earn(500L);
+        String firstOrder = "ORDER-REFUND-" + UUID.randomUUID();
+        String secondOrder = "ORDER-REFUND-" + UUID.randomUUID();
+        use(firstOrder, 200L);
+        use(secondOrder, 100L);
+
+        expire(lot.pointKey());
+
+        // 같은 원본이 두 사용 취소의 출처가 되어도 계보가 각각 기록됨
+        String firstRefund = cancelUse(firstOrder, 200L).newlyEarnedPoints().get(0).pointKey();
+        cancelUse(secondOrder, 100L);
+        assertThat(pointRefundLineageRepository.findByOriginalPointKey(lot.pointKey())).hasSize(2);
+        assertThat(pointLotLineageRepository.findByOriginalPointKey(lot.pointKey())).isEmpty();
+
+        pointService.cancelEarn(CancelEarnRequest.builder()
+                .pointKey(firstRefund)
+                .reason("재적립 취소")
+                .build(), UUID.randomUUID().toString());
+
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(300L);
+    }
+
+    private void expire(String pointKey) {
+        PointTransaction lot = pointTransactionRepository.findByPointKey(pointKey).orElseThrow();
+        lot.setExpirationDate(LocalDateTime.now().minusDays(1));
+        pointTransactionRepository.save(lot);
+    }
+
+    private EarnResponse earn(long amount) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(false)
+                .description("재적립 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private void use(String orderNumber, long amount) {
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private CancelUseResponse cancelUse(String orderNumber, long amount) {
+        return pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .reason("만료 포인트 취소")
+                .build(), UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,177 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.service.PointService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.UnexpectedRollbackException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+    "point.group-commit.enabled=true",
+    "point.group-commit.max-batch-size=32",
+    "point.group-commit.max-delay-millis=50"
+})
+@DisplayName("그룹 커밋 통합 테스트")
+class GroupCommitIntegrationTest {
+
+    private static final int REQUEST_COUNT = 20;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("여러 사용자의 동시 적립은 더 적은 수의 배치 트랜잭션으로 모두 커밋")
+    void testConcurrentEarnsAreBatched() throws Exception {
+        DistributionSummary batchSize = meterRegistry.summary("point.group-commit.batch.size");
+        long batchesBefore = batchSize.count();
+
+        List<String> userIds = new ArrayList<>();
+        List<Callable<EarnResponse>> earns = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            String userId = "test-user-" + UUID.randomUUID();
+            userIds.add(userId);
+            earns.add(() -> earn(userId, 1000L, UUID.randomUUID().toString()));
+        }
+
+        List<Future<EarnResponse>> results = runConcurrently(earns);
+
+        for (Future<EarnResponse> result : results) {
+            assertThat(result.get().amount()).isEqualTo(1000L);
+        }
+        for (String userId : userIds) {
+            assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(1000L);
+        }
+        assertThat(batchSize.count() - batchesBefore).isLessThan(REQUEST_COUNT);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 동시 적립도 배치 안에서 순서대로 적용되어 모두 성공")
+    void testConcurrentEarnsForSameUser() throws Exception {
+        String userId = "test-user-" + UUID.randomUUID();
+        List<Callable<EarnResponse>> earns = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            earns.add(() -> earn(userId, 100L, UUID.randomUUID().toString()));
+        }
+
+        for (Future<EarnResponse> result : runConcurrently(earns)) {
+            assertThat(result.get().amount()).isEqualTo(100L);
+        }
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(REQUEST_COUNT * 100L);
+    }
+
+    @Test
+    @DisplayName("배치 안에서 실패한 명령만 롤백되고 나머지 명령은 커밋")
+    void testFailedCommandDoesNotAffectBatch() throws Exception {
+        String failingUserId = "test-user-" + UUID.randomUUID();
+        earn(failingUserId, 1000L, UUID.randomUUID().toString());
+
+        List<String> userIds = new ArrayList<>();
+        List<String> idempotencyKeys = new ArrayList<>();
+        List<Callable<Object>> commands = new ArrayList<>();
+        commands.add(() -> pointService.usePoints(UseRequest.builder()
+                .userId(failingUserId)
+                .orderNumber("ORDER-GROUP-" + UUID.randomUUID())
+                .amount(5000L)
+                .build(), UUID.randomUUID().toString()));
+        for (int i = 0; i < REQUEST_COUNT - 1; i++) {
+            String userId = "test-user-" + UUID.randomUUID();
+            String idempotencyKey = UUID.randomUUID().toString();
+            userIds.add(userId);
+            idempotencyKeys.add(idempotencyKey);
+            commands.add(() -> earn(userId, 500L, idempotencyKey));
+        }
+
+        List<Future<Object>> results = runConcurrently(commands);
+
+        // 잔액 부족 사용 요청만 실패
+        assertThatThrownBy(() -> results.get(0).get())
+                .isInstanceOf(ExecutionException.class)
+                .cause()
+                .isInstanceOf(PointBusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", "INSUFFICIENT_POINT_BALANCE");
+        assertThat(pointService.getBalance(failingUserId).totalBalance()).isEqualTo(1000L);
+
+        for (int i = 0; i < userIds.size(); i++) {
+            EarnResponse committed = (EarnResponse) results.get(i + 1).get();
+            assertThat(pointService.getBalance(userIds.get(i)).totalBalance()).isEqualTo(500L);
+
+            // 배치와 함께 커밋된 멱등성 레코드로 중복 요청은 같은 응답 반환
+            EarnResponse replay = earn(userIds.get(i), 500L, idempotencyKeys.get(i));
+            assertThat(replay.pointKey()).isEqualTo(committed.pointKey());
+        }
+    }
+
+    @Test
+    @DisplayName("배치 밖 트랜잭션은 참여 트랜잭션 실패 시 기본 동작대로 전체를 rollback-only 로 표시")
+    void testParticipationFailureOutsideBatchMarksRollbackOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> template.executeWithoutResult(status -> {
+            try {
+                template.executeWithoutResult(inner -> {
+                    throw new IllegalStateException("참여 트랜잭션 실패");
+                });
+            } catch (IllegalStateException ignored) {
+                // 바깥 트랜잭션에서 예외를 삼켜도 커밋되지 않아야 함
+            }
+        })).isInstanceOf(UnexpectedRollbackException.class);
+    }
+
+    private EarnResponse earn(String userId, long amount, String idempotencyKey) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(false)
+                .description("그룹 커밋 테스트 적립")
+                .build(), idempotencyKey);
+    }
+
+    private <T> List<Future<T>> runConcurrently(List<Callable<T>> tasks) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch ready = new CountDownLatch(tasks.size());
+        List<Future<T>> futures = new ArrayList<>();
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(executorService.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    return task.call();
+                }));
+            }
+            executorService.shutdown();
+            assertThat(executorService.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+            return futures;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+}
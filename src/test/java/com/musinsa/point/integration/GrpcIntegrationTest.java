@@ -0,0 +1,218 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.grpc.GrpcErrorMapper;
+import com.musinsa.point.grpc.GrpcRequestContextInterceptor;
+import com.musinsa.point.grpc.PointGrpcServer;
+import com.musinsa.point.grpc.proto.PointProto;
+import com.musinsa.point.grpc.proto.PointServiceGrpc;
+import com.musinsa.point.service.PointService;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "point.grpc.enabled=true",
+        "point.grpc.port=0"
+})
+@DisplayName("gRPC 엔드포인트 통합 테스트")
+class GrpcIntegrationTest {
+
+    @Autowired
+    private PointGrpcServer pointGrpcServer;
+
+    @Autowired
+    private PointService pointService;
+
+    private ManagedChannel channel;
+
+    @BeforeEach
+    void setUp() {
+        channel = ManagedChannelBuilder.forAddress("localhost", pointGrpcServer.getPort())
+                .usePlaintext()
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("사용 / 사용 취소 단건 호출이 REST 와 같은 결과를 반환하고, 같은 멱등성 키 재호출은 저장된 응답을 반환")
+    void testUseAndCancelUse() {
+        String userId = "grpc-user-" + UUID.randomUUID();
+        String orderNumber = "ORDER-" + UUID.randomUUID();
+        earn(userId, 1000L);
+
+        String useKey = UUID.randomUUID().toString();
+        PointProto.UseRequest useRequest = PointProto.UseRequest.newBuilder()
+                .setUserId(userId)
+                .setOrderNumber(orderNumber)
+                .setAmount(700L)
+                .build();
+        PointProto.UseResponse used = stub(useKey).use(useRequest);
+
+        assertThat(used.getUsedAmount()).isEqualTo(700L);
+        assertThat(used.getRemainingBalance()).isEqualTo(300L);
+        assertThat(used.getUsedFromList()).hasSize(1);
+        assertThat(used.getUsedAt()).isNotEmpty();
+
+        PointProto.UseResponse replayed = stub(useKey).use(useRequest);
+        assertThat(replayed.getUsePointKey()).isEqualTo(used.getUsePointKey());
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(300L);
+
+        PointProto.CancelUseResponse canceled = stub(UUID.randomUUID().toString()).cancelUse(
+                PointProto.CancelUseRequest.newBuilder()
+                        .setOrderNumber(orderNumber)
+                        .setAmount(200L)
+                        .build());
+
+        assertThat(canceled.getOriginalUsePointKey()).isEqualTo(used.getUsePointKey());
+        assertThat(canceled.getCanceledAmount()).isEqualTo(200L);
+        assertThat(canceled.getTotalBalance()).isEqualTo(500L);
+
+        PointProto.BalanceResponse balance = stub(null).getBalance(PointProto.GetBalanceRequest.newBuilder()
+                .setUserId(userId)
+                .setConsistencyToken(canceled.getConsistencyToken())
+                .build());
+        assertThat(balance.getTotalBalance()).isEqualTo(500L);
+    }
+
+    @Test
+    @DisplayName("멱등성 키 누락 / 검증 실패 / 비즈니스 예외는 상태 코드와 error-code 트레일러로 반환")
+    void testErrorsAreMappedToStatus() {
+        String userId = "grpc-user-" + UUID.randomUUID();
+        earn(userId, 100L);
+        PointProto.UseRequest request = PointProto.UseRequest.newBuilder()
+                .setUserId(userId)
+                .setOrderNumber("ORDER-" + UUID.randomUUID())
+                .setAmount(500L)
+                .build();
+
+        assertThatThrownBy(() -> stub(null).use(request))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, ex -> {
+                    assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                    assertThat(errorCode(ex)).isEqualTo("VALIDATION_ERROR");
+                });
+
+        assertThatThrownBy(() -> stub(UUID.randomUUID().toString()).use(request.toBuilder().setAmount(0L).build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, ex -> {
+                    assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                    assertThat(errorCode(ex)).isEqualTo("VALIDATION_ERROR");
+                });
+
+        assertThatThrownBy(() -> stub(UUID.randomUUID().toString()).use(request))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, ex -> {
+                    assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.INVALID_ARGUMENT);
+                    assertThat(errorCode(ex)).isEqualTo("INSUFFICIENT_POINT_BALANCE");
+                });
+
+        assertThatThrownBy(() -> stub(UUID.randomUUID().toString()).cancelUse(PointProto.CancelUseRequest.newBuilder()
+                .setOrderNumber("ORDER-NOT-EXISTS-" + UUID.randomUUID())
+                .setAmount(100L)
+                .build()))
+                .isInstanceOfSatisfying(StatusRuntimeException.class, ex -> {
+                    assertThat(ex.getStatus().getCode()).isEqualTo(Status.Code.NOT_FOUND);
+                    assertThat(errorCode(ex)).isEqualTo("ORDER_NUMBER_NOT_FOUND");
+                });
+    }
+
+    @Test
+    @DisplayName("사용 스트림은 명령마다 결과를 반환하고, 실패한 명령이 있어도 스트림을 유지")
+    void testUseStream() throws InterruptedException {
+        String userId = "grpc-user-" + UUID.randomUUID();
+        earn(userId, 1000L);
+
+        Map<String, PointProto.UseResult> results = new ConcurrentHashMap<>();
+        CountDownLatch completed = new CountDownLatch(1);
+        StreamObserver<PointProto.UseCommand> commands = PointServiceGrpc.newStub(channel)
+                .useStream(new StreamObserver<>() {
+                    @Override
+                    public void onNext(PointProto.UseResult result) {
+                        results.put(result.getIdempotencyKey(), result);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        completed.countDown();
+                    }
+
+                    @Override
+                    public void onCompleted() {
+                        completed.countDown();
+                    }
+                });
+
+        List<String> keys = List.of("stream-1-" + UUID.randomUUID(), "stream-2-" + UUID.randomUUID(),
+                "stream-3-" + UUID.randomUUID());
+        Map<String, Long> amounts = Map.of(keys.get(0), 400L, keys.get(1), 400L, keys.get(2), 5000L);
+        for (String key : keys) {
+            commands.onNext(PointProto.UseCommand.newBuilder()
+                    .setIdempotencyKey(key)
+                    .setRequest(PointProto.UseRequest.newBuilder()
+                            .setUserId(userId)
+                            .setOrderNumber("ORDER-" + UUID.randomUUID())
+                            .setAmount(amounts.get(key)))
+                    .build());
+        }
+        commands.onCompleted();
+
+        assertThat(completed.await(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(results).hasSize(3);
+        Map<String, PointProto.UseResult.ResultCase> outcomes = keys.stream()
+                .collect(Collectors.toMap(Function.identity(), key -> results.get(key).getResultCase()));
+        assertThat(outcomes.get(keys.get(0))).isEqualTo(PointProto.UseResult.ResultCase.RESPONSE);
+        assertThat(outcomes.get(keys.get(1))).isEqualTo(PointProto.UseResult.ResultCase.RESPONSE);
+        assertThat(outcomes.get(keys.get(2))).isEqualTo(PointProto.UseResult.ResultCase.ERROR);
+        assertThat(results.get(keys.get(2)).getError().getErrorCode()).isEqualTo("INSUFFICIENT_POINT_BALANCE");
+        assertThat(results.get(keys.get(2)).getError().getStatus()).isEqualTo("INVALID_ARGUMENT");
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(200L);
+    }
+
+    private PointServiceGrpc.PointServiceBlockingStub stub(String idempotencyKey) {
+        Metadata headers = new Metadata();
+        headers.put(GrpcRequestContextInterceptor.REQUEST_ID_HEADER, "grpc-test-" + UUID.randomUUID());
+        if (idempotencyKey != null) {
+            headers.put(GrpcRequestContextInterceptor.IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+        return PointServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers))
+                .withDeadlineAfter(10, TimeUnit.SECONDS);
+    }
+
+    private String errorCode(StatusRuntimeException ex) {
+        return ex.getTrailers().get(GrpcErrorMapper.ERROR_CODE);
+    }
+
+    private void earn(String userId, long amount) {
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(false)
+                .description("gRPC 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+}
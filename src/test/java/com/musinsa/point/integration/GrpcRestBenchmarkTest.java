@@ -0,0 +1,244 @@
+package com.musinsa.point.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.dto.UseResponse;
+import com.musinsa.point.dto.UsedFromDetail;
+import com.musinsa.point.grpc.GrpcRequestContextInterceptor;
+import com.musinsa.point.grpc.PointGrpcServer;
+import com.musinsa.point.grpc.proto.PointProto;
+import com.musinsa.point.grpc.proto.PointServiceGrpc;
+import com.musinsa.point.service.PointService;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.stub.MetadataUtils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * REST(JSON / HTTP 1.1) 와 gRPC(protobuf / HTTP 2) 포인트 사용 경로 벤치마크
+ * 실행: ./gradlew test --tests '*GrpcRestBenchmarkTest*' -PpointBenchmark
+ *
+ * - 코덱: UseRequest / UseResponse 직렬화 + 역직렬화만 반복하여 요청당 CPU 시간과 할당량을 측정 (측정 스레드 기준)
+ * - 전 구간: 같은 JVM 의 클라이언트로 사용 + 전체 사용 취소를 반복하여 요청당 경과 시간과 프로세스 CPU 시간을 측정
+ *   (클라이언트와 서버가 같은 프로세스이므로 양쪽 인코딩/디코딩 비용이 모두 포함됨)
+ */
+@EnabledIfSystemProperty(named = "point.benchmark", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "point.grpc.enabled=true",
+        "point.grpc.port=0",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.musinsa.point=WARN",
+        "spring.jpa.show-sql=false"
+})
+@DisplayName("REST / gRPC 포인트 사용 경로 벤치마크")
+class GrpcRestBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(GrpcRestBenchmarkTest.class);
+
+    private static final long EARN_AMOUNT = 1000L;
+    private static final long USE_AMOUNT = 500L;
+    private static final int CODEC_WARMUP_ITERATIONS = 20_000;
+    private static final int CODEC_MEASURED_ITERATIONS = 100_000;
+    private static final int WARMUP_ITERATIONS = 300;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    @LocalServerPort
+    private int restPort;
+
+    @Autowired
+    private PointGrpcServer pointGrpcServer;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("사용 요청 / 응답 코덱 CPU 시간 / 할당량")
+    void benchmarkCodec() throws Exception {
+        UseRequest request = new UseRequest("bench-user-" + UUID.randomUUID(), "BENCH-" + UUID.randomUUID(), USE_AMOUNT);
+        UseResponse response = UseResponse.builder()
+                .usePointKey(UUID.randomUUID().toString())
+                .userId(request.getUserId())
+                .orderNumber(request.getOrderNumber())
+                .usedAmount(USE_AMOUNT)
+                .remainingBalance(EARN_AMOUNT - USE_AMOUNT)
+                .usedFrom(List.of(
+                        new UsedFromDetail(UUID.randomUUID().toString(), 300L),
+                        new UsedFromDetail(UUID.randomUUID().toString(), 200L)))
+                .usedAt(LocalDateTime.now())
+                .build();
+        PointProto.UseRequest protoRequest = PointProto.UseRequest.newBuilder()
+                .setUserId(request.getUserId())
+                .setOrderNumber(request.getOrderNumber())
+                .setAmount(request.getAmount())
+                .build();
+        PointProto.UseResponse.Builder protoResponseBuilder = PointProto.UseResponse.newBuilder()
+                .setUsePointKey(response.usePointKey())
+                .setUserId(response.userId())
+                .setOrderNumber(response.orderNumber())
+                .setUsedAmount(response.usedAmount())
+                .setRemainingBalance(response.remainingBalance())
+                .setUsedAt(response.usedAt().toString());
+        for (UsedFromDetail detail : response.usedFrom()) {
+            protoResponseBuilder.addUsedFrom(PointProto.UsedFrom.newBuilder()
+                    .setEarnPointKey(detail.earnPointKey())
+                    .setUsedAmount(detail.usedAmount()));
+        }
+        PointProto.UseResponse protoResponse = protoResponseBuilder.build();
+
+        ThrowingRunnable json = () -> {
+            objectMapper.readValue(objectMapper.writeValueAsBytes(request), UseRequest.class);
+            objectMapper.readValue(objectMapper.writeValueAsBytes(response), UseResponse.class);
+        };
+        ThrowingRunnable protobuf = () -> {
+            PointProto.UseRequest.parseFrom(protoRequest.toByteArray());
+            PointProto.UseResponse.parseFrom(protoResponse.toByteArray());
+        };
+
+        log.warn("사용 코덱 크기 - json: {} + {} bytes, protobuf: {} + {} bytes",
+                objectMapper.writeValueAsBytes(request).length, objectMapper.writeValueAsBytes(response).length,
+                protoRequest.getSerializedSize(), protoResponse.getSerializedSize());
+        measureCodec("json", json);
+        measureCodec("protobuf", protobuf);
+    }
+
+    @Test
+    @DisplayName("사용 + 사용 취소 요청당 경과 시간 / 프로세스 CPU 시간")
+    void benchmarkEndToEnd() throws Exception {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        String restUserId = earnedUser();
+        ThrowingRunnable rest = () -> {
+            String orderNumber = "BENCH-" + UUID.randomUUID();
+            post(httpClient, "/use", Map.of("userId", restUserId, "orderNumber", orderNumber, "amount", USE_AMOUNT));
+            post(httpClient, "/cancel-use", Map.of("orderNumber", orderNumber, "amount", USE_AMOUNT, "reason", "벤치마크 취소"));
+        };
+
+        ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", pointGrpcServer.getPort())
+                .usePlaintext()
+                .build();
+        try {
+            String grpcUserId = earnedUser();
+            PointServiceGrpc.PointServiceBlockingStub stub = PointServiceGrpc.newBlockingStub(channel);
+            ThrowingRunnable grpc = () -> {
+                String orderNumber = "BENCH-" + UUID.randomUUID();
+                withIdempotencyKey(stub).use(PointProto.UseRequest.newBuilder()
+                        .setUserId(grpcUserId)
+                        .setOrderNumber(orderNumber)
+                        .setAmount(USE_AMOUNT)
+                        .build());
+                long totalBalance = withIdempotencyKey(stub).cancelUse(PointProto.CancelUseRequest.newBuilder()
+                        .setOrderNumber(orderNumber)
+                        .setAmount(USE_AMOUNT)
+                        .setReason("벤치마크 취소")
+                        .build()).getTotalBalance();
+                assertThat(totalBalance).isEqualTo(EARN_AMOUNT);
+            };
+
+            measureEndToEnd("rest", rest);
+            measureEndToEnd("grpc", grpc);
+        } finally {
+            channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        }
+    }
+
+    private void measureCodec(String codec, ThrowingRunnable roundTrip) throws Exception {
+        for (int i = 0; i < CODEC_WARMUP_ITERATIONS; i++) {
+            roundTrip.run();
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long startCpuNanos = threadMXBean.getCurrentThreadCpuTime();
+        long startAllocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < CODEC_MEASURED_ITERATIONS; i++) {
+            roundTrip.run();
+        }
+        long cpuNanos = threadMXBean.getCurrentThreadCpuTime() - startCpuNanos;
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+
+        log.warn("사용 코덱 벤치마크 - codec: {}, roundTrips: {}, cpu: {} ns/op, allocated: {} B/op",
+                codec, CODEC_MEASURED_ITERATIONS, cpuNanos / CODEC_MEASURED_ITERATIONS,
+                allocatedBytes / CODEC_MEASURED_ITERATIONS);
+    }
+
+    private void measureEndToEnd(String transport, ThrowingRunnable runOnce) throws Exception {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runOnce.run();
+        }
+
+        com.sun.management.OperatingSystemMXBean osMXBean =
+                (com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+        long startCpuNanos = osMXBean.getProcessCpuTime();
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            runOnce.run();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+        long cpuNanos = osMXBean.getProcessCpuTime() - startCpuNanos;
+
+        // 사용 1 + 사용 취소 1 = 요청 2 건
+        int requests = MEASURED_ITERATIONS * 2;
+        log.warn("REST / gRPC 벤치마크 - transport: {}, requests: {}, latency: {} us/req, process cpu: {} us/req",
+                transport, requests, elapsedNanos / requests / 1_000, cpuNanos / requests / 1_000);
+    }
+
+    private void post(HttpClient httpClient, String path, Map<String, Object> body) throws Exception {
+        HttpResponse<byte[]> response = httpClient.send(HttpRequest.newBuilder()
+                .uri(URI.create("http://localhost:" + restPort + "/api/v1/points" + path))
+                .header("Content-Type", "application/json")
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build(), HttpResponse.BodyHandlers.ofByteArray());
+        assertThat(response.statusCode()).isEqualTo(200);
+        objectMapper.readTree(response.body());
+    }
+
+    private PointServiceGrpc.PointServiceBlockingStub withIdempotencyKey(PointServiceGrpc.PointServiceBlockingStub stub) {
+        Metadata headers = new Metadata();
+        headers.put(GrpcRequestContextInterceptor.IDEMPOTENCY_KEY_HEADER, UUID.randomUUID().toString());
+        return stub.withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    private String earnedUser() {
+        String userId = "bench-user-" + UUID.randomUUID();
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(EARN_AMOUNT)
+                .isManualGrant(false)
+                .description("벤치마크 적립")
+                .build(), UUID.randomUUID().toString());
+        return userId;
+    }
+
+    @FunctionalInterface
+    private interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
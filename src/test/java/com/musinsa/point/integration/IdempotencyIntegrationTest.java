@@ -1,14 +1,22 @@
 package com.musinsa.point.integration;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.point.codec.GzipJsonPayloadCodec;
+import com.musinsa.point.domain.IdempotencyRecord;
 import com.musinsa.point.dto.*;
+import com.musinsa.point.repository.IdempotencyRecordRepository;
 import com.musinsa.point.service.PointService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -21,11 +29,22 @@ class IdempotencyIntegrationTest {
     @Autowired
     private PointService pointService;
 
+    @Autowired
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private String userId;
+    private String orderNumber;
 
     @BeforeEach
     void setUp() {
         userId = "test-user-" + UUID.randomUUID();
+        orderNumber = "ORDER-001-" + UUID.randomUUID();
     }
 
     @Test
@@ -113,7 +132,7 @@ class IdempotencyIntegrationTest {
 
         UseRequest request = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(1000L)
                 .build();
 
@@ -150,7 +169,7 @@ class IdempotencyIntegrationTest {
         // 포인트 사용
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(1000L)
                 .build();
 
@@ -160,7 +179,7 @@ class IdempotencyIntegrationTest {
         String idempotencyKey = UUID.randomUUID().toString();
 
         CancelUseRequest request = CancelUseRequest.builder()
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(500L)
                 .reason("멱등성 테스트")
                 .build();
@@ -181,4 +200,71 @@ class IdempotencyIntegrationTest {
         BalanceResponse balance = pointService.getBalance(userId);
         assertThat(balance.totalBalance()).isEqualTo(1500L); // 2000 - 1000 + 500
     }
+
+    @Test
+    @DisplayName("응답은 코덱 버전 바이트가 붙은 압축 페이로드로 저장되며 원본 JSON 보다 작음")
+    void testResponseStoredAsCompressedPayload() throws Exception {
+        for (int i = 0; i < 10; i++) {
+            pointService.earnPoints(EarnRequest.builder()
+                    .userId(userId)
+                    .amount(100L)
+                    .isManualGrant(false)
+                    .build(), UUID.randomUUID().toString());
+        }
+
+        // 10개 적립에서 차감되어 usedFrom 이 10건인 응답
+        String idempotencyKey = UUID.randomUUID().toString();
+        UseResponse response = pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber("ORDER-CODEC-" + UUID.randomUUID())
+                .amount(1000L)
+                .build(), idempotencyKey);
+
+        IdempotencyRecord record = idempotencyRecordRepository.findByIdempotencyKey(idempotencyKey).orElseThrow();
+        byte[] json = objectMapper.writeValueAsBytes(response);
+
+        assertThat(record.getResponseBody()).isNull();
+        assertThat(record.getResponsePayload()[0]).isEqualTo(GzipJsonPayloadCodec.VERSION);
+        assertThat(record.getResponsePayload().length).isLessThan(json.length);
+    }
+
+    @Test
+    @DisplayName("코덱 페이로드가 없는 이전 형식(JSON TEXT) 레코드도 그대로 응답으로 복원")
+    void testLegacyTextRecordReadable() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+        EarnResponse legacyResponse = EarnResponse.builder()
+                .pointKey("LEGACY-POINT-KEY")
+                .userId(userId)
+                .amount(700L)
+                .availableBalance(700L)
+                .totalBalance(700L)
+                .isManualGrant(false)
+                .build();
+
+        // 이전 버전이 저장한 레코드 (response_body 만 존재, 별도 트랜잭션으로 커밋)
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        requiresNew.executeWithoutResult(status -> {
+            try {
+                idempotencyRecordRepository.save(IdempotencyRecord.builder()
+                        .idempotencyKey(idempotencyKey)
+                        .responseBody(objectMapper.writeValueAsString(legacyResponse))
+                        .httpStatus(200)
+                        .createdAt(LocalDateTime.now())
+                        .expiresAt(LocalDateTime.now().plusHours(24))
+                        .build());
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        EarnResponse response = pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(700L)
+                .isManualGrant(false)
+                .build(), idempotencyKey);
+
+        assertThat(response.pointKey()).isEqualTo("LEGACY-POINT-KEY");
+        assertThat(pointService.getBalance(userId).totalBalance()).isZero();
+    }
 }
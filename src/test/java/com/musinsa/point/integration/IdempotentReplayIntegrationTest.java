@@ -0,0 +1,130 @@
+package com.musinsa.point.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.service.PointService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("멱등성 응답 재전송 통합 테스트")
+class IdempotentReplayIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("중복 요청은 저장된 응답 바이트를 상태 코드와 재전송 헤더와 함께 그대로 반환")
+    void testDuplicateRequestReplaysStoredBody() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        MockHttpServletResponse first = earn(idempotencyKey, null);
+        MockHttpServletResponse replay = earn(idempotencyKey, null);
+
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(first.getHeader("Idempotent-Replayed")).isNull();
+
+        assertThat(replay.getStatus()).isEqualTo(200);
+        assertThat(replay.getHeader("Idempotent-Replayed")).isEqualTo("true");
+        assertThat(replay.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(objectMapper.readTree(replay.getContentAsByteArray()))
+                .isEqualTo(objectMapper.readTree(first.getContentAsByteArray()));
+    }
+
+    @Test
+    @DisplayName("gzip 을 받는 클라이언트에는 압축된 저장 본문을 압축 해제 없이 전송")
+    void testReplayWithGzipEncoding() throws Exception {
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        MockHttpServletResponse first = earn(idempotencyKey, null);
+        MockHttpServletResponse replay = earn(idempotencyKey, "gzip, deflate");
+
+        assertThat(replay.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        byte[] inflated;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(replay.getContentAsByteArray()))) {
+            inflated = gzip.readAllBytes();
+        }
+        assertThat(objectMapper.readTree(inflated)).isEqualTo(objectMapper.readTree(first.getContentAsByteArray()));
+    }
+
+    @Test
+    @DisplayName("인터셉터가 레코드 없음을 확인한 요청은 서비스 계층에서 멱등성 레코드를 다시 조회하지 않음")
+    void testServiceSkipsCheckAfterInterceptorMiss() throws Exception {
+        double skippedBefore = skippedChecks();
+
+        MockHttpServletResponse first = earn(UUID.randomUUID().toString(), null);
+        assertThat(first.getStatus()).isEqualTo(200);
+        assertThat(skippedChecks()).isEqualTo(skippedBefore + 1);
+
+        // 인터셉터를 거치지 않는 호출은 서비스 계층에서 조회
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(1000L)
+                .isManualGrant(false)
+                .description("재전송 테스트")
+                .build(), UUID.randomUUID().toString());
+        assertThat(skippedChecks()).isEqualTo(skippedBefore + 1);
+    }
+
+    private double skippedChecks() {
+        return meterRegistry.counter("point.idempotency.check.skipped").count();
+    }
+
+    private MockHttpServletResponse earn(String idempotencyKey, String acceptEncoding) throws Exception {
+        EarnRequest request = EarnRequest.builder()
+                .userId(userId)
+                .amount(1000L)
+                .isManualGrant(false)
+                .description("재전송 테스트")
+                .build();
+
+        MockHttpServletRequestBuilder builder = post("/api/v1/points/earn")
+                .header("Idempotency-Key", idempotencyKey)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(request));
+        if (acceptEncoding != null) {
+            builder.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        MvcResult result = mockMvc.perform(builder).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result.getResponse();
+    }
+}
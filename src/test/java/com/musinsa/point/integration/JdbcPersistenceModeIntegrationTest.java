@@ -0,0 +1,196 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.dto.BalanceSummaryResponse;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.CancelUseResponse;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.dto.UseResponse;
+import com.musinsa.point.repository.UserPointSummaryRepository;
+import com.musinsa.point.service.JdbcPointUseStore;
+import com.musinsa.point.service.PointService;
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "point.use.persistence-mode=jdbc",
+        "point.use.deduction-mode=set-based"
+})
+@DisplayName("JDBC 저장 방식 사용/사용 취소 통합 테스트")
+class JdbcPersistenceModeIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private JdbcPointUseStore jdbcPointUseStore;
+
+    @Autowired
+    private UserPointSummaryRepository userPointSummaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("사용 후 부분 취소 / 나머지 취소 시 잔액, 적립 잔액, 요약 세부 잔액, 이력이 엔티티 방식과 같게 반영")
+    void testUseAndCancelUse() {
+        EarnResponse manualLot = earn(500L, true);
+        EarnResponse autoLot = earn(1000L, false);
+        String orderNumber = "ORDER-JDBC-" + UUID.randomUUID();
+
+        UseResponse used = use(orderNumber, 800L);
+        assertThat(used.remainingBalance()).isEqualTo(700L);
+        assertThat(used.usedAt()).isNotNull();
+        assertThat(lotBalance(manualLot.pointKey())).isZero();
+        assertThat(lotBalance(autoLot.pointKey())).isEqualTo(700L);
+
+        // 부분 취소 - 나중에 차감된 자동 지급 적립부터 복구
+        CancelUseResponse partial = cancelUse(orderNumber, 200L);
+        assertThat(partial.totalBalance()).isEqualTo(900L);
+        assertThat(partial.restoredPoints()).singleElement()
+                .satisfies(restored -> assertThat(restored.earnPointKey()).isEqualTo(autoLot.pointKey()));
+        assertThat(lotBalance(autoLot.pointKey())).isEqualTo(900L);
+
+        CancelUseResponse rest = cancelUse(orderNumber, 600L);
+        assertThat(rest.totalBalance()).isEqualTo(1500L);
+        assertThat(lotBalance(manualLot.pointKey())).isEqualTo(500L);
+        assertThat(lotBalance(autoLot.pointKey())).isEqualTo(1000L);
+
+        BalanceSummaryResponse summary = pointService.getBalanceSummary(userId);
+        assertThat(summary.manualGrantBalance()).isEqualTo(500L);
+        assertThat(summary.autoGrantBalance()).isEqualTo(1000L);
+        assertThat(summary.activeLotCount()).isEqualTo(2);
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(1500L);
+
+        // 적립 2 + 사용 1 + 사용 취소 2
+        Long historyCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_history WHERE user_id = ?", Long.class, userId);
+        assertThat(historyCount).isEqualTo(5L);
+        assertThatThrownBy(() -> cancelUse(orderNumber, 1L)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 적립에서 사용한 금액의 취소는 신규 적립으로 생성")
+    void testCancelUseOfExpiredLotCreatesNewEarn() {
+        EarnResponse lot = earn(1000L, false);
+        String orderNumber = "ORDER-JDBC-" + UUID.randomUUID();
+        use(orderNumber, 400L);
+
+        jdbcTemplate.update("UPDATE point_transactions SET expiration_date = ? WHERE point_key = ?",
+                LocalDateTime.now().minusDays(1), lot.pointKey());
+
+        CancelUseResponse response = cancelUse(orderNumber, 400L);
+
+        assertThat(response.restoredPoints()).isEmpty();
+        assertThat(response.newlyEarnedPoints()).singleElement()
+                .satisfies(newlyEarned -> assertThat(lotBalance(newlyEarned.pointKey())).isEqualTo(400L));
+        assertThat(lotBalance(lot.pointKey())).isEqualTo(600L);
+        assertThat(response.totalBalance()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("한 주문의 두 사용은 매핑 테이블 조회로 함께 취소")
+    void testCancelUseSpansMultipleUsesOfOrder() {
+        EarnResponse lot = earn(1000L, false);
+        String orderNumber = "ORDER-JDBC-" + UUID.randomUUID();
+        UseResponse first = use(orderNumber, 300L);
+        UseResponse second = use(orderNumber, 200L);
+
+        CancelUseResponse response = cancelUse(orderNumber, 500L);
+
+        assertThat(response.originalUsePointKeys()).containsExactly(second.usePointKey(), first.usePointKey());
+        assertThat(response.totalBalance()).isEqualTo(1000L);
+        assertThat(lotBalance(lot.pointKey())).isEqualTo(1000L);
+        assertThatThrownBy(() -> cancelUse(orderNumber, 1L)).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    @DisplayName("조회 이후 다른 트랜잭션이 요약을 변경하면 version 조건부 UPDATE 가 OptimisticLockException")
+    void testStaleSummaryVersionRejected() {
+        earn(1000L, false);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            UserPointSummary summary = jdbcPointUseStore.findSummary(userId).orElseThrow();
+            jdbcTemplate.update("UPDATE user_point_summaries SET version = version + 1 WHERE user_id = ?", userId);
+            summary.setTotalBalance(summary.getTotalBalance() - 100L);
+            jdbcPointUseStore.saveSummary(summary);
+        })).isInstanceOf(OptimisticLockException.class);
+
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("같은 트랜잭션에 로딩된 요약 엔티티는 JDBC 저장 후 갱신되어 커밋 시 덮어쓰지 않음")
+    void testManagedSummaryRefreshedAfterJdbcSave() {
+        earn(1000L, false);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            UserPointSummary managed = userPointSummaryRepository.findByUserId(userId).orElseThrow();
+            UserPointSummary summary = jdbcPointUseStore.findSummary(userId).orElseThrow();
+            summary.setTotalBalance(summary.getTotalBalance() - 300L);
+            jdbcPointUseStore.saveSummary(summary);
+
+            assertThat(managed.getTotalBalance()).isEqualTo(700L);
+            assertThat(managed.getVersion()).isEqualTo(summary.getVersion());
+        });
+
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(700L);
+    }
+
+    private long lotBalance(String pointKey) {
+        return jdbcTemplate.queryForObject(
+                "SELECT available_balance FROM point_transactions WHERE point_key = ?", Long.class, pointKey);
+    }
+
+    private EarnResponse earn(long amount, boolean isManualGrant) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(isManualGrant)
+                .description("JDBC 저장 방식 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private UseResponse use(String orderNumber, long amount) {
+        return pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private CancelUseResponse cancelUse(String orderNumber, long amount) {
+        return pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .reason("JDBC 저장 방식 취소")
+                .build(), UUID.randomUUID().toString());
+    }
+}
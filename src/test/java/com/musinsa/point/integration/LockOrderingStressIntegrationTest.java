@@ -0,0 +1,134 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.BalanceSummaryResponse;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.service.PointService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("잠금 순서 스트레스 통합 테스트")
+class LockOrderingStressIntegrationTest {
+
+    private static final int LOT_COUNT = 10;
+    private static final long LOT_AMOUNT = 1000L;
+    private static final int ORDER_COUNT = 4;
+    private static final long ORDER_AMOUNT = 1500L;
+    private static final int THREAD_COUNT = 8;
+    private static final int OPERATIONS_PER_THREAD = 10;
+    private static final long CANCEL_AMOUNT = 30L;
+    private static final long USE_AMOUNT = 20L;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("겹치는 적립의 동시 부분 취소 / 사용에서 교착 상태와 잠금 대기 초과 없이 모두 성공하고 잔액 일치")
+    void testConcurrentPartialCancelsAndUsesWithoutDeadlock() throws InterruptedException {
+        String userId = "test-user-" + UUID.randomUUID();
+        for (int i = 0; i < LOT_COUNT; i++) {
+            pointService.earnPoints(EarnRequest.builder()
+                    .userId(userId)
+                    .amount(LOT_AMOUNT)
+                    .isManualGrant(false)
+                    .description("스트레스 테스트 적립")
+                    .build(), UUID.randomUUID().toString());
+        }
+
+        // 주문마다 1500 사용 - 이웃한 주문끼리 같은 적립을 나눠 사용
+        List<String> orderNumbers = new ArrayList<>();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            String orderNumber = "ORDER-LOCK-" + UUID.randomUUID();
+            pointService.usePoints(UseRequest.builder()
+                    .userId(userId)
+                    .orderNumber(orderNumber)
+                    .amount(ORDER_AMOUNT)
+                    .build(), UUID.randomUUID().toString());
+            orderNumbers.add(orderNumber);
+        }
+
+        double deadlocksBefore = conflicts("deadlock");
+        double lockTimeoutsBefore = conflicts("lock_timeout");
+
+        // 스레드마다 주문을 돌아가며 부분 취소하고, 사이사이 신규 사용
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            final int threadIndex = t;
+            executorService.submit(() -> {
+                try {
+                    latch.countDown();
+                    latch.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        if (i % 2 == 0) {
+                            pointService.cancelUse(CancelUseRequest.builder()
+                                    .orderNumber(orderNumbers.get((threadIndex + i) % ORDER_COUNT))
+                                    .amount(CANCEL_AMOUNT)
+                                    .reason("동시 부분 취소")
+                                    .build(), UUID.randomUUID().toString());
+                        } else {
+                            pointService.usePoints(UseRequest.builder()
+                                    .userId(userId)
+                                    .orderNumber("ORDER-LOCK-" + UUID.randomUUID())
+                                    .amount(USE_AMOUNT)
+                                    .build(), UUID.randomUUID().toString());
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(60, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(failures).isEmpty();
+        assertThat(conflicts("deadlock")).isEqualTo(deadlocksBefore);
+        assertThat(conflicts("lock_timeout")).isEqualTo(lockTimeoutsBefore);
+
+        int cancels = THREAD_COUNT * OPERATIONS_PER_THREAD / 2;
+        int uses = THREAD_COUNT * OPERATIONS_PER_THREAD / 2;
+        long expectedBalance = LOT_COUNT * LOT_AMOUNT - ORDER_COUNT * ORDER_AMOUNT
+                + cancels * CANCEL_AMOUNT - uses * USE_AMOUNT;
+
+        BalanceSummaryResponse summary = pointService.getBalanceSummary(userId);
+        Long lotBalance = jdbcTemplate.queryForObject(
+                "SELECT SUM(available_balance) FROM point_transactions WHERE user_id = ? AND transaction_type = 'EARN'",
+                Long.class, userId);
+        assertThat(summary.totalBalance()).isEqualTo(expectedBalance);
+        assertThat(lotBalance).isEqualTo(expectedBalance);
+        assertThat(summary.autoGrantBalance()).isEqualTo(expectedBalance);
+    }
+
+    private double conflicts(String type) {
+        return meterRegistry.find("point.lock.conflicts").tag("type", type).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
@@ -0,0 +1,149 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.AvailablePointDetail;
+import com.musinsa.point.dto.BalanceResponse;
+import com.musinsa.point.dto.CancelEarnRequest;
+import com.musinsa.point.dto.CancelEarnResponse;
+import com.musinsa.point.dto.ConsolidationResponse;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.service.LotConsolidationService;
+import com.musinsa.point.service.PointLiabilityService;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+// consolidate() 는 DB 의 모든 사용자를 통합하므로 다른 테스트와 공유하지 않는 DB 사용
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:lot-consolidation-test;DB_CLOSE_DELAY=-1",
+        "point.consolidation.enabled=false",
+        "point.consolidation.min-lots=3"
+})
+@DisplayName("적립 통합 통합 테스트")
+class LotConsolidationIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private LotConsolidationService lotConsolidationService;
+
+    @Autowired
+    private PointLiabilityService pointLiabilityService;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("같은 만료일의 미사용 자동 지급 적립만 하나로 통합되고 잔액과 부채 집계는 유지")
+    void testUntouchedAutoLotsWithSameExpiryAreMerged() {
+        EarnResponse first = earn(100L, false, null);
+        earn(200L, false, null);
+        earn(300L, false, null);
+        EarnResponse last = earn(400L, false, null);
+        EarnResponse manual = earn(1000L, true, null);
+        EarnResponse otherDay = earn(500L, false, 400);
+
+        // 첫 적립 일부 사용 -> 통합 대상에서 제외 (수기 지급 1000 우선 차감 후 첫 적립 50 차감)
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber("ORDER-CONSOLIDATION-" + UUID.randomUUID())
+                .amount(1050L)
+                .build(), UUID.randomUUID().toString());
+
+        long liabilityBefore = pointLiabilityService.getReport().totalOutstanding();
+
+        ConsolidationResponse response = lotConsolidationService.consolidate();
+
+        assertThat(pointLiabilityService.getReport().totalOutstanding()).isEqualTo(liabilityBefore);
+
+        BalanceResponse balance = pointService.getBalance(userId);
+        assertThat(balance.totalBalance()).isEqualTo(1450L);
+        assertThat(balance.availablePoints()).extracting(AvailablePointDetail::availableBalance)
+                .containsExactly(50L, 900L, 500L);
+        assertThat(balance.availablePoints()).extracting(AvailablePointDetail::pointKey)
+                .contains(otherDay.pointKey(), first.pointKey())
+                .doesNotContain(manual.pointKey());
+
+        // 통합 적립의 만료 시각은 원본 중 가장 늦은 만료 시각 (원본 유효기간을 줄이지 않음)
+        // (DB 저장 정밀도가 마이크로초이므로 1 마이크로초 이내 비교)
+        assertThat(balance.availablePoints().get(1).expirationDate())
+                .isCloseTo(last.expirationDate(), within(1, ChronoUnit.MICROS));
+        assertThat(response.mergedLots()).isEqualTo(3L);
+
+        // 통합 후 다시 실행해도 통합 적립은 재통합하지 않음
+        lotConsolidationService.consolidate();
+        assertThat(pointService.getBalance(userId).availablePoints()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("통합된 원본 적립은 통합 적립이 미사용인 동안 원본 금액만큼 취소 가능")
+    void testCancelEarnOnMergedOriginal() {
+        earn(100L, false, null);
+        EarnResponse second = earn(200L, false, null);
+        EarnResponse third = earn(300L, false, null);
+        lotConsolidationService.consolidate();
+
+        CancelEarnResponse cancelResponse = cancel(second.pointKey());
+
+        assertThat(cancelResponse.canceledAmount()).isEqualTo(200L);
+        assertThat(cancelResponse.totalBalance()).isEqualTo(400L);
+        List<AvailablePointDetail> availablePoints = pointService.getBalance(userId).availablePoints();
+        assertThat(availablePoints).hasSize(1);
+        assertThat(availablePoints.get(0).amount()).isEqualTo(400L);
+        assertThat(availablePoints.get(0).availableBalance()).isEqualTo(400L);
+
+        // 같은 원본 재취소 불가
+        assertThatThrownBy(() -> cancel(second.pointKey()))
+                .isInstanceOf(PointBusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo("CANNOT_CANCEL_USED_POINT");
+
+        // 통합 적립이 사용되면 남은 원본도 취소 불가
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber("ORDER-CONSOLIDATION-" + UUID.randomUUID())
+                .amount(10L)
+                .build(), UUID.randomUUID().toString());
+
+        assertThatThrownBy(() -> cancel(third.pointKey()))
+                .isInstanceOf(PointBusinessException.class)
+                .extracting("errorCode")
+                .isEqualTo("CANNOT_CANCEL_USED_POINT");
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(390L);
+    }
+
+    private EarnResponse earn(long amount, boolean isManualGrant, Integer expirationDays) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(isManualGrant)
+                .expirationDays(expirationDays)
+                .description("적립 통합 테스트")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private CancelEarnResponse cancel(String pointKey) {
+        return pointService.cancelEarn(CancelEarnRequest.builder()
+                .pointKey(pointKey)
+                .reason("적립 취소")
+                .build(), UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,109 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.repository.UserPointSummaryRepository;
+import com.musinsa.point.service.EntityLotDeductionExecutor;
+import com.musinsa.point.service.LotDeductionExecutor;
+import com.musinsa.point.service.PointService;
+import com.musinsa.point.service.SetBasedLotDeductionExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 적립 차감 실행기 벤치마크
+ * 실행: ./gradlew test --tests '*LotDeductionBenchmarkTest' -PpointBenchmark
+ *
+ * 적립 LOT_COUNT 건을 보유한 사용자에 대해 LOTS_PER_USE 건을 소진하는 차감을 반복 실행하며,
+ * 매 반복은 롤백하여 동일한 적립 상태에서 측정
+ */
+@SpringBootTest(properties = {
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.musinsa.point=WARN",
+        "spring.jpa.show-sql=false"
+})
+@EnabledIfSystemProperty(named = "point.benchmark", matches = "true")
+@DisplayName("적립 차감 실행기 벤치마크")
+class LotDeductionBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LotDeductionBenchmarkTest.class);
+
+    private static final int LOT_COUNT = 200;
+    private static final long LOT_AMOUNT = 100L;
+    private static final int LOTS_PER_USE = 50;
+    private static final int WARMUP_ITERATIONS = 50;
+    private static final int MEASURED_ITERATIONS = 200;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private EntityLotDeductionExecutor entityLotDeductionExecutor;
+
+    @Autowired
+    private SetBasedLotDeductionExecutor setBasedLotDeductionExecutor;
+
+    @Autowired
+    private UserPointSummaryRepository userPointSummaryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("엔티티 차감과 집합 기반 차감의 반복 실행 시간 비교")
+    void benchmarkDeductionExecutors() {
+        String userId = "bench-user-" + UUID.randomUUID();
+        for (int i = 0; i < LOT_COUNT; i++) {
+            pointService.earnPoints(EarnRequest.builder()
+                    .userId(userId)
+                    .amount(LOT_AMOUNT)
+                    .isManualGrant(false)
+                    .description("벤치마크 적립")
+                    .build(), UUID.randomUUID().toString());
+        }
+
+        long entityNanos = measure(entityLotDeductionExecutor, userId);
+        long setBasedNanos = measure(setBasedLotDeductionExecutor, userId);
+
+        log.warn("적립 차감 벤치마크 - lots: {}, lotsPerUse: {}, iterations: {}, entity: {} us/op, set-based: {} us/op",
+                LOT_COUNT, LOTS_PER_USE, MEASURED_ITERATIONS,
+                entityNanos / MEASURED_ITERATIONS / 1_000, setBasedNanos / MEASURED_ITERATIONS / 1_000);
+    }
+
+    private long measure(LotDeductionExecutor executor, String userId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long amount = LOT_AMOUNT * LOTS_PER_USE;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runOnce(transactionTemplate, executor, userId, amount);
+        }
+
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            runOnce(transactionTemplate, executor, userId, amount);
+        }
+        return System.nanoTime() - startNanos;
+    }
+
+    private void runOnce(TransactionTemplate transactionTemplate, LotDeductionExecutor executor, String userId, long amount) {
+        transactionTemplate.executeWithoutResult(status -> {
+            UserPointSummary summary = userPointSummaryRepository.findByUserId(userId).orElseThrow();
+            int lotCount = executor.deduct(summary, "BENCH-" + UUID.randomUUID(), amount, LocalDateTime.now()).size();
+            assertThat(lotCount).isEqualTo(LOTS_PER_USE);
+            status.setRollbackOnly();
+        });
+    }
+}
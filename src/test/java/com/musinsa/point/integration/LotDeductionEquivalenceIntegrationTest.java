@@ -0,0 +1,191 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.domain.UserPointSummary;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.CancelUseResponse;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.dto.UseResponse;
+import com.musinsa.point.dto.UsedFromDetail;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.repository.UserPointSummaryRepository;
+import com.musinsa.point.service.EntityLotDeductionExecutor;
+import com.musinsa.point.service.LotDeductionExecutor;
+import com.musinsa.point.service.PointService;
+import com.musinsa.point.service.SetBasedLotDeductionExecutor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+@SpringBootTest(properties = "point.use.deduction-mode=set-based")
+@Transactional
+@DisplayName("적립 차감 실행기 동등성 통합 테스트")
+class LotDeductionEquivalenceIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private EntityLotDeductionExecutor entityLotDeductionExecutor;
+
+    @Autowired
+    private SetBasedLotDeductionExecutor setBasedLotDeductionExecutor;
+
+    @Autowired
+    private UserPointSummaryRepository userPointSummaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1L, 300L, 500L, 501L, 1750L, 3100L, 3400L})
+    @DisplayName("엔티티 차감과 집합 기반 차감의 적립별 차감 내역, 남은 잔액, PointAccount 가 동일")
+    void testExecutorsProduceSameAllocation(long amount) {
+        String entityUserId = givenLots();
+        String setBasedUserId = givenLots();
+        LocalDateTime now = LocalDateTime.now();
+
+        List<UsedFromDetail> entityResult = deduct(entityLotDeductionExecutor, entityUserId, amount, now);
+        List<UsedFromDetail> setBasedResult = deduct(setBasedLotDeductionExecutor, setBasedUserId, amount, now);
+        entityManager.flush();
+
+        assertThat(toLotIndexes(setBasedUserId, setBasedResult)).isEqualTo(toLotIndexes(entityUserId, entityResult));
+        assertThat(setBasedResult).extracting(UsedFromDetail::usedAmount)
+                .isEqualTo(entityResult.stream().map(UsedFromDetail::usedAmount).toList());
+        assertThat(lotBalances(setBasedUserId)).isEqualTo(lotBalances(entityUserId));
+        assertThat(accountAmounts(setBasedUserId)).isEqualTo(accountAmounts(entityUserId));
+
+        // 요약 세부 잔액도 같은 값으로 반영
+        UserPointSummary entitySummary = userPointSummaryRepository.findByUserId(entityUserId).orElseThrow();
+        UserPointSummary setBasedSummary = userPointSummaryRepository.findByUserId(setBasedUserId).orElseThrow();
+        assertThat(setBasedSummary.getManualGrantBalance()).isEqualTo(entitySummary.getManualGrantBalance());
+        assertThat(setBasedSummary.getAutoGrantBalance()).isEqualTo(entitySummary.getAutoGrantBalance());
+        assertThat(setBasedSummary.getActiveLotCount()).isEqualTo(entitySummary.getActiveLotCount());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {3401L, 5000L})
+    @DisplayName("사용 가능 잔액을 넘는 차감은 두 실행기 모두 적립을 변경하지 않고 같은 오류로 거절")
+    void testExecutorsRejectOverBalanceTheSameWay(long amount) {
+        String entityUserId = givenLots();
+        String setBasedUserId = givenLots();
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.flush();
+        List<Long> balancesBefore = lotBalances(entityUserId);
+
+        PointBusinessException entityError = catchThrowableOfType(
+                () -> deduct(entityLotDeductionExecutor, entityUserId, amount, now), PointBusinessException.class);
+        PointBusinessException setBasedError = catchThrowableOfType(
+                () -> deduct(setBasedLotDeductionExecutor, setBasedUserId, amount, now), PointBusinessException.class);
+        entityManager.flush();
+
+        assertThat(entityError).isNotNull();
+        assertThat(setBasedError).isNotNull();
+        assertThat(entityError.getErrorCode()).isEqualTo("INSUFFICIENT_POINT_BALANCE");
+        assertThat(setBasedError.getErrorCode()).isEqualTo(entityError.getErrorCode());
+        assertThat(setBasedError.getDetails()).isEqualTo(entityError.getDetails())
+                .containsEntry("availableBalance", 3400L)
+                .containsEntry("requestedAmount", amount);
+        assertThat(lotBalances(entityUserId)).isEqualTo(balancesBefore);
+        assertThat(lotBalances(setBasedUserId)).isEqualTo(balancesBefore);
+        assertThat(accountAmounts(entityUserId)).isEmpty();
+        assertThat(accountAmounts(setBasedUserId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("집합 기반 차감으로 사용한 포인트도 사용 취소 시 원본 적립에 복구")
+    void testSetBasedUseThenCancel() {
+        String userId = givenLots();
+        String orderNumber = "ORDER-SET-" + UUID.randomUUID();
+
+        UseResponse useResponse = pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(1750L)
+                .build(), UUID.randomUUID().toString());
+
+        assertThat(useResponse.usedFrom()).extracting(UsedFromDetail::usedAmount).containsExactly(500L, 1000L, 250L);
+        assertThat(useResponse.remainingBalance()).isEqualTo(1650L);
+
+        CancelUseResponse cancelResponse = pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(1750L)
+                .reason("전체 취소")
+                .build(), UUID.randomUUID().toString());
+
+        assertThat(cancelResponse.totalBalance()).isEqualTo(3400L);
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(3400L);
+        entityManager.flush();
+        assertThat(lotBalances(userId)).containsExactly(1000L, 500L, 1000L, 300L, 600L);
+    }
+
+    /**
+     * 우선순위가 섞인 적립 5건 (합계 3400)
+     * 차감 순서: 수기 500 -> 30일 1000 -> 60일 1000 -> 기본 만료 300 -> 기본 만료 600
+     */
+    private String givenLots() {
+        String userId = "test-user-" + UUID.randomUUID();
+        earn(userId, 1000L, false, 60);
+        earn(userId, 500L, true, null);
+        earn(userId, 1000L, false, 30);
+        earn(userId, 300L, false, null);
+        earn(userId, 600L, false, null);
+        return userId;
+    }
+
+    private void earn(String userId, long amount, boolean isManualGrant, Integer expirationDays) {
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(isManualGrant)
+                .expirationDays(expirationDays)
+                .description("차감 동등성 테스트")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private List<UsedFromDetail> deduct(LotDeductionExecutor executor, String userId, long amount, LocalDateTime now) {
+        UserPointSummary summary = userPointSummaryRepository.findByUserId(userId).orElseThrow();
+        return executor.deduct(summary, "USE-" + UUID.randomUUID(), amount, now);
+    }
+
+    /**
+     * 사용자별 pointKey 가 다르므로 차감된 적립을 적립 순서(index)로 비교
+     */
+    private List<Integer> toLotIndexes(String userId, List<UsedFromDetail> usedFrom) {
+        List<String> lotKeys = jdbcTemplate.queryForList(
+                "SELECT point_key FROM point_transactions WHERE user_id = ? AND transaction_type = 'EARN' ORDER BY id",
+                String.class, userId);
+        return usedFrom.stream().map(detail -> lotKeys.indexOf(detail.earnPointKey())).toList();
+    }
+
+    private List<Long> lotBalances(String userId) {
+        return jdbcTemplate.queryForList(
+                "SELECT available_balance FROM point_transactions WHERE user_id = ? AND transaction_type = 'EARN' ORDER BY id",
+                Long.class, userId);
+    }
+
+    private List<Long> accountAmounts(String userId) {
+        return jdbcTemplate.queryForList("""
+                SELECT a.used_amount FROM point_accounts a
+                JOIN point_transactions t ON t.point_key = a.earn_point_key
+                WHERE t.user_id = ?
+                ORDER BY t.id
+                """, Long.class, userId);
+    }
+}
@@ -0,0 +1,95 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.config.PointRuntimeHints;
+import com.musinsa.point.config.QueryPerformanceAspect;
+import com.musinsa.point.dto.CancelUseResponse;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.UseResponse;
+import com.musinsa.point.grpc.proto.PointProto;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.repository.Repository;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네이티브 이미지 런타임 힌트가 실제 컨텍스트의 엔티티 / 리포지토리 프록시 / 리소스를 모두 덮는지 검증
+ * (네이티브 빌드 없이 JVM 에서 힌트 누락을 찾기 위한 테스트)
+ */
+@SpringBootTest
+@DisplayName("네이티브 이미지 런타임 힌트 통합 테스트")
+class NativeHintsIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new PointRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Hibernate 메타모델의 모든 엔티티에 필드 / 생성자 리플렉션 힌트 등록")
+    void testEntitiesAreRegistered() {
+        assertThat(entityManagerFactory.getMetamodel().getEntities()).isNotEmpty();
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(entity.getJavaType())
+                    .withMemberCategories(MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS))
+                    .as(entity.getName())
+                    .accepts(hints);
+        }
+    }
+
+    @Test
+    @DisplayName("QueryPerformanceAspect 가 감싼 리포지토리 프록시의 인터페이스 조합과 어드바이스 메서드 힌트 등록")
+    void testRepositoryProxiesAreRegistered() {
+        Map<String, Repository> repositories = applicationContext.getBeansOfType(Repository.class);
+        assertThat(repositories).isNotEmpty();
+        for (Map.Entry<String, Repository> repository : repositories.entrySet()) {
+            Class<?> proxyClass = repository.getValue().getClass();
+            assertThat(Proxy.isProxyClass(proxyClass)).as(repository.getKey()).isTrue();
+            assertThat(RuntimeHintsPredicates.proxies().forInterfaces(proxyClass.getInterfaces()))
+                    .as("%s %s", repository.getKey(), Arrays.toString(proxyClass.getInterfaces()))
+                    .accepts(hints);
+        }
+
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(QueryPerformanceAspect.class, "logQueryPerformance"))
+                .accepts(hints);
+    }
+
+    @Test
+    @DisplayName("멱등성 재전송 DTO / 2차 캐시 설정 / protobuf 메시지 힌트 등록")
+    void testDtoCacheAndProtobufHints() {
+        for (Class<?> dto : new Class<?>[]{EarnResponse.class, UseResponse.class, CancelUseResponse.class}) {
+            assertThat(RuntimeHintsPredicates.reflection().onType(dto)).as(dto.getSimpleName()).accepts(hints);
+        }
+
+        assertThat(RuntimeHintsPredicates.resource().forResource("ehcache.xml")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(
+                org.springframework.aot.hint.TypeReference.of("org.ehcache.jsr107.EhcacheCachingProvider")))
+                .accepts(hints);
+
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PointProto.UseRequest.class, "getUserId"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(PointProto.UseRequest.Builder.class, "setUserId"))
+                .accepts(hints);
+    }
+}
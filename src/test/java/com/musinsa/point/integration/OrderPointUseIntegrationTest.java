@@ -0,0 +1,213 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.CancelUseResponse;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.dto.UseResponse;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.repository.OrderPointUseRepository;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("주문별 포인트 사용 매핑 / 분할 결제 사용 취소 통합 테스트")
+class OrderPointUseIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private OrderPointUseRepository orderPointUseRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("한 주문에서 두 번 사용하면 매핑이 사용 순으로 남고, 취소는 최근 사용부터 두 사용에 걸쳐 배분")
+    void testCancelSpansMultipleUsesOfOrder() {
+        EarnResponse lot = earn(2000L);
+        String orderNumber = "ORDER-SPLIT-" + UUID.randomUUID();
+        UseResponse first = use(orderNumber, 500L);
+        UseResponse second = use(orderNumber, 300L);
+
+        assertThat(orderPointUseRepository.findUsePointKeys(orderNumber))
+                .containsExactly(first.usePointKey(), second.usePointKey());
+
+        CancelUseResponse response = cancelUse(orderNumber, 400L);
+
+        assertThat(response.originalUsePointKey()).isEqualTo(second.usePointKey());
+        assertThat(response.originalUsePointKeys()).containsExactly(second.usePointKey(), first.usePointKey());
+        assertThat(response.totalBalance()).isEqualTo(1600L);
+        assertThat(canceledAmount(second.usePointKey())).isEqualTo(300L);
+        assertThat(canceledAmount(first.usePointKey())).isEqualTo(100L);
+        assertThat(lotBalance(lot.pointKey())).isEqualTo(1600L);
+
+        Map<String, Object> cancelUse = jdbcTemplate.queryForMap(
+                "SELECT reference_point_key, amount FROM point_transactions WHERE point_key = ?",
+                response.cancelUsePointKey());
+        assertThat(cancelUse.get("REFERENCE_POINT_KEY")).isEqualTo(second.usePointKey());
+        assertThat(((Number) cancelUse.get("AMOUNT")).longValue()).isEqualTo(400L);
+    }
+
+    @Test
+    @DisplayName("취소 가능 금액은 주문의 모든 사용 합계 기준이며, 초과 요청은 EXCEED_ORIGINAL_USE_AMOUNT")
+    void testCancelableAmountIsOrderTotal() {
+        earn(2000L);
+        String orderNumber = "ORDER-SPLIT-" + UUID.randomUUID();
+        use(orderNumber, 500L);
+        use(orderNumber, 300L);
+        cancelUse(orderNumber, 600L);
+
+        assertThatThrownBy(() -> cancelUse(orderNumber, 201L))
+                .isInstanceOf(PointBusinessException.class)
+                .satisfies(ex -> assertThat(((PointBusinessException) ex).getErrorCode())
+                        .isEqualTo("EXCEED_ORIGINAL_USE_AMOUNT"));
+
+        CancelUseResponse rest = cancelUse(orderNumber, 200L);
+        assertThat(rest.totalBalance()).isEqualTo(2000L);
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 사용한 주문 번호로는 사용할 수 없고, 기존 사용자의 취소는 그대로 처리")
+    void testOrderNumberOwnedByOtherUser() {
+        earn(1000L);
+        String orderNumber = "ORDER-SPLIT-" + UUID.randomUUID();
+        use(orderNumber, 500L);
+
+        String ownerUserId = userId;
+        userId = "test-user-" + UUID.randomUUID();
+        earn(1000L);
+        assertThatThrownBy(() -> use(orderNumber, 300L))
+                .isInstanceOf(PointBusinessException.class)
+                .satisfies(ex -> assertThat(((PointBusinessException) ex).getErrorCode())
+                        .isEqualTo("ORDER_NUMBER_OWNED_BY_OTHER_USER"));
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(1000L);
+
+        CancelUseResponse response = cancelUse(orderNumber, 500L);
+        assertThat(response.totalBalance()).isEqualTo(1000L);
+        assertThat(pointService.getBalance(ownerUserId).totalBalance()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("다른 사용자들이 같은 주문 번호로 동시에 처음 사용하면 한 사용자만 소유자가 되고 나머지는 거절")
+    void testConcurrentFirstUsesByDifferentUsers() throws Exception {
+        String orderNumber = "ORDER-SPLIT-" + UUID.randomUUID();
+        List<String> userIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            userId = "test-user-" + UUID.randomUUID();
+            earn(1000L);
+            userIds.add(userId);
+        }
+
+        ExecutorService executorService = Executors.newFixedThreadPool(userIds.size());
+        CountDownLatch latch = new CountDownLatch(userIds.size());
+        List<Future<String>> results = new ArrayList<>();
+        for (String requestUserId : userIds) {
+            results.add(executorService.submit(() -> {
+                latch.countDown();
+                latch.await();
+                try {
+                    pointService.usePoints(UseRequest.builder()
+                            .userId(requestUserId)
+                            .orderNumber(orderNumber)
+                            .amount(100L)
+                            .build(), UUID.randomUUID().toString());
+                    return "OK";
+                } catch (PointBusinessException ex) {
+                    return ex.getErrorCode();
+                }
+            }));
+        }
+        List<String> outcomes = new ArrayList<>();
+        for (Future<String> result : results) {
+            outcomes.add(result.get(30, TimeUnit.SECONDS));
+        }
+        executorService.shutdown();
+
+        assertThat(outcomes).containsOnlyOnce("OK");
+        assertThat(outcomes).filteredOn(outcome -> !outcome.equals("OK"))
+                .containsOnly("ORDER_NUMBER_OWNED_BY_OTHER_USER");
+
+        String ownerUserId = jdbcTemplate.queryForObject(
+                "SELECT user_id FROM order_owners WHERE order_number = ?", String.class, orderNumber);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT DISTINCT user_id FROM order_point_uses WHERE order_number = ?", String.class, orderNumber))
+                .containsExactly(ownerUserId);
+        for (String requestUserId : userIds) {
+            assertThat(pointService.getBalance(requestUserId).totalBalance())
+                    .isEqualTo(requestUserId.equals(ownerUserId) ? 900L : 1000L);
+        }
+    }
+
+    @Test
+    @DisplayName("사용한 적이 없는 주문 번호의 취소는 ORDER_NUMBER_NOT_FOUND")
+    void testUnknownOrderNumber() {
+        assertThatThrownBy(() -> cancelUse("ORDER-SPLIT-" + UUID.randomUUID(), 100L))
+                .isInstanceOf(PointBusinessException.class)
+                .satisfies(ex -> assertThat(((PointBusinessException) ex).getErrorCode())
+                        .isEqualTo("ORDER_NUMBER_NOT_FOUND"));
+    }
+
+    private long canceledAmount(String usePointKey) {
+        return jdbcTemplate.queryForObject(
+                "SELECT SUM(canceled_amount) FROM point_accounts WHERE use_point_key = ?", Long.class, usePointKey);
+    }
+
+    private long lotBalance(String pointKey) {
+        return jdbcTemplate.queryForObject(
+                "SELECT available_balance FROM point_transactions WHERE point_key = ?", Long.class, pointKey);
+    }
+
+    private EarnResponse earn(long amount) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(false)
+                .description("분할 결제 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private UseResponse use(String orderNumber, long amount) {
+        return pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private CancelUseResponse cancelUse(String orderNumber, long amount) {
+        return pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .reason("분할 결제 취소")
+                .build(), UUID.randomUUID().toString());
+    }
+}
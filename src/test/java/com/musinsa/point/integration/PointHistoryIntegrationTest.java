@@ -0,0 +1,152 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.domain.TransactionType;
+import com.musinsa.point.dto.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("포인트 이력 프로젝션 통합 테스트")
+class PointHistoryIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String userId;
+    private String orderNumber;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+        orderNumber = "ORDER-HISTORY-1-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("이력은 최신순으로 조회되며 각 행은 트랜잭션 시점의 잔액을 유지")
+    void testHistoryKeepsBalanceAtTheTime() {
+        // 1000 적립 -> 500 적립 -> 1200 사용 -> 200 사용 취소
+        EarnResponse earnA = pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(1000L)
+                .isManualGrant(false)
+                .description("첫 번째 적립")
+                .build(), UUID.randomUUID().toString());
+
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(500L)
+                .isManualGrant(false)
+                .description("두 번째 적립")
+                .build(), UUID.randomUUID().toString());
+
+        UseResponse use = pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(1200L)
+                .build(), UUID.randomUUID().toString());
+
+        pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(200L)
+                .reason("부분 취소")
+                .build(), UUID.randomUUID().toString());
+
+        HistoryResponse history = pointService.getHistory(userId, 0, 20);
+        List<TransactionDetail> transactions = history.transactions();
+
+        assertThat(history.page().totalElements()).isEqualTo(4L);
+        assertThat(transactions).extracting(TransactionDetail::type).containsExactly(
+                TransactionType.CANCEL_USE, TransactionType.USE, TransactionType.EARN, TransactionType.EARN);
+        assertThat(transactions).extracting(TransactionDetail::balance).containsExactly(500L, 300L, 1500L, 1000L);
+
+        // 첫 번째 적립의 잔액은 이후 사용으로 적립 잔액이 0이 되어도 당시 잔액(1000)을 유지
+        assertThat(transactions.get(3).pointKey()).isEqualTo(earnA.pointKey());
+
+        // 사용/취소 행은 주문 번호와 연결 키를 포함
+        assertThat(transactions.get(1).orderNumber()).isEqualTo(orderNumber);
+        assertThat(transactions.get(0).referencePointKey()).isEqualTo(use.usePointKey());
+    }
+
+    @Test
+    @DisplayName("이력 페이징 - 페이지 크기 단위로 최신순 조회")
+    void testHistoryPaging() {
+        for (int i = 1; i <= 3; i++) {
+            pointService.earnPoints(EarnRequest.builder()
+                    .userId(userId)
+                    .amount(100L * i)
+                    .isManualGrant(false)
+                    .build(), UUID.randomUUID().toString());
+        }
+
+        HistoryResponse firstPage = pointService.getHistory(userId, 0, 2);
+        HistoryResponse secondPage = pointService.getHistory(userId, 1, 2);
+
+        assertThat(firstPage.page().totalPages()).isEqualTo(2);
+        assertThat(firstPage.transactions()).extracting(TransactionDetail::balance).containsExactly(600L, 300L);
+        assertThat(secondPage.transactions()).extracting(TransactionDetail::balance).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("NDJSON 내보내기 - 전체 이력을 한 줄에 한 건씩 최신순으로 기록")
+    void testExportNdjson() throws Exception {
+        for (int i = 1; i <= 3; i++) {
+            pointService.earnPoints(EarnRequest.builder()
+                    .userId(userId)
+                    .amount(100L * i)
+                    .isManualGrant(false)
+                    .description("적립 " + i)
+                    .build(), UUID.randomUUID().toString());
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long rowCount = pointService.exportHistory(userId, HistoryExportFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rowCount).isEqualTo(3L);
+        assertThat(lines).hasSize(3);
+
+        JsonNode latest = objectMapper.readTree(lines[0]);
+        assertThat(latest.get("type").asText()).isEqualTo("EARN");
+        assertThat(latest.get("amount").asLong()).isEqualTo(300L);
+        assertThat(latest.get("balance").asLong()).isEqualTo(600L);
+        assertThat(latest.get("description").asText()).isEqualTo("적립 3");
+        assertThat(objectMapper.readTree(lines[2]).get("balance").asLong()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("CSV 내보내기 - 헤더와 이스케이프 처리된 행 기록")
+    void testExportCsv() {
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(1000L)
+                .isManualGrant(false)
+                .description("이벤트, \"가을\" 적립")
+                .build(), UUID.randomUUID().toString());
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        long rowCount = pointService.exportHistory(userId, HistoryExportFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertThat(rowCount).isEqualTo(1L);
+        assertThat(lines[0]).isEqualTo("pointKey,type,amount,balance,orderNumber,referencePointKey,description,createdAt");
+        assertThat(lines[1]).contains(",EARN,1000,1000,,,\"이벤트, \"\"가을\"\" 적립\",");
+    }
+}
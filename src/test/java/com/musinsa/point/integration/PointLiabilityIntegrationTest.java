@@ -0,0 +1,123 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.*;
+import com.musinsa.point.service.PointLiabilityService;
+import com.musinsa.point.service.PointService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 부채 집계는 사용자별로 나뉘지 않으므로 전체 합계를 비교할 수 있도록 다른 테스트와 공유하지 않는 DB 사용
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:point-liability-test;DB_CLOSE_DELAY=-1")
+@Transactional
+@DisplayName("미사용 포인트 부채 집계 통합 테스트")
+class PointLiabilityIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointLiabilityService pointLiabilityService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("적립/사용/사용 취소/적립 취소가 만료 월별 부채 집계에 증분 반영")
+    void testLiabilityFollowsAvailableBalance() {
+        LiabilityReportResponse before = pointLiabilityService.getReport();
+
+        // 수기 지급 1000 (30일 만료), 자동 지급 500 (기본 만료)
+        EarnResponse manual = earn(1000L, true, 30);
+        EarnResponse auto = earn(500L, false, null);
+        YearMonth manualMonth = YearMonth.from(manual.expirationDate());
+        YearMonth autoMonth = YearMonth.from(auto.expirationDate());
+
+        // 300 사용 (수기 지급 우선 차감) -> 100 사용 취소 (수기 지급 복구) -> 자동 지급 적립 취소
+        String orderNumber = "ORDER-LIABILITY-" + UUID.randomUUID();
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(300L)
+                .build(), UUID.randomUUID().toString());
+        pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(100L)
+                .reason("부분 취소")
+                .build(), UUID.randomUUID().toString());
+        pointService.cancelEarn(CancelEarnRequest.builder()
+                .pointKey(auto.pointKey())
+                .reason("적립 취소")
+                .build(), UUID.randomUUID().toString());
+
+        LiabilityReportResponse after = pointLiabilityService.getReport();
+
+        assertThat(manualAmount(after, manualMonth) - manualAmount(before, manualMonth)).isEqualTo(800L);
+        assertThat(autoAmount(after, autoMonth) - autoAmount(before, autoMonth)).isZero();
+        assertThat(after.totalOutstanding() - before.totalOutstanding()).isEqualTo(800L);
+    }
+
+    @Test
+    @DisplayName("부채 집계 합계는 EARN 적립 건의 미사용 잔액 전체 합계와 일치")
+    void testLiabilityMatchesLotScan() {
+        earn(1000L, true, 10);
+        earn(2000L, false, 400);
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber("ORDER-LIABILITY-" + UUID.randomUUID())
+                .amount(1500L)
+                .build(), UUID.randomUUID().toString());
+
+        // 테스트 트랜잭션 내 변경 사항을 JDBC 스캔에서 볼 수 있도록 반영
+        entityManager.flush();
+        Long scannedOutstanding = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(available_balance), 0) FROM point_transactions WHERE transaction_type = 'EARN'",
+                Long.class);
+
+        assertThat(pointLiabilityService.getReport().totalOutstanding()).isEqualTo(scannedOutstanding);
+    }
+
+    private EarnResponse earn(long amount, boolean isManualGrant, Integer expirationDays) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(isManualGrant)
+                .expirationDays(expirationDays)
+                .description("부채 집계 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private long manualAmount(LiabilityReportResponse report, YearMonth month) {
+        return report.months().stream()
+                .filter(detail -> detail.expirationMonth().equals(month))
+                .mapToLong(LiabilityMonthDetail::manualGrantAmount)
+                .sum();
+    }
+
+    private long autoAmount(LiabilityReportResponse report, YearMonth month) {
+        return report.months().stream()
+                .filter(detail -> detail.expirationMonth().equals(month))
+                .mapToLong(LiabilityMonthDetail::autoGrantAmount)
+                .sum();
+    }
+}
@@ -22,10 +22,12 @@ class PointPriorityIntegrationTest {
     private PointService pointService;
 
     private String userId;
+    private String orderNumber;
 
     @BeforeEach
     void setUp() {
         userId = "test-user-" + UUID.randomUUID();
+        orderNumber = "ORDER-001-" + UUID.randomUUID();
     }
 
     @Test
@@ -54,7 +56,7 @@ class PointPriorityIntegrationTest {
         // 800원 사용
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(800L)
                 .build();
 
@@ -107,7 +109,7 @@ class PointPriorityIntegrationTest {
         // 1200원 사용
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(1200L)
                 .build();
 
@@ -161,7 +163,7 @@ class PointPriorityIntegrationTest {
         // 700원 사용
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(700L)
                 .build();
 
@@ -231,7 +233,7 @@ class PointPriorityIntegrationTest {
         // 600원 사용
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("ORDER-001")
+                .orderNumber(orderNumber)
                 .amount(600L)
                 .build();
 
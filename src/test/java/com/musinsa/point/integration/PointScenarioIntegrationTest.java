@@ -28,10 +28,12 @@ class PointScenarioIntegrationTest {
     private PointTransactionRepository pointTransactionRepository;
 
     private String userId;
+    private String orderNumber;
 
     @BeforeEach
     void setUp() {
         userId = "test-user-" + UUID.randomUUID();
+        orderNumber = "A1234-" + UUID.randomUUID();
     }
 
     @Test
@@ -70,7 +72,7 @@ class PointScenarioIntegrationTest {
         // 3. 주문 A1234에서 1200원 사용 (A에서 1000원, B에서 200원)
         UseRequest useRequest = UseRequest.builder()
                 .userId(userId)
-                .orderNumber("A1234")
+                .orderNumber(orderNumber)
                 .amount(1200L)
                 .build();
 
@@ -93,7 +95,7 @@ class PointScenarioIntegrationTest {
 
         // 5. 1100원 부분 사용 취소 (A는 만료되어 신규 적립, B는 복구)
         CancelUseRequest cancelUseRequest = CancelUseRequest.builder()
-                .orderNumber("A1234")
+                .orderNumber(orderNumber)
                 .amount(1100L)
                 .reason("부분 취소 테스트")
                 .build();
@@ -115,7 +117,7 @@ class PointScenarioIntegrationTest {
 
         // 6. C는 이제 100원만 부분 취소 가능한지 검증
         CancelUseRequest cancelUseRequest2 = CancelUseRequest.builder()
-                .orderNumber("A1234")
+                .orderNumber(orderNumber)
                 .amount(100L)
                 .reason("추가 부분 취소")
                 .build();
@@ -0,0 +1,131 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.management.ManagementFactory;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포인트 사용 저장 방식(point.use.persistence-mode) 벤치마크
+ * 실행: ./gradlew test --tests '*PointUsePersistenceBenchmarkTest*' -PpointBenchmark
+ *
+ * 저장 방식별로 별도 컨텍스트에서 사용 + 전체 사용 취소를 반복 실행하여 요청당 CPU 시간과 할당량을 측정
+ * (측정 스레드 기준 - ThreadMXBean CPU 시간 / 할당 바이트)
+ * 요청마다 커밋하며, 전체 취소로 적립 잔액이 복구되므로 매 반복은 같은 적립 상태에서 시작
+ * 차감은 두 방식 모두 set-based 로 고정하여 저장 방식 차이만 비교
+ */
+@EnabledIfSystemProperty(named = "point.benchmark", matches = "true")
+@DisplayName("포인트 사용 저장 방식 벤치마크")
+class PointUsePersistenceBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PointUsePersistenceBenchmarkTest.class);
+
+    private static final int LOT_COUNT = 20;
+    private static final long LOT_AMOUNT = 100L;
+    private static final long USE_AMOUNT = 500L;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int MEASURED_ITERATIONS = 1000;
+
+    @Nested
+    @SpringBootTest(properties = {
+            "point.use.persistence-mode=entity",
+            "point.use.deduction-mode=set-based",
+            "logging.level.org.hibernate.SQL=WARN",
+            "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "logging.level.com.musinsa.point=WARN",
+            "spring.jpa.show-sql=false"
+    })
+    @DisplayName("entity 저장 방식")
+    class EntityMode {
+
+        @Autowired
+        private PointService pointService;
+
+        @Test
+        @DisplayName("사용 + 사용 취소 요청당 CPU 시간 / 할당량")
+        void benchmark() {
+            measure("entity", pointService);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            "point.use.persistence-mode=jdbc",
+            "point.use.deduction-mode=set-based",
+            "logging.level.org.hibernate.SQL=WARN",
+            "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+            "logging.level.com.musinsa.point=WARN",
+            "spring.jpa.show-sql=false"
+    })
+    @DisplayName("jdbc 저장 방식")
+    class JdbcMode {
+
+        @Autowired
+        private PointService pointService;
+
+        @Test
+        @DisplayName("사용 + 사용 취소 요청당 CPU 시간 / 할당량")
+        void benchmark() {
+            measure("jdbc", pointService);
+        }
+    }
+
+    private void measure(String mode, PointService pointService) {
+        String userId = "bench-user-" + UUID.randomUUID();
+        for (int i = 0; i < LOT_COUNT; i++) {
+            pointService.earnPoints(EarnRequest.builder()
+                    .userId(userId)
+                    .amount(LOT_AMOUNT)
+                    .isManualGrant(false)
+                    .description("벤치마크 적립")
+                    .build(), UUID.randomUUID().toString());
+        }
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            runOnce(pointService, userId);
+        }
+
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long startCpuNanos = threadMXBean.getCurrentThreadCpuTime();
+        long startAllocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            runOnce(pointService, userId);
+        }
+        long cpuNanos = threadMXBean.getCurrentThreadCpuTime() - startCpuNanos;
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+
+        // 사용 1 + 사용 취소 1 = 요청 2 건
+        int requests = MEASURED_ITERATIONS * 2;
+        log.warn("포인트 사용 저장 방식 벤치마크 - mode: {}, requests: {}, cpu: {} us/req, allocated: {} KB/req",
+                mode, requests, cpuNanos / requests / 1_000, allocatedBytes / requests / 1_024);
+    }
+
+    private void runOnce(PointService pointService, String userId) {
+        String orderNumber = "BENCH-" + UUID.randomUUID();
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(USE_AMOUNT)
+                .build(), UUID.randomUUID().toString());
+        long totalBalance = pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(USE_AMOUNT)
+                .reason("벤치마크 취소")
+                .build(), UUID.randomUUID().toString()).totalBalance();
+        assertThat(totalBalance).isEqualTo(LOT_COUNT * LOT_AMOUNT);
+    }
+}
@@ -0,0 +1,181 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.BalanceResponse;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.service.PointService;
+import com.musinsa.point.service.ReadCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@DisplayName("동일 조회 병합 통합 테스트")
+class ReadCoalescingIntegrationTest {
+
+    private static final int FOLLOWER_COUNT = 4;
+
+    @Autowired
+    private ReadCoalescer readCoalescer;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("진행 중인 조회에 합류한 요청은 조회를 다시 실행하지 않고 같은 결과를 받음")
+    void testConcurrentReadsShareOneLoad() throws Exception {
+        String operation = "test-" + UUID.randomUUID();
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(FOLLOWER_COUNT + 1);
+
+        try {
+            // 1. leader 조회 시작 (release 전까지 진행 중)
+            Future<String> leader = executor.submit(() -> readCoalescer.execute(operation, "user", () -> {
+                loadCount.incrementAndGet();
+                await(release);
+                return "loaded";
+            }));
+            waitUntil(() -> roleCount(operation, "leader") == 1);
+
+            // 2. 같은 키 조회 요청들이 진행 중인 조회에 합류
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < FOLLOWER_COUNT; i++) {
+                followers.add(executor.submit(() -> readCoalescer.execute(operation, "user", () -> {
+                    loadCount.incrementAndGet();
+                    return "reloaded";
+                })));
+            }
+            waitUntil(() -> roleCount(operation, "follower") == FOLLOWER_COUNT);
+
+            // 3. leader 조회 완료 -> 모든 요청이 같은 결과
+            release.countDown();
+            assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+            assertThat(loadCount).hasValue(1);
+
+            // 4. 완료 후 도착한 요청은 새로 조회 (결과를 캐시하지 않음)
+            assertThat(readCoalescer.execute(operation, "user", () -> "fresh")).isEqualTo("fresh");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("조회 실패는 합류한 요청에도 같은 예외로 전달되고 다음 조회에 남지 않음")
+    void testFailureIsSharedAndNotRetained() {
+        String operation = "test-" + UUID.randomUUID();
+
+        assertThatThrownBy(() -> readCoalescer.execute(operation, "user", () -> {
+            throw new IllegalStateException("조회 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(readCoalescer.execute(operation, "user", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("조회 중 Error 가 발생해도 합류한 요청은 대기하지 않고 같은 Error 를 받음")
+    void testErrorCompletesFollowers() throws Exception {
+        String operation = "test-" + UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(FOLLOWER_COUNT + 1);
+
+        try {
+            Future<String> leader = executor.submit(() -> readCoalescer.execute(operation, "user", () -> {
+                await(release);
+                throw new AssertionError("조회 중 Error");
+            }));
+            waitUntil(() -> roleCount(operation, "leader") == 1);
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < FOLLOWER_COUNT; i++) {
+                followers.add(executor.submit(() -> readCoalescer.execute(operation, "user", () -> "reloaded")));
+            }
+            waitUntil(() -> roleCount(operation, "follower") == FOLLOWER_COUNT);
+
+            release.countDown();
+            assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(AssertionError.class);
+            for (Future<String> follower : followers) {
+                assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(AssertionError.class);
+            }
+
+            assertThat(readCoalescer.execute(operation, "user", () -> "recovered")).isEqualTo("recovered");
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("동시 잔액 조회 결과는 단일 조회 결과와 동일")
+    void testConcurrentBalanceReads() throws Exception {
+        String userId = "test-user-" + UUID.randomUUID();
+        pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(1000L)
+                .isManualGrant(false)
+                .description("조회 병합 테스트")
+                .build(), UUID.randomUUID().toString());
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<BalanceResponse>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> pointService.getBalance(userId)));
+            }
+            for (Future<BalanceResponse> result : results) {
+                BalanceResponse balance = result.get(10, TimeUnit.SECONDS);
+                assertThat(balance.totalBalance()).isEqualTo(1000L);
+                assertThat(balance.availablePoints()).hasSize(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private double roleCount(String operation, String role) {
+        return meterRegistry.counter("point.query.coalescing", "operation", operation, "role", role).count();
+    }
+
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
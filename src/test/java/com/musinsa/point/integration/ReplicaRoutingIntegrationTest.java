@@ -0,0 +1,167 @@
+package com.musinsa.point.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import com.musinsa.point.config.ReplicaLagSimulator;
+import com.musinsa.point.config.ReplicaRouter;
+import com.musinsa.point.config.ReplicaRoutingDataSource;
+import com.musinsa.point.dto.CancelEarnRequest;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.service.PointEarnService;
+import com.musinsa.point.service.PointQueryService;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:replica-routing-test-primary;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=7",
+        "spring.datasource.hikari.connection-timeout=3000",
+        "point.replica.enabled=true",
+        "point.replica.replicas[0].url=jdbc:h2:mem:replica-routing-test-replica;DB_CLOSE_DELAY=-1",
+        // 자동 복사가 테스트 중에 일어나지 않도록 주기를 길게 두고 refresh() 로 복제를 따라잡게 함
+        "point.replica.simulated-lag-millis=600000",
+        "point.replica.read-your-writes-millis=60000"
+})
+@AutoConfigureMockMvc
+@DisplayName("읽기 복제본 라우팅 통합 테스트")
+class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointEarnService pointEarnService;
+
+    @Autowired
+    private PointQueryService pointQueryService;
+
+    @Autowired
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    @Autowired
+    private ReplicaLagSimulator replicaLagSimulator;
+
+    @Test
+    @DisplayName("주 DB 커넥션 풀에 spring.datasource.hikari.* 설정이 적용")
+    void testPrimaryPoolBindsHikariProperties() {
+        HikariDataSource primary = (HikariDataSource) replicaRoutingDataSource.getPrimary();
+
+        assertThat(primary.getPoolName()).isEqualTo("primary");
+        assertThat(primary.getMaximumPoolSize()).isEqualTo(7);
+        assertThat(primary.getConnectionTimeout()).isEqualTo(3000L);
+    }
+
+    @Test
+    @DisplayName("복제본은 복사 전까지 이전 데이터를 보여주고, 쓰기한 사용자의 조회는 주 DB 에서 실행")
+    void testReadYourWritesForWritingUser() {
+        String userId = "replica-user-" + UUID.randomUUID();
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        EarnResponse earn = pointService.earnPoints(earnRequest(userId, 1000L), idempotencyKey);
+
+        assertThat(countTransactions(new JdbcTemplate(replicaRoutingDataSource.getPrimary()), userId)).isEqualTo(1);
+        assertThat(countTransactions(new JdbcTemplate(replicaRoutingDataSource.getReplica(0)), userId)).isZero();
+
+        // 라우터를 거치지 않는 읽기 전용 조회는 복제본 (아직 복제되지 않음)
+        assertThat(pointQueryService.getBalance(userId).totalBalance()).isZero();
+        // 파사드 조회는 방금 쓰기한 사용자이므로 주 DB
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(1000L);
+        assertThat(pointService.getHistory(userId, 0, 20).transactions()).hasSize(1);
+
+        // 멱등성 확인은 복제본이 아닌 주 DB 에서 조회하므로 같은 키의 재요청은 저장된 응답을 반환
+        EarnResponse replay = pointService.earnPoints(earnRequest(userId, 1000L), idempotencyKey);
+        assertThat(replay.pointKey()).isEqualTo(earn.pointKey());
+        assertThat(countTransactions(new JdbcTemplate(replicaRoutingDataSource.getPrimary()), userId)).isEqualTo(1);
+
+        replicaLagSimulator.refresh();
+
+        assertThat(pointQueryService.getBalance(userId).totalBalance()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("쓰기 응답의 일관성 토큰을 전달한 조회는 주 DB, 토큰이 없거나 유효하지 않으면 복제본")
+    void testConsistencyTokenForcesPrimary() throws Exception {
+        String userId = "replica-user-" + UUID.randomUUID();
+
+        // 파사드를 거치지 않은 적립 (다른 인스턴스에서 처리된 쓰기와 같이 사용자별 쓰기 기록이 없음)
+        EarnResponse earn = pointEarnService.earnPoints(earnRequest(userId, 1000L), UUID.randomUUID().toString());
+        replicaLagSimulator.refresh();
+
+        MockHttpServletResponse cancel = perform(post("/api/v1/points/cancel-earn")
+                .header("Idempotency-Key", UUID.randomUUID().toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsBytes(CancelEarnRequest.builder()
+                        .pointKey(earn.pointKey())
+                        .reason("복제본 토큰 테스트")
+                        .build())));
+        assertThat(cancel.getStatus()).isEqualTo(200);
+        String consistencyToken = cancel.getHeader(ReplicaRouter.CONSISTENCY_TOKEN_HEADER);
+        assertThat(consistencyToken).isNotBlank();
+
+        assertThat(balance(userId, null)).isEqualTo(1000L);
+        assertThat(balance(userId, consistencyToken)).isZero();
+        assertThat(balance(userId, Long.toString(Long.MAX_VALUE))).isEqualTo(1000L);
+
+        replicaLagSimulator.refresh();
+
+        assertThat(balance(userId, null)).isZero();
+    }
+
+    private long balance(String userId, String consistencyToken) throws Exception {
+        MockHttpServletRequestBuilder request = get("/api/v1/points/balance/{userId}", userId);
+        if (consistencyToken != null) {
+            request.header(ReplicaRouter.CONSISTENCY_TOKEN_HEADER, consistencyToken);
+        }
+        MockHttpServletResponse response = perform(request);
+        assertThat(response.getStatus()).isEqualTo(200);
+        return objectMapper.readTree(response.getContentAsByteArray()).get("totalBalance").asLong();
+    }
+
+    private MockHttpServletResponse perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        if (result.getRequest().isAsyncStarted()) {
+            result = mockMvc.perform(asyncDispatch(result)).andReturn();
+        }
+        return result.getResponse();
+    }
+
+    private EarnRequest earnRequest(String userId, long amount) {
+        return EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(false)
+                .description("복제본 라우팅 테스트")
+                .build();
+    }
+
+    private int countTransactions(JdbcTemplate jdbcTemplate, String userId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM point_transactions WHERE user_id = ?", Integer.class, userId);
+        return count == null ? 0 : count;
+    }
+}
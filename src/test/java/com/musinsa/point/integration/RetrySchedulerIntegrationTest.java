@@ -0,0 +1,235 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.service.PointRetryScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("잠금 충돌 재시도 스케줄러 통합 테스트")
+class RetrySchedulerIntegrationTest {
+
+    @Nested
+    @SpringBootTest(properties = {
+            "point.retry.max-attempts=3",
+            "point.retry.base-delay-millis=1",
+            "point.retry.max-delay-millis=5"
+    })
+    @DisplayName("재시도 / 시도 수")
+    class Attempts {
+
+        @Autowired
+        private PointRetryScheduler pointRetryScheduler;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("충돌한 요청은 요청 스레드가 아닌 재시도 스레드에서 다시 제출되어 성공")
+        void testConflictIsResubmittedOnRetryThread() throws Exception {
+            double savedBefore = count("point.retry.saved", "operation", "test");
+            double scheduledBefore = count("point.retry.scheduled", "operation", "test");
+            Queue<String> attemptThreads = new ConcurrentLinkedQueue<>();
+
+            CompletableFuture<String> result = pointRetryScheduler.submit("test", "user-" + UUID.randomUUID(),
+                    failingTimes(2, attemptThreads, () -> new OptimisticLockException("충돌")));
+
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+            List<String> threads = List.copyOf(attemptThreads);
+            assertThat(threads).hasSize(3);
+            assertThat(threads.get(0)).isEqualTo(Thread.currentThread().getName());
+            assertThat(threads.subList(1, 3)).allMatch(name -> name.startsWith("point-retry-worker-"));
+            assertThat(count("point.retry.saved", "operation", "test")).isEqualTo(savedBefore + 1);
+            assertThat(count("point.retry.scheduled", "operation", "test")).isEqualTo(scheduledBefore + 2);
+        }
+
+        @Test
+        @DisplayName("잠금 충돌이 아닌 예외는 재시도하지 않음")
+        void testNonConflictIsNotRetried() {
+            Queue<String> attemptThreads = new ConcurrentLinkedQueue<>();
+
+            CompletableFuture<String> result = pointRetryScheduler.submit("test", "user-" + UUID.randomUUID(),
+                    failingTimes(1, attemptThreads, () -> new IllegalArgumentException("잘못된 요청")));
+
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(IllegalArgumentException.class);
+            assertThat(attemptThreads).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("최대 시도 수를 모두 사용하면 마지막 충돌 예외로 실패")
+        void testAttemptsExhausted() {
+            double exhaustedBefore = count("point.retry.attempts.exhausted", "operation", "test");
+            Queue<String> attemptThreads = new ConcurrentLinkedQueue<>();
+
+            CompletableFuture<String> result = pointRetryScheduler.submit("test", "user-" + UUID.randomUUID(),
+                    failingTimes(10, attemptThreads, () -> new OptimisticLockException("충돌")));
+
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(OptimisticLockException.class);
+            assertThat(attemptThreads).hasSize(3);
+            assertThat(count("point.retry.attempts.exhausted", "operation", "test")).isEqualTo(exhaustedBefore + 1);
+        }
+
+        private double count(String name, String... tags) {
+            return RetrySchedulerIntegrationTest.count(meterRegistry, name, tags);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            "point.retry.max-attempts=5",
+            "point.retry.base-delay-millis=1",
+            "point.retry.max-delay-millis=5",
+            "point.retry.budget-ratio=0",
+            "point.retry.global-budget=2",
+            "point.retry.per-user-budget=1"
+    })
+    @DisplayName("재시도 예산")
+    class Budget {
+
+        @Autowired
+        private PointRetryScheduler pointRetryScheduler;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("사용자별 예산을 모두 쓰면 재시도를 멈추고, 전체 예산이 바닥나면 다른 사용자도 재시도하지 않음")
+        void testUserAndGlobalBudgetExhaustion() {
+            double userExhaustedBefore = count("point.retry.budget.exhausted", "scope", "user");
+            double globalExhaustedBefore = count("point.retry.budget.exhausted", "scope", "global");
+
+            // 사용자 A, B 는 사용자별 예산 1 회씩 재시도 (전체 예산 2 소진) 후 사용자 예산 부족
+            assertThat(attemptsUntilFailure("user-a-" + UUID.randomUUID())).isEqualTo(2);
+            assertThat(attemptsUntilFailure("user-b-" + UUID.randomUUID())).isEqualTo(2);
+            assertThat(count("point.retry.budget.exhausted", "scope", "user")).isEqualTo(userExhaustedBefore + 2);
+
+            // 사용자 C 는 사용자별 예산이 남아 있지만 전체 예산 부족으로 재시도 없이 실패
+            assertThat(attemptsUntilFailure("user-c-" + UUID.randomUUID())).isEqualTo(1);
+            assertThat(count("point.retry.budget.exhausted", "scope", "global")).isEqualTo(globalExhaustedBefore + 1);
+        }
+
+        private int attemptsUntilFailure(String budgetKey) {
+            Queue<String> attemptThreads = new ConcurrentLinkedQueue<>();
+            CompletableFuture<String> result = pointRetryScheduler.submit("test", budgetKey,
+                    failingTimes(10, attemptThreads, () -> new OptimisticLockException("충돌")));
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(OptimisticLockException.class);
+            return attemptThreads.size();
+        }
+
+        private double count(String name, String... tags) {
+            return RetrySchedulerIntegrationTest.count(meterRegistry, name, tags);
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = {
+            "spring.datasource.hikari.maximum-pool-size=4",
+            "point.retry.worker-threads=16",
+            "point.retry.queue-capacity=1",
+            "point.retry.base-delay-millis=1",
+            "point.retry.max-delay-millis=5"
+    })
+    @DisplayName("재시도 작업 풀")
+    class WorkerPool {
+
+        @Autowired
+        private PointRetryScheduler pointRetryScheduler;
+
+        @Autowired
+        private ThreadPoolExecutor retryExecutor;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("작업 스레드 수는 설정값이 더 커도 커넥션 풀 크기를 넘지 않음")
+        void testWorkerThreadsCappedByConnectionPool() {
+            assertThat(retryExecutor.getMaximumPoolSize()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("작업 스레드와 대기열이 모두 차 있으면 재시도 없이 마지막 충돌 예외로 실패")
+        void testRetryRejectedWhenQueueFull() throws Exception {
+            double rejectedBefore = RetrySchedulerIntegrationTest.count(meterRegistry, "point.retry.rejected", "operation", "test");
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch busy = new CountDownLatch(retryExecutor.getMaximumPoolSize());
+            try {
+                // 작업 스레드 4 개를 모두 점유하고 대기열 1 칸을 채움
+                for (int i = 0; i < retryExecutor.getMaximumPoolSize(); i++) {
+                    retryExecutor.execute(() -> {
+                        busy.countDown();
+                        awaitQuietly(release);
+                    });
+                }
+                assertThat(busy.await(5, TimeUnit.SECONDS)).isTrue();
+                retryExecutor.execute(() -> { });
+
+                Queue<String> attemptThreads = new ConcurrentLinkedQueue<>();
+                CompletableFuture<String> result = pointRetryScheduler.submit("test", "user-" + UUID.randomUUID(),
+                        failingTimes(1, attemptThreads, () -> new OptimisticLockException("충돌")));
+
+                assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .hasCauseInstanceOf(OptimisticLockException.class);
+                assertThat(attemptThreads).hasSize(1);
+                assertThat(RetrySchedulerIntegrationTest.count(meterRegistry, "point.retry.rejected", "operation", "test"))
+                        .isEqualTo(rejectedBefore + 1);
+            } finally {
+                release.countDown();
+            }
+        }
+
+        private void awaitQuietly(CountDownLatch latch) {
+            try {
+                latch.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * 처음 failures 번은 예외로 실패하고 이후 "ok" 를 반환하는 시도 (시도한 스레드 이름 기록)
+     */
+    private static Supplier<CompletableFuture<String>> failingTimes(int failures, Queue<String> attemptThreads,
+                                                                   Supplier<RuntimeException> exception) {
+        AtomicInteger attempts = new AtomicInteger();
+        return () -> {
+            attemptThreads.add(Thread.currentThread().getName());
+            if (attempts.incrementAndGet() <= failures) {
+                throw exception.get();
+            }
+            return CompletableFuture.completedFuture("ok");
+        };
+    }
+
+    private static double count(MeterRegistry meterRegistry, String name, String... tags) {
+        return meterRegistry.find(name).tags(tags).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+    }
+}
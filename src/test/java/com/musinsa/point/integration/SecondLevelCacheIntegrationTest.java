@@ -0,0 +1,156 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.domain.PointTransaction;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.repository.PointTransactionRepository;
+import com.musinsa.point.repository.SystemConfigRepository;
+import com.musinsa.point.service.PointService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = "point.use.deduction-mode=set-based")
+@DisplayName("2차 캐시 통합 테스트")
+class SecondLevelCacheIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private PointTransactionRepository pointTransactionRepository;
+
+    @Autowired
+    private SystemConfigRepository systemConfigRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("같은 주문의 반복 부분 취소는 사용 / 적립 pointKey 조회를 캐시에서 처리")
+    void testRepeatedPartialCancelsServedFromCache() {
+        earn(1000L);
+        String orderNumber = "ORDER-CACHE-" + UUID.randomUUID();
+        use(orderNumber, 600L);
+
+        cancelUse(orderNumber, 100L);
+        long naturalIdHits = statistics.getNaturalIdCacheHitCount();
+
+        cancelUse(orderNumber, 100L);
+        cancelUse(orderNumber, 100L);
+
+        assertThat(statistics.getNaturalIdCacheHitCount() - naturalIdHits).isGreaterThanOrEqualTo(2);
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(700L);
+    }
+
+    @Test
+    @DisplayName("JDBC 로 차감한 적립은 pointKey 조회 시 차감 후 잔액 반환")
+    void testJdbcDeductionReturnsCurrentLot() {
+        EarnResponse earned = earn(1000L);
+        assertThat(pointTransactionRepository.findByPointKey(earned.pointKey())).isPresent();
+        assertThat(pointTransactionRepository.findByPointKey(earned.pointKey())).isPresent();
+
+        use("ORDER-CACHE-" + UUID.randomUUID(), 300L);
+
+        PointTransaction lot = pointTransactionRepository.findByPointKey(earned.pointKey()).orElseThrow();
+        assertThat(lot.getAvailableBalance()).isEqualTo(700L);
+    }
+
+    @Test
+    @DisplayName("다른 파드가 DB 에서 변경한 적립은 캐시 제거 없이 pointKey 조회 시 변경된 잔액 / version 반환")
+    void testLotChangedOutsideHibernateIsNotStale() {
+        EarnResponse earned = earn(1000L);
+        PointTransaction before = pointTransactionRepository.findByPointKey(earned.pointKey()).orElseThrow();
+
+        jdbcTemplate.update("UPDATE point_transactions SET available_balance = 400, version = version + 1 WHERE point_key = ?",
+                earned.pointKey());
+
+        PointTransaction after = pointTransactionRepository.findByPointKey(earned.pointKey()).orElseThrow();
+        assertThat(after.getAvailableBalance()).isEqualTo(400L);
+        assertThat(after.getVersion()).isEqualTo(before.getVersion() + 1);
+
+        // 공유 DB 의 부채 / 요약 집계와 맞추기 위해 잔액 복구
+        jdbcTemplate.update("UPDATE point_transactions SET available_balance = 1000 WHERE point_key = ?", earned.pointKey());
+    }
+
+    @Test
+    @DisplayName("없는 주문 번호 취소가 실패한 뒤 사용된 주문은 취소됨")
+    void testMissingOrderNumberIsNotCached() {
+        String orderNumber = "ORDER-CACHE-" + UUID.randomUUID();
+        assertThatThrownBy(() -> cancelUse(orderNumber, 100L))
+                .isInstanceOf(PointBusinessException.class);
+
+        earn(1000L);
+        use(orderNumber, 500L);
+        cancelUse(orderNumber, 100L);
+
+        assertThat(pointService.getBalance(userId).totalBalance()).isEqualTo(600L);
+    }
+
+    @Test
+    @DisplayName("시스템 설정 조회는 쿼리 캐시와 읽기 전용 엔티티 캐시에서 처리")
+    void testSystemConfigServedFromCache() {
+        Long configId = systemConfigRepository.findByConfigKey("point.default.expiration.days").orElseThrow().getId();
+        long queryHits = statistics.getQueryCacheHitCount();
+
+        assertThat(systemConfigRepository.findByConfigKey("point.default.expiration.days")).isPresent();
+        assertThat(statistics.getQueryCacheHitCount()).isGreaterThan(queryHits);
+
+        systemConfigRepository.findById(configId);
+        long entityHits = statistics.getDomainDataRegionStatistics("point.system-config").getHitCount();
+
+        assertThat(systemConfigRepository.findById(configId)).isPresent();
+        assertThat(statistics.getDomainDataRegionStatistics("point.system-config").getHitCount()).isGreaterThan(entityHits);
+    }
+
+    private EarnResponse earn(long amount) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(false)
+                .description("2차 캐시 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private void use(String orderNumber, long amount) {
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private void cancelUse(String orderNumber, long amount) {
+        pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .reason("부분 취소")
+                .build(), UUID.randomUUID().toString());
+    }
+}
@@ -0,0 +1,157 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.config.ShardRouter;
+import com.musinsa.point.config.ShardRoutingDataSource;
+import com.musinsa.point.dto.*;
+import com.musinsa.point.exception.PointBusinessException;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "point.sharding.enabled=true",
+        "point.sharding.shards[0].url=jdbc:h2:mem:shard-routing-test-0;DB_CLOSE_DELAY=-1",
+        "point.sharding.shards[1].url=jdbc:h2:mem:shard-routing-test-1;DB_CLOSE_DELAY=-1"
+})
+@DisplayName("사용자 샤딩 라우팅 통합 테스트")
+class ShardRoutingIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Test
+    @DisplayName("사용자 데이터는 userId 해시 샤드에만 저장")
+    void testUserDataIsolatedPerShard() {
+        String userOnShard0 = userIdOnShard(0);
+        String userOnShard1 = userIdOnShard(1);
+
+        earn(userOnShard0, 1000L);
+        earn(userOnShard1, 2000L);
+
+        assertThat(countTransactions(0, userOnShard0)).isEqualTo(1);
+        assertThat(countTransactions(1, userOnShard0)).isZero();
+        assertThat(countTransactions(1, userOnShard1)).isEqualTo(1);
+        assertThat(countTransactions(0, userOnShard1)).isZero();
+
+        assertThat(pointService.getBalance(userOnShard0).totalBalance()).isEqualTo(1000L);
+        assertThat(pointService.getBalance(userOnShard1).totalBalance()).isEqualTo(2000L);
+        assertThat(pointService.getHistory(userOnShard1, 0, 20).transactions()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("적립 취소 / 사용 취소는 샤드 디렉터리로 소유 사용자 샤드에 라우팅")
+    void testCancelRoutedByDirectory() {
+        String userId = userIdOnShard(1);
+        String orderNumber = "ORDER-SHARD-" + UUID.randomUUID();
+
+        earn(userId, 1000L);
+        EarnResponse earnB = earn(userId, 500L);
+
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(300L)
+                .build(), UUID.randomUUID().toString());
+
+        CancelUseResponse cancelUse = pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(300L)
+                .reason("샤드 라우팅 취소")
+                .build(), UUID.randomUUID().toString());
+        assertThat(cancelUse.totalBalance()).isEqualTo(1500L);
+
+        // 사용 시 먼저 적립된 earnA 에서 차감되므로 earnB 는 사용 이력 없이 취소 가능
+        CancelEarnResponse cancelEarn = pointService.cancelEarn(CancelEarnRequest.builder()
+                .pointKey(earnB.pointKey())
+                .reason("샤드 라우팅 적립 취소")
+                .build(), UUID.randomUUID().toString());
+        assertThat(cancelEarn.totalBalance()).isEqualTo(1000L);
+
+        assertThat(countTransactions(1, userId)).isEqualTo(5);
+        assertThat(countTransactions(0, userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 샤드의 사용자가 이미 사용된 주문 번호로 사용하면 거절되고 취소는 소유 사용자 샤드로 라우팅")
+    void testOrderNumberOwnedAcrossShards() {
+        String ownerUserId = userIdOnShard(0);
+        String otherUserId = userIdOnShard(1);
+        String orderNumber = "ORDER-SHARD-" + UUID.randomUUID();
+        earn(ownerUserId, 1000L);
+        earn(otherUserId, 1000L);
+
+        use(ownerUserId, orderNumber, 400L);
+
+        assertThatThrownBy(() -> use(otherUserId, orderNumber, 300L))
+                .isInstanceOf(PointBusinessException.class)
+                .satisfies(ex -> assertThat(((PointBusinessException) ex).getErrorCode())
+                        .isEqualTo("ORDER_NUMBER_OWNED_BY_OTHER_USER"));
+        assertThat(pointService.getBalance(otherUserId).totalBalance()).isEqualTo(1000L);
+        assertThat(countTransactions(1, otherUserId)).isEqualTo(1);
+
+        CancelUseResponse cancelUse = pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(400L)
+                .reason("소유 사용자 샤드 취소")
+                .build(), UUID.randomUUID().toString());
+        assertThat(cancelUse.totalBalance()).isEqualTo(1000L);
+        assertThat(pointService.getBalance(ownerUserId).totalBalance()).isEqualTo(1000L);
+    }
+
+    @Test
+    @DisplayName("모든 샤드에 스키마와 설정 데이터가 적용됨")
+    void testSchemaAndConfigOnEveryShard() {
+        for (int shardIndex = 0; shardIndex < shardRoutingDataSource.getShardCount(); shardIndex++) {
+            Integer configCount = template(shardIndex).queryForObject(
+                    "SELECT COUNT(*) FROM system_configs", Integer.class);
+            assertThat(configCount).isPositive();
+        }
+    }
+
+    private EarnResponse earn(String userId, long amount) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(false)
+                .description("샤드 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private UseResponse use(String userId, String orderNumber, long amount) {
+        return pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(amount)
+                .build(), UUID.randomUUID().toString());
+    }
+
+    private String userIdOnShard(int shardIndex) {
+        while (true) {
+            String userId = "shard-user-" + UUID.randomUUID();
+            if (ShardRouter.shardOf(userId, shardRoutingDataSource.getShardCount()) == shardIndex) {
+                return userId;
+            }
+        }
+    }
+
+    private int countTransactions(int shardIndex, String userId) {
+        Integer count = template(shardIndex).queryForObject(
+                "SELECT COUNT(*) FROM point_transactions WHERE user_id = ?", Integer.class, userId);
+        return count == null ? 0 : count;
+    }
+
+    private JdbcTemplate template(int shardIndex) {
+        return new JdbcTemplate(shardRoutingDataSource.getShard(shardIndex));
+    }
+}
@@ -0,0 +1,50 @@
+package com.musinsa.point.integration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:startup-warmup-test;DB_CLOSE_DELAY=-1",
+        "point.warmup.enabled=true",
+        "point.warmup.max-iterations=60",
+        "point.warmup.window-iterations=10"
+})
+@DisplayName("기동 워밍업 통합 테스트")
+class StartupWarmupIntegrationTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
+    @Test
+    @DisplayName("readiness 전에 적립 / 사용 / 조회 경로를 반복 실행하고, 합성 데이터는 모두 롤백")
+    void testWarmupRunsBeforeReadinessAndLeavesNoData() {
+        long iterations = meterRegistry.timer("point.warmup.iteration").count();
+        assertThat(iterations).isBetween(20L, 60L);
+        assertThat(applicationAvailability.getReadinessState()).isEqualTo(ReadinessState.ACCEPTING_TRAFFIC);
+
+        assertThat(count("SELECT COUNT(*) FROM point_transactions WHERE user_id LIKE 'warmup-%'")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM user_point_summaries WHERE user_id LIKE 'warmup-%'")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM point_history WHERE user_id LIKE 'warmup-%'")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM idempotency_records WHERE idempotency_key LIKE 'warmup-%'")).isZero();
+        // 워밍업은 사용자 slot 행을 만들지 않고, 전용 slot 행은 워밍업이 끝나면 삭제됨
+        assertThat(count("SELECT COUNT(*) FROM point_liabilities")).isZero();
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
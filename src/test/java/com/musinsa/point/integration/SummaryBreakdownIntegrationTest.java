@@ -0,0 +1,141 @@
+package com.musinsa.point.integration;
+
+import com.musinsa.point.dto.BalanceSummaryResponse;
+import com.musinsa.point.dto.CancelEarnRequest;
+import com.musinsa.point.dto.CancelUseRequest;
+import com.musinsa.point.dto.EarnRequest;
+import com.musinsa.point.dto.EarnResponse;
+import com.musinsa.point.dto.UseRequest;
+import com.musinsa.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@DisplayName("잔액 요약 세부 잔액 통합 테스트")
+class SummaryBreakdownIntegrationTest {
+
+    @Autowired
+    private PointService pointService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private String userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = "test-user-" + UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("적립/사용/사용 취소/적립 취소 시 수기/자동 잔액, 보유 적립 수, 다음 만료일이 함께 갱신")
+    void testBreakdownFollowsMutations() {
+        LocalDate today = LocalDate.now();
+
+        // 1. 수기 500 (10일), 자동 1000 (30일), 자동 300 (기본 만료), 자동 200 (30일)
+        earn(500L, true, 10);
+        earn(1000L, false, 30);
+        earn(300L, false, null);
+        EarnResponse lastLot = earn(200L, false, 30);
+
+        assertSummary(500L, 1500L, 4, today.plusDays(10), 500L);
+
+        // 2. 700 사용 - 수기 500 소진, 30일 1000 에서 200 차감 -> 다음 만료일은 30일 후 (800 + 200)
+        String orderNumber = "ORDER-BREAKDOWN-" + UUID.randomUUID();
+        pointService.usePoints(UseRequest.builder()
+                .userId(userId)
+                .orderNumber(orderNumber)
+                .amount(700L)
+                .build(), UUID.randomUUID().toString());
+
+        assertSummary(0L, 1300L, 3, today.plusDays(30), 1000L);
+
+        // 3. 전체 사용 취소 - 수기 500 복구로 다음 만료일이 다시 10일 후
+        pointService.cancelUse(CancelUseRequest.builder()
+                .orderNumber(orderNumber)
+                .amount(700L)
+                .reason("전체 취소")
+                .build(), UUID.randomUUID().toString());
+
+        assertSummary(500L, 1500L, 4, today.plusDays(10), 500L);
+
+        // 4. 자동 200 적립 취소
+        pointService.cancelEarn(CancelEarnRequest.builder()
+                .pointKey(lastLot.pointKey())
+                .reason("적립 취소")
+                .build(), UUID.randomUUID().toString());
+
+        assertSummary(500L, 1300L, 3, today.plusDays(10), 500L);
+    }
+
+    @Test
+    @DisplayName("저장된 다음 만료일이 지난 경우 조회 시 적립 기준으로 다시 계산")
+    void testStaleNextExpirationResolvedOnRead() {
+        LocalDate today = LocalDate.now();
+        earn(400L, false, 5);
+        earn(600L, false, 20);
+
+        jdbcTemplate.update("UPDATE user_point_summaries SET next_expiration_date = ?, next_expiration_amount = ? WHERE user_id = ?",
+                today.minusDays(1), 999L, userId);
+
+        BalanceSummaryResponse summary = pointService.getBalanceSummary(userId);
+        assertThat(summary.nextExpirationDate()).isEqualTo(today.plusDays(5));
+        assertThat(summary.nextExpirationAmount()).isEqualTo(400L);
+    }
+
+    @Test
+    @DisplayName("저장된 다음 만료일이 오늘이면 만료 시각 기준으로 다시 계산")
+    void testTodayNextExpirationResolvedOnRead() {
+        LocalDate today = LocalDate.now();
+        earn(400L, false, 5);
+
+        // 오늘 만료분은 시각에 따라 이미 만료되었을 수 있으므로 저장 값을 신뢰하지 않음
+        jdbcTemplate.update("UPDATE user_point_summaries SET next_expiration_date = ?, next_expiration_amount = ? WHERE user_id = ?",
+                today, 999L, userId);
+
+        BalanceSummaryResponse summary = pointService.getBalanceSummary(userId);
+        assertThat(summary.nextExpirationDate()).isEqualTo(today.plusDays(5));
+        assertThat(summary.nextExpirationAmount()).isEqualTo(400L);
+    }
+
+    @Test
+    @DisplayName("요약이 없는 사용자는 0 잔액으로 응답")
+    void testUnknownUser() {
+        BalanceSummaryResponse summary = pointService.getBalanceSummary(userId);
+
+        assertThat(summary.totalBalance()).isZero();
+        assertThat(summary.activeLotCount()).isZero();
+        assertThat(summary.nextExpirationDate()).isNull();
+    }
+
+    private void assertSummary(long manualGrantBalance, long autoGrantBalance, int activeLotCount,
+                               LocalDate nextExpirationDate, long nextExpirationAmount) {
+        BalanceSummaryResponse summary = pointService.getBalanceSummary(userId);
+
+        assertThat(summary.totalBalance()).isEqualTo(manualGrantBalance + autoGrantBalance);
+        assertThat(summary.manualGrantBalance()).isEqualTo(manualGrantBalance);
+        assertThat(summary.autoGrantBalance()).isEqualTo(autoGrantBalance);
+        assertThat(summary.activeLotCount()).isEqualTo(activeLotCount);
+        assertThat(summary.nextExpirationDate()).isEqualTo(nextExpirationDate);
+        assertThat(summary.nextExpirationAmount()).isEqualTo(nextExpirationAmount);
+    }
+
+    private EarnResponse earn(long amount, boolean isManualGrant, Integer expirationDays) {
+        return pointService.earnPoints(EarnRequest.builder()
+                .userId(userId)
+                .amount(amount)
+                .isManualGrant(isManualGrant)
+                .expirationDays(expirationDays)
+                .description("요약 세부 잔액 테스트 적립")
+                .build(), UUID.randomUUID().toString());
+    }
+}